@@ -37,6 +37,7 @@ public class GraalJSScriptEngineConfiguration {
     private static final String CFG_DEBUGGER_ENABLED = "debuggerEnabled";
     private static final String CFG_DEBUGGER_PORT = "debuggerPort";
     private static final String CFG_LOCK_ACQUISITION_TIMEOUT = "lockAcquisitionTimeout";
+    private static final String CFG_ENGINE_POOL_SIZE = "enginePoolSize";
 
     private static final int INJECTION_ENABLED_FOR_SCRIPT_MODULES_ONLY = 1;
     private static final int INJECTION_ENABLED_FOR_SCRIPT_MODULES_AND_TRANSFORMATIONS = 2;
@@ -46,6 +47,8 @@ public class GraalJSScriptEngineConfiguration {
 
     /** The default lock acquisition timeout in seconds */
     private static final long LOCK_ACQUISITION_TIMEOUT_DEFAULT = 5L;
+    /** The default number of pre-created script engines, 0 disables the pool */
+    private static final int ENGINE_POOL_SIZE_DEFAULT = 0;
 
     private int injectionEnabled = INJECTION_ENABLED_FOR_ALL_SCRIPTS;
     private boolean injectionCachingEnabled = true;
@@ -55,6 +58,7 @@ public class GraalJSScriptEngineConfiguration {
     private boolean debuggerEnabled = false;
     private int debuggerPort = DEBUGGER_PORT_DEFAULT;
     private long lockAcquisitionTimeout = TimeUnit.SECONDS.toMillis(LOCK_ACQUISITION_TIMEOUT_DEFAULT);
+    private int enginePoolSize = ENGINE_POOL_SIZE_DEFAULT;
 
     /**
      * Create a new configuration instance from the given parameters.
@@ -141,6 +145,8 @@ public class GraalJSScriptEngineConfiguration {
         debuggerPort = ConfigParser.valueAsOrElse(config.get(CFG_DEBUGGER_PORT), Integer.class, DEBUGGER_PORT_DEFAULT);
         lockAcquisitionTimeout = TimeUnit.SECONDS.toMillis(ConfigParser
                 .valueAsOrElse(config.get(CFG_LOCK_ACQUISITION_TIMEOUT), Long.class, LOCK_ACQUISITION_TIMEOUT_DEFAULT));
+        enginePoolSize = ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_SIZE), Integer.class,
+                ENGINE_POOL_SIZE_DEFAULT);
     }
 
     /**
@@ -208,4 +214,11 @@ public class GraalJSScriptEngineConfiguration {
     public long getLockAcquisitionTimeout() {
         return lockAcquisitionTimeout;
     }
+
+    /**
+     * @return The number of script engines with a pre-created context to keep ready, 0 if disabled.
+     */
+    public int getEnginePoolSize() {
+        return enginePoolSize;
+    }
 }
@@ -71,6 +71,7 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
      * Shared Polyglot {@link Engine} instance to be used by all instances of {@link OpenhabGraalJSScriptEngine}.
      */
     private final Engine engine;
+    private final GraalJSScriptEnginePool enginePool;
 
     private final JSScriptServiceUtil jsScriptServiceUtil;
     private final JSDependencyTracker jsDependencyTracker;
@@ -118,6 +119,9 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
         if (getLanguage() == null) {
             logger.error(LANG_NOT_INITIALIZED_MSG);
         }
+
+        this.enginePool = new GraalJSScriptEnginePool(this::newOpenhabGraalJSScriptEngine,
+                getLanguage() != null ? configuration.getEnginePoolSize() : 0);
     }
 
     private Engine.Builder createEngineBuilder() {
@@ -134,12 +138,17 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
     @Deactivate
     public void dispose() {
+        this.enginePool.close();
         this.engine.close();
     }
 
     @Modified
     protected void modified(Map<String, ?> config) {
         configuration.modified(config);
+        if (getLanguage() != null) {
+            // discard the engines pre-initialized with the previous configuration
+            enginePool.reset(configuration.getEnginePoolSize());
+        }
     }
 
     @Override
@@ -161,8 +170,11 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
             logger.error(LANG_NOT_INITIALIZED_MSG);
             return null;
         }
-        return new DebuggingGraalScriptEngine<>(
-                new OpenhabGraalJSScriptEngine(configuration, engine, jsScriptServiceUtil, jsDependencyTracker));
+        return new DebuggingGraalScriptEngine<>(enginePool.take());
+    }
+
+    private OpenhabGraalJSScriptEngine newOpenhabGraalJSScriptEngine() {
+        return new OpenhabGraalJSScriptEngine(configuration, engine, jsScriptServiceUtil, jsDependencyTracker);
     }
 
     @Override
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a configurable number of pre-initialized {@link OpenhabGraalJSScriptEngine}s, i.e. engines with an already
+ * created GraalJS context and evaluated global script (see {@link OpenhabGraalJSScriptEngine#initializeContext()}),
+ * sharing the polyglot engine (and therefore its code cache) of the factory, so that the context creation does not
+ * delay the creation of script engines, e.g. for transformations and script conditions.
+ * Taken engines are replaced in the background using the shared {@link #THREAD_POOL_NAME} thread pool.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class GraalJSScriptEnginePool implements AutoCloseable {
+    static final String THREAD_POOL_NAME = "jsscripting-engine-pool";
+
+    private final Logger logger = LoggerFactory.getLogger(GraalJSScriptEnginePool.class);
+
+    private final Supplier<OpenhabGraalJSScriptEngine> engineSupplier;
+    private final Executor executor;
+    private final ConcurrentLinkedQueue<OpenhabGraalJSScriptEngine> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    // incremented whenever the idle engines are discarded, engines created for an older generation are not pooled
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private volatile int size;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a pool and starts filling it in the background.
+     *
+     * @param engineSupplier creates a new engine
+     * @param size the number of engines to keep ready, 0 to disable the pool
+     */
+    public GraalJSScriptEnginePool(Supplier<OpenhabGraalJSScriptEngine> engineSupplier, int size) {
+        this(engineSupplier, size, ThreadPoolManager.getPool(THREAD_POOL_NAME));
+    }
+
+    GraalJSScriptEnginePool(Supplier<OpenhabGraalJSScriptEngine> engineSupplier, int size, Executor executor) {
+        this.engineSupplier = engineSupplier;
+        this.executor = executor;
+        setSize(size);
+    }
+
+    /**
+     * Changes the number of engines to keep ready.
+     *
+     * @param size the number of engines to keep ready, 0 to disable the pool
+     */
+    public void setSize(int size) {
+        this.size = Math.max(0, size);
+        OpenhabGraalJSScriptEngine engine;
+        while (idleCount.get() > this.size && (engine = idle.poll()) != null) {
+            idleCount.decrementAndGet();
+            closeEngine(engine);
+        }
+        refill();
+    }
+
+    /**
+     * Closes all idle engines and refills the pool with new ones, e.g. after the configuration has changed.
+     *
+     * @param size the number of engines to keep ready, 0 to disable the pool
+     */
+    public void reset(int size) {
+        this.size = Math.max(0, size);
+        closeAll(drainIdle());
+        refill();
+    }
+
+    /**
+     * Takes a pre-initialized engine out of the pool or, if none is available, creates a new engine whose context is
+     * initialized on first use.
+     *
+     * @return an engine
+     */
+    public OpenhabGraalJSScriptEngine take() {
+        OpenhabGraalJSScriptEngine engine = idle.poll();
+        if (engine == null) {
+            return engineSupplier.get();
+        }
+        idleCount.decrementAndGet();
+        refill();
+        return engine;
+    }
+
+    /**
+     * Returns the number of engines that are currently ready to be taken.
+     *
+     * @return the number of idle engines
+     */
+    int getIdleCount() {
+        return idleCount.get();
+    }
+
+    private void refill() {
+        if (closed || idleCount.get() >= size || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                boolean filled = false;
+                try {
+                    filled = fill();
+                } finally {
+                    refilling.set(false);
+                }
+                if (filled) {
+                    // an engine may have been taken after the last check of fill()
+                    refill();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refilling.set(false);
+            logger.debug("Failed to schedule the refill of the GraalJS script engine pool: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Creates engines until the pool is full.
+     *
+     * @return false if the creation of an engine failed, true otherwise
+     */
+    private boolean fill() {
+        while (!closed && idleCount.get() < size) {
+            int currentGeneration = generation.get();
+            OpenhabGraalJSScriptEngine engine;
+            try {
+                engine = engineSupplier.get();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to pre-create GraalJS script engine: {}", e.getMessage());
+                return false;
+            }
+            try {
+                engine.initializeContext();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to pre-initialize GraalJS script engine: {}", e.getMessage());
+                closeEngine(engine);
+                return false;
+            }
+            synchronized (this) {
+                if (!closed && currentGeneration == generation.get()) {
+                    idle.offer(engine);
+                    idleCount.incrementAndGet();
+                    continue;
+                }
+            }
+            // the pool has been closed or reset while the engine was created
+            closeEngine(engine);
+        }
+        return true;
+    }
+
+    private synchronized List<OpenhabGraalJSScriptEngine> drainIdle() {
+        generation.incrementAndGet();
+        List<OpenhabGraalJSScriptEngine> engines = new ArrayList<>();
+        OpenhabGraalJSScriptEngine engine;
+        while ((engine = idle.poll()) != null) {
+            idleCount.decrementAndGet();
+            engines.add(engine);
+        }
+        return engines;
+    }
+
+    private void closeAll(List<OpenhabGraalJSScriptEngine> engines) {
+        engines.forEach(this::closeEngine);
+    }
+
+    private void closeEngine(OpenhabGraalJSScriptEngine engine) {
+        try {
+            engine.close();
+        } catch (Exception e) {
+            logger.debug("Ignorable exception while closing pre-created GraalJS script engine: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the pool and all engines that have not been taken.
+     * The engines that are created concurrently by a running refill are closed as soon as they are ready.
+     */
+    @Override
+    public void close() {
+        List<OpenhabGraalJSScriptEngine> engines;
+        synchronized (this) {
+            closed = true;
+            engines = drainIdle();
+        }
+        closeAll(engines);
+    }
+}
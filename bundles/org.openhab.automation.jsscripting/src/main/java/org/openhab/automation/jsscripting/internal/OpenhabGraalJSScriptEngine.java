@@ -167,6 +167,7 @@ public class OpenhabGraalJSScriptEngine
     private @Nullable Consumer<String> scriptDependencyListener;
     private String engineIdentifier = "<uninitialized>";
 
+    private boolean contextInitialized = false;
     private boolean initialized = false;
     private boolean closed = false;
 
@@ -271,6 +272,34 @@ public class OpenhabGraalJSScriptEngine
                 .option("js.commonjs-require", "true"));
     }
 
+    /**
+     * Creates the polyglot context, injects the {@link JSRuntimeFeatures} and evaluates the global script.
+     * This does not depend on the script context attributes and is therefore done ahead of time by the
+     * {@link GraalJSScriptEnginePool}, the openhab-js injection however depends on the script type and the script
+     * extension accessor and is left to the first invocation.
+     */
+    void initializeContext() {
+        lock.lock();
+        try {
+            if (contextInitialized) {
+                return;
+            }
+            Context context = delegate.getPolyglotContext();
+
+            // Injections into the JS runtime
+            jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
+                logger.debug("Injecting {} into the context of engine '{}' ...", key, engineIdentifier);
+                delegate.put(key, obj);
+            });
+
+            logger.debug("Evaluating cached global script for engine '{}' ...", engineIdentifier);
+            context.eval(GLOBAL_SOURCE);
+            contextInitialized = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     protected void beforeInvocation() {
         super.beforeInvocation();
@@ -321,12 +350,6 @@ public class OpenhabGraalJSScriptEngine
         delegate.getBindings(ScriptContext.ENGINE_SCOPE).put(REQUIRE_WRAPPER_NAME, wrapRequireFn);
         delegate.put("require", wrapRequireFn.apply((Function<Object[], Object>) delegate.get("require")));
 
-        // Injections into the JS runtime
-        jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
-            logger.debug("Injecting {} into the context of engine '{}' ...", key, engineIdentifier);
-            delegate.put(key, obj);
-        });
-
         initialized = true;
 
         if (logger.isDebugEnabled()) {
@@ -342,10 +365,10 @@ public class OpenhabGraalJSScriptEngine
                     engineIdentifier);
         }
 
-        try {
-            logger.debug("Evaluating cached global script for engine '{}' ...", engineIdentifier);
-            delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
+        // no-op if the engine has been pre-initialized by the GraalJSScriptEnginePool
+        initializeContext();
 
+        try {
             if (configuration.isInjectionEnabledForAllScripts()
                     || (isScriptModule() && configuration.isInjectionEnabledForScriptModules())
                     || (isTransformation() && configuration.isInjectionEnabledForTransformations())) {
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GraalJSScriptEnginePool}.
+ * The refill runs on the calling thread, so that the pool is filled as soon as a method returns.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class GraalJSScriptEnginePoolTest {
+
+    private final List<OpenhabGraalJSScriptEngine> created = new ArrayList<>();
+
+    private OpenhabGraalJSScriptEngine createEngine() {
+        OpenhabGraalJSScriptEngine engine = mock(OpenhabGraalJSScriptEngine.class);
+        created.add(engine);
+        return engine;
+    }
+
+    private GraalJSScriptEnginePool createPool(int size) {
+        return new GraalJSScriptEnginePool(this::createEngine, size, Runnable::run);
+    }
+
+    @Test
+    public void takeReturnsEngineWithInitializedContext() throws Exception {
+        GraalJSScriptEnginePool pool = createPool(1);
+        assertEquals(1, created.size());
+        OpenhabGraalJSScriptEngine first = created.get(0);
+        verify(first).initializeContext();
+
+        assertSame(first, pool.take());
+
+        // the taken engine has been replaced by a new pre-initialized one
+        assertEquals(2, created.size());
+        assertEquals(1, pool.getIdleCount());
+        verify(created.get(1)).initializeContext();
+        verify(first, never()).close();
+    }
+
+    @Test
+    public void takeCreatesEngineWhenPoolIsEmpty() throws Exception {
+        GraalJSScriptEnginePool pool = createPool(0);
+        assertTrue(created.isEmpty());
+
+        OpenhabGraalJSScriptEngine engine = pool.take();
+
+        assertEquals(List.of(engine), created);
+        // the context of an engine that is not pooled is initialized on first invocation
+        verify(engine, never()).initializeContext();
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void setSizeShrinksAndGrowsPool() throws Exception {
+        GraalJSScriptEnginePool pool = createPool(3);
+        assertEquals(3, pool.getIdleCount());
+
+        pool.setSize(1);
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(3, created.size());
+        verify(created.get(0)).close();
+        verify(created.get(1)).close();
+        verify(created.get(2), never()).close();
+
+        pool.setSize(2);
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(4, created.size());
+    }
+
+    @Test
+    public void resetReplacesIdleEngines() throws Exception {
+        GraalJSScriptEnginePool pool = createPool(2);
+        List<OpenhabGraalJSScriptEngine> previous = List.copyOf(created);
+
+        pool.reset(2);
+
+        for (OpenhabGraalJSScriptEngine engine : previous) {
+            verify(engine).close();
+        }
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(4, created.size());
+        OpenhabGraalJSScriptEngine taken = pool.take();
+        assertFalse(previous.contains(taken));
+    }
+
+    @Test
+    public void closeClosesIdleEnginesAndStopsRefill() throws Exception {
+        GraalJSScriptEnginePool pool = createPool(2);
+
+        pool.close();
+
+        for (OpenhabGraalJSScriptEngine engine : created) {
+            verify(engine).close();
+        }
+        assertEquals(0, pool.getIdleCount());
+
+        OpenhabGraalJSScriptEngine engine = pool.take();
+        assertEquals(3, created.size());
+        verify(engine, never()).initializeContext();
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void engineCreatedWhileClosingIsClosed() throws Exception {
+        AtomicReference<@Nullable GraalJSScriptEnginePool> poolRef = new AtomicReference<>();
+        GraalJSScriptEnginePool pool = new GraalJSScriptEnginePool(() -> {
+            GraalJSScriptEnginePool localPool = poolRef.get();
+            if (localPool != null) {
+                localPool.close();
+            }
+            return createEngine();
+        }, 0, Runnable::run);
+        poolRef.set(pool);
+
+        pool.setSize(1);
+
+        assertEquals(1, created.size());
+        verify(created.get(0)).close();
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void failingEngineCreationDoesNotFillPool() {
+        GraalJSScriptEnginePool pool = new GraalJSScriptEnginePool(() -> {
+            throw new IllegalStateException("no GraalJS");
+        }, 2, Runnable::run);
+
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void engineFailingToInitializeIsClosed() throws Exception {
+        GraalJSScriptEnginePool pool = new GraalJSScriptEnginePool(() -> {
+            OpenhabGraalJSScriptEngine engine = createEngine();
+            doThrow(new IllegalStateException("eval failed")).when(engine).initializeContext();
+            return engine;
+        }, 1, Runnable::run);
+
+        assertEquals(1, created.size());
+        verify(created.get(0)).close();
+        assertEquals(0, pool.getIdleCount());
+    }
+}
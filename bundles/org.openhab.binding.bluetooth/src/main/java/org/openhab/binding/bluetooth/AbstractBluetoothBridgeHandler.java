@@ -25,6 +25,7 @@ import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.bluetooth.BluetoothDevice.ConnectionState;
+import org.openhab.binding.bluetooth.util.AdvertisementCoalescer;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -103,10 +104,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         }
         this.inactiveRemovalJob = null;
 
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                removeDevice(device);
-            }
+        for (BD device : devices.values()) {
+            removeDevice(device);
         }
     }
 
@@ -115,18 +114,17 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     }
 
     private void removeInactiveDevices() {
-        // clean up orphaned entries
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                if (shouldRemove(device)) {
-                    logger.debug("Removing device '{}' due to inactivity", device.getAddress());
-                    removeDevice(device);
-                }
+        // clean up orphaned entries; iterating the concurrent map needs no lock
+        for (BD device : devices.values()) {
+            if (shouldRemove(device)) {
+                logger.debug("Removing device '{}' due to inactivity", device.getAddress());
+                removeDevice(device);
             }
         }
     }
 
     protected void removeDevice(BD device) {
+        device.setAdvertisementCoalescer(null);
         device.dispose();
         synchronized (devices) {
             devices.remove(device.getAddress());
@@ -137,15 +135,13 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     /**
      * Performs the given action on every device currently known to this bridge. Subclasses use this
      * to propagate adapter-wide events (e.g. the adapter going away) to all of their devices without
-     * needing their own copy of the device registry. The action runs while holding the device lock,
-     * so it should be quick and must not call back into device-registry-mutating methods.
+     * needing their own copy of the device registry. The iteration is weakly consistent: devices
+     * added or removed while it runs may or may not be visited.
      *
      * @param action the action to perform on each known device
      */
     protected void forEachDevice(Consumer<BD> action) {
-        synchronized (devices) {
-            devices.values().forEach(action);
-        }
+        devices.values().forEach(action);
     }
 
     private boolean shouldRemove(BD device) {
@@ -187,9 +183,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
-        synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
-        }
+        devices.values().forEach(this::deviceDiscovered);
     }
 
     @Override
@@ -201,9 +195,23 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     @Override
     public BD getDevice(BluetoothAddress address) {
+        // fast path: every advertisement of a known device ends up here, so avoid taking the lock
+        BD device = devices.get(address);
+        if (device != null) {
+            return device;
+        }
         synchronized (devices) {
-            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
+            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createCoalescedDevice));
+        }
+    }
+
+    private BD createCoalescedDevice(BluetoothAddress address) {
+        BD device = createDevice(address);
+        if (config.advertisementCoalescingWindow > 0 || config.dropDuplicateAdvertisements) {
+            device.setAdvertisementCoalescer(new AdvertisementCoalescer(scheduler,
+                    config.advertisementCoalescingWindow, config.dropDuplicateAdvertisements));
         }
+        return device;
     }
 
     protected abstract BD createDevice(BluetoothAddress address);
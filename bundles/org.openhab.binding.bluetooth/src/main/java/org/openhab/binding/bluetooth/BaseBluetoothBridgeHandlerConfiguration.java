@@ -26,4 +26,6 @@ public class BaseBluetoothBridgeHandlerConfiguration {
     public boolean backgroundDiscovery = false;
     public int inactiveDeviceCleanupInterval = 60;
     public int inactiveDeviceCleanupThreshold = 300;
+    public int advertisementCoalescingWindow = 0;
+    public boolean dropDuplicateAdvertisements = false;
 }
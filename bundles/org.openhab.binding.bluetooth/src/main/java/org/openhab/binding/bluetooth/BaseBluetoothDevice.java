@@ -26,6 +26,8 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.binding.bluetooth.util.AdvertisementCoalescer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,6 +92,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
 
     private volatile boolean servicesDiscovered = false;
 
+    /**
+     * Optional filter for advertisement payloads, installed by the adapter
+     */
+    private volatile @Nullable AdvertisementCoalescer advertisementCoalescer;
+
     /**
      * Construct a Bluetooth device taking the Bluetooth address
      *
@@ -255,6 +262,21 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
         return false;
     }
 
+    /**
+     * Sets the {@link AdvertisementCoalescer} that scan records carrying advertisement payloads are passed through
+     * before they reach the listeners. A previously set coalescer is reset, so it delivers no held back scan records
+     * anymore.
+     *
+     * @param advertisementCoalescer the coalescer to use, or null to deliver every scan record directly
+     */
+    public void setAdvertisementCoalescer(@Nullable AdvertisementCoalescer advertisementCoalescer) {
+        AdvertisementCoalescer previous = this.advertisementCoalescer;
+        this.advertisementCoalescer = advertisementCoalescer;
+        if (previous != null && previous != advertisementCoalescer) {
+            previous.reset();
+        }
+    }
+
     @Override
     protected Collection<BluetoothDeviceListener> getListeners() {
         return eventListeners;
@@ -340,6 +362,12 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
             default:
                 break;
         }
+        AdvertisementCoalescer coalescer = advertisementCoalescer;
+        if (coalescer != null && event == BluetoothEventType.SCAN_RECORD && args.length == 1
+                && args[0] instanceof BluetoothScanNotification notification) {
+            coalescer.submit(notification, n -> super.notifyListeners(BluetoothEventType.SCAN_RECORD, n));
+            return;
+        }
         super.notifyListeners(event, args);
     }
 
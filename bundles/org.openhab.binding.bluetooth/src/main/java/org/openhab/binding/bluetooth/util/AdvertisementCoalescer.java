@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * The {@link AdvertisementCoalescer} sits between a device and its listeners and thins out the stream of
+ * advertisement payloads a beacon sends. Payloads are tracked per slot (one slot per manufacturer id or per set of
+ * service data UUIDs), so that a device advertising several payload types never loses one type to another.
+ * <p>
+ * Within a slot, payloads arriving within the coalescing window after a dispatch are held back so that only the
+ * latest one is delivered once the window has elapsed. Optionally, a payload that is byte-identical to the previously
+ * dispatched one is dropped, whatever its RSSI: a beacon repeating the same payload with a varying signal strength
+ * then reports its RSSI at most once per coalescing window, and not at all without a window. Notifications without
+ * any payload (e.g. RSSI or name updates) are always passed through.
+ * <p>
+ * Submitting is lock-free, so devices of a busy adapter never contend with each other.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementCoalescer {
+
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final boolean dropDuplicates;
+
+    private final Map<Object, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a coalescer.
+     *
+     * @param scheduler the scheduler used to deliver held back payloads at the end of a coalescing window
+     * @param windowMillis the coalescing window in milliseconds, 0 to dispatch every (non-duplicate) payload directly
+     * @param dropDuplicates whether payloads that are byte-identical to the last dispatched payload of a slot are
+     *            dropped, unless their RSSI changed and they can be delivered through the coalescing window
+     */
+    public AdvertisementCoalescer(ScheduledExecutorService scheduler, long windowMillis, boolean dropDuplicates) {
+        this.scheduler = scheduler;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, windowMillis));
+        this.dropDuplicates = dropDuplicates;
+    }
+
+    /**
+     * Returns whether this coalescer would ever hold back or drop a notification.
+     *
+     * @return true if the coalescer is active
+     */
+    public boolean isEnabled() {
+        return windowNanos > 0 || dropDuplicates;
+    }
+
+    /**
+     * Submits a scan notification. The dispatcher is either called right away, later from the scheduler, or not at all
+     * if the notification was dropped or superseded by a newer one.
+     *
+     * @param notification the received notification
+     * @param dispatcher the action delivering a notification to the listeners
+     */
+    public void submit(BluetoothScanNotification notification, Consumer<BluetoothScanNotification> dispatcher) {
+        Object slotKey = isEnabled() ? slotKey(notification) : null;
+        if (slotKey == null) {
+            dispatcher.accept(notification);
+            return;
+        }
+        Slot slot = slots.computeIfAbsent(slotKey, k -> new Slot());
+
+        byte[] payload = payload(notification);
+        Dispatched lastDispatched = slot.lastDispatched;
+        if (dropDuplicates && lastDispatched != null && Arrays.equals(lastDispatched.payload(), payload)) {
+            if (windowNanos == 0 || lastDispatched.rssi() == notification.getRssi()) {
+                // listeners already know this state, a held back notification would only change it in between
+                slot.pending.set(null);
+                return;
+            }
+            // only the RSSI changed, it is delivered at most once per coalescing window
+        }
+
+        if (windowNanos == 0) {
+            dispatch(slot, notification, dispatcher);
+            return;
+        }
+
+        long elapsed = System.nanoTime() - slot.lastDispatchNanos;
+        if (elapsed >= windowNanos && slot.pending.get() == null) {
+            dispatch(slot, notification, dispatcher);
+        } else if (slot.pending.getAndSet(notification) == null) {
+            long delay = Math.max(0, windowNanos - elapsed);
+            slot.flushJob = scheduler.schedule(() -> flush(slot, dispatcher), delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Forgets all per-slot state and drops held back notifications, e.g. after the device went away.
+     */
+    public void reset() {
+        slots.values().forEach(slot -> {
+            slot.pending.set(null);
+            ScheduledFuture<?> flushJob = slot.flushJob;
+            if (flushJob != null) {
+                flushJob.cancel(false);
+            }
+        });
+        slots.clear();
+    }
+
+    private void flush(Slot slot, Consumer<BluetoothScanNotification> dispatcher) {
+        BluetoothScanNotification notification = slot.pending.getAndSet(null);
+        if (notification != null) {
+            dispatch(slot, notification, dispatcher);
+        }
+    }
+
+    private void dispatch(Slot slot, BluetoothScanNotification notification,
+            Consumer<BluetoothScanNotification> dispatcher) {
+        slot.lastDispatched = new Dispatched(payload(notification), notification.getRssi());
+        slot.lastDispatchNanos = System.nanoTime();
+        dispatcher.accept(notification);
+    }
+
+    private static @Nullable Object slotKey(BluetoothScanNotification notification) {
+        byte[] manufacturerData = notification.getManufacturerData();
+        if (manufacturerData.length >= 2) {
+            // the first two bytes hold the company identifier
+            return (manufacturerData[0] & 0xFF) | ((manufacturerData[1] & 0xFF) << 8);
+        }
+        Map<String, byte[]> serviceData = notification.getServiceData();
+        if (serviceData.size() == 1) {
+            return serviceData.keySet().iterator().next();
+        } else if (!serviceData.isEmpty()) {
+            return new TreeMap<>(serviceData).keySet().toString();
+        }
+        return null;
+    }
+
+    private static byte[] payload(BluetoothScanNotification notification) {
+        byte[] manufacturerData = notification.getManufacturerData();
+        if (manufacturerData.length > 0) {
+            return manufacturerData;
+        }
+        Map<String, byte[]> serviceData = notification.getServiceData();
+        if (serviceData.size() == 1) {
+            return serviceData.values().iterator().next();
+        }
+        int length = 0;
+        Map<String, byte[]> sorted = new TreeMap<>(serviceData);
+        for (byte[] value : sorted.values()) {
+            length += value.length + 1;
+        }
+        byte[] payload = new byte[length];
+        int offset = 0;
+        for (byte[] value : sorted.values()) {
+            // prefix each value with its length so that different splits of the same bytes never compare equal
+            payload[offset++] = (byte) value.length;
+            System.arraycopy(value, 0, payload, offset, value.length);
+            offset += value.length;
+        }
+        return payload;
+    }
+
+    private record Dispatched(byte[] payload, int rssi) {
+    }
+
+    private static class Slot {
+        private volatile @Nullable Dispatched lastDispatched;
+        private volatile long lastDispatchNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+        private volatile @Nullable ScheduledFuture<?> flushJob;
+        private final AtomicReference<@Nullable BluetoothScanNotification> pending = new AtomicReference<>();
+    }
+}
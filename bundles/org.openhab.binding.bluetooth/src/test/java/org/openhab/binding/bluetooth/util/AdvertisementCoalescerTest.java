@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.core.common.NamedThreadFactory;
+
+/**
+ * Tests for {@link AdvertisementCoalescer}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class AdvertisementCoalescerTest {
+
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private final List<BluetoothScanNotification> dispatched = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        scheduler = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("AdvertisementCoalescerTest", true));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        scheduler.shutdownNow();
+    }
+
+    private static BluetoothScanNotification manufacturerData(int... bytes) {
+        byte[] data = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            data[i] = (byte) bytes[i];
+        }
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setManufacturerData(data);
+        return notification;
+    }
+
+    @Test
+    void duplicatesAreDropped() {
+        AdvertisementCoalescer coalescer = new AdvertisementCoalescer(scheduler, 0, true);
+
+        coalescer.submit(manufacturerData(0x99, 0x04, 1, 2), dispatched::add);
+        coalescer.submit(manufacturerData(0x99, 0x04, 1, 2), dispatched::add);
+        coalescer.submit(manufacturerData(0x99, 0x04, 1, 3), dispatched::add);
+
+        assertEquals(2, dispatched.size());
+    }
+
+    @Test
+    void rssiChangesAreDuplicatesWithoutWindow() {
+        AdvertisementCoalescer coalescer = new AdvertisementCoalescer(scheduler, 0, true);
+        BluetoothScanNotification first = manufacturerData(0x99, 0x04, 1, 2);
+        first.setRssi(-70);
+        BluetoothScanNotification moved = manufacturerData(0x99, 0x04, 1, 2);
+        moved.setRssi(-60);
+
+        coalescer.submit(first, dispatched::add);
+        coalescer.submit(moved, dispatched::add);
+
+        assertEquals(List.of(first), dispatched);
+    }
+
+    @Test
+    void rssiChangesAreDeliveredOncePerWindow() throws InterruptedException {
+        AdvertisementCoalescer coalescer = new AdvertisementCoalescer(scheduler, 200, true);
+        BluetoothScanNotification first = manufacturerData(0x99, 0x04, 1, 2);
+        first.setRssi(-70);
+        BluetoothScanNotification closer = manufacturerData(0x99, 0x04, 1, 2);
+        closer.setRssi(-65);
+        BluetoothScanNotification closest = manufacturerData(0x99, 0x04, 1, 2);
+        closest.setRssi(-60);
+
+        coalescer.submit(first, dispatched::add);
+        coalescer.submit(closer, dispatched::add);
+        coalescer.submit(closest, dispatched::add);
+        assertEquals(List.of(first), dispatched);
+
+        Thread.sleep(400);
+        assertEquals(List.of(first, closest), dispatched);
+
+        // same payload and RSSI as the last delivered notification
+        coalescer.submit(closest, dispatched::add);
+        Thread.sleep(400);
+        assertEquals(List.of(first, closest), dispatched);
+    }
+
+    @Test
+    void duplicatesAreComparedToTheDispatchedPayload() throws InterruptedException {
+        AdvertisementCoalescer coalescer = new AdvertisementCoalescer(scheduler, 200, true);
+        BluetoothScanNotification changed = manufacturerData(0x99, 0x04, 2);
+
+        coalescer.submit(manufacturerData(0x99, 0x04, 1), dispatched::add);
+        // held back, then superseded by the dispatched state again
+        coalescer.submit(manufacturerData(0x99, 0x04, 2), dispatched::add);
+        coalescer.submit(manufacturerData(0x99, 0x04, 1), dispatched::add);
+        Thread.sleep(400);
+        assertEquals(1, dispatched.size());
+
+        // the held back payload was never dispatched, so it is no duplicate
+        coalescer.submit(changed, dispatched::add);
+        assertEquals(List.of(dispatched.getFirst(), changed), dispatched);
+    }
+
+    @Test
+    void resetDropsHeldBackNotifications() throws InterruptedException {
+        AdvertisementCoalescer coalescer = new AdvertisementCoalescer(scheduler, 200, false);
+
+        coalescer.submit(manufacturerData(0x99, 0x04, 1), dispatched::add);
+        coalescer.submit(manufacturerData(0x99, 0x04, 2), dispatched::add);
+        coalescer.reset();
+
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(2, TimeUnit.SECONDS));
+        assertEquals(1, dispatched.size());
+    }
+
+    @Test
+    void payloadlessNotificationsPassThrough() {
+        AdvertisementCoalescer coalescer = new AdvertisementCoalescer(scheduler, 10000, true);
+        BluetoothScanNotification rssi = new BluetoothScanNotification();
+        rssi.setRssi(-70);
+
+        coalescer.submit(rssi, dispatched::add);
+        coalescer.submit(rssi, dispatched::add);
+
+        assertEquals(2, dispatched.size());
+    }
+
+    @Test
+    void slotsAreIndependent() {
+        AdvertisementCoalescer coalescer = new AdvertisementCoalescer(scheduler, 10000, true);
+        BluetoothScanNotification serviceData = new BluetoothScanNotification();
+        serviceData.setServiceData(Map.of("0000fcd2-0000-1000-8000-00805f9b34fb", new byte[] { 1, 2 }));
+
+        coalescer.submit(manufacturerData(0x99, 0x04, 1), dispatched::add);
+        coalescer.submit(manufacturerData(0x4C, 0x00, 1), dispatched::add);
+        coalescer.submit(serviceData, dispatched::add);
+
+        assertEquals(3, dispatched.size());
+    }
+
+    @Test
+    void burstIsCoalescedToLatest() throws InterruptedException {
+        AdvertisementCoalescer coalescer = new AdvertisementCoalescer(scheduler, 200, false);
+        BluetoothScanNotification last = manufacturerData(0x99, 0x04, 9);
+
+        coalescer.submit(manufacturerData(0x99, 0x04, 1), dispatched::add);
+        coalescer.submit(manufacturerData(0x99, 0x04, 2), dispatched::add);
+        coalescer.submit(manufacturerData(0x99, 0x04, 3), dispatched::add);
+        coalescer.submit(last, dispatched::add);
+
+        assertEquals(1, dispatched.size());
+
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(2, TimeUnit.SECONDS));
+
+        assertEquals(2, dispatched.size());
+        assertSame(last, dispatched.get(1));
+    }
+}
@@ -65,6 +65,7 @@ public class DigitalSTROMBindingConstants {
     public static final String TOTAL_POWER_UPDATE_INTERVAL = "totalPowerUpdateInterval";
     public static final String DEFAULT_TRASH_DEVICE_DELETE_TIME_KEY = "defaultTrashBinDeleteTime";
     public static final String SENSOR_WAIT_TIME = "sensorWaitTime";
+    public static final String BULK_REFRESH = "bulkRefresh";
 
     public static final String SERVER_CERT = "serverCert";
 
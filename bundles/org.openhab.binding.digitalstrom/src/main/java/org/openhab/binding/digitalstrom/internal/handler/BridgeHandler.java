@@ -278,6 +278,9 @@ public class BridgeHandler extends BaseBridgeHandler
             numberExc.add("\"Wait time sensor reading\" ("
                     + thingConfig.get(DigitalSTROMBindingConstants.SENSOR_WAIT_TIME) + ")");
         }
+        if (thingConfig.get(DigitalSTROMBindingConstants.BULK_REFRESH) instanceof Boolean) {
+            config.setBulkRefresh((Boolean) thingConfig.get(DigitalSTROMBindingConstants.BULK_REFRESH));
+        }
         if (thingConfig.get(DigitalSTROMBindingConstants.DEFAULT_TRASH_DEVICE_DELETE_TIME_KEY) instanceof BigDecimal) {
             config.setTrashDeviceDeleteTime(
                     ((BigDecimal) thingConfig.get(DigitalSTROMBindingConstants.DEFAULT_TRASH_DEVICE_DELETE_TIME_KEY))
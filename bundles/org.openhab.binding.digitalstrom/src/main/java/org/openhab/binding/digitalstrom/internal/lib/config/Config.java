@@ -117,6 +117,13 @@ public class Config {
     public static final int DEFAULT_SENSOR_READING_WAIT_TIME = 60000;
     private int sensorReadingWaitTime = DEFAULT_SENSOR_READING_WAIT_TIME;
 
+    /**
+     * By default sensor values are only read through
+     * {@link org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob}s.
+     */
+    public static final boolean DEFAULT_BULK_REFRESH = false;
+    private boolean bulkRefresh = DEFAULT_BULK_REFRESH;
+
     // sensor data Prioritys
     /**
      * Priority for never refresh the sensor value.
@@ -490,6 +497,27 @@ public class Config {
         this.sensorReadingWaitTime = sensorReadingWaitTime;
     }
 
+    /**
+     * Returns true, if the sensor values cached by the digitalSTROM-Server are taken over from the device structure
+     * query of each polling cycle, so that
+     * {@link org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob}s
+     * are only executed for sensor values which are not cached or outdated.
+     *
+     * @return true, if bulk refresh is enabled
+     */
+    public boolean isBulkRefresh() {
+        return bulkRefresh;
+    }
+
+    /**
+     * Enables or disables the bulk refresh of the sensor values, see {@link #isBulkRefresh()}.
+     *
+     * @param bulkRefresh true to enable the bulk refresh
+     */
+    public void setBulkRefresh(boolean bulkRefresh) {
+        this.bulkRefresh = bulkRefresh;
+    }
+
     /**
      * Returns the factor to prioritize medium
      * {@link org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob}s
@@ -643,8 +671,8 @@ public class Config {
                 + ", trashDeviceDeleteTime=" + trashDeviceDeleteTime + ", binCheckTime=" + binCheckTime
                 + ", pollingFrequency=" + pollingFrequency + ", sensordataRefreshInterval=" + sensordataRefreshInterval
                 + ", totalPowerUpdateInterval=" + totalPowerUpdateInterval + ", sensorReadingWaitTime="
-                + sensorReadingWaitTime + ", mediumPriorityFactor=" + mediumPriorityFactor + ", lowPriorityFactor="
-                + lowPriorityFactor + ", eventListenerRefreshinterval=" + eventListenerRefreshinterval
-                + ", standbyActivePower=" + standbyActivePower + "]";
+                + sensorReadingWaitTime + ", bulkRefresh=" + bulkRefresh + ", mediumPriorityFactor="
+                + mediumPriorityFactor + ", lowPriorityFactor=" + lowPriorityFactor + ", eventListenerRefreshinterval="
+                + eventListenerRefreshinterval + ", standbyActivePower=" + standbyActivePower + "]";
     }
 }
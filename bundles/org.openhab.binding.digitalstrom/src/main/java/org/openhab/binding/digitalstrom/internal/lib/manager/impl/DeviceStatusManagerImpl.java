@@ -62,6 +62,7 @@ import org.openhab.binding.digitalstrom.internal.lib.structure.devices.devicepar
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.constants.OutputModeEnum;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.constants.SensorEnum;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DSID;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DeviceSensorValue;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DeviceStateUpdateImpl;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.impl.DeviceImpl;
 import org.openhab.binding.digitalstrom.internal.lib.structure.scene.InternalScene;
@@ -653,6 +654,16 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
         if (!newDevice.getBinaryInputs().equals(internalDevice.getBinaryInputs())) {
             internalDevice.setBinaryInputs(newDevice.getBinaryInputs());
         }
+        if (config.isBulkRefresh()) {
+            // Take over the sensor values cached by the dSS, which were read with the device query anyway. Sensor jobs
+            // are only executed for values which are not cached or outdated.
+            for (DeviceSensorValue sensorValue : newDevice.getDeviceSensorValues()) {
+                if (internalDevice.setDeviceSensorByQuery(sensorValue)) {
+                    logger.trace("Took over cached sensor value {} for device with dSID {}", sensorValue,
+                            internalDevice.getDSID().getValue());
+                }
+            }
+        }
         strucMan.updateDevice(newDevice);
     }
 
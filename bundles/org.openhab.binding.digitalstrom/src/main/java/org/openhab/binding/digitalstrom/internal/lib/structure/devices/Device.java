@@ -783,6 +783,17 @@ public interface Device extends GeneralDeviceInformation {
      */
     void setDeviceSensorByEvent(EventItem event);
 
+    /**
+     * Sets a {@link DeviceSensorValue} cached by the digitalSTROM-Server, which was read with the device structure
+     * query. The value is only taken over, if it is valid and newer than the current one. An initialized
+     * {@link org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.impl.DeviceConsumptionSensorJob}
+     * for this sensor type will be removed, because it is not needed anymore.
+     *
+     * @param deviceSensorValue cached by the digitalSTROM-Server
+     * @return true, if the value was taken over
+     */
+    boolean setDeviceSensorByQuery(DeviceSensorValue deviceSensorValue);
+
     /**
      * Returns true, if the refresh priority of the given power sensor type as {@link SensorEnum} is equals
      * {@link Config#REFRESH_PRIORITY_NEVER}, otherwise false.
@@ -1259,6 +1259,27 @@ public class DeviceImpl extends AbstractGeneralDeviceInformations implements Dev
         }
     }
 
+    @Override
+    public boolean setDeviceSensorByQuery(DeviceSensorValue deviceSensorValue) {
+        if (deviceSensorValue == null || !deviceSensorValue.getValid() || deviceSensorValue.getSensorType() == null
+                || deviceSensorValue.getTimestamp() == null) {
+            return false;
+        }
+        SensorEnum sensorType = deviceSensorValue.getSensorType();
+        DeviceSensorValue currentValue = getDeviceSensorValue(sensorType);
+        if (currentValue != null && currentValue.getTimestamp() != null
+                && !deviceSensorValue.getTimestamp().after(currentValue.getTimestamp())) {
+            return false;
+        }
+        logger.debug("Set cached value {} for sensorType {}", deviceSensorValue, sensorType);
+        if (SensorEnum.isPowerSensor(sensorType) && getSensorDataReadingInitialized(sensorType)) {
+            logger.debug("SensorJob was initialized, remove sensorjob for sensorType: {}", sensorType);
+            deviceStateUpdates.add(new DeviceStateUpdateImpl(sensorType, -1));
+        }
+        setDeviceSensorValue(deviceSensorValue);
+        return true;
+    }
+
     private boolean isEchoSensor(SensorEnum sensorType) {
         return sensorEchoBox != null ? sensorEchoBox.contains(sensorType) : false;
     }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.digitalstrom.internal.lib.manager.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.digitalstrom.internal.lib.config.Config;
+import org.openhab.binding.digitalstrom.internal.lib.event.EventListener;
+import org.openhab.binding.digitalstrom.internal.lib.manager.ConnectionManager;
+import org.openhab.binding.digitalstrom.internal.lib.manager.SceneManager;
+import org.openhab.binding.digitalstrom.internal.lib.manager.StructureManager;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.impl.DeviceConsumptionSensorJob;
+import org.openhab.binding.digitalstrom.internal.lib.serverconnection.DsAPI;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.Device;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.constants.SensorEnum;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DSID;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.impl.DeviceImpl;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Test class for the polling of the {@link DeviceStatusManagerImpl}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+class DeviceStatusManagerImplTest {
+
+    private static final String SESSION_TOKEN = "token";
+    private static final String DSID = "3504175fe0000000000043d4";
+
+    /**
+     * Hand-written template of a response to {@link DeviceStatusManagerImpl#GET_DETAILD_DEVICES}, not a capture of a
+     * real digitalSTROM-Server. It only contains the keys read by {@link DeviceImpl} for one switch with a single
+     * cached active power sensor input (type 4), whose value (%d) and timestamp (%s) are filled in by the test.
+     */
+    private static final String DEVICE_QUERY_RESPONSE = """
+            {
+              "zone0": {
+                "ZoneID": 0,
+                "name": "",
+                "dev0": {
+                  "id": "3504175fe0000000000043d4",
+                  "dSUID": "3504175fe0000000000043d400",
+                  "name": "Kitchen lamp",
+                  "functionID": 4400,
+                  "productRevision": 834,
+                  "productID": 200,
+                  "hwInfo": "GE-KM200",
+                  "meterDSID": "3504175fe0000000000017f9",
+                  "present": true,
+                  "on": true,
+                  "zoneID": 1,
+                  "outputMode": 35,
+                  "groups": [1],
+                  "sensorInputs": {
+                    "sensor0": {
+                      "type": 4,
+                      "index": 0,
+                      "valid": true,
+                      "value": %d,
+                      "timestamp": "%s"
+                    }
+                  }
+                }
+              }
+            }
+            """;
+
+    private static final String LAST_CALL_SCENE_RESPONSE = "{}";
+
+    private @Mock @NonNullByDefault({}) ConnectionManager connMan;
+    private @Mock @NonNullByDefault({}) DsAPI digitalSTROMClient;
+    private @Mock @NonNullByDefault({}) StructureManager strucMan;
+    private @Mock @NonNullByDefault({}) SceneManager sceneMan;
+    private @Mock @NonNullByDefault({}) EventListener eventListener;
+
+    private final Config config = new Config();
+    private @NonNullByDefault({}) DeviceStatusManagerImpl deviceStatusManager;
+    private @NonNullByDefault({}) Device internalDevice;
+
+    @BeforeEach
+    void setUp() {
+        String cachedTimestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
+        JsonObject deviceQueryResponse = JsonParser.parseString(DEVICE_QUERY_RESPONSE.formatted(25, cachedTimestamp))
+                .getAsJsonObject();
+        when(connMan.getDigitalSTROMAPI()).thenReturn(digitalSTROMClient);
+        when(connMan.getConfig()).thenReturn(config);
+        when(connMan.getSessionToken()).thenReturn(SESSION_TOKEN);
+        when(digitalSTROMClient.query2(SESSION_TOKEN, DeviceStatusManagerImpl.GET_DETAILD_DEVICES))
+                .thenReturn(deviceQueryResponse);
+        when(digitalSTROMClient.query2(SESSION_TOKEN, DeviceStatusManagerImpl.LAST_CALL_SCENE_QUERY))
+                .thenReturn(JsonParser.parseString(LAST_CALL_SCENE_RESPONSE).getAsJsonObject());
+        when(sceneMan.scenesGenerated()).thenReturn(true);
+
+        // the device as known from the last polling cycle with an outdated active power value
+        JsonObject knownDevice = JsonParser.parseString(DEVICE_QUERY_RESPONSE.formatted(10, "2025-01-01 10:00:00"))
+                .getAsJsonObject().getAsJsonObject("zone0").getAsJsonObject("dev0");
+        internalDevice = new DeviceImpl(knownDevice);
+        internalDevice.setConfig(config);
+        internalDevice.setSensorDataRefreshPriority(Config.REFRESH_PRIORITY_LOW, Config.REFRESH_PRIORITY_NEVER,
+                Config.REFRESH_PRIORITY_NEVER);
+        Map<DSID, Device> deviceMap = new HashMap<>();
+        deviceMap.put(new DSID(DSID), internalDevice);
+        when(strucMan.getDeviceMap()).thenReturn(deviceMap);
+
+        deviceStatusManager = spy(new DeviceStatusManagerImpl(connMan, strucMan, sceneMan, null, eventListener));
+        doNothing().when(deviceStatusManager).updateSensorData(any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        deviceStatusManager.stop();
+    }
+
+    @Test
+    @DisplayName("Bulk refresh enabled, expect cached sensor values taken over without queuing a sensor job")
+    void pollingWithBulkRefreshQueuesNoSensorJobForCachedValues() {
+        config.setBulkRefresh(true);
+
+        pollOnce();
+
+        verify(deviceStatusManager, never()).updateSensorData(any(), any());
+        assertThat(internalDevice.getDeviceSensorValue(SensorEnum.ACTIVE_POWER).getFloatValue(), is(25f));
+        assertThat(internalDevice.isPowerSensorUpToDate(SensorEnum.ACTIVE_POWER), is(true));
+    }
+
+    @Test
+    @DisplayName("Bulk refresh disabled, expect a sensor job queued for the outdated value")
+    void pollingWithoutBulkRefreshQueuesSensorJob() {
+        config.setBulkRefresh(false);
+
+        pollOnce();
+
+        verify(deviceStatusManager).updateSensorData(any(DeviceConsumptionSensorJob.class),
+                eq(Config.REFRESH_PRIORITY_LOW));
+    }
+
+    private void pollOnce() {
+        deviceStatusManager.start();
+        // the scenes are checked after all devices of the query were handled
+        verify(sceneMan, timeout(5000)).scenesGenerated();
+    }
+}
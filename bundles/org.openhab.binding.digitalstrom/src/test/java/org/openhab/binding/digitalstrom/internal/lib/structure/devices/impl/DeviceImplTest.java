@@ -28,6 +28,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.constants.ApplicationGroup;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.constants.OutputChannelEnum;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.constants.OutputModeEnum;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.constants.SensorEnum;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DeviceSensorValue;
 import org.openhab.binding.digitalstrom.internal.lib.util.JsonModel;
 import org.openhab.binding.digitalstrom.internal.lib.util.OutputChannel;
 
@@ -171,6 +173,44 @@ class DeviceImplTest {
         assertThat(deviceImpl.getFunctionalColorGroup(), is(ApplicationGroup.JOKER));
     }
 
+    @Test
+    @DisplayName("Cached sensor value from the device query, expect only valid and newer values taken over")
+    void setDeviceSensorByQuery() {
+        DeviceImpl deviceImpl = new DeviceImpl(createSensorJsonObject(true, 293.0f, "2025-01-01 10:00:00"));
+        assertThat(deviceImpl.getDeviceSensorValue(SensorEnum.TEMPERATURE_INDOORS).getFloatValue(), is(293.0f));
+
+        DeviceSensorValue older = new DeviceSensorValue(
+                createSensorJsonObject(true, 290.0f, "2025-01-01 09:00:00").getAsJsonObject("sensorInputs")
+                        .getAsJsonObject("sensor0"));
+        assertThat(deviceImpl.setDeviceSensorByQuery(older), is(false));
+
+        DeviceSensorValue invalid = new DeviceSensorValue(
+                createSensorJsonObject(false, 290.0f, "2025-01-01 11:00:00").getAsJsonObject("sensorInputs")
+                        .getAsJsonObject("sensor0"));
+        assertThat(deviceImpl.setDeviceSensorByQuery(invalid), is(false));
+
+        DeviceSensorValue newer = new DeviceSensorValue(
+                createSensorJsonObject(true, 295.0f, "2025-01-01 11:00:00").getAsJsonObject("sensorInputs")
+                        .getAsJsonObject("sensor0"));
+        assertThat(deviceImpl.setDeviceSensorByQuery(newer), is(true));
+        assertThat(deviceImpl.getDeviceSensorValue(SensorEnum.TEMPERATURE_INDOORS).getFloatValue(), is(295.0f));
+    }
+
+    private static JsonObject createSensorJsonObject(boolean valid, float value, String timestamp) {
+        JsonObject sensor = new JsonObject();
+        sensor.addProperty("type", SensorEnum.TEMPERATURE_INDOORS.getSensorType());
+        sensor.addProperty("index", 0);
+        sensor.addProperty("valid", valid);
+        sensor.addProperty("value", value);
+        sensor.addProperty("timestamp", timestamp);
+        JsonObject sensorInputs = new JsonObject();
+        sensorInputs.add("sensor0", sensor);
+        JsonObject device = new JsonObject();
+        device.addProperty("outputMode", OutputModeEnum.DISABLED.getMode());
+        device.add("sensorInputs", sensorInputs);
+        return device;
+    }
+
     private static JsonObject createJsonObject(OutputModeEnum outputMode, List<OutputChannel> channels) {
         JsonModel model = new JsonModel(outputMode.getMode(), channels);
 
@@ -22,6 +22,7 @@ import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.dmx.internal.DmxBridgeHandler;
+import org.openhab.binding.dmx.internal.multiverse.Universe;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
@@ -45,6 +46,8 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     protected boolean refreshAlways = false;
 
     protected @Nullable DatagramSocket socket = null;
+    private final byte[] frame = new byte[Universe.MAX_UNIVERSE_SIZE];
+    private @Nullable DatagramPacket sendPacket;
     private long lastSend = 0;
     private int repeatCounter = 0;
     private int sequenceNo = 0;
@@ -112,10 +115,16 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                             thing.getUID());
                     return;
                 }
-                packetTemplate.setPayload(universe.getBuffer(), universe.getBufferSize());
+                packetTemplate.setPayload(frame, universe.getBuffer(frame));
                 packetTemplate.setSequence(sequenceNo);
-                DatagramPacket sendPacket = new DatagramPacket(packetTemplate.getRawPacket(),
-                        packetTemplate.getPacketLength());
+                DatagramPacket sendPacket = this.sendPacket;
+                if (sendPacket == null) {
+                    sendPacket = new DatagramPacket(packetTemplate.getRawPacket(), packetTemplate.getPacketLength());
+                    this.sendPacket = sendPacket;
+                } else {
+                    // the raw packet is replaced when the payload size changes
+                    sendPacket.setData(packetTemplate.getRawPacket(), 0, packetTemplate.getPacketLength());
+                }
                 for (IpNode receiverNode : receiverNodes) {
                     sendPacket.setAddress(receiverNode.getAddress());
                     sendPacket.setPort(receiverNode.getPort());
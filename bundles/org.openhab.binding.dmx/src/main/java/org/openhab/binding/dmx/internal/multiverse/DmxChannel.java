@@ -51,6 +51,8 @@ public class DmxChannel extends BaseDmxChannel {
     private int lastStateValue = -1;
 
     private boolean isSuspended = false;
+    // set when the value or the actions changed outside of a calculation
+    private volatile boolean changed = true;
     private int refreshTime = 0;
     private long lastStateTimestamp = 0;
 
@@ -112,6 +114,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public void setValue(int value) {
         this.value = Util.toDmxValue(value) << 8;
+        changed = true;
         logger.trace("set dmx channel {} to value {}", this, this.value >> 8);
     }
 
@@ -122,6 +125,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public void setValue(PercentType value) {
         this.value = Util.toDmxValue(value) << 8;
+        changed = true;
         logger.trace("set dmx channel {} to value {}", this, this.value >> 8);
     }
 
@@ -177,6 +181,7 @@ public class DmxChannel extends BaseDmxChannel {
                 logger.trace("resuming suspended value for DMX channel {}", this);
             }
             isSuspended = false;
+            changed = true;
         } else {
             throw new IllegalStateException("trying to resume actions in non-suspended DMX channel " + this.toString());
         }
@@ -197,6 +202,7 @@ public class DmxChannel extends BaseDmxChannel {
     public synchronized void clearAction() {
         logger.trace("clearing all actions for DMX channel {}", this);
         actions.clear();
+        changed = true;
         // remove action listener
         Map.Entry<ChannelUID, DmxThingHandler> actionListener = this.actionListener;
         if (actionListener != null) {
@@ -223,6 +229,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public synchronized void addChannelAction(BaseAction channelAction) {
         actions.add(channelAction);
+        changed = true;
         logger.trace("added action {} to channel {} (total {} actions)", channelAction, this, actions.size());
     }
 
@@ -233,6 +240,16 @@ public class DmxChannel extends BaseDmxChannel {
         return !actions.isEmpty();
     }
 
+    /**
+     * Check if the value of this channel has to be calculated, i.e. if it has running actions, was changed since the
+     * last calculation or has a pending state update for its listeners.
+     *
+     * @return true if {@link #getNewHiResValue(long)} may return a different value or notify listeners
+     */
+    public synchronized boolean needsCalculation() {
+        return changed || hasRunningActions() || lastStateValue != value;
+    }
+
     /**
      * Move to the next action in the action chain. This method is used by
      * automatic chains and to manually move to the next action if actions are
@@ -267,6 +284,7 @@ public class DmxChannel extends BaseDmxChannel {
      * @return value 0-65535
      */
     public synchronized Integer getNewHiResValue(long calculationTime) {
+        changed = false;
         if (hasRunningActions()) {
             logger.trace("checking actions, list is {}", actions);
             BaseAction action = actions.get(0);
@@ -13,6 +13,7 @@
 package org.openhab.binding.dmx.internal.multiverse;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
@@ -40,14 +41,15 @@ public class Universe {
     private int universeId;
     private int bufferSize = MIN_UNIVERSE_SIZE;
 
-    private final short[] buffer = new short[MAX_UNIVERSE_SIZE];
+    private final byte[] buffer = new byte[MAX_UNIVERSE_SIZE];
     private final short[] cie1931Curve = new short[DmxChannel.MAX_VALUE << 8 + 1];
 
     private long bufferChanged;
     private int refreshTime = DEFAULT_REFRESH_TIME;
 
     private final List<DmxChannel> channels = new ArrayList<>();
-    private final List<Integer> applyCurve = new ArrayList<>();
+    private final boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
+    private volatile boolean recalculateAll = true;
 
     /**
      * universe constructor
@@ -175,24 +177,32 @@ public class Universe {
 
     /**
      * calculate this universe buffer (run all channel actions) for a given time
+     * <p>
+     * Only channels with running actions, changed values or pending state updates are calculated, the buffer values of
+     * all other channels are kept.
      *
      * @param time the timestamp used for calculation
      */
     public void calculateBuffer(long time) {
         universeLock.lock();
         try {
+            boolean recalculateAll = this.recalculateAll;
+            this.recalculateAll = false;
             for (DmxChannel channel : channels) {
+                if (!recalculateAll && !channel.needsCalculation()) {
+                    continue;
+                }
                 logger.trace("calculating new value for {}", channel);
                 int channelId = channel.getChannelId();
                 int vx = channel.getNewHiResValue(time);
                 int value;
-                if (applyCurve.contains(channelId)) {
+                if (applyCurve[channelId]) {
                     value = cie1931Curve[vx];
                 } else {
                     value = vx >> 8;
                 }
-                if (buffer[channelId - 1] != value) {
-                    buffer[channelId - 1] = (short) value;
+                if ((buffer[channelId - 1] & 0xFF) != value) {
+                    buffer[channelId - 1] = (byte) value;
                     bufferChanged = time;
                 }
             }
@@ -207,16 +217,28 @@ public class Universe {
      * @return byte array with channel values
      */
     public byte[] getBuffer() {
-        byte[] b = new byte[bufferSize];
         universeLock.lock();
         try {
-            for (int i = 0; i < bufferSize; i++) {
-                b[i] = (byte) buffer[i];
-            }
+            return Arrays.copyOf(buffer, bufferSize);
+        } finally {
+            universeLock.unlock();
+        }
+    }
+
+    /**
+     * copy the full universe buffer to an existing array, e.g. to avoid allocating a new array for every frame
+     *
+     * @param target byte array with a length of at least {@link #getBufferSize()}
+     * @return number of channel values copied to the target
+     */
+    public int getBuffer(byte[] target) {
+        universeLock.lock();
+        try {
+            System.arraycopy(buffer, 0, target, 0, bufferSize);
+            return bufferSize;
         } finally {
             universeLock.unlock();
         }
-        return b;
     }
 
     /**
@@ -225,11 +247,13 @@ public class Universe {
      * @param listString
      */
     public void setDimCurveChannels(String listString) {
-        applyCurve.clear();
-        for (BaseDmxChannel channel : BaseDmxChannel.fromString(listString, universeId)) {
-            applyCurve.add(channel.getChannelId());
+        List<BaseDmxChannel> curveChannels = BaseDmxChannel.fromString(listString, universeId);
+        Arrays.fill(applyCurve, false);
+        for (BaseDmxChannel channel : curveChannels) {
+            applyCurve[channel.getChannelId()] = true;
         }
-        logger.debug("applying dim curve in universe {} to channels {}", universeId, applyCurve);
+        recalculateAll = true;
+        logger.debug("applying dim curve in universe {} to channels {}", universeId, curveChannels);
     }
 
     /**
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal.multiverse;
+
+import static org.openhab.binding.dmx.internal.DmxBindingConstants.THING_TYPE_DIMMER;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.dmx.internal.action.FadeAction;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for the refresh of full universes, as done by the bridge handlers for every frame:
+ * {@link Universe#calculateBuffer} followed by copying the buffer into the frame with
+ * {@link Universe#getBuffer(byte[])}. All 512 channels of each universe are registered with a static value, and some
+ * of them run a chase. Run it with the test classpath, e.g. from the IDE via {@link #main(String[])}, which adds the
+ * allocations per frame.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniverseBenchmark {
+    private static final int FRAME_TIME = 23;
+
+    @Param({ "1", "8" })
+    public int universes;
+
+    @Param({ "0", "16", "512" })
+    public int activeChannels;
+
+    private Universe[] universeArray = new Universe[0];
+    private DmxChannel[] channels = new DmxChannel[0];
+    private final byte[] frame = new byte[Universe.MAX_UNIVERSE_SIZE];
+    private long time;
+
+    @Setup
+    public void setup() {
+        Thing thing = ThingBuilder.create(THING_TYPE_DIMMER, "benchmark").build();
+        universeArray = new Universe[universes];
+        channels = new DmxChannel[universes * Universe.MAX_UNIVERSE_SIZE];
+        for (int universeId = 0; universeId < universes; universeId++) {
+            Universe universe = new Universe(universeId);
+            universe.setRefreshTime(0);
+            for (int channelId = 1; channelId <= Universe.MAX_UNIVERSE_SIZE; channelId++) {
+                DmxChannel channel = universe.registerChannel(new BaseDmxChannel(universeId, channelId), thing);
+                channel.setValue(channelId % 256);
+                if (channelId <= activeChannels) {
+                    channel.setChannelAction(new FadeAction(100, 0, 100));
+                    channel.addChannelAction(new FadeAction(100, 255, 100));
+                }
+                channels[universeId * Universe.MAX_UNIVERSE_SIZE + channelId - 1] = channel;
+            }
+            universeArray[universeId] = universe;
+        }
+
+        time = 1000;
+        for (int i = 0; i < 10; i++) {
+            refresh();
+        }
+        int calculated = 0;
+        for (DmxChannel channel : channels) {
+            if (channel.needsCalculation()) {
+                calculated++;
+            }
+        }
+        if (calculated != universes * activeChannels) {
+            throw new IllegalStateException(
+                    calculated + " channels are calculated instead of " + universes * activeChannels);
+        }
+    }
+
+    @Benchmark
+    public byte[] refresh() {
+        time += FRAME_TIME;
+        for (Universe universe : universeArray) {
+            universe.calculateBuffer(time);
+            universe.getBuffer(frame);
+        }
+        return frame;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UniverseBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
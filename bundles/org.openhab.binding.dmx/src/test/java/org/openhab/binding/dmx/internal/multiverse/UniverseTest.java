@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal.multiverse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openhab.binding.dmx.internal.DmxBindingConstants.THING_TYPE_DIMMER;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.dmx.internal.action.FadeAction;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+
+/**
+ * Tests cases for Universe
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class UniverseTest {
+    private static final int UNIVERSES = 8;
+
+    private final Thing thing = ThingBuilder.create(THING_TYPE_DIMMER, "universetest").build();
+
+    private Universe createUniverse(int universeId, List<DmxChannel> channels) {
+        Universe universe = new Universe(universeId);
+        universe.setRefreshTime(0);
+        for (int channelId = 1; channelId <= Universe.MAX_UNIVERSE_SIZE; channelId++) {
+            DmxChannel channel = universe.registerChannel(new BaseDmxChannel(universeId, channelId), thing);
+            channel.setValue(channelId % 256);
+            channels.add(channel);
+        }
+        return universe;
+    }
+
+    @Test
+    public void staticChannelsAreNotRecalculated() {
+        List<DmxChannel> channels = new ArrayList<>();
+        Universe universe = createUniverse(0, channels);
+
+        universe.calculateBuffer(1000);
+        assertThat(universe.getLastBufferChanged(), is(1000L));
+        assertThat(channels.stream().noneMatch(DmxChannel::needsCalculation), is(true));
+
+        // static frame: nothing is calculated and the buffer is unchanged
+        universe.calculateBuffer(1100);
+        assertThat(universe.getLastBufferChanged(), is(1000L));
+
+        // a changed value is picked up in the next frame
+        channels.get(9).setValue(42);
+        assertThat(channels.get(9).needsCalculation(), is(true));
+        universe.calculateBuffer(1200);
+        assertThat(universe.getLastBufferChanged(), is(1200L));
+        assertThat(universe.getBuffer()[9] & 0xFF, is(42));
+    }
+
+    @Test
+    public void fadingChannelsAreRecalculatedUntilCompleted() {
+        List<DmxChannel> channels = new ArrayList<>();
+        Universe universe = createUniverse(0, channels);
+        universe.calculateBuffer(1000);
+
+        DmxChannel channel = channels.get(0);
+        channel.setValue(0);
+        channel.setChannelAction(new FadeAction(1000, 255, -1));
+        universe.calculateBuffer(2000);
+        universe.calculateBuffer(2500);
+        assertThat(channel.needsCalculation(), is(true));
+        universe.calculateBuffer(3000);
+        universe.calculateBuffer(3100);
+
+        assertThat(universe.getBuffer()[0] & 0xFF, is(255));
+        assertThat(channel.needsCalculation(), is(false));
+    }
+
+    @Test
+    public void dimCurveChangeRecalculatesAllChannels() {
+        List<DmxChannel> channels = new ArrayList<>();
+        Universe universe = createUniverse(0, channels);
+        universe.calculateBuffer(1000);
+        int linearValue = universe.getBuffer()[127] & 0xFF;
+
+        universe.setDimCurveChannels("128");
+        universe.calculateBuffer(1100);
+
+        assertThat(universe.getLastBufferChanged(), is(1100L));
+        assertThat((universe.getBuffer()[127] & 0xFF) < linearValue, is(true));
+    }
+
+    @Test
+    public void multipleFullUniversesWithFewActiveChannels() {
+        List<Universe> universes = new ArrayList<>();
+        List<DmxChannel> channels = new ArrayList<>();
+        for (int universeId = 0; universeId < UNIVERSES; universeId++) {
+            universes.add(createUniverse(universeId, channels));
+        }
+        byte[] frame = new byte[Universe.MAX_UNIVERSE_SIZE];
+        // one running chase per universe
+        for (int universeId = 0; universeId < UNIVERSES; universeId++) {
+            DmxChannel channel = channels.get(universeId * Universe.MAX_UNIVERSE_SIZE);
+            channel.setChannelAction(new FadeAction(100, 0, 100));
+            channel.addChannelAction(new FadeAction(100, 255, 100));
+        }
+
+        long time = 1000;
+        for (int i = 0; i < 1000; i++) {
+            for (Universe universe : universes) {
+                universe.calculateBuffer(time);
+                assertThat(universe.getBuffer(frame), is(Universe.MAX_UNIVERSE_SIZE));
+            }
+            time += 23;
+        }
+
+        assertThat(channels.stream().filter(DmxChannel::needsCalculation).count(), is((long) UNIVERSES));
+    }
+}
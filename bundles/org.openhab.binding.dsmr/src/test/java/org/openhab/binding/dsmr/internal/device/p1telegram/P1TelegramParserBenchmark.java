@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dsmr.internal.device.p1telegram;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.dsmr.internal.TelegramReaderUtil;
+import org.openhab.binding.dsmr.internal.device.connector.DSMRErrorStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link P1TelegramParser} on telegrams captured from different meters, as the serial connector passes
+ * them on with CRC check and without lenient mode. Run it with the test classpath, e.g. from the IDE via
+ * {@link #main(String[])}, which adds the allocations per telegram.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class P1TelegramParserBenchmark {
+
+    @Param({ "dsmr_40", "dsmr_50", "flu5", "Iskra_AM550", "smarty" })
+    public String telegramName = "dsmr_50";
+
+    private final TelegramCounter counter = new TelegramCounter();
+    private final P1TelegramParser parser = new P1TelegramParser(counter);
+    private byte[] telegram = new byte[0];
+
+    @Setup
+    public void setup() {
+        telegram = TelegramReaderUtil.readRawTelegram(telegramName);
+        parser.parse(telegram, telegram.length);
+        if (counter.telegrams != 1 || counter.error != null) {
+            throw new IllegalStateException("Telegram " + telegramName + " not accepted: " + counter.error);
+        }
+    }
+
+    @Benchmark
+    public int parse() {
+        parser.parse(telegram, telegram.length);
+        return counter.telegrams;
+    }
+
+    private static class TelegramCounter implements P1TelegramListener {
+        private int telegrams;
+        private @Nullable DSMRErrorStatus error;
+
+        @Override
+        public void telegramReceived(P1Telegram telegram) {
+            telegrams++;
+        }
+
+        @Override
+        public void onError(DSMRErrorStatus errorStatus, String message) {
+            error = errorStatus;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(P1TelegramParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -49,6 +49,8 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class PriceCalculator {
 
+    private static final long MAX_ESTIMATED_PERIODS = 100_000;
+
     private final Logger logger = LoggerFactory.getLogger(PriceCalculator.class);
 
     private final NavigableMap<Instant, BigDecimal> priceMap;
@@ -128,7 +130,104 @@ public class PriceCalculator {
         if (durationPhases.size() != consumptionPhases.size()) {
             throw new IllegalArgumentException("Number of phases do not match");
         }
-        Map<String, Object> result = new HashMap<>();
+        Duration resolution = determineResolution();
+        PriceSeries.Estimates estimates = estimateCheapestPeriod(earliestStart, latestEnd, durationPhases,
+                consumptionPhases, resolution);
+        if (estimates == null) {
+            return iterateCheapestPeriod(earliestStart, latestEnd, durationPhases, consumptionPhases, resolution);
+        }
+
+        // Only candidates within the rounding tolerance of the lowest or highest estimate can be the cheapest or
+        // most expensive period, so only these are calculated exactly.
+        long[] starts = estimates.starts();
+        double[] estimatedPrices = estimates.prices();
+        double lowestEstimate = Double.POSITIVE_INFINITY;
+        double highestEstimate = Double.NEGATIVE_INFINITY;
+        for (double estimatedPrice : estimatedPrices) {
+            lowestEstimate = Math.min(lowestEstimate, estimatedPrice);
+            highestEstimate = Math.max(highestEstimate, estimatedPrice);
+        }
+        BigDecimal lowestPrice = BigDecimal.valueOf(Double.MAX_VALUE);
+        BigDecimal highestPrice = BigDecimal.ZERO;
+        Instant cheapestStart = Instant.MIN;
+        Instant mostExpensiveStart = Instant.MIN;
+        for (int i = 0; i < starts.length; i++) {
+            boolean lowCandidate = estimatedPrices[i] <= lowestEstimate + estimates.tolerance();
+            boolean highCandidate = estimatedPrices[i] >= highestEstimate - estimates.tolerance();
+            if (!lowCandidate && !highCandidate) {
+                continue;
+            }
+            Instant calculationStart = Instant.ofEpochSecond(starts[i]);
+            BigDecimal currentPrice = calculatePeriodPrice(calculationStart, durationPhases, consumptionPhases);
+            if (lowCandidate && currentPrice.compareTo(lowestPrice) < 0) {
+                lowestPrice = currentPrice;
+                cheapestStart = calculationStart;
+            }
+            if (highCandidate && currentPrice.compareTo(highestPrice) > 0) {
+                highestPrice = currentPrice;
+                mostExpensiveStart = calculationStart;
+            }
+        }
+
+        return cheapestPeriodResult(cheapestStart, lowestPrice, mostExpensiveStart, highestPrice);
+    }
+
+    /**
+     * Estimate the price of all start candidates from the cumulated prices of a {@link PriceSeries}.
+     *
+     * @return estimates or null if the prices, durations or consumptions are not suited for estimation, in which case
+     *         every start candidate has to be calculated.
+     */
+    private PriceSeries.@Nullable Estimates estimateCheapestPeriod(Instant earliestStart, Instant latestEnd,
+            Collection<Duration> durationPhases, Collection<QuantityType<Power>> consumptionPhases,
+            Duration resolution) {
+        long resolutionSeconds = resolution.getSeconds();
+        if (resolutionSeconds <= 0 || resolution.getNano() != 0 || earliestStart.getNano() != 0
+                || earliestStart.getEpochSecond() < 0) {
+            return null;
+        }
+        // Prices must only change at period boundaries of the resolution.
+        for (Instant time : priceMap.keySet()) {
+            if (time.getNano() != 0 || time.getEpochSecond() % resolutionSeconds != 0) {
+                return null;
+            }
+        }
+
+        int phases = durationPhases.size();
+        long[] durations = new long[phases];
+        double[] watts = new double[phases];
+        boolean[] priced = new boolean[phases];
+        Iterator<Duration> durationIterator = durationPhases.iterator();
+        Iterator<QuantityType<Power>> consumptionIterator = consumptionPhases.iterator();
+        for (int i = 0; i < phases; i++) {
+            Duration duration = durationIterator.next();
+            QuantityType<Power> quantityInWatt = consumptionIterator.next().toUnit(Units.WATT);
+            if (duration.isNegative() || duration.getNano() != 0 || quantityInWatt == null) {
+                return null;
+            }
+            durations[i] = duration.getSeconds();
+            BigDecimal watt = quantityInWatt.toBigDecimal();
+            // calculatePrice() doesn't look up prices without consumption
+            priced[i] = !watt.equals(BigDecimal.ZERO);
+            watts[i] = watt.doubleValue();
+        }
+
+        long start = truncateTo(earliestStart, resolution).getEpochSecond();
+        long end = latestEnd.getEpochSecond();
+        long periods = Math.max(0, (end - start + resolutionSeconds - 1) / resolutionSeconds);
+        if (periods > MAX_ESTIMATED_PERIODS) {
+            return null;
+        }
+        PriceSeries series = new PriceSeries(start, resolutionSeconds, (int) periods, this::get);
+        return series.estimate(earliestStart.getEpochSecond(), end, durations, watts, priced);
+    }
+
+    /**
+     * Calculate cheapest period by calculating the price of every start candidate.
+     */
+    private Map<String, Object> iterateCheapestPeriod(Instant earliestStart, Instant latestEnd,
+            Collection<Duration> durationPhases, Collection<QuantityType<Power>> consumptionPhases,
+            Duration resolution) throws MissingPriceException {
         Duration totalDuration = durationPhases.stream().reduce(Duration.ZERO, Duration::plus);
         Instant calculationStart = earliestStart;
         Instant calculationEnd = earliestStart.plus(totalDuration);
@@ -136,20 +235,12 @@ public class PriceCalculator {
         BigDecimal highestPrice = BigDecimal.ZERO;
         Instant cheapestStart = Instant.MIN;
         Instant mostExpensiveStart = Instant.MIN;
-        Duration resolution = determineResolution();
 
         while (calculationEnd.compareTo(latestEnd) <= 0) {
-            BigDecimal currentPrice = BigDecimal.ZERO;
             Duration minDurationUntilNextPrice = resolution;
             Instant atomStart = calculationStart;
 
-            Iterator<Duration> durationIterator = durationPhases.iterator();
-            Iterator<QuantityType<Power>> consumptionIterator = consumptionPhases.iterator();
-            while (durationIterator.hasNext()) {
-                Duration atomDuration = durationIterator.next();
-                QuantityType<Power> atomConsumption = consumptionIterator.next();
-
-                Instant atomEnd = atomStart.plus(atomDuration);
+            for (Duration atomDuration : durationPhases) {
                 Instant priceStart = truncateTo(atomStart, resolution);
                 Instant priceEnd = priceStart.plus(resolution);
 
@@ -158,12 +249,10 @@ public class PriceCalculator {
                 if (durationUntilNextPrice.compareTo(minDurationUntilNextPrice) < 0) {
                     minDurationUntilNextPrice = durationUntilNextPrice;
                 }
-
-                BigDecimal atomPrice = calculatePrice(atomStart, atomEnd, atomConsumption);
-                currentPrice = currentPrice.add(atomPrice);
-                atomStart = atomEnd;
+                atomStart = atomStart.plus(atomDuration);
             }
 
+            BigDecimal currentPrice = calculatePeriodPrice(calculationStart, durationPhases, consumptionPhases);
             if (currentPrice.compareTo(lowestPrice) < 0) {
                 lowestPrice = currentPrice;
                 cheapestStart = calculationStart;
@@ -178,6 +267,26 @@ public class PriceCalculator {
             calculationEnd = calculationStart.plus(totalDuration);
         }
 
+        return cheapestPeriodResult(cheapestStart, lowestPrice, mostExpensiveStart, highestPrice);
+    }
+
+    private BigDecimal calculatePeriodPrice(Instant start, Collection<Duration> durationPhases,
+            Collection<QuantityType<Power>> consumptionPhases) throws MissingPriceException {
+        BigDecimal price = BigDecimal.ZERO;
+        Instant atomStart = start;
+        Iterator<Duration> durationIterator = durationPhases.iterator();
+        Iterator<QuantityType<Power>> consumptionIterator = consumptionPhases.iterator();
+        while (durationIterator.hasNext()) {
+            Instant atomEnd = atomStart.plus(durationIterator.next());
+            price = price.add(calculatePrice(atomStart, atomEnd, consumptionIterator.next()));
+            atomStart = atomEnd;
+        }
+        return price;
+    }
+
+    private Map<String, Object> cheapestPeriodResult(Instant cheapestStart, BigDecimal lowestPrice,
+            Instant mostExpensiveStart, BigDecimal highestPrice) {
+        Map<String, Object> result = new HashMap<>();
         if (!cheapestStart.equals(Instant.MIN)) {
             result.put("CheapestStart", cheapestStart);
             result.put("LowestPrice", lowestPrice);
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.energidataservice.internal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Prices of a calculation window in primitive arrays, one per price period of the resolution, together with the
+ * cumulated price over time. The price of any interval is the difference of two cumulated values, so estimating the
+ * price of a start candidate doesn't depend on the number of price periods it spans.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class PriceSeries {
+
+    /**
+     * Rounding error of the hour fraction calculated with nine decimals by
+     * {@link PriceCalculator#calculatePrice(Instant, Instant, org.openhab.core.library.types.QuantityType)}.
+     */
+    private static final double HOUR_FRACTION_ROUNDING = 5E-10;
+
+    /**
+     * Relative error allowed for the floating point estimates, way above the actual rounding error.
+     */
+    private static final double ESTIMATE_ROUNDING = 1E-12;
+
+    private final long start;
+    private final long resolution;
+    private final double[] prices;
+    // price * seconds of all periods before period i
+    private final double[] cumulated;
+    // number of periods without price before period i
+    private final int[] missing;
+    private final double maxAbsPrice;
+
+    /**
+     * Start candidates of a cheapest period calculation with their estimated price.
+     */
+    record Estimates(long[] starts, double[] prices, double tolerance) {
+    }
+
+    /**
+     * Creates the series.
+     *
+     * @param start start of the first price period in epoch seconds
+     * @param resolution duration of a price period in seconds
+     * @param periods number of price periods
+     * @param priceLookup price valid at the start of a period, null when missing
+     */
+    PriceSeries(long start, long resolution, int periods, Function<Instant, @Nullable BigDecimal> priceLookup) {
+        this.start = start;
+        this.resolution = resolution;
+        prices = new double[periods];
+        cumulated = new double[periods + 1];
+        missing = new int[periods + 1];
+        double max = 0;
+        for (int i = 0; i < periods; i++) {
+            BigDecimal price = priceLookup.apply(Instant.ofEpochSecond(start + i * resolution));
+            missing[i + 1] = missing[i];
+            if (price == null) {
+                missing[i + 1]++;
+            } else {
+                prices[i] = price.doubleValue();
+                max = Math.max(max, Math.abs(prices[i]));
+            }
+            cumulated[i + 1] = cumulated[i] + prices[i] * resolution;
+        }
+        maxAbsPrice = max;
+    }
+
+    /**
+     * Estimates the price of all start candidates of a cheapest period calculation. Candidates are generated like
+     * {@link PriceCalculator#calculateCheapestPeriod(Instant, Instant, java.util.Collection, java.util.Collection)}
+     * does: the next candidate is the earliest start where any phase crosses a price period boundary.
+     *
+     * @param earliestStart earliest start in epoch seconds
+     * @param latestEnd latest end in epoch seconds
+     * @param durations phase durations in seconds
+     * @param watts phase power in watts
+     * @param priced whether prices are looked up for a phase
+     * @return estimates or null when a price needed by a priced phase is missing
+     */
+    @Nullable
+    Estimates estimate(long earliestStart, long latestEnd, long[] durations, double[] watts, boolean[] priced) {
+        int phases = durations.length;
+        long[] offsets = new long[phases];
+        long totalDuration = 0;
+        double roundingError = 0;
+        double totalWatts = 0;
+        for (int k = 0; k < phases; k++) {
+            offsets[k] = totalDuration;
+            totalDuration += durations[k];
+            if (priced[k]) {
+                roundingError += Math.abs(watts[k]) * (durations[k] / resolution + 2);
+                totalWatts += Math.abs(watts[k]);
+            }
+        }
+        double tolerance = 4 * maxAbsPrice * (roundingError * HOUR_FRACTION_ROUNDING
+                + totalWatts * prices.length * resolution / 3600000.0 * ESTIMATE_ROUNDING) + Double.MIN_NORMAL;
+
+        long[] starts = new long[64];
+        double[] estimates = new double[starts.length];
+        int count = 0;
+        for (long candidate = earliestStart; candidate + totalDuration <= latestEnd;) {
+            double estimate = 0;
+            long step = resolution;
+            for (int k = 0; k < phases; k++) {
+                long phaseStart = candidate + offsets[k];
+                step = Math.min(step, resolution - (phaseStart - start) % resolution);
+                if (priced[k] && durations[k] > 0) {
+                    long phaseEnd = phaseStart + durations[k];
+                    int first = period(phaseStart);
+                    int last = period(phaseEnd - 1);
+                    if (missing[last + 1] != missing[first]) {
+                        return null;
+                    }
+                    estimate += watts[k] / 3600000.0 * (integral(phaseEnd) - integral(phaseStart));
+                }
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                estimates = Arrays.copyOf(estimates, count * 2);
+            }
+            starts[count] = candidate;
+            estimates[count++] = estimate;
+            candidate += step;
+        }
+        return new Estimates(Arrays.copyOf(starts, count), Arrays.copyOf(estimates, count), tolerance);
+    }
+
+    private int period(long time) {
+        return (int) ((time - start) / resolution);
+    }
+
+    private double integral(long time) {
+        int period = Math.min(period(time), prices.length - 1);
+        return cumulated[period] + prices[period] * (time - start - period * resolution);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.energidataservice.internal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.quantity.Power;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.energidataservice.internal.exception.MissingPriceException;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.Units;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link PriceCalculator} on 48 hours of 15 minutes spot prices. Run it with the test classpath, e.g.
+ * from the IDE via {@link #main(String[])}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceCalculatorBenchmark {
+
+    private static final Instant SERIES_START = Instant.parse("2025-10-01T22:00:00Z");
+    private static final Instant SERIES_END = SERIES_START.plus(Duration.ofHours(48));
+
+    private @NonNullByDefault({}) PriceCalculator calculator;
+    private List<Duration> dishwasherDurations = List.of();
+    private List<QuantityType<Power>> dishwasherConsumptions = List.of();
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        Map<Instant, BigDecimal> prices = new HashMap<>();
+        int i = 0;
+        for (Instant time = SERIES_START; time.isBefore(SERIES_END); time = time.plus(Duration.ofMinutes(15))) {
+            // price valley at night and noon, peaks in the morning and evening
+            double hour = (i++ % 96) / 4.0;
+            double price = 1.8 + 0.6 * Math.cos((hour - 18) / 24 * 2 * Math.PI)
+                    + 0.3 * Math.cos((hour - 8) / 12 * 2 * Math.PI) + 0.15 * random.nextGaussian();
+            prices.put(time, BigDecimal.valueOf(price).setScale(6, RoundingMode.HALF_UP));
+        }
+        calculator = new PriceCalculator(prices);
+        dishwasherDurations = List.of(Duration.ofMinutes(37), Duration.ofMinutes(8), Duration.ofMinutes(4),
+                Duration.ofMinutes(85), Duration.ofMinutes(34));
+        dishwasherConsumptions = List.of(QuantityType.valueOf(162.162162, Units.WATT),
+                QuantityType.valueOf(750, Units.WATT), QuantityType.valueOf(1500, Units.WATT),
+                QuantityType.valueOf(3.529411, Units.WATT), QuantityType.valueOf(1764.705882, Units.WATT));
+    }
+
+    @Benchmark
+    public Map<String, Object> cheapestPeriodLinear() throws MissingPriceException {
+        return calculator.calculateCheapestPeriod(SERIES_START, SERIES_END, Duration.ofMinutes(200),
+                QuantityType.valueOf(2000, Units.WATT));
+    }
+
+    @Benchmark
+    public Map<String, Object> cheapestPeriodDishwasherPhases() throws MissingPriceException {
+        return calculator.calculateCheapestPeriod(SERIES_START, SERIES_END, dishwasherDurations,
+                dishwasherConsumptions);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PriceCalculatorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
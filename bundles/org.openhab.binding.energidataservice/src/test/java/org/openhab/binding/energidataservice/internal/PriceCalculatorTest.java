@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.energidataservice.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.measure.quantity.Power;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.energidataservice.internal.exception.MissingPriceException;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.Units;
+
+/**
+ * Tests for {@link PriceCalculator}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class PriceCalculatorTest {
+
+    private static final Instant SERIES_START = Instant.parse("2025-10-01T22:00:00Z");
+
+    private static Map<Instant, BigDecimal> createPrices(Random random, Duration resolution, Duration span) {
+        Map<Instant, BigDecimal> prices = new HashMap<>();
+        for (Instant time = SERIES_START; time.isBefore(SERIES_START.plus(span)); time = time.plus(resolution)) {
+            // few distinct prices to provoke periods with equal price
+            prices.put(time, new BigDecimal(random.nextInt(40) - 5).movePointLeft(2).add(new BigDecimal("1.234567")));
+        }
+        return prices;
+    }
+
+    /**
+     * Cheapest period calculation as done before the introduction of the prefix sums.
+     */
+    private static Map<String, Object> iterateCheapestPeriod(PriceCalculator calculator, Duration resolution,
+            Instant earliestStart, Instant latestEnd, List<Duration> durationPhases,
+            List<QuantityType<Power>> consumptionPhases) throws MissingPriceException {
+        Duration totalDuration = durationPhases.stream().reduce(Duration.ZERO, Duration::plus);
+        BigDecimal lowestPrice = BigDecimal.valueOf(Double.MAX_VALUE);
+        BigDecimal highestPrice = BigDecimal.ZERO;
+        Instant cheapestStart = Instant.MIN;
+        Instant mostExpensiveStart = Instant.MIN;
+        Instant calculationStart = earliestStart;
+        while (calculationStart.plus(totalDuration).compareTo(latestEnd) <= 0) {
+            BigDecimal currentPrice = BigDecimal.ZERO;
+            Duration minDurationUntilNextPrice = resolution;
+            Instant atomStart = calculationStart;
+            Iterator<QuantityType<Power>> consumptionIterator = consumptionPhases.iterator();
+            for (Duration atomDuration : durationPhases) {
+                long secondsInPeriod = atomStart.getEpochSecond() % resolution.getSeconds();
+                Duration durationUntilNextPrice = resolution.minusSeconds(secondsInPeriod);
+                if (durationUntilNextPrice.compareTo(minDurationUntilNextPrice) < 0) {
+                    minDurationUntilNextPrice = durationUntilNextPrice;
+                }
+                Instant atomEnd = atomStart.plus(atomDuration);
+                currentPrice = currentPrice
+                        .add(calculator.calculatePrice(atomStart, atomEnd, consumptionIterator.next()));
+                atomStart = atomEnd;
+            }
+            if (currentPrice.compareTo(lowestPrice) < 0) {
+                lowestPrice = currentPrice;
+                cheapestStart = calculationStart;
+            }
+            if (currentPrice.compareTo(highestPrice) > 0) {
+                highestPrice = currentPrice;
+                mostExpensiveStart = calculationStart;
+            }
+            calculationStart = calculationStart.plus(minDurationUntilNextPrice);
+        }
+        Map<String, Object> result = new HashMap<>();
+        if (!cheapestStart.equals(Instant.MIN)) {
+            result.put("CheapestStart", cheapestStart);
+            result.put("LowestPrice", lowestPrice);
+            result.put("MostExpensiveStart", mostExpensiveStart);
+            result.put("HighestPrice", highestPrice);
+        }
+        return result;
+    }
+
+    private static void assertSameAsIteration(Random random, Duration resolution, Map<Instant, BigDecimal> prices,
+            Duration span) throws MissingPriceException {
+        PriceCalculator calculator = new PriceCalculator(prices);
+        for (int run = 0; run < 40; run++) {
+            Instant earliestStart = SERIES_START.plusSeconds(60L * random.nextInt((int) span.toMinutes() / 2));
+            Instant latestEnd = earliestStart
+                    .plusSeconds(60L * (120 + random.nextInt((int) span.toMinutes() / 2 - 120)));
+            List<Duration> durationPhases = new ArrayList<>();
+            List<QuantityType<Power>> consumptionPhases = new ArrayList<>();
+            for (int phase = random.nextInt(4) + 1; phase > 0; phase--) {
+                durationPhases.add(Duration.ofSeconds(random.nextInt(4) == 0 ? 0 : 60 * (1 + random.nextInt(45))));
+                consumptionPhases.add(QuantityType.valueOf(random.nextInt(4) == 0 ? 0 : random.nextInt(3000) / 7.0,
+                        Units.WATT));
+            }
+            assertThat(calculator.calculateCheapestPeriod(earliestStart, latestEnd, durationPhases, consumptionPhases),
+                    is(equalTo(iterateCheapestPeriod(calculator, resolution, earliestStart, latestEnd,
+                            durationPhases, consumptionPhases))));
+        }
+    }
+
+    @Test
+    void calculateCheapestPeriodMatchesIterationHourly() throws MissingPriceException {
+        Random random = new Random(1);
+        Duration span = Duration.ofHours(48);
+        assertSameAsIteration(random, Duration.ofHours(1), createPrices(random, Duration.ofHours(1), span), span);
+    }
+
+    @Test
+    void calculateCheapestPeriodMatchesIterationQuarterHourly() throws MissingPriceException {
+        Random random = new Random(2);
+        Duration span = Duration.ofHours(36);
+        assertSameAsIteration(random, Duration.ofMinutes(15), createPrices(random, Duration.ofMinutes(15), span),
+                span);
+    }
+
+    @Test
+    void calculateCheapestPeriodMatchesIterationWithConstantPrice() throws MissingPriceException {
+        Random random = new Random(3);
+        Duration span = Duration.ofHours(24);
+        Map<Instant, BigDecimal> prices = createPrices(random, Duration.ofMinutes(15), span);
+        prices.replaceAll((time, price) -> new BigDecimal("0.5"));
+        assertSameAsIteration(random, Duration.ofMinutes(15), prices, span);
+    }
+
+    @Test
+    void calculateCheapestPeriodMissingPrice() {
+        Map<Instant, BigDecimal> prices = createPrices(new Random(4), Duration.ofHours(1), Duration.ofHours(24));
+        PriceCalculator calculator = new PriceCalculator(prices);
+
+        MissingPriceException exception = assertThrows(MissingPriceException.class,
+                () -> calculator.calculateCheapestPeriod(SERIES_START.plus(Duration.ofHours(20)),
+                        SERIES_START.plus(Duration.ofHours(26)), Duration.ofMinutes(90),
+                        QuantityType.valueOf(1000, Units.WATT)));
+        assertThat(exception.getMessage(), is("Price missing at 2025-10-02T22:00:00Z"));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecCoprocess} keeps a command running between executions. Each execution writes its input as one line
+ * to the stdin of the process, and reads the response as one line from its stdout. The stderr output written by the
+ * process until its response line is returned with the response; stderr output written after the response is
+ * discarded before the next input, so it cannot be taken as part of the next response.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoprocess implements AutoCloseable {
+
+    /**
+     * Put in the stdout queue when the process closed its stdout, i.e. when it terminated.
+     */
+    private static final String END_OF_STREAM = new String();
+    private static final long DESTROY_TIMEOUT_MS = 1000;
+    /**
+     * Interval to read stderr while waiting for the response, so that the process does not block on a full stderr pipe.
+     */
+    private static final long STDERR_READ_INTERVAL_MS = 50;
+
+    private final Logger logger = LoggerFactory.getLogger(ExecCoprocess.class);
+
+    private final Process process;
+    private final BufferedWriter stdin;
+    private final BlockingQueue<String> stdout = new LinkedBlockingQueue<>();
+    private final InputStream stderr;
+    private final Charset charset;
+    private final String description;
+
+    /**
+     * The response of the process to one input line.
+     *
+     * @param stdout the line written to stdout
+     * @param stderr the lines written to stderr since the input was sent
+     */
+    public record Response(String stdout, String stderr) {
+    }
+
+    /**
+     * Starts the process.
+     *
+     * @param cmdArray the command to execute
+     * @param charset the character encoding of the process input and output
+     * @param threadName the prefix of the name of the thread consuming stdout
+     * @throws IOException if the process could not be started
+     */
+    public ExecCoprocess(String[] cmdArray, Charset charset, String threadName) throws IOException {
+        this.description = Arrays.asList(cmdArray).toString();
+        this.charset = charset;
+        this.process = Runtime.getRuntime().exec(cmdArray);
+        this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), charset));
+        this.stderr = process.getErrorStream();
+        consumeStdout(threadName + "-stdout-consumer");
+    }
+
+    private void consumeStdout(String threadName) {
+        Thread runner = new Thread(() -> {
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(process.getInputStream(), charset))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    stdout.add(line);
+                }
+            } catch (IOException e) {
+                logger.debug("Stopped reading the output of coprocess {}: {}", description, e.getMessage());
+            } finally {
+                stdout.add(END_OF_STREAM);
+            }
+        }, threadName);
+        runner.setDaemon(true);
+        runner.start();
+    }
+
+    /**
+     * Reads the stderr output that is available without blocking.
+     */
+    private void readStderr(ByteArrayOutputStream target) {
+        try {
+            int available;
+            while ((available = stderr.available()) > 0) {
+                target.write(stderr.readNBytes(available));
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to read stderr of coprocess {}: {}", description, e.getMessage());
+        }
+    }
+
+    /**
+     * Sends one input line to the process and waits for the response line.
+     *
+     * @param input the input, line breaks are replaced by spaces
+     * @param timeoutMs the time to wait for the response
+     * @return the response
+     * @throws IOException if the process terminated
+     * @throws TimeoutException if the process did not respond in time
+     * @throws InterruptedException if interrupted while waiting for the response
+     */
+    public synchronized Response execute(String input, long timeoutMs)
+            throws IOException, TimeoutException, InterruptedException {
+        // late responses of previous executions that timed out would be taken as the response of this one
+        String stale;
+        while ((stale = stdout.poll()) != null) {
+            if (stale == END_OF_STREAM) {
+                stdout.add(END_OF_STREAM);
+                throw new IOException("The coprocess terminated");
+            }
+            logger.debug("Discarding unexpected output of coprocess {}: '{}'", description, stale);
+        }
+        // error output written after the previous response belongs to that execution, not to this one
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        readStderr(errors);
+        if (errors.size() > 0) {
+            logger.debug("Discarding unexpected error output of coprocess {}: '{}'", description,
+                    errors.toString(charset));
+            errors.reset();
+        }
+
+        stdin.write(input.replaceAll("\\R", " "));
+        stdin.newLine();
+        stdin.flush();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        String line;
+        do {
+            readStderr(errors);
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new TimeoutException("No response of the coprocess after " + timeoutMs + " ms");
+            }
+            line = stdout.poll(Math.min(remaining, STDERR_READ_INTERVAL_MS), TimeUnit.MILLISECONDS);
+        } while (line == null);
+        if (line == END_OF_STREAM) {
+            stdout.add(END_OF_STREAM);
+            throw new IOException("The coprocess terminated");
+        }
+
+        // the process wrote its error output for this input before the response line
+        readStderr(errors);
+        String errorLines = errors.toString(charset).lines().map(errorLine -> errorLine + "\n")
+                .collect(Collectors.joining());
+        return new Response(line, errorLines);
+    }
+
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /**
+     * @return the exit value of the process, or {@code null} if it is still running
+     */
+    public @Nullable Integer exitValue() {
+        return process.isAlive() ? null : process.exitValue();
+    }
+
+    /**
+     * Closes stdin of the process to let it terminate, and terminates it forcibly if it does not. Forcibly terminating
+     * the process also terminates its descendants, e.g. the commands started by a shell, which would keep running
+     * otherwise.
+     */
+    @Override
+    public void close() {
+        // children are no longer descendants once the process terminated, so remember them first
+        List<ProcessHandle> descendants = process.descendants().toList();
+        try {
+            stdin.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close stdin of coprocess {}: {}", description, e.getMessage());
+        }
+        try {
+            if (!process.waitFor(DESTROY_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                destroyForcibly(descendants);
+            }
+        } catch (InterruptedException e) {
+            destroyForcibly(descendants);
+            Thread.currentThread().interrupt();
+        }
+        try {
+            stderr.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close stderr of coprocess {}: {}", description, e.getMessage());
+        }
+    }
+
+    private void destroyForcibly(List<ProcessHandle> descendants) {
+        logger.debug("Forcibly terminating coprocess {} and its descendants", description);
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        descendants.forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+}
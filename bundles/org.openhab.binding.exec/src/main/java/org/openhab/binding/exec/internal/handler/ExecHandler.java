@@ -62,6 +62,7 @@ import org.slf4j.LoggerFactory;
  * @author Karel Goderis - Initial contribution
  * @author Constantin Piber - Added better argument support (delimiter and pass to shell)
  * @author Jan N. Klug - Add command whitelist check
+ * @author openHAB Contributors - Add coprocess mode
  */
 @NonNullByDefault
 public class ExecHandler extends BaseThingHandler {
@@ -89,11 +90,14 @@ public class ExecHandler extends BaseThingHandler {
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
     public static final String CHARSET = "charset";
+    public static final String COPROCESS = "coprocess";
 
     private ExecutorService executor;
     private @Nullable ScheduledFuture<?> scheduledTask;
     private volatile @Nullable Future<?> lastTriggeredTask;
     private @Nullable String lastInput;
+    private final Object coprocessLock = new Object();
+    private @Nullable ExecCoprocess coprocess;
 
     private static Runtime rt = Runtime.getRuntime();
 
@@ -161,6 +165,7 @@ public class ExecHandler extends BaseThingHandler {
             lastTriggeredTask = null;
         }
         channelTransformation = null;
+        stopCoprocess();
     }
 
     private void triggerExecution() {
@@ -171,6 +176,7 @@ public class ExecHandler extends BaseThingHandler {
         String commandLine = (String) getConfig().get(COMMAND);
         if (!execWhitelistWatchService.isWhitelisted(commandLine)) {
             logger.warn("Tried to execute '{}', but it is not contained in whitelist.", commandLine);
+            stopCoprocess();
             return;
         }
 
@@ -195,6 +201,11 @@ public class ExecHandler extends BaseThingHandler {
         if (commandLine != null && !commandLine.isEmpty()) {
             updateState(RUN, OnOffType.ON);
 
+            if (Boolean.TRUE.equals(getConfig().get(COPROCESS))) {
+                executeCoprocess(commandLine, timeOut, charset);
+                return;
+            }
+
             Date date = Calendar.getInstance().getTime();
             try {
                 if (lastInput != null) {
@@ -213,47 +224,9 @@ public class ExecHandler extends BaseThingHandler {
                 return;
             }
 
-            String[] cmdArray;
-            String[] shell;
-            if (commandLine.contains(CMD_LINE_DELIMITER)) {
-                logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
-                try {
-                    cmdArray = commandLine.split(CMD_LINE_DELIMITER);
-                } catch (PatternSyntaxException e) {
-                    logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    updateState(STDOUT, new StringType());
-                    updateState(STDERR, new StringType(e.getMessage()));
-                    return;
-                }
-            } else {
-                // Invoke shell with 'c' option and pass string
-                logger.debug("Passing to shell for parsing command.");
-                switch (getOperatingSystemType()) {
-                    case WINDOWS:
-                        shell = SHELL_WINDOWS;
-                        logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "/c", commandLine);
-                        break;
-                    case LINUX:
-                    case MAC:
-                    case BSD:
-                    case SOLARIS:
-                        // assume sh is present, should all be POSIX-compliant
-                        shell = SHELL_NIX;
-                        logger.debug("OS: *NIX ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "-c", commandLine);
-                        break;
-                    default:
-                        logger.debug("OS: Unknown ({})", getOperatingSystemName());
-                        logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
-                        updateState(RUN, OnOffType.OFF);
-                        updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
-                        updateState(STDOUT, new StringType());
-                        updateState(STDERR, new StringType("OS not supported, please manually split commands!"));
-                        return;
-                }
+            String[] cmdArray = createCmdArray(commandLine);
+            if (cmdArray == null) {
+                return;
             }
 
             if (cmdArray.length == 0) {
@@ -327,29 +300,165 @@ public class ExecHandler extends BaseThingHandler {
             updateState(RUN, OnOffType.OFF);
             updateState(EXIT, new DecimalType(proc.exitValue()));
 
-            ChannelTransformation transformation = channelTransformation;
-            String transformedStdout = Objects.requireNonNull(StringUtils.chomp(outputBuilder.toString()));
-            String transformedStderr = Objects.requireNonNull(StringUtils.chomp(errorBuilder.toString()));
-            if (transformation != null) {
-                transformedStdout = transformation.apply(transformedStdout).orElse(transformedStdout);
-                transformedStderr = transformation.apply(transformedStderr).orElse(transformedStderr);
+            updateResultStates(outputBuilder, errorBuilder);
+        }
+    }
+
+    private void executeCoprocess(String commandLine, int timeOut, Charset charset) {
+        String input = lastInput;
+        ExecCoprocess.Response response;
+        synchronized (coprocessLock) {
+            ExecCoprocess process = coprocess;
+            if (process == null || !process.isAlive()) {
+                if (process != null) {
+                    process.close();
+                    Integer exitValue = process.exitValue();
+                    logger.debug("Restarting coprocess '{}', it terminated with exit value {}", commandLine,
+                            exitValue);
+                    if (exitValue != null) {
+                        updateState(EXIT, new DecimalType(exitValue));
+                    }
+                }
+                process = startCoprocess(commandLine, charset);
+                if (process == null) {
+                    return;
+                }
+                coprocess = process;
             }
-            updateState(STDOUT, new StringType(transformedStdout));
-            updateState(STDERR, new StringType(transformedStderr));
 
-            outputBuilder.append(errorBuilder.toString());
+            try {
+                response = process.execute(input != null ? input : "", timeOut);
+            } catch (IOException | TimeoutException e) {
+                logger.warn("An exception occurred while executing coprocess '{}' : '{}'", commandLine,
+                        e.getMessage());
+                // terminate a coprocess that does not respond, it is restarted on the next execution
+                process.close();
+                coprocess = null;
+                Integer exitValue = process.exitValue();
+                updateState(RUN, OnOffType.OFF);
+                if (exitValue != null) {
+                    updateState(EXIT, new DecimalType(exitValue));
+                }
+                updateState(OUTPUT, new StringType(e.getMessage()));
+                updateState(STDOUT, new StringType());
+                updateState(STDERR, new StringType(e.getMessage()));
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                updateState(RUN, OnOffType.OFF);
+                return;
+            }
+        }
 
-            outputBuilder.append(errorBuilder.toString());
+        updateState(RUN, OnOffType.OFF);
+        updateResultStates(new StringBuilder(response.stdout()).append("\n"), new StringBuilder(response.stderr()));
+    }
 
-            String transformedResponse = Objects.requireNonNull(StringUtils.chomp(outputBuilder.toString()));
+    private @Nullable ExecCoprocess startCoprocess(String commandLine, Charset charset) {
+        String[] cmdArray = createCmdArray(commandLine);
+        if (cmdArray == null || cmdArray.length == 0) {
+            updateState(RUN, OnOffType.OFF);
+            return null;
+        }
+
+        logger.trace("The coprocess to be started will be '{}'", Arrays.asList(cmdArray));
+        try {
+            return new ExecCoprocess(cmdArray, charset, Thread.currentThread().getName());
+        } catch (IOException e) {
+            logger.warn("An exception occurred while starting the coprocess '{}' : '{}'", Arrays.asList(cmdArray),
+                    e.getMessage());
+            updateState(RUN, OnOffType.OFF);
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            updateState(STDOUT, new StringType());
+            updateState(STDERR, new StringType(e.getMessage()));
+            return null;
+        }
+    }
 
-            if (transformation != null) {
-                transformedResponse = transformation.apply(transformedResponse).orElse(transformedResponse);
+    private void stopCoprocess() {
+        synchronized (coprocessLock) {
+            ExecCoprocess process = coprocess;
+            coprocess = null;
+            if (process != null) {
+                process.close();
             }
+        }
+    }
+
+    private void updateResultStates(StringBuilder outputBuilder, StringBuilder errorBuilder) {
+        ChannelTransformation transformation = channelTransformation;
+        String transformedStdout = Objects.requireNonNull(StringUtils.chomp(outputBuilder.toString()));
+        String transformedStderr = Objects.requireNonNull(StringUtils.chomp(errorBuilder.toString()));
+        if (transformation != null) {
+            transformedStdout = transformation.apply(transformedStdout).orElse(transformedStdout);
+            transformedStderr = transformation.apply(transformedStderr).orElse(transformedStderr);
+        }
+        updateState(STDOUT, new StringType(transformedStdout));
+        updateState(STDERR, new StringType(transformedStderr));
+
+        outputBuilder.append(errorBuilder.toString());
+
+        String transformedResponse = Objects.requireNonNull(StringUtils.chomp(outputBuilder.toString()));
+
+        if (transformation != null) {
+            transformedResponse = transformation.apply(transformedResponse).orElse(transformedResponse);
+        }
+
+        updateState(OUTPUT, new StringType(transformedResponse));
+        updateState(LAST_EXECUTION, new DateTimeType());
+    }
 
-            updateState(OUTPUT, new StringType(transformedResponse));
-            updateState(LAST_EXECUTION, new DateTimeType());
+    /**
+     * Creates the command array to execute for the given command line, either split by {@link #CMD_LINE_DELIMITER}
+     * or passed to the shell.
+     *
+     * @param commandLine to execute
+     * @return command array, or {@code null} if the command line cannot be executed
+     */
+    private String @Nullable [] createCmdArray(String commandLine) {
+        String[] cmdArray;
+        String[] shell;
+        if (commandLine.contains(CMD_LINE_DELIMITER)) {
+            logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
+            try {
+                cmdArray = commandLine.split(CMD_LINE_DELIMITER);
+            } catch (PatternSyntaxException e) {
+                logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
+                updateState(RUN, OnOffType.OFF);
+                updateState(OUTPUT, new StringType(e.getMessage()));
+                updateState(STDOUT, new StringType());
+                updateState(STDERR, new StringType(e.getMessage()));
+                return null;
+            }
+        } else {
+            // Invoke shell with 'c' option and pass string
+            logger.debug("Passing to shell for parsing command.");
+            switch (getOperatingSystemType()) {
+                case WINDOWS:
+                    shell = SHELL_WINDOWS;
+                    logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "/c", commandLine);
+                    break;
+                case LINUX:
+                case MAC:
+                case BSD:
+                case SOLARIS:
+                    // assume sh is present, should all be POSIX-compliant
+                    shell = SHELL_NIX;
+                    logger.debug("OS: *NIX ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "-c", commandLine);
+                    break;
+                default:
+                    logger.debug("OS: Unknown ({})", getOperatingSystemName());
+                    logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
+                    updateState(RUN, OnOffType.OFF);
+                    updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
+                    updateState(STDOUT, new StringType());
+                    updateState(STDERR, new StringType("OS not supported, please manually split commands!"));
+                    return null;
+            }
         }
+        return cmdArray;
     }
 
     /**
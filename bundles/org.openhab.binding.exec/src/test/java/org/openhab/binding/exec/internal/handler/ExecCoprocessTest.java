@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+/**
+ * Tests cases for {@link ExecCoprocess}, using shell scripts as coprocess.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@DisabledOnOs(OS.WINDOWS)
+public class ExecCoprocessTest {
+    private static final long TIMEOUT_MS = 5000;
+
+    private @Nullable ExecCoprocess coprocess;
+
+    private ExecCoprocess start(String script) throws IOException {
+        ExecCoprocess coprocess = new ExecCoprocess(new String[] { "sh", "-c", script }, StandardCharsets.UTF_8,
+                "coprocess-test");
+        this.coprocess = coprocess;
+        return coprocess;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExecCoprocess coprocess = this.coprocess;
+        if (coprocess != null) {
+            coprocess.close();
+        }
+    }
+
+    @Test
+    public void eachInputLineGetsOneResponseLine() throws Exception {
+        ExecCoprocess coprocess = start("while read line; do echo \"out:$line\"; done");
+
+        assertEquals(new ExecCoprocess.Response("out:first", ""), coprocess.execute("first", TIMEOUT_MS));
+        assertEquals(new ExecCoprocess.Response("out:second", ""), coprocess.execute("second", TIMEOUT_MS));
+        // line breaks must not split the input into several requests
+        assertEquals(new ExecCoprocess.Response("out:a b", ""), coprocess.execute("a\nb", TIMEOUT_MS));
+        assertEquals(new ExecCoprocess.Response("out:", ""), coprocess.execute("", TIMEOUT_MS));
+    }
+
+    @Test
+    public void stderrIsReturnedWithItsResponse() throws Exception {
+        ExecCoprocess coprocess = start(
+                "while read line; do echo \"err1:$line\" >&2; echo \"err2:$line\" >&2; echo \"out:$line\"; done");
+
+        assertEquals(new ExecCoprocess.Response("out:first", "err1:first\nerr2:first\n"),
+                coprocess.execute("first", TIMEOUT_MS));
+        assertEquals(new ExecCoprocess.Response("out:second", "err1:second\nerr2:second\n"),
+                coprocess.execute("second", TIMEOUT_MS));
+    }
+
+    @Test
+    public void lateStderrIsNotReturnedWithTheNextResponse() throws Exception {
+        ExecCoprocess coprocess = start("while read line; do echo \"out:$line\"; echo \"late:$line\" >&2; done");
+
+        assertEquals("out:first", coprocess.execute("first", TIMEOUT_MS).stdout());
+        Thread.sleep(200);
+        ExecCoprocess.Response response = coprocess.execute("second", TIMEOUT_MS);
+
+        assertEquals("out:second", response.stdout());
+        assertFalse(response.stderr().contains("late:first"));
+    }
+
+    @Test
+    public void largeStderrDoesNotBlockTheResponse() throws Exception {
+        // more than the pipe buffer, the process would block if stderr was not read while waiting
+        ExecCoprocess coprocess = start(
+                "while read line; do i=0; while [ $i -lt 5000 ]; do echo \"error line $i of $line\" >&2; "
+                        + "i=$((i+1)); done; echo \"out:$line\"; done");
+
+        ExecCoprocess.Response response = coprocess.execute("first", TIMEOUT_MS);
+
+        assertEquals("out:first", response.stdout());
+        assertEquals(5000, response.stderr().lines().count());
+    }
+
+    @Test
+    public void missingResponseTimesOut() throws Exception {
+        ExecCoprocess coprocess = start("while read line; do :; done");
+
+        assertThrows(TimeoutException.class, () -> coprocess.execute("first", 200));
+        assertTrue(coprocess.isAlive());
+    }
+
+    @Test
+    public void lateResponseIsNotTakenForTheNextOne() throws Exception {
+        ExecCoprocess coprocess = start("while read line; do sleep 0.5; echo \"out:$line\"; done");
+
+        assertThrows(TimeoutException.class, () -> coprocess.execute("first", 100));
+        Thread.sleep(600);
+        assertEquals("out:second", coprocess.execute("second", TIMEOUT_MS).stdout());
+    }
+
+    @Test
+    public void terminatedProcessIsReported() throws Exception {
+        ExecCoprocess coprocess = start("read line; echo \"out:$line\"; exit 3");
+
+        assertEquals("out:first", coprocess.execute("first", TIMEOUT_MS).stdout());
+        assertThrows(IOException.class, () -> coprocess.execute("second", TIMEOUT_MS));
+        assertFalse(coprocess.isAlive());
+        assertEquals(3, coprocess.exitValue());
+        // the handler restarts the command with a new coprocess
+        assertEquals("out:third", start("read line; echo \"out:$line\"").execute("third", TIMEOUT_MS).stdout());
+    }
+
+    @Test
+    public void closeTerminatesDescendants() throws Exception {
+        // the shell waits for its child, which does not terminate when stdin is closed
+        ExecCoprocess coprocess = start("sleep 600 & child=$!; while read line; do echo $child; done; wait");
+        long childPid = Long.parseLong(coprocess.execute("pid", TIMEOUT_MS).stdout());
+        Optional<ProcessHandle> child = ProcessHandle.of(childPid);
+        assertTrue(child.isPresent() && child.get().isAlive());
+
+        coprocess.close();
+
+        assertFalse(coprocess.isAlive());
+        child.get().onExit().get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertFalse(child.get().isAlive());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.exec.internal.ExecBindingConstants.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.binding.exec.internal.ExecWhitelistWatchService;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openhab.core.types.State;
+
+/**
+ * Tests cases for the coprocess mode of {@link ExecHandler}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@DisabledOnOs(OS.WINDOWS)
+public class ExecHandlerTest {
+    private @Mock @NonNullByDefault({}) ExecWhitelistWatchService whitelist;
+    private @Mock @NonNullByDefault({}) ThingHandlerCallback callback;
+
+    private @Nullable ExecHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        when(whitelist.isWhitelisted(anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExecHandler handler = this.handler;
+        if (handler != null) {
+            handler.dispose();
+        }
+    }
+
+    private ExecHandler createHandler(String command) {
+        Configuration configuration = new Configuration(Map.of(ExecHandler.COMMAND, command, ExecHandler.COPROCESS,
+                true, ExecHandler.TIME_OUT, BigDecimal.ONE));
+        Thing thing = ThingBuilder.create(THING_COMMAND, "coprocess").withConfiguration(configuration).build();
+        ExecHandler handler = new ExecHandler(thing, whitelist);
+        handler.setCallback(callback);
+        this.handler = handler;
+        return handler;
+    }
+
+    private void execute(ExecHandler handler, String input) {
+        handler.handleCommand(new ChannelUID(handler.getThing().getUID(), INPUT), new StringType(input));
+        handler.execute();
+    }
+
+    private void verifyState(ExecHandler handler, String channelId, State state) {
+        verify(callback).stateUpdated(new ChannelUID(handler.getThing().getUID(), channelId), state);
+    }
+
+    @Test
+    public void terminatedCoprocessIsRestarted() throws InterruptedException {
+        ExecHandler handler = createHandler("read line; echo \"out:$line\"; exit 3");
+
+        execute(handler, "first");
+        verifyState(handler, STDOUT, new StringType("out:first"));
+
+        // let the command terminate, the next execution starts it again
+        Thread.sleep(500);
+        execute(handler, "second");
+        verifyState(handler, EXIT, new DecimalType(3));
+        verifyState(handler, STDOUT, new StringType("out:second"));
+    }
+
+    @Test
+    public void coprocessIsRestartedAfterTimeout() {
+        ExecHandler handler = createHandler(
+                "while read line; do if [ \"$line\" = hang ]; then sleep 600; fi; echo \"out:$line\"; done");
+
+        execute(handler, "first");
+        verifyState(handler, STDOUT, new StringType("out:first"));
+
+        execute(handler, "hang");
+        verifyState(handler, OUTPUT, new StringType("No response of the coprocess after 1000 ms"));
+
+        execute(handler, "second");
+        verifyState(handler, STDOUT, new StringType("out:second"));
+    }
+
+    @Test
+    public void responseAndStderrAreSetToTheirChannels() {
+        ExecHandler handler = createHandler("while read line; do echo \"err:$line\" >&2; echo \"out:$line\"; done");
+
+        execute(handler, "first");
+
+        verifyState(handler, STDOUT, new StringType("out:first"));
+        verifyState(handler, STDERR, new StringType("err:first"));
+        verifyState(handler, OUTPUT, new StringType("out:first\nerr:first"));
+    }
+}
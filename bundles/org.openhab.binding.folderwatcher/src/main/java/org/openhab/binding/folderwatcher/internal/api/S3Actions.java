@@ -20,8 +20,11 @@ import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +37,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
@@ -55,6 +59,13 @@ import org.xml.sax.SAXException;
  */
 @NonNullByDefault
 public class S3Actions {
+    /**
+     * Order in which S3 lists keys, which is the binary order of their UTF-8 encoding. It differs from the natural
+     * order of {@link String} for characters outside the Basic Multilingual Plane.
+     */
+    public static final Comparator<String> KEY_ORDER = (key1, key2) -> Arrays
+            .compareUnsigned(key1.getBytes(StandardCharsets.UTF_8), key2.getBytes(StandardCharsets.UTF_8));
+
     private final HttpClient httpClient;
     private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(1);
     private static final String CONTENT_TYPE = "application/xml";
@@ -69,20 +80,43 @@ public class S3Actions {
 
     public S3Actions(HttpClientFactory httpClientFactory, String bucketName, String region, String awsAccessKey,
             String awsSecretKey) throws APIException {
+        this(httpClientFactory, bucketUri(bucketName, region), region, awsAccessKey, awsSecretKey);
+    }
+
+    S3Actions(HttpClientFactory httpClientFactory, URL bucketUri, String region, String awsAccessKey,
+            String awsSecretKey) {
         this.httpClient = httpClientFactory.getCommonHttpClient();
+        this.bucketUri = bucketUri;
+        this.region = region;
+        this.awsAccessKey = awsAccessKey;
+        this.awsSecretKey = awsSecretKey;
+    }
+
+    private static URL bucketUri(String bucketName, String region) throws APIException {
         try {
-            this.bucketUri = URI.create("http://" + bucketName + ".s3." + region + ".amazonaws.com").toURL();
+            return URI.create("http://" + bucketName + ".s3." + region + ".amazonaws.com").toURL();
         } catch (MalformedURLException e) {
             throw new APIException("Unable to parse service endpoint: " + e.getMessage());
         }
-        this.region = region;
-        this.awsAccessKey = awsAccessKey;
-        this.awsSecretKey = awsSecretKey;
     }
 
     public List<String> listBucket(String prefix) throws APIException, AuthException {
+        return listBucket(prefix, null);
+    }
+
+    /**
+     * List the keys of the bucket in ascending {@link #KEY_ORDER}.
+     *
+     * @param prefix only keys starting with the prefix are listed
+     * @param startAfter if not null, only keys after this key are listed
+     * @return list of keys
+     */
+    public List<String> listBucket(String prefix, @Nullable String startAfter) throws APIException, AuthException {
         Map<String, String> headers = new HashMap<>();
         Map<String, String> params = new HashMap<>();
+        if (startAfter != null) {
+            params.put("start-after", startAfter);
+        }
         return listObjectsV2(prefix, headers, params);
     }
 
@@ -12,12 +12,16 @@
  */
 package org.openhab.binding.folderwatcher.internal.common;
 
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.slf4j.Logger;
@@ -41,30 +45,80 @@ public class WatcherCommon {
         }
     }
 
-    public static List<String> initStorage(File file, String watchDir) throws IOException {
+    public static Set<String> initStorage(File file, String watchDir) throws IOException {
+        Set<String> returnSet = new HashSet<>();
+        initStorage(file, watchDir, returnSet::add);
+        return returnSet;
+    }
+
+    /**
+     * Initialize the listing file and pass its entries to the given consumer one by one, without keeping them in
+     * memory.
+     *
+     * @param file listing file
+     * @param watchDir watched directory, stored as the first entry of the listing file
+     * @param entryConsumer consumer of the stored entries, including the watched directory
+     */
+    public static void initStorage(File file, String watchDir, Consumer<String> entryConsumer) throws IOException {
         logger.debug("Initializing storage from file: {}, watch directory: {}", file.getAbsolutePath(), watchDir);
-        List<String> returnList = List.of();
-        List<String> currentFileListing = List.of();
         if (!file.exists()) {
             logger.debug("Listing file does not exist, creating parent directories and initializing file");
             Files.createDirectories(file.toPath().getParent());
             initFile(file, watchDir);
         } else {
             logger.debug("Listing file exists, reading existing entries");
-            currentFileListing = Files.readAllLines(file.toPath().toAbsolutePath());
-            if (currentFileListing.isEmpty()) {
-                logger.debug("File is empty, initializing with watch directory");
-                initFile(file, watchDir);
-            } else if (currentFileListing.get(0).equals(watchDir)) {
-                logger.debug("File contains {} entries for matching watch directory", currentFileListing.size());
-                returnList = currentFileListing;
-            } else {
-                logger.debug("Watch directory mismatch in file, reinitializing. Previous: {}, Current: {}",
-                        currentFileListing.get(0), watchDir);
-                initFile(file, watchDir);
+            try (BufferedReader reader = Files.newBufferedReader(file.toPath().toAbsolutePath())) {
+                String firstLine = reader.readLine();
+                if (firstLine == null) {
+                    logger.debug("File is empty, initializing with watch directory");
+                    initFile(file, watchDir);
+                } else if (firstLine.equals(watchDir)) {
+                    entryConsumer.accept(firstLine);
+                    int entries = 1;
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        entryConsumer.accept(line);
+                        entries++;
+                    }
+                    logger.debug("File contains {} entries for matching watch directory", entries);
+                } else {
+                    logger.debug("Watch directory mismatch in file, reinitializing. Previous: {}, Current: {}",
+                            firstLine, watchDir);
+                    reader.close();
+                    initFile(file, watchDir);
+                }
             }
         }
-        return returnList;
+    }
+
+    /**
+     * Get the entries of the current listing which are not contained in the previous listing.
+     *
+     * @param currentListing current listing
+     * @param previousListing previous listing
+     * @return new entries in the order of the current listing
+     */
+    public static List<String> newEntries(List<String> currentListing, Set<String> previousListing) {
+        return currentListing.stream().filter(entry -> !previousListing.contains(entry)).toList();
+    }
+
+    /**
+     * Update the previous listing in place to the current listing. When no entries were removed, only the new entries
+     * are added, so the previous listing does not have to be rebuilt on every refresh.
+     *
+     * @param previousListing previous listing, updated to contain the entries of the current listing
+     * @param currentListing current listing without duplicates
+     * @param newEntries entries of the current listing which are not contained in the previous listing
+     */
+    public static void updateListing(Set<String> previousListing, List<String> currentListing,
+            List<String> newEntries) {
+        if (previousListing.size() + newEntries.size() == currentListing.size()) {
+            // all previous entries are still listed
+            previousListing.addAll(newEntries);
+        } else {
+            previousListing.clear();
+            previousListing.addAll(currentListing);
+        }
     }
 
     public static void saveNewListing(List<String> newList, File listingFile) throws IOException {
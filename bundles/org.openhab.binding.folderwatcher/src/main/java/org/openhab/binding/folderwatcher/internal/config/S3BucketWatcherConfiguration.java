@@ -25,6 +25,7 @@ public class S3BucketWatcherConfiguration {
     public String s3Path = "";
     public boolean s3Anonymous;
     public int pollIntervalS3;
+    public boolean s3Incremental;
     public String awsKey = "";
     public String awsSecret = "";
     public String awsRegion = "";
@@ -16,7 +16,9 @@ import static org.openhab.binding.folderwatcher.internal.FolderWatcherBindingCon
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -50,7 +52,7 @@ public class AzureBlobWatcherHandler extends BaseThingHandler {
     private File currentBlobListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "AzureBlob"
             + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousBlobListing = new ArrayList<>();
+    private Set<String> previousBlobListing = new HashSet<>();
     private HttpClientFactory httpClientFactory;
     private @Nullable AzureActions azure;
 
@@ -129,8 +131,7 @@ public class AzureBlobWatcherHandler extends BaseThingHandler {
             currentBlobListing = azure.listContainer(config.containerPath);
             logger.debug("Azure container scan found {} total files", currentBlobListing.size());
             updateStatus(ThingStatus.ONLINE);
-            List<String> difBlobListing = new ArrayList<>(currentBlobListing);
-            difBlobListing.removeAll(previousBlobListing);
+            List<String> difBlobListing = WatcherCommon.newEntries(currentBlobListing, previousBlobListing);
             logger.debug("Detected {} new Azure files since last refresh", difBlobListing.size());
             difBlobListing.forEach(file -> {
                 logger.trace("Triggering CHANNEL_NEWFILE with: {}", file);
@@ -143,7 +144,7 @@ public class AzureBlobWatcherHandler extends BaseThingHandler {
             }
             logger.debug("Azure refresh completed, updated previous listing from {} to {} files",
                     previousBlobListing.size(), currentBlobListing.size());
-            previousBlobListing = new ArrayList<>(currentBlobListing);
+            WatcherCommon.updateListing(previousBlobListing, currentBlobListing, difBlobListing);
         } catch (Exception e) {
             logger.debug("Exception connecting to Azure container: {}", e.getMessage(), e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
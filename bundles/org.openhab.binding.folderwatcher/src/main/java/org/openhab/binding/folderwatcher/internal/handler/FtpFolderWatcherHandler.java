@@ -19,7 +19,9 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -55,7 +57,7 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
     private @Nullable File currentFtpListingFile;
     private @Nullable ScheduledFuture<?> executionJob, initJob;
     private FTPClient ftp = new FTPClient();
-    private List<String> previousFtpListing = new ArrayList<>();
+    private Set<String> previousFtpListing = new HashSet<>();
 
     public FtpFolderWatcherHandler(Thing thing) {
         super(thing);
@@ -287,8 +289,7 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
                 List<String> currentFtpListing = new ArrayList<>();
                 listDirectory(ftp, ftpRootDir, config.listRecursiveFtp, currentFtpListing);
                 logger.debug("FTP directory scan found {} total files", currentFtpListing.size());
-                List<String> diffFtpListing = new ArrayList<>(currentFtpListing);
-                diffFtpListing.removeAll(previousFtpListing);
+                List<String> diffFtpListing = WatcherCommon.newEntries(currentFtpListing, previousFtpListing);
                 logger.debug("Detected {} new FTP files since last refresh", diffFtpListing.size());
                 diffFtpListing.forEach(file -> {
                     logger.trace("Triggering CHANNEL_NEWFILE with: {}", file);
@@ -304,7 +305,7 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
                 }
                 logger.debug("FTP refresh completed, updated previous listing from {} to {} files",
                         previousFtpListing.size(), currentFtpListing.size());
-                previousFtpListing = new ArrayList<>(currentFtpListing);
+                WatcherCommon.updateListing(previousFtpListing, currentFtpListing, diffFtpListing);
             } catch (IOException e) {
                 logger.debug("IOException during FTP directory listing: {}", e.getMessage(), e);
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
@@ -23,7 +23,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -55,7 +57,7 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
     private File currentLocalListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher"
             + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousLocalListing = new ArrayList<>();
+    private Set<String> previousLocalListing = new HashSet<>();
 
     public LocalFolderWatcherHandler(Thing thing) {
         super(thing);
@@ -158,8 +160,7 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
                 }
             });
 
-            List<String> diffLocalListing = new ArrayList<>(currentLocalListing);
-            diffLocalListing.removeAll(previousLocalListing);
+            List<String> diffLocalListing = WatcherCommon.newEntries(currentLocalListing, previousLocalListing);
             logger.debug("Local directory scan found {} total files", currentLocalListing.size());
             logger.debug("Detected {} new local files since last refresh", diffLocalListing.size());
             diffLocalListing.forEach(file -> {
@@ -173,7 +174,7 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
             }
             logger.debug("Local refresh completed, updated previous listing from {} to {} files",
                     previousLocalListing.size(), currentLocalListing.size());
-            previousLocalListing = new ArrayList<>(currentLocalListing);
+            WatcherCommon.updateListing(previousLocalListing, currentLocalListing, diffLocalListing);
         } catch (IOException e) {
             logger.debug("IOException during local directory walk: {}", e.getMessage(), e);
         }
@@ -17,7 +17,9 @@ import static org.openhab.binding.folderwatcher.internal.FolderWatcherBindingCon
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -52,7 +54,8 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
     private File currentS3ListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher"
             + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousS3Listing = new ArrayList<>();
+    private Set<String> previousS3Listing = new HashSet<>();
+    private @Nullable String lastS3Key;
     private HttpClientFactory httpClientFactory;
     private @Nullable S3Actions s3;
 
@@ -93,8 +96,21 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
 
         try {
             logger.debug("Initializing S3 listing file for bucket: {}", config.s3BucketName);
-            previousS3Listing = WatcherCommon.initStorage(currentS3ListingFile, config.s3BucketName);
-            logger.debug("Loaded {} previous S3 files from storage", previousS3Listing.size());
+            if (config.s3Incremental) {
+                // only the last listed key is needed, so don't keep the stored listing in memory
+                lastS3Key = null;
+                WatcherCommon.initStorage(currentS3ListingFile, config.s3BucketName, key -> {
+                    String lastKey = lastS3Key;
+                    if (key.startsWith(config.s3Path) && !key.equals(config.s3BucketName)
+                            && (lastKey == null || S3Actions.KEY_ORDER.compare(key, lastKey) > 0)) {
+                        lastS3Key = key;
+                    }
+                });
+                logger.debug("Incremental listing starts after key: {}", lastS3Key);
+            } else {
+                previousS3Listing = WatcherCommon.initStorage(currentS3ListingFile, config.s3BucketName);
+                logger.debug("Loaded {} previous S3 files from storage", previousS3Listing.size());
+            }
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             logger.debug("Can't write file {}: {}", currentS3ListingFile, e.getMessage());
@@ -117,13 +133,15 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
 
     private boolean refreshS3BucketInformation() {
         logger.debug("Refreshing S3 bucket information for {} with path {}", config.s3BucketName, config.s3Path);
+        if (config.s3Incremental) {
+            return refreshS3BucketIncremental();
+        }
         List<String> currentS3Listing = new ArrayList<>();
         try {
             currentS3Listing = s3.listBucket(config.s3Path);
             logger.debug("S3 bucket scan found {} total files", currentS3Listing.size());
             updateStatus(ThingStatus.ONLINE);
-            List<String> difS3Listing = new ArrayList<>(currentS3Listing);
-            difS3Listing.removeAll(previousS3Listing);
+            List<String> difS3Listing = WatcherCommon.newEntries(currentS3Listing, previousS3Listing);
             logger.debug("Detected {} new S3 files since last refresh", difS3Listing.size());
             difS3Listing.forEach(file -> {
                 logger.trace("Triggering CHANNEL_NEWFILE with: {}", file);
@@ -136,7 +154,31 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
             }
             logger.debug("S3 refresh completed, updated previous listing from {} to {} files", previousS3Listing.size(),
                     currentS3Listing.size());
-            previousS3Listing = new ArrayList<>(currentS3Listing);
+            WatcherCommon.updateListing(previousS3Listing, currentS3Listing, difS3Listing);
+        } catch (Exception e) {
+            logger.debug("Exception connecting to S3 bucket: {}", e.getMessage(), e);
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Can't connect to the bucket");
+            return false;
+        }
+        return true;
+    }
+
+    private boolean refreshS3BucketIncremental() {
+        try {
+            List<String> newS3Listing = s3.listBucket(config.s3Path, lastS3Key);
+            updateStatus(ThingStatus.ONLINE);
+            logger.debug("Detected {} new S3 files after key {}", newS3Listing.size(), lastS3Key);
+            newS3Listing.forEach(file -> {
+                logger.trace("Triggering CHANNEL_NEWFILE with: {}", file);
+                triggerChannel(CHANNEL_NEWFILE, file);
+            });
+
+            if (!newS3Listing.isEmpty()) {
+                logger.debug("Saving {} new files to listing file", newS3Listing.size());
+                WatcherCommon.saveNewListing(newS3Listing, currentS3ListingFile);
+                // S3 lists keys in ascending order
+                lastS3Key = newS3Listing.get(newS3Listing.size() - 1);
+            }
         } catch (Exception e) {
             logger.debug("Exception connecting to S3 bucket: {}", e.getMessage(), e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Can't connect to the bucket");
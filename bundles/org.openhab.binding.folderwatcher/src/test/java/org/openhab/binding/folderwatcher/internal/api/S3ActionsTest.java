@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.folderwatcher.internal.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.io.net.http.HttpClientFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for {@link S3Actions} against a local server answering ListObjectsV2 requests.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+public class S3ActionsTest {
+    private static final String PAGE_1 = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <ListBucketResult xmlns="http://s3.amazonaws.com/doc/2006-03-01/">
+              <Contents><Key>photos/b.jpg</Key></Contents>
+              <Contents><Key>photos/c.jpg</Key></Contents>
+              <IsTruncated>true</IsTruncated>
+              <NextContinuationToken>token-1</NextContinuationToken>
+            </ListBucketResult>
+            """;
+    private static final String PAGE_2 = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <ListBucketResult xmlns="http://s3.amazonaws.com/doc/2006-03-01/">
+              <Contents><Key>photos/d.jpg</Key></Contents>
+              <IsTruncated>false</IsTruncated>
+            </ListBucketResult>
+            """;
+
+    private @Mock @NonNullByDefault({}) HttpClientFactory httpClientFactory;
+    private @NonNullByDefault({}) HttpServer server;
+    private final HttpClient httpClient = new HttpClient();
+    private final List<Map<String, String>> requests = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        httpClient.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        httpClient.stop();
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+        requests.add(params);
+        String body = "token-1".equals(params.get("continuation-token")) ? PAGE_2 : PAGE_1;
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        return Stream.of(query.split("&")).map(param -> param.split("=", 2)).collect(Collectors.toMap(
+                param -> URLDecoder.decode(param[0], StandardCharsets.UTF_8),
+                param -> param.length > 1 ? URLDecoder.decode(param[1], StandardCharsets.UTF_8) : ""));
+    }
+
+    private S3Actions createActions() throws Exception {
+        when(httpClientFactory.getCommonHttpClient()).thenReturn(httpClient);
+        return new S3Actions(httpClientFactory, URI.create("http://127.0.0.1:" + server.getAddress().getPort()).toURL(),
+                "eu-west-1", "", "");
+    }
+
+    @Test
+    public void listBucketFollowsContinuationToken() throws Exception {
+        assertEquals(List.of("photos/b.jpg", "photos/c.jpg", "photos/d.jpg"), createActions().listBucket("photos/"));
+
+        assertEquals(2, requests.size());
+        assertEquals("2", requests.get(0).get("list-type"));
+        assertEquals("photos/", requests.get(0).get("prefix"));
+        assertFalse(requests.get(0).containsKey("start-after"));
+        assertEquals("token-1", requests.get(1).get("continuation-token"));
+        assertEquals("photos/", requests.get(1).get("prefix"));
+    }
+
+    @Test
+    public void listBucketStartsAfterKey() throws Exception {
+        createActions().listBucket("photos/", "photos/a😀.jpg");
+
+        assertEquals("photos/a😀.jpg", requests.get(0).get("start-after"));
+        assertFalse(requests.get(1).containsKey("start-after"));
+    }
+
+    @Test
+    public void keyOrderComparesUtf8Bytes() {
+        String bmp = "photos/～.jpg";
+        String supplementary = "photos/😀.jpg";
+
+        // UTF-16 code units sort the surrogate pair first, S3 sorts it last
+        assertTrue(bmp.compareTo(supplementary) > 0);
+        assertTrue(S3Actions.KEY_ORDER.compare(bmp, supplementary) < 0);
+        assertTrue(S3Actions.KEY_ORDER.compare(supplementary, bmp) > 0);
+        assertEquals(0, S3Actions.KEY_ORDER.compare(bmp, "photos/～.jpg"));
+    }
+}
@@ -42,7 +42,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
     private final HomeAssistantPythonBridge python;
     private final AbstractComponent<?> component;
-    private final Value template;
+    private final HomeAssistantPythonBridge.RenderTemplate template;
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
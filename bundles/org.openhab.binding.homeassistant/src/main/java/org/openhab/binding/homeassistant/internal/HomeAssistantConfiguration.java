@@ -19,4 +19,5 @@ package org.openhab.binding.homeassistant.internal;
  */
 public class HomeAssistantConfiguration {
     public boolean status = true;
+    public int pythonContexts = 1;
 }
@@ -21,10 +21,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
 import org.graalvm.python.embedding.GraalPyResources;
@@ -32,133 +37,201 @@ import org.graalvm.python.embedding.VirtualFileSystem;
 import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
 import org.openhab.binding.homeassistant.internal.exception.ConfigurationException;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.Configuration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Centralizes all calls into python to ensure thread safety and a single cached context
+ * Centralizes all calls into python to ensure thread safety and cached contexts.
+ * <p>
+ * Discovery configs and templates are handled by separate lanes of GraalPy contexts sharing one polyglot engine, so
+ * that a burst of discovery messages does not hold up rendering the templates of live traffic. Only the primary
+ * context is created right away and serves both lanes. If all contexts of a lane are busy, another context is
+ * initialized in the background for that lane, up to the configured max number of contexts. As python objects can not
+ * be shared between contexts, templates are compiled on first use in each context.
  *
  * @author Cody Cutrer - Initial contribution
  */
 @NonNullByDefault
-@Component(service = HomeAssistantPythonBridge.class)
+@Component(service = HomeAssistantPythonBridge.class, configurationPid = "org.openhab.binding.homeassistant")
 public class HomeAssistantPythonBridge {
     private static final String PYTHON = "python";
+    private static final String THREADPOOL_NAME = "homeassistant-python";
+    private static final int DEFAULT_MAX_CONTEXTS = 1;
+
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
-    private final Context context;
-    private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
-            renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
-            processDiscoveryConfigMeth, listMeth;
+    private final VirtualFileSystem vfs;
+    private final Engine engine;
+    final PythonContext primaryContext;
+    final Lane discoveryLane = new Lane("discovery");
+    final Lane renderLane = new Lane("render");
+    private final List<PythonContext> allContexts = new CopyOnWriteArrayList<>();
+    // number of contexts created or being initialized
+    private final AtomicInteger contextCount = new AtomicInteger(1);
+    private volatile int maxContexts;
+    private volatile boolean disposed = false;
 
-    @Activate
     public HomeAssistantPythonBridge() {
-        VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
-                .build();
+        this(DEFAULT_MAX_CONTEXTS);
+    }
+
+    @Activate
+    public HomeAssistantPythonBridge(@Nullable Map<String, Object> properties) {
+        this(getMaxContexts(properties));
+    }
+
+    /**
+     * Creates a bridge which grows on demand up to the given number of contexts.
+     *
+     * @param maxContexts max number of python contexts, 1 to handle all calls in the primary context
+     */
+    HomeAssistantPythonBridge(int maxContexts) {
+        this.maxContexts = Math.max(1, maxContexts);
+        vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class).build();
 
         // Set cache path if not already configured (e.g., by test environment)
         if (System.getProperty("polyglot.engine.userResourceCache") == null) {
             File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
             System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
         }
-        context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
-                .option("engine.WarnInterpreterOnly", "false").build();
-
-        Value bindings = context.getBindings(PYTHON);
-
-        context.eval(PYTHON,
-                """
-                        # we need to set up the path just like it would have been set up on Linux, even if we're
-                        # on Windows
-                        import os
-                        import sys
-
-                        try:
-                            import requests
-                            requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
-                        except Exception:
-                            pass
-
-                        if os.sep != '/':
-                            sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
-
-                        from homeassistant.helpers.template import Template
-                        from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
-                        from homeassistant.components.mqtt.discovery import process_discovery_config
-
-                        def new_raw_template(template):
-                            return Template(template)
-
-                        def new_command_template(template):
-                            return MqttCommandTemplate(template)
+        engine = Engine.newBuilder().logHandler(new LogHandler(logger)).option("engine.WarnInterpreterOnly", "false")
+                .build();
 
-                        def render_command_template(template, value):
-                            return template.render(value=value)
+        primaryContext = new PythonContext(0);
+        allContexts.add(primaryContext);
+        discoveryLane.contexts.add(primaryContext);
+    }
 
-                        def render_command_template_with_variables(template, value, variables):
-                            return template.render(value=value, variables=variables)
+    private static int getMaxContexts(@Nullable Map<String, Object> properties) {
+        return new Configuration(properties).as(HomeAssistantConfiguration.class).pythonContexts;
+    }
 
-                        def new_value_template(template):
-                            return MqttValueTemplate(template)
+    @Modified
+    protected void modified(@Nullable Map<String, Object> properties) {
+        // contexts which already exist are kept, the new max only applies when growing
+        maxContexts = Math.max(1, getMaxContexts(properties));
+    }
 
-                        def render_value_template(template, payload, default):
-                            return template.render_with_possible_json_value(payload=payload, default=default)
+    /**
+     * Adds a context to the lane in the background, unless the max number of contexts is reached or the lane is
+     * already growing.
+     */
+    private void grow(Lane lane) {
+        if (disposed || !lane.growing.compareAndSet(false, true)) {
+            return;
+        }
+        int index;
+        do {
+            index = contextCount.get();
+            if (index >= maxContexts) {
+                lane.growing.set(false);
+                return;
+            }
+        } while (!contextCount.compareAndSet(index, index + 1));
 
-                        def render_value_template_with_variables(template, payload, default, variables):
-                            return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
-                        """);
+        int contextIndex = index;
+        logger.debug("All python contexts of the {} lane are busy, adding context {}", lane.name, contextIndex);
+        ThreadPoolManager.getPool(THREADPOOL_NAME).execute(() -> {
+            try {
+                if (disposed) {
+                    return;
+                }
+                PythonContext context = new PythonContext(contextIndex);
+                allContexts.add(context);
+                if (disposed) {
+                    context.close();
+                    return;
+                }
+                lane.contexts.add(context);
+                logger.debug("Python context {} is ready", contextIndex);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to initialize python context {}: {}", contextIndex, e.getMessage());
+            } finally {
+                lane.growing.set(false);
+            }
+        });
+    }
 
-        newRawTemplateMeth = bindings.getMember("new_raw_template");
-        newCommandTemplateMeth = bindings.getMember("new_command_template");
-        renderCommandTemplateMeth = bindings.getMember("render_command_template");
-        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
-        newValueTemplateMeth = bindings.getMember("new_value_template");
-        renderValueTemplateMeth = bindings.getMember("render_value_template");
-        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
-        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
-        listMeth = bindings.getMember("list");
+    @Deactivate
+    public void dispose() {
+        disposed = true;
+        discoveryLane.contexts.clear();
+        renderLane.contexts.clear();
+        allContexts.forEach(PythonContext::close);
+        allContexts.clear();
+        engine.close();
     }
 
     public Value newRawTemplate(String template) {
-        return newRawTemplateMeth.execute(template);
+        return primaryContext.newRawTemplateMeth.execute(template);
     }
 
-    public Value newCommandTemplate(Value template) {
-        return newCommandTemplateMeth.execute(template);
+    public RenderTemplate newCommandTemplate(Value template) {
+        return new RenderTemplate(templateSource(template), true);
     }
 
-    public String renderCommandTemplate(Value template, Object value) {
-        return renderCommandTemplateMeth.execute(template, value).asString();
+    public String renderCommandTemplate(RenderTemplate template, Object value) {
+        PythonContext context = acquire(renderLane);
+        try {
+            return context.renderCommandTemplateMeth.execute(template.in(context), value).asString();
+        } finally {
+            context.release();
+        }
     }
 
-    public String renderCommandTemplate(Value template, Object value, Map<String, @Nullable Object> variables) {
-        return renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
+    public String renderCommandTemplate(RenderTemplate template, Object value,
+            Map<String, @Nullable Object> variables) {
+        PythonContext context = acquire(renderLane);
+        try {
+            return context.renderCommandTemplateWithVariablesMeth.execute(template.in(context), value, variables)
+                    .asString();
+        } finally {
+            context.release();
+        }
     }
 
-    public Value newValueTemplate(Value template) {
-        return newValueTemplateMeth.execute(template);
+    public RenderTemplate newValueTemplate(Value template) {
+        return new RenderTemplate(templateSource(template), false);
     }
 
-    public String renderValueTemplate(Value template, Object payload, String defaultValue) {
-        return renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
+    public String renderValueTemplate(RenderTemplate template, Object payload, String defaultValue) {
+        PythonContext context = acquire(renderLane);
+        try {
+            return context.renderValueTemplateMeth.execute(template.in(context), payload, defaultValue).asString();
+        } finally {
+            context.release();
+        }
     }
 
-    public String renderValueTemplate(Value template, Object payload, String defaultValue,
+    public String renderValueTemplate(RenderTemplate template, Object payload, String defaultValue,
             Map<String, @Nullable Object> variables) {
-        return renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables).asString();
+        PythonContext context = acquire(renderLane);
+        try {
+            return context.renderValueTemplateWithVariablesMeth
+                    .execute(template.in(context), payload, defaultValue, variables).asString();
+        } finally {
+            context.release();
+        }
     }
 
     public List<MqttComponentConfig> processDiscoveryConfig(String topic, String payload) {
+        PythonContext context = acquire(discoveryLane);
         try {
             @SuppressWarnings("unchecked")
-            List<Value> configs = (List<Value>) toJava(processDiscoveryConfigMeth.execute(topic, payload));
+            List<Value> configs = (List<Value>) toJava(context.processDiscoveryConfigMeth.execute(topic, payload));
             if (configs == null || configs.isEmpty()) {
                 throw new ConfigurationException("Invalid configuration");
             }
             return configs.stream().map(c -> new MqttComponentConfig(this, c)).toList();
         } catch (PolyglotException e) {
             throw new ConfigurationException("Failed to process discovery config for " + topic + ": " + e.getMessage());
+        } finally {
+            context.release();
         }
     }
 
@@ -191,7 +264,8 @@ public class HomeAssistantPythonBridge {
         // This is a bit of a pain, but Python sets don't act like Arrays, nor
         // can you use `as(List.class)` to have Graal convert them
         if (value.getMetaObject().getMetaSimpleName().equals("set")) {
-            Value pyList = listMeth.execute(value);
+            // the value may come from any of the contexts, so use the list function of its own context
+            Value pyList = value.getContext().getBindings(PYTHON).getMember("list").execute(value);
             @SuppressWarnings("unchecked")
             List<@Nullable Object> list = (List<@Nullable Object>) Objects.requireNonNull(toJava(pyList));
             Set<@Nullable Object> set = new HashSet<@Nullable Object>(list);
@@ -205,4 +279,166 @@ public class HomeAssistantPythonBridge {
         Object r = value.as(Object.class);
         return r;
     }
+
+    /**
+     * Picks the least busy context of a lane, or the primary context while the lane has no context of its own. If even
+     * that context is busy, the lane is grown for the next calls.
+     */
+    PythonContext acquire(Lane lane) {
+        PythonContext best = primaryContext;
+        int bestLoad = Integer.MAX_VALUE;
+        for (PythonContext context : lane.contexts) {
+            int load = context.inUse.get();
+            if (load < bestLoad) {
+                best = context;
+                bestLoad = load;
+            }
+        }
+        if (best.inUse.getAndIncrement() > 0) {
+            grow(lane);
+        }
+        return best;
+    }
+
+    /**
+     * @return the number of python contexts which are ready.
+     */
+    int getContextCount() {
+        return allContexts.size();
+    }
+
+    private static @Nullable String templateSource(Value template) {
+        if (template.isNull()) {
+            return null;
+        }
+        if (template.isString()) {
+            return template.asString();
+        }
+        // homeassistant.helpers.template.Template keeps its source in the template attribute
+        return template.getMember("template").asString();
+    }
+
+    /**
+     * A command or value template that can be rendered by any context.
+     */
+    public final class RenderTemplate {
+        private final @Nullable String source;
+        private final boolean command;
+        private final Map<PythonContext, Value> compiled = new ConcurrentHashMap<>();
+
+        private RenderTemplate(@Nullable String source, boolean command) {
+            this.source = source;
+            this.command = command;
+        }
+
+        private Value in(PythonContext context) {
+            Value template = compiled.get(context);
+            if (template == null) {
+                String localSource = source;
+                Value rawTemplate = localSource == null ? context.none
+                        : context.newRawTemplateMeth.execute(localSource);
+                template = command ? context.newCommandTemplateMeth.execute(rawTemplate)
+                        : context.newValueTemplateMeth.execute(rawTemplate);
+                compiled.put(context, template);
+            }
+            return template;
+        }
+    }
+
+    /**
+     * Contexts dedicated to one kind of call.
+     */
+    class Lane {
+        private final String name;
+        private final List<PythonContext> contexts = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean growing = new AtomicBoolean();
+
+        private Lane(String name) {
+            this.name = name;
+        }
+
+        int size() {
+            return contexts.size();
+        }
+    }
+
+    class PythonContext {
+        private final int index;
+        private final Context context;
+        private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth,
+                renderCommandTemplateMeth, renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth,
+                renderValueTemplateWithVariablesMeth, processDiscoveryConfigMeth, none;
+        private final AtomicInteger inUse = new AtomicInteger();
+
+        private PythonContext(int index) {
+            this.index = index;
+            context = GraalPyResources.contextBuilder(vfs).engine(engine).build();
+
+            Value bindings = context.getBindings(PYTHON);
+
+            context.eval(PYTHON,
+                    """
+                            # we need to set up the path just like it would have been set up on Linux, even if we're
+                            # on Windows
+                            import os
+                            import sys
+
+                            try:
+                                import requests
+                                requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
+                            except Exception:
+                                pass
+
+                            if os.sep != '/':
+                                sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+
+                            from homeassistant.helpers.template import Template
+                            from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
+                            from homeassistant.components.mqtt.discovery import process_discovery_config
+
+                            def new_raw_template(template):
+                                return Template(template)
+
+                            def new_command_template(template):
+                                return MqttCommandTemplate(template)
+
+                            def render_command_template(template, value):
+                                return template.render(value=value)
+
+                            def render_command_template_with_variables(template, value, variables):
+                                return template.render(value=value, variables=variables)
+
+                            def new_value_template(template):
+                                return MqttValueTemplate(template)
+
+                            def render_value_template(template, payload, default):
+                                return template.render_with_possible_json_value(payload=payload, default=default)
+
+                            def render_value_template_with_variables(template, payload, default, variables):
+                                return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
+                            """);
+
+            newRawTemplateMeth = bindings.getMember("new_raw_template");
+            newCommandTemplateMeth = bindings.getMember("new_command_template");
+            renderCommandTemplateMeth = bindings.getMember("render_command_template");
+            renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
+            newValueTemplateMeth = bindings.getMember("new_value_template");
+            renderValueTemplateMeth = bindings.getMember("render_value_template");
+            renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
+            processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
+            none = context.eval(PYTHON, "None");
+        }
+
+        void release() {
+            inUse.decrementAndGet();
+        }
+
+        private void close() {
+            try {
+                context.close(true);
+            } catch (IllegalStateException e) {
+                logger.debug("Failed to close python context {}: {}", index, e.getMessage());
+            }
+        }
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge.PythonContext;
+import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge.RenderTemplate;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests the context lanes of the {@link HomeAssistantPythonBridge}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HomeAssistantPythonBridgeTests extends JavaTest {
+    private static final String PAYLOAD = "{\"temperature\": 21.5}";
+
+    private @NonNullByDefault({}) HomeAssistantPythonBridge python;
+
+    @AfterEach
+    public void afterEach() {
+        python.dispose();
+    }
+
+    @Test
+    public void testSingleContextServesBothLanes() {
+        python = new HomeAssistantPythonBridge(1);
+
+        PythonContext discovery = python.acquire(python.discoveryLane);
+        PythonContext render = python.acquire(python.renderLane);
+        render.release();
+        discovery.release();
+
+        assertThat(discovery, is(sameInstance(python.primaryContext)));
+        assertThat(render, is(sameInstance(python.primaryContext)));
+        assertThat(python.renderLane.size(), is(0));
+        assertThat(python.getContextCount(), is(1));
+    }
+
+    @Test
+    public void testIdleContextIsReused() {
+        python = new HomeAssistantPythonBridge(3);
+
+        for (int i = 0; i < 3; i++) {
+            python.acquire(python.renderLane).release();
+            python.acquire(python.discoveryLane).release();
+        }
+
+        assertThat(python.renderLane.size(), is(0));
+        assertThat(python.discoveryLane.size(), is(1));
+        assertThat(python.getContextCount(), is(1));
+    }
+
+    @Test
+    public void testBusyLaneGrowsOnDemand() {
+        python = new HomeAssistantPythonBridge(3);
+
+        PythonContext discovery = python.acquire(python.discoveryLane);
+        // the render lane has no context of its own yet and the primary context is busy
+        PythonContext render = python.acquire(python.renderLane);
+        render.release();
+        assertThat(render, is(sameInstance(python.primaryContext)));
+
+        waitForAssert(() -> assertThat(python.renderLane.size(), is(1)));
+        PythonContext renderContext = python.acquire(python.renderLane);
+        renderContext.release();
+        assertThat(renderContext, is(not(sameInstance(python.primaryContext))));
+        PythonContext reusedContext = python.acquire(python.renderLane);
+        reusedContext.release();
+        assertThat(reusedContext, is(sameInstance(renderContext)));
+
+        discovery.release();
+        assertThat(python.discoveryLane.size(), is(1));
+        assertThat(python.getContextCount(), is(2));
+    }
+
+    @Test
+    public void testGrowthStopsAtMaxContexts() {
+        python = new HomeAssistantPythonBridge(2);
+
+        PythonContext discovery = python.acquire(python.discoveryLane);
+        python.acquire(python.renderLane).release();
+        waitForAssert(() -> assertThat(python.renderLane.size(), is(1)));
+        // keep both contexts busy, so both lanes would like to grow
+        PythonContext render = python.acquire(python.renderLane);
+        python.acquire(python.renderLane).release();
+        python.acquire(python.discoveryLane).release();
+        render.release();
+        discovery.release();
+
+        assertThat(python.renderLane.size(), is(1));
+        assertThat(python.discoveryLane.size(), is(1));
+        assertThat(python.getContextCount(), is(2));
+    }
+
+    @Test
+    public void testTemplateRendersInEachContext() {
+        python = new HomeAssistantPythonBridge(2);
+        RenderTemplate template = python.newValueTemplate(python.newRawTemplate("{{ value_json.temperature }}"));
+
+        assertThat(python.renderValueTemplate(template, PAYLOAD, ""), is("21.5"));
+
+        PythonContext discovery = python.acquire(python.discoveryLane);
+        python.acquire(python.renderLane).release();
+        waitForAssert(() -> assertThat(python.renderLane.size(), is(1)));
+        discovery.release();
+
+        // compiled again in the context of the render lane
+        assertThat(python.renderValueTemplate(template, PAYLOAD, ""), is("21.5"));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.transport.message;
+
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link Msg#createMessage} and the framing of the modem byte stream by {@link MsgFactory}, as done
+ * by the port reader. The messages are synthetic, built from the modem message definitions rather than captured from
+ * a modem, and the setup checks that the burst frames into all of them. Run it with the test classpath, e.g. from the
+ * IDE via {@link #main(String[])}, which adds the allocations per message.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MsgFactoryBenchmark {
+
+    private static final int BURST_MESSAGES = 6;
+
+    // synthetic motion sensor group on broadcast and cleanup, followed by a status request and an extended data request
+    // with their modem echoes and device replies
+    // @formatter:off
+    private static final byte[] SYNTHETIC_BURST = HexFormat.of().parseHex("02503a11c7000001cf1101"
+            + "02503a11c74485a1411101"
+            + "02623a11c70f190006"
+            + "02503a11c74485a12f00ff"
+            + "02623a11c71f2e0000000000000000000000000000d206"
+            + "02513a11c74485a11b2e0000011c1c0000000f00000000008a");
+    // @formatter:on
+
+    private static final byte[] SYNTHETIC_STANDARD_MESSAGE = HexFormat.of().parseHex("02503a11c7000001cf1101");
+
+    private final MsgFactory factory = new MsgFactory();
+    private final byte[] burst = SYNTHETIC_BURST.clone();
+
+    @Setup
+    public void setup() throws IOException {
+        int messages = processBurst();
+        if (messages != BURST_MESSAGES) {
+            throw new IllegalStateException("Decoded " + messages + " instead of " + BURST_MESSAGES + " messages");
+        }
+    }
+
+    @Benchmark
+    public @Nullable Msg createMessage() {
+        return Msg.createMessage(SYNTHETIC_STANDARD_MESSAGE, SYNTHETIC_STANDARD_MESSAGE.length, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST_MESSAGES)
+    public int processBurst() throws IOException {
+        factory.addData(burst, burst.length);
+        int messages = 0;
+        while (!factory.isDone()) {
+            if (factory.processData() != null) {
+                messages++;
+            }
+        }
+        return messages;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MsgFactoryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link ValueDecoder#decode} on group value payloads of the datapoint types most frequently seen on a
+ * KNX bus. The payloads are synthetic, encoded by hand following the datapoint type specifications rather than
+ * captured from a bus, and the setup checks that they decode. Run it with the test classpath, e.g. from the IDE via
+ * {@link #main(String[])}, which adds the allocations per telegram.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueDecoderBenchmark {
+
+    private record Payload(byte[] data, Class<? extends Type> preferredType) {
+    }
+
+    // @formatter:off
+    private static final Map<String, Payload> SYNTHETIC_PAYLOADS = Map.of(
+            // switch on
+            "1.001", new Payload(new byte[] { 1 }, OnOffType.class),
+            // 50 %
+            "5.001", new Payload(new byte[] { (byte) 0x80 }, PercentType.class),
+            // 21.0 °C
+            "9.001", new Payload(new byte[] { 0x0c, 0x1a }, QuantityType.class),
+            // Wed, 17:30:00
+            "10.001", new Payload(new byte[] { 0x71, 0x1e, 0x00 }, DateTimeType.class),
+            // 123456 Wh
+            "13.010", new Payload(new byte[] { 0x00, 0x01, (byte) 0xe2, 0x40 }, QuantityType.class),
+            // 1234.5 W
+            "14.056", new Payload(new byte[] { 0x44, (byte) 0x9a, 0x50, 0x00 }, QuantityType.class),
+            // "KNX Benchmark"
+            "16.000", new Payload(new byte[] { 'K', 'N', 'X', ' ', 'B', 'e', 'n', 'c', 'h', 'm', 'a', 'r', 'k', 0 },
+                    StringType.class),
+            // 2019-06-12 17:30:00
+            "19.001", new Payload(new byte[] { (byte) (2019 - 1900), 6, 12, 0x71, 30, 0, 0x00, 0x00 },
+                    DateTimeType.class),
+            // orange
+            "232.600", new Payload(new byte[] { (byte) 0xff, (byte) 0x80, 0x00 }, HSBType.class));
+    // @formatter:on
+
+    @Param({ "1.001", "5.001", "9.001", "10.001", "13.010", "14.056", "16.000", "19.001", "232.600" })
+    public String dpt = "9.001";
+
+    private byte[] data = new byte[0];
+    private Class<? extends Type> preferredType = QuantityType.class;
+
+    @Setup
+    public void setup() {
+        Payload payload = SYNTHETIC_PAYLOADS.get(dpt);
+        if (payload == null || ValueDecoder.decode(dpt, payload.data(), payload.preferredType()) == null) {
+            throw new IllegalStateException("No valid payload for DPT " + dpt);
+        }
+        data = payload.data();
+        preferredType = payload.preferredType();
+    }
+
+    @Benchmark
+    public @Nullable Type decode() {
+        return ValueDecoder.decode(dpt, data, preferredType);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ValueDecoderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -40,10 +40,13 @@ public class LifxHandlerFactory extends BaseThingHandlerFactory {
 
     private @NonNullByDefault({}) LifxChannelFactory channelFactory;
     private final LifxStateDescriptionProvider stateDescriptionProvider;
+    private final LifxNetworkEventLoop eventLoop;
 
     @Activate
-    public LifxHandlerFactory(@Reference LifxStateDescriptionProvider stateDescriptionProvider) {
+    public LifxHandlerFactory(@Reference LifxStateDescriptionProvider stateDescriptionProvider,
+            @Reference LifxNetworkEventLoop eventLoop) {
         this.stateDescriptionProvider = stateDescriptionProvider;
+        this.eventLoop = eventLoop;
     }
 
     @Override
@@ -59,7 +62,7 @@ public class LifxHandlerFactory extends BaseThingHandlerFactory {
     @Override
     protected @Nullable ThingHandler createHandler(Thing thing) {
         if (supportsThingType(thing.getThingTypeUID())) {
-            return new LifxLightHandler(thing, channelFactory, stateDescriptionProvider);
+            return new LifxLightHandler(thing, channelFactory, stateDescriptionProvider, eventLoop);
         }
 
         return null;
@@ -12,22 +12,16 @@
  */
 package org.openhab.binding.lifx.internal;
 
-import static org.openhab.binding.lifx.internal.LifxBindingConstants.PACKET_INTERVAL;
 import static org.openhab.binding.lifx.internal.fields.MACAddress.BROADCAST_ADDRESS;
 import static org.openhab.binding.lifx.internal.util.LifxMessageUtil.randomSourceId;
-import static org.openhab.binding.lifx.internal.util.LifxSelectorUtil.*;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -38,15 +32,15 @@ import org.openhab.binding.lifx.internal.dto.StateServiceResponse;
 import org.openhab.binding.lifx.internal.fields.MACAddress;
 import org.openhab.binding.lifx.internal.handler.LifxLightHandler.CurrentLightState;
 import org.openhab.binding.lifx.internal.listener.LifxResponsePacketListener;
-import org.openhab.binding.lifx.internal.util.LifxNetworkUtil;
-import org.openhab.binding.lifx.internal.util.LifxSelectorUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The {@link LifxLightCommunicationHandler} is responsible for the communications with a light.
+ * The {@link LifxLightCommunicationHandler} is responsible for the communications with a light. Packets are sent and
+ * received using the {@link LifxNetworkEventLoop} shared by all lights.
  *
  * @author Wouter Born - Initial contribution
+ * @author openHAB Contributors - Shared network event loop
  */
 @NonNullByDefault
 public class LifxLightCommunicationHandler {
@@ -56,32 +50,27 @@ public class LifxLightCommunicationHandler {
     private final String logId;
     private final CurrentLightState currentLightState;
     private final ScheduledExecutorService scheduler;
+    private final LifxNetworkEventLoop eventLoop;
 
     private final ReentrantLock lock = new ReentrantLock();
-    private final long sourceId = randomSourceId();
     private final Supplier<Integer> sequenceNumberSupplier = new LifxSequenceNumberSupplier();
+    private volatile long sourceId = randomSourceId();
 
     private int service;
     private int unicastPort;
-    private final int broadcastPort = LifxNetworkUtil.getNewBroadcastPort();
 
-    private @Nullable ScheduledFuture<?> networkJob;
-
-    private @Nullable MACAddress macAddress;
-    private @Nullable InetSocketAddress host;
+    private volatile @Nullable MACAddress macAddress;
+    private volatile @Nullable InetSocketAddress host;
+    private volatile boolean started;
     private boolean broadcastEnabled;
 
-    private @Nullable Selector selector;
-    private @Nullable SelectionKey broadcastKey;
-    private @Nullable SelectionKey unicastKey;
-    private @Nullable LifxSelectorContext selectorContext;
-
-    public LifxLightCommunicationHandler(LifxLightContext context) {
+    public LifxLightCommunicationHandler(LifxLightContext context, LifxNetworkEventLoop eventLoop) {
         this.logId = context.getLogId();
         this.macAddress = context.getConfiguration().getMACAddress();
         this.host = context.getConfiguration().getHost();
         this.currentLightState = context.getCurrentLightState();
         this.scheduler = context.getScheduler();
+        this.eventLoop = eventLoop;
         this.broadcastEnabled = context.getConfiguration().getHost() == null;
     }
 
@@ -100,53 +89,39 @@ public class LifxLightCommunicationHandler {
             lock.lock();
 
             logger.debug("{} : Starting communication handler", logId);
-            logger.debug("{} : Using '{}' as source identifier", logId, Long.toString(sourceId, 16));
-
-            ScheduledFuture<?> localNetworkJob = networkJob;
-            if (localNetworkJob == null || localNetworkJob.isCancelled()) {
-                networkJob = scheduler.scheduleWithFixedDelay(this::receiveAndHandlePackets, 0, PACKET_INTERVAL,
-                        TimeUnit.MILLISECONDS);
-            }
 
             currentLightState.setOffline();
 
-            Selector localSelector = Selector.open();
-            selector = localSelector;
-
-            if (isBroadcastEnabled()) {
-                broadcastKey = openBroadcastChannel(selector, logId, broadcastPort);
-                selectorContext = new LifxSelectorContext(localSelector, sourceId, sequenceNumberSupplier, logId, host,
-                        macAddress, broadcastKey, unicastKey);
-                broadcastPacket(new GetServiceRequest());
-            } else {
-                unicastKey = openUnicastChannel(selector, logId, host);
-                selectorContext = new LifxSelectorContext(localSelector, sourceId, sequenceNumberSupplier, logId, host,
-                        macAddress, broadcastKey, unicastKey);
-                sendPacket(new GetServiceRequest());
+            // the event loop dispatches packets by source identifier so it has to be unique among all lights
+            while (!eventLoop.register(sourceId, this::handlePacket)) {
+                sourceId = randomSourceId();
             }
+            started = true;
+
+            logger.debug("{} : Using '{}' as source identifier", logId, Long.toString(sourceId, 16));
         } catch (IOException e) {
             logger.error("{} while starting LIFX communication handler for light '{}' : {}",
                     e.getClass().getSimpleName(), logId, e.getMessage(), e);
+            return;
         } finally {
             lock.unlock();
         }
+
+        if (isBroadcastEnabled()) {
+            broadcastPacket(new GetServiceRequest());
+        } else {
+            sendPacket(new GetServiceRequest());
+        }
     }
 
     public void stop() {
         try {
             lock.lock();
 
-            ScheduledFuture<?> localNetworkJob = networkJob;
-            if (localNetworkJob != null && !localNetworkJob.isCancelled()) {
-                localNetworkJob.cancel(true);
-                networkJob = null;
+            if (started) {
+                started = false;
+                eventLoop.unregister(sourceId);
             }
-
-            closeSelector(selector, logId);
-            selector = null;
-            broadcastKey = null;
-            unicastKey = null;
-            selectorContext = null;
         } finally {
             lock.unlock();
         }
@@ -160,25 +135,19 @@ public class LifxLightCommunicationHandler {
         return macAddress;
     }
 
-    public void receiveAndHandlePackets() {
+    private void handlePacket(Packet packet, InetSocketAddress address) {
         try {
             lock.lock();
-            Selector localSelector = selector;
-            if (localSelector == null || !localSelector.isOpen()) {
-                logger.debug("{} : Unable to receive and handle packets with null or closed selector", logId);
-            } else {
-                LifxSelectorUtil.receiveAndHandlePackets(localSelector, logId,
-                        (packet, address) -> handlePacket(packet, address));
+
+            if (started) {
+                handlePacketLocked(packet, address);
             }
-        } catch (Exception e) {
-            logger.error("{} while receiving a packet from the light ({}): {}", e.getClass().getSimpleName(), logId,
-                    e.getMessage());
         } finally {
             lock.unlock();
         }
     }
 
-    private void handlePacket(Packet packet, InetSocketAddress address) {
+    private void handlePacketLocked(Packet packet, InetSocketAddress address) {
         boolean packetFromConfiguredMAC = macAddress != null && (packet.getTarget().equals(macAddress));
         boolean packetFromConfiguredHost = host != null && (address.equals(host));
         boolean broadcastPacket = packet.getTarget().equals(BROADCAST_ADDRESS);
@@ -194,11 +163,6 @@ public class LifxLightCommunicationHandler {
                 if (packetFromConfiguredHost && macAddress == null) {
                     macAddress = discoveredAddress;
                     currentLightState.setOnline(discoveredAddress);
-
-                    LifxSelectorContext context = selectorContext;
-                    if (context != null) {
-                        context.setMACAddress(macAddress);
-                    }
                     return;
                 } else if (macAddress != null && macAddress.equals(discoveredAddress)) {
                     boolean newHost = host == null || !address.equals(host);
@@ -214,23 +178,6 @@ public class LifxLightCommunicationHandler {
                             currentLightState.setOfflineByCommunicationError();
                         } else {
                             this.host = new InetSocketAddress(address.getAddress(), unicastPort);
-
-                            try {
-                                cancelKey(unicastKey, logId);
-                                unicastKey = openUnicastChannel(selector, logId, host);
-
-                                LifxSelectorContext context = selectorContext;
-                                if (context != null) {
-                                    context.setHost(host);
-                                    context.setUnicastKey(unicastKey);
-                                }
-                            } catch (IOException e) {
-                                logger.warn("{} while opening the unicast channel of the light ({}): {}",
-                                        e.getClass().getSimpleName(), logId, e.getMessage());
-                                currentLightState.setOfflineByCommunicationError();
-                                return;
-                            }
-
                             currentLightState.setOnline();
                         }
                     }
@@ -249,34 +196,40 @@ public class LifxLightCommunicationHandler {
     }
 
     public void broadcastPacket(Packet packet) {
-        wrappedPacketSend((s, p) -> LifxSelectorUtil.broadcastPacket(s, p), packet);
+        if (started) {
+            packet.setSource(sourceId);
+            packet.setSequence(sequenceNumberSupplier.get());
+            handleSendResult(eventLoop.broadcastPacket(packet, logId));
+        }
     }
 
     public void sendPacket(Packet packet) {
-        if (host != null) {
-            wrappedPacketSend((s, p) -> LifxSelectorUtil.sendPacket(s, p), packet);
+        InetSocketAddress localHost = host;
+        if (started && localHost != null) {
+            packet.setSource(sourceId);
+            packet.setTarget(getTarget());
+            packet.setSequence(sequenceNumberSupplier.get());
+            handleSendResult(eventLoop.sendPacket(packet, localHost, logId));
         }
     }
 
     public void resendPacket(Packet packet) {
-        if (host != null) {
-            wrappedPacketSend((s, p) -> LifxSelectorUtil.resendPacket(s, p), packet);
+        InetSocketAddress localHost = host;
+        if (started && localHost != null) {
+            packet.setSource(sourceId);
+            packet.setTarget(getTarget());
+            handleSendResult(eventLoop.sendPacket(packet, localHost, logId));
         }
     }
 
-    private void wrappedPacketSend(BiFunction<LifxSelectorContext, Packet, Boolean> function, Packet packet) {
-        LifxSelectorContext localSelectorContext = selectorContext;
-        if (localSelectorContext != null) {
-            boolean result = false;
-            try {
-                lock.lock();
-                result = function.apply(localSelectorContext, packet);
-            } finally {
-                lock.unlock();
-                if (!result) {
-                    currentLightState.setOfflineByCommunicationError();
-                }
-            }
+    private MACAddress getTarget() {
+        MACAddress localMacAddress = macAddress;
+        return localMacAddress != null ? localMacAddress : BROADCAST_ADDRESS;
+    }
+
+    private void handleSendResult(boolean result) {
+        if (!result) {
+            currentLightState.setOfflineByCommunicationError();
         }
     }
 }
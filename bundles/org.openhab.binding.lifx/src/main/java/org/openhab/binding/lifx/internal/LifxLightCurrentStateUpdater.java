@@ -16,6 +16,9 @@ import static org.openhab.binding.lifx.internal.LifxBindingConstants.MIN_ZONE_IN
 import static org.openhab.binding.lifx.internal.LifxProduct.Feature.*;
 import static org.openhab.binding.lifx.internal.util.LifxMessageUtil.infraredToPercentType;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -24,6 +27,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.lifx.internal.LifxProduct.Features;
+import org.openhab.binding.lifx.internal.dto.Effect;
 import org.openhab.binding.lifx.internal.dto.GetColorZonesRequest;
 import org.openhab.binding.lifx.internal.dto.GetHevCycleRequest;
 import org.openhab.binding.lifx.internal.dto.GetLightInfraredRequest;
@@ -32,6 +36,8 @@ import org.openhab.binding.lifx.internal.dto.GetTileEffectRequest;
 import org.openhab.binding.lifx.internal.dto.GetWifiInfoRequest;
 import org.openhab.binding.lifx.internal.dto.HevCycleState;
 import org.openhab.binding.lifx.internal.dto.Packet;
+import org.openhab.binding.lifx.internal.dto.PowerState;
+import org.openhab.binding.lifx.internal.dto.SignalStrength;
 import org.openhab.binding.lifx.internal.dto.StateHevCycleResponse;
 import org.openhab.binding.lifx.internal.dto.StateLightInfraredResponse;
 import org.openhab.binding.lifx.internal.dto.StateLightPowerResponse;
@@ -42,30 +48,39 @@ import org.openhab.binding.lifx.internal.dto.StateTileEffectResponse;
 import org.openhab.binding.lifx.internal.dto.StateWifiInfoResponse;
 import org.openhab.binding.lifx.internal.fields.HSBK;
 import org.openhab.binding.lifx.internal.handler.LifxLightHandler.CurrentLightState;
+import org.openhab.binding.lifx.internal.listener.LifxLightStateListener;
 import org.openhab.core.library.types.PercentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link LifxLightCurrentStateUpdater} sends packets to a light in order to update the {@code currentLightState} to
- * the actual light state.
+ * the actual light state. Idle lights are polled less often, the polling interval is reset when the light state
+ * changes or a command is sent to the light.
  *
  * @author Wouter Born - Initial contribution
+ * @author openHAB Contributors - Adaptive polling interval
  */
 @NonNullByDefault
 public class LifxLightCurrentStateUpdater {
 
-    private static final int STATE_POLLING_INTERVAL = 3;
+    private static final Duration MIN_STATE_POLLING_INTERVAL = Duration.ofSeconds(3);
+    private static final Duration MAX_STATE_POLLING_INTERVAL = Duration.ofSeconds(30);
 
     private final Logger logger = LoggerFactory.getLogger(LifxLightCurrentStateUpdater.class);
 
     private final String logId;
     private final Features features;
     private final CurrentLightState currentLightState;
+    private final LifxLightState pendingLightState;
     private final ScheduledExecutorService scheduler;
     private final LifxLightCommunicationHandler communicationHandler;
 
     private final ReentrantLock lock = new ReentrantLock();
+    private final LifxPollingInterval pollingInterval = new LifxPollingInterval(MIN_STATE_POLLING_INTERVAL,
+            MAX_STATE_POLLING_INTERVAL);
+    private final LifxLightStateListener currentStateChangeListener = new StateChangeListener();
+    private final LifxLightStateListener pendingStateChangeListener = new CommandListener();
 
     private boolean wasOnline;
     private boolean updateSignalStrength;
@@ -76,6 +91,7 @@ public class LifxLightCurrentStateUpdater {
         this.logId = context.getLogId();
         this.features = context.getFeatures();
         this.currentLightState = context.getCurrentLightState();
+        this.pendingLightState = context.getPendingLightState();
         this.scheduler = context.getScheduler();
         this.communicationHandler = communicationHandler;
     }
@@ -93,6 +109,7 @@ public class LifxLightCurrentStateUpdater {
         } catch (Exception e) {
             logger.error("Error occurred while polling light state", e);
         } finally {
+            scheduleNextPoll(pollingInterval.next());
             lock.unlock();
         }
     }
@@ -105,10 +122,12 @@ public class LifxLightCurrentStateUpdater {
         try {
             lock.lock();
             communicationHandler.addResponsePacketListener(this::handleResponsePacket);
+            currentLightState.addListener(currentStateChangeListener);
+            pendingLightState.addListener(pendingStateChangeListener);
             ScheduledFuture<?> localStatePollingJob = statePollingJob;
             if (localStatePollingJob == null || localStatePollingJob.isCancelled()) {
-                statePollingJob = scheduler.scheduleWithFixedDelay(this::pollLightState, 0, STATE_POLLING_INTERVAL,
-                        TimeUnit.SECONDS);
+                pollingInterval.reset();
+                statePollingJob = scheduler.schedule(this::pollLightState, 0, TimeUnit.MILLISECONDS);
             }
         } catch (Exception e) {
             logger.error("Error occurred while starting light state updater", e);
@@ -121,6 +140,8 @@ public class LifxLightCurrentStateUpdater {
         try {
             lock.lock();
             communicationHandler.removeResponsePacketListener(this::handleResponsePacket);
+            currentLightState.removeListener(currentStateChangeListener);
+            pendingLightState.removeListener(pendingStateChangeListener);
             ScheduledFuture<?> localStatePollingJob = statePollingJob;
             if (localStatePollingJob != null && !localStatePollingJob.isCancelled()) {
                 localStatePollingJob.cancel(true);
@@ -133,6 +154,36 @@ public class LifxLightCurrentStateUpdater {
         }
     }
 
+    /**
+     * Schedules the next poll unless the updater is stopped. Must be called while holding the lock.
+     */
+    private void scheduleNextPoll(Duration delay) {
+        ScheduledFuture<?> localStatePollingJob = statePollingJob;
+        if (localStatePollingJob != null) {
+            statePollingJob = scheduler.schedule(this::pollLightState, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Resets the polling interval and polls the light sooner if its next poll is scheduled after the minimum polling
+     * interval.
+     */
+    private void speedUpPolling() {
+        try {
+            lock.lock();
+            pollingInterval.reset();
+            ScheduledFuture<?> localStatePollingJob = statePollingJob;
+            if (localStatePollingJob != null && localStatePollingJob
+                    .getDelay(TimeUnit.MILLISECONDS) > MIN_STATE_POLLING_INTERVAL.toMillis()) {
+                logger.trace("{} : Speeding up polling the state of the light", logId);
+                localStatePollingJob.cancel(false);
+                scheduleNextPoll(pollingInterval.next());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private void sendLightStateRequests() {
         communicationHandler.sendPacket(new GetRequest());
 
@@ -229,4 +280,88 @@ public class LifxLightCurrentStateUpdater {
     private void handleWifiInfoStatus(StateWifiInfoResponse packet) {
         currentLightState.setSignalStrength(packet.getSignalStrength());
     }
+
+    /**
+     * Speeds up polling when polling reveals a change of the light state. Signal strength changes are ignored because
+     * they fluctuate all the time.
+     */
+    private class StateChangeListener implements LifxLightStateListener {
+
+        private void handleChange(@Nullable Object oldValue, Object newValue) {
+            if (!Objects.equals(oldValue, newValue)) {
+                speedUpPolling();
+            }
+        }
+
+        @Override
+        public void handleColorsChange(HSBK[] oldColors, HSBK[] newColors) {
+            if (!Arrays.equals(oldColors, newColors)) {
+                speedUpPolling();
+            }
+        }
+
+        @Override
+        public void handlePowerStateChange(@Nullable PowerState oldPowerState, PowerState newPowerState) {
+            handleChange(oldPowerState, newPowerState);
+        }
+
+        @Override
+        public void handleHevCycleStateChange(@Nullable HevCycleState oldHevCycleState,
+                HevCycleState newHevCycleState) {
+            handleChange(oldHevCycleState, newHevCycleState);
+        }
+
+        @Override
+        public void handleInfraredChange(@Nullable PercentType oldInfrared, PercentType newInfrared) {
+            handleChange(oldInfrared, newInfrared);
+        }
+
+        @Override
+        public void handleSignalStrengthChange(@Nullable SignalStrength oldSignalStrength,
+                SignalStrength newSignalStrength) {
+        }
+
+        @Override
+        public void handleTileEffectChange(@Nullable Effect oldEffect, Effect newEffect) {
+            handleChange(oldEffect, newEffect);
+        }
+    }
+
+    /**
+     * Speeds up polling when a command changes the pending light state, so the result of the command is reported
+     * timely.
+     */
+    private class CommandListener implements LifxLightStateListener {
+
+        @Override
+        public void handleColorsChange(HSBK[] oldColors, HSBK[] newColors) {
+            speedUpPolling();
+        }
+
+        @Override
+        public void handlePowerStateChange(@Nullable PowerState oldPowerState, PowerState newPowerState) {
+            speedUpPolling();
+        }
+
+        @Override
+        public void handleHevCycleStateChange(@Nullable HevCycleState oldHevCycleState,
+                HevCycleState newHevCycleState) {
+            speedUpPolling();
+        }
+
+        @Override
+        public void handleInfraredChange(@Nullable PercentType oldInfrared, PercentType newInfrared) {
+            speedUpPolling();
+        }
+
+        @Override
+        public void handleSignalStrengthChange(@Nullable SignalStrength oldSignalStrength,
+                SignalStrength newSignalStrength) {
+        }
+
+        @Override
+        public void handleTileEffectChange(@Nullable Effect oldEffect, Effect newEffect) {
+            speedUpPolling();
+        }
+    }
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.lifx.internal;
+
+import static org.openhab.binding.lifx.internal.LifxBindingConstants.BINDING_ID;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.lifx.internal.dto.Packet;
+import org.openhab.binding.lifx.internal.util.LifxNetworkUtil;
+import org.openhab.binding.lifx.internal.util.LifxSelectorUtil;
+import org.openhab.binding.lifx.internal.util.LifxThrottlingUtil;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link LifxNetworkEventLoop} is the single UDP event loop shared by the communication handlers of all lights.
+ * One thread receives the packets of one datagram channel and dispatches them to the light that sent the request,
+ * identified by the source identifier the lights echo in their responses. Packets without source identifier are
+ * offered to all lights, which filter them by target MAC address and host.
+ *
+ * The loop is started when the first light registers and stopped when the last light unregisters.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = LifxNetworkEventLoop.class)
+public class LifxNetworkEventLoop {
+
+    private static final String LOG_ID = "Network";
+    private static final int MAX_SEND_RETRIES = 10;
+    private static final long SEND_RETRY_DELAY = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(LifxNetworkEventLoop.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, BiConsumer<Packet, InetSocketAddress>> packetConsumers = new ConcurrentHashMap<>();
+
+    private @Nullable Selector selector;
+    private @Nullable DatagramChannel channel;
+    private @Nullable Thread thread;
+
+    /**
+     * Registers the packet consumer of a light and starts the event loop if it is not yet running.
+     *
+     * @param sourceId the source identifier of the packets sent by the light
+     * @param packetConsumer consumes the packets received for the light on the event loop thread
+     * @return false if the source identifier is already used by another light
+     * @throws IOException if the event loop could not be started
+     */
+    public boolean register(long sourceId, BiConsumer<Packet, InetSocketAddress> packetConsumer) throws IOException {
+        try {
+            lock.lock();
+            if (packetConsumers.putIfAbsent(sourceId, packetConsumer) != null) {
+                return false;
+            }
+            if (thread == null) {
+                try {
+                    start();
+                } catch (IOException e) {
+                    packetConsumers.remove(sourceId);
+                    throw e;
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Unregisters the packet consumer of a light and stops the event loop when no other light is registered.
+     *
+     * @param sourceId the source identifier used for registering the light
+     */
+    public void unregister(long sourceId) {
+        try {
+            lock.lock();
+            packetConsumers.remove(sourceId);
+            if (packetConsumers.isEmpty()) {
+                stop();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        try {
+            lock.lock();
+            packetConsumers.clear();
+            stop();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("resource")
+    private void start() throws IOException {
+        int port = LifxNetworkUtil.getNewBroadcastPort();
+        Selector localSelector = Selector.open();
+        DatagramChannel localChannel = null;
+        try {
+            localChannel = DatagramChannel.open(StandardProtocolFamily.INET)
+                    .setOption(StandardSocketOptions.SO_REUSEADDR, true)
+                    .setOption(StandardSocketOptions.SO_BROADCAST, true);
+            localChannel.configureBlocking(false);
+            logger.debug("{} : Binding the channel of the event loop on port {}", LOG_ID, port);
+            localChannel.bind(new InetSocketAddress(port));
+            localChannel.register(localSelector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            if (localChannel != null) {
+                localChannel.close();
+            }
+            localSelector.close();
+            throw e;
+        }
+
+        DatagramChannel receiveChannel = localChannel;
+        Thread localThread = new Thread(() -> receiveAndHandlePackets(localSelector, receiveChannel),
+                "OH-binding-" + BINDING_ID + "-network");
+        localThread.setDaemon(true);
+
+        selector = localSelector;
+        channel = localChannel;
+        thread = localThread;
+        localThread.start();
+    }
+
+    private void stop() {
+        Thread localThread = thread;
+        if (localThread != null) {
+            logger.debug("{} : Stopping the event loop", LOG_ID);
+            thread = null;
+            channel = null;
+            LifxSelectorUtil.closeSelector(selector, LOG_ID);
+            selector = null;
+        }
+    }
+
+    private void receiveAndHandlePackets(Selector selector, DatagramChannel channel) {
+        logger.debug("{} : Started the event loop", LOG_ID);
+        ByteBuffer readBuffer = ByteBuffer.allocate(0);
+        while (selector.isOpen()) {
+            try {
+                selector.select();
+                selector.selectedKeys().clear();
+
+                int bufferSize = LifxNetworkUtil.getBufferSize();
+                if (readBuffer.capacity() != bufferSize) {
+                    readBuffer = ByteBuffer.allocate(bufferSize);
+                }
+
+                // drain all datagrams that arrived since the last selection
+                while (true) {
+                    readBuffer.clear();
+                    InetSocketAddress address = (InetSocketAddress) channel.receive(readBuffer);
+                    if (address == null) {
+                        break;
+                    } else if (LifxNetworkUtil.isRemoteAddress(address.getAddress())) {
+                        LifxSelectorUtil.supplyParsedPacketToConsumer(readBuffer, address, this::handlePacket,
+                                LOG_ID);
+                    }
+                }
+            } catch (ClosedSelectorException | ClosedChannelException e) {
+                break;
+            } catch (Exception e) {
+                logger.debug("{} while receiving packets in the event loop: {}", e.getClass().getSimpleName(),
+                        e.getMessage());
+            }
+        }
+        logger.debug("{} : Stopped the event loop", LOG_ID);
+    }
+
+    private void handlePacket(Packet packet, InetSocketAddress address) {
+        long source = packet.getSource();
+        if (source == 0) {
+            packetConsumers.values().forEach(consumer -> handlePacket(consumer, packet, address));
+        } else {
+            BiConsumer<Packet, InetSocketAddress> consumer = packetConsumers.get(source);
+            if (consumer != null) {
+                handlePacket(consumer, packet, address);
+            }
+        }
+    }
+
+    private void handlePacket(BiConsumer<Packet, InetSocketAddress> consumer, Packet packet,
+            InetSocketAddress address) {
+        try {
+            consumer.accept(packet, address);
+        } catch (RuntimeException e) {
+            logger.warn("{} while handling a packet received from '{}': {}", e.getClass().getSimpleName(), address,
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Broadcasts a packet on all network interfaces.
+     *
+     * @param packet the packet with source identifier and sequence number
+     * @param logId the identifier of the light used for logging
+     * @return true if the packet was sent to all broadcast addresses
+     */
+    public boolean broadcastPacket(Packet packet, String logId) {
+        packet.setTagged(true);
+        boolean success = true;
+        for (InetSocketAddress address : LifxNetworkUtil.getBroadcastAddresses()) {
+            try {
+                LifxThrottlingUtil.lock();
+                success = send(packet, address, logId) && success;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                LifxThrottlingUtil.unlock();
+            }
+        }
+        return success;
+    }
+
+    /**
+     * Sends a packet to a single light.
+     *
+     * @param packet the packet with source identifier, target and sequence number
+     * @param address the address of the light
+     * @param logId the identifier of the light used for logging
+     * @return true if the packet was sent
+     */
+    public boolean sendPacket(Packet packet, InetSocketAddress address, String logId) {
+        packet.setTagged(false);
+        try {
+            LifxThrottlingUtil.lock(packet.getTarget());
+            return send(packet, address, logId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            LifxThrottlingUtil.unlock(packet.getTarget());
+        }
+    }
+
+    private boolean send(Packet packet, InetSocketAddress address, String logId) throws InterruptedException {
+        DatagramChannel localChannel = channel;
+        if (localChannel == null) {
+            logger.debug("{} : Unable to send a packet while the event loop is stopped", logId);
+            return false;
+        }
+
+        try {
+            ByteBuffer bytes = packet.bytes();
+            for (int i = 0; i <= MAX_SEND_RETRIES; i++) {
+                // a non-blocking channel sends nothing while the socket send buffer is full
+                if (localChannel.send(bytes, address) > 0) {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace(
+                                "{} : Sent packet type '{}' to '{}' for '{}' with sequence '{}' and source '{}'",
+                                new Object[] { logId, packet.getClass().getSimpleName(), address.toString(),
+                                        packet.getTarget().getHex(), packet.getSequence(),
+                                        Long.toString(packet.getSource(), 16) });
+                    }
+                    return true;
+                }
+                Thread.sleep(SEND_RETRY_DELAY);
+            }
+            logger.debug("Failed to send packet after {} retries to the light ({})", MAX_SEND_RETRIES, logId);
+        } catch (IOException e) {
+            logger.debug("{} while sending a packet to the light ({}): {}", e.getClass().getSimpleName(), logId,
+                    e.getMessage());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.lifx.internal;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link LifxPollingInterval} provides the delays between the state polls of a light. The delay doubles after every
+ * poll up to the maximum delay, so idle lights are polled less often. It is reset to the minimum delay when the light
+ * state changes or a command is sent to the light.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class LifxPollingInterval {
+
+    private final Duration minimum;
+    private final Duration maximum;
+
+    private Duration delay;
+
+    public LifxPollingInterval(Duration minimum, Duration maximum) {
+        if (minimum.isNegative() || minimum.isZero() || maximum.compareTo(minimum) < 0) {
+            throw new IllegalArgumentException("Invalid polling interval: " + minimum + " to " + maximum);
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.delay = minimum;
+    }
+
+    /**
+     * Returns the delay until the next poll and backs off the delay of the poll after it.
+     *
+     * @return the delay until the next poll
+     */
+    public synchronized Duration next() {
+        Duration result = delay;
+        Duration doubled = delay.multipliedBy(2);
+        delay = doubled.compareTo(maximum) < 0 ? doubled : maximum;
+        return result;
+    }
+
+    /**
+     * Resets the delay to the minimum delay.
+     */
+    public synchronized void reset() {
+        delay = minimum;
+    }
+}
@@ -40,6 +40,7 @@ import org.openhab.binding.lifx.internal.LifxLightOnlineStateUpdater;
 import org.openhab.binding.lifx.internal.LifxLightPropertiesUpdater;
 import org.openhab.binding.lifx.internal.LifxLightState;
 import org.openhab.binding.lifx.internal.LifxLightStateChanger;
+import org.openhab.binding.lifx.internal.LifxNetworkEventLoop;
 import org.openhab.binding.lifx.internal.LifxProduct;
 import org.openhab.binding.lifx.internal.LifxProduct.Features;
 import org.openhab.binding.lifx.internal.LifxProduct.TemperatureRange;
@@ -100,6 +101,7 @@ public class LifxLightHandler extends BaseThingHandler {
 
     private final LifxChannelFactory channelFactory;
     private final LifxStateDescriptionProvider stateDescriptionProvider;
+    private final LifxNetworkEventLoop eventLoop;
 
     private @NonNullByDefault({}) Features features;
 
@@ -267,10 +269,11 @@ public class LifxLightHandler extends BaseThingHandler {
     }
 
     public LifxLightHandler(Thing thing, LifxChannelFactory channelFactory,
-            LifxStateDescriptionProvider stateDescriptionProvider) {
+            LifxStateDescriptionProvider stateDescriptionProvider, LifxNetworkEventLoop eventLoop) {
         super(thing);
         this.channelFactory = channelFactory;
         this.stateDescriptionProvider = stateDescriptionProvider;
+        this.eventLoop = eventLoop;
     }
 
     @Override
@@ -308,7 +311,7 @@ public class LifxLightHandler extends BaseThingHandler {
             LifxLightContext context = new LifxLightContext(logId, features, configuration, currentLightState,
                     pendingLightState, scheduler);
 
-            communicationHandler = new LifxLightCommunicationHandler(context);
+            communicationHandler = new LifxLightCommunicationHandler(context, eventLoop);
             currentStateUpdater = new LifxLightCurrentStateUpdater(context, communicationHandler);
             onlineStateUpdater = new LifxLightOnlineStateUpdater(context, communicationHandler);
             propertiesUpdater = new LifxLightPropertiesUpdater(context, communicationHandler);
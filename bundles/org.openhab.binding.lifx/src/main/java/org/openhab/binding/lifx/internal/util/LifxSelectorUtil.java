@@ -188,7 +188,7 @@ public class LifxSelectorUtil {
         }
     }
 
-    private static void supplyParsedPacketToConsumer(ByteBuffer readBuffer, InetSocketAddress address,
+    public static void supplyParsedPacketToConsumer(ByteBuffer readBuffer, InetSocketAddress address,
             BiConsumer<Packet, InetSocketAddress> packetConsumer, String logId) {
         int messageLength = readBuffer.position();
         readBuffer.rewind();
@@ -251,21 +251,6 @@ public class LifxSelectorUtil {
         return sendPacket(context, packet, host, UNICAST);
     }
 
-    public static boolean resendPacket(@Nullable LifxSelectorContext context, Packet packet) {
-        if (context == null) {
-            return false;
-        }
-
-        InetSocketAddress host = context.getHost();
-        if (host == null) {
-            return false;
-        }
-
-        packet.setSource(context.getSourceId());
-        packet.setTarget(context.getMACAddress());
-        return sendPacket(context, packet, host, UNICAST);
-    }
-
     @SuppressWarnings("resource")
     private static boolean sendPacket(@Nullable LifxSelectorContext context, Packet packet, InetSocketAddress address,
             CastType castType) {
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.lifx.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link LifxPollingInterval}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class LifxPollingIntervalTest {
+
+    private final LifxPollingInterval interval = new LifxPollingInterval(Duration.ofSeconds(3),
+            Duration.ofSeconds(30));
+
+    @Test
+    public void delayBacksOffUpToMaximum() {
+        assertThat(interval.next(), is(Duration.ofSeconds(3)));
+        assertThat(interval.next(), is(Duration.ofSeconds(6)));
+        assertThat(interval.next(), is(Duration.ofSeconds(12)));
+        assertThat(interval.next(), is(Duration.ofSeconds(24)));
+        assertThat(interval.next(), is(Duration.ofSeconds(30)));
+        assertThat(interval.next(), is(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    public void resetRestartsAtMinimum() {
+        interval.next();
+        interval.next();
+        interval.next();
+
+        interval.reset();
+
+        assertThat(interval.next(), is(Duration.ofSeconds(3)));
+        assertThat(interval.next(), is(Duration.ofSeconds(6)));
+    }
+
+    @Test
+    public void equalMinimumAndMaximumIsFixedDelay() {
+        LifxPollingInterval fixedInterval = new LifxPollingInterval(Duration.ofSeconds(5), Duration.ofSeconds(5));
+        assertThat(fixedInterval.next(), is(Duration.ofSeconds(5)));
+        assertThat(fixedInterval.next(), is(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void invalidIntervalIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LifxPollingInterval(Duration.ZERO, Duration.ofSeconds(30)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LifxPollingInterval(Duration.ofSeconds(30), Duration.ofSeconds(3)));
+    }
+}
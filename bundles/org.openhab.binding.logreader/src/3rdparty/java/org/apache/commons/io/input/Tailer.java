@@ -494,6 +494,15 @@ public class Tailer implements Runnable {
         return delayMillis;
     }
 
+    /**
+     * Waits until the file should be checked again for new content. By default sleeps for the configured delay.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    protected void waitForChanges() throws InterruptedException {
+        Thread.sleep(delayMillis);
+    }
+
     /**
      * Follows changes in the file, calling the TailerListener's handle method for each new line.
      */
@@ -569,7 +578,7 @@ public class Tailer implements Runnable {
                 if (reOpen && reader != null) {
                     reader.close();
                 }
-                Thread.sleep(delayMillis);
+                waitForChanges();
                 if (getRun() && reOpen) {
                     reader = new RandomAccessFile(file, RAF_MODE);
                     reader.seek(position);
@@ -18,14 +18,15 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.logreader.internal.filereader.FileTailer;
 import org.openhab.binding.logreader.internal.handler.LogHandler;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * The {@link LogReaderHandlerFactory} is responsible for creating things and thing
@@ -39,6 +40,13 @@ public class LogReaderHandlerFactory extends BaseThingHandlerFactory {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Set.of(THING_READER);
 
+    private final LogTailService tailService;
+
+    @Activate
+    public LogReaderHandlerFactory(final @Reference LogTailService tailService) {
+        this.tailService = tailService;
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -49,7 +57,7 @@ public class LogReaderHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_READER)) {
-            return new LogHandler(thing, new FileTailer());
+            return new LogHandler(thing, tailService);
         }
 
         return null;
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.logreader.internal.filereader.FileTailer;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+import org.openhab.binding.logreader.internal.searchengine.CombinedPatterns;
+import org.openhab.binding.logreader.internal.searchengine.LineMatches;
+import org.openhab.binding.logreader.internal.searchengine.SearchEngine;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binding wide service which reads each log file only once, no matter how many things are watching it.
+ * Every line is searched once with the combined patterns of all subscribers and the result is delivered to each of
+ * them.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(service = LogTailService.class)
+@NonNullByDefault
+public class LogTailService {
+    private final Logger logger = LoggerFactory.getLogger(LogTailService.class);
+
+    private final Map<String, SharedFile> files = new HashMap<>();
+
+    /**
+     * Listener of a shared log file, which receives every line together with its search result.
+     */
+    public interface LineListener extends FileReaderListener {
+
+        /**
+         * This method is called when new line is detected.
+         *
+         * @param line the line.
+         * @param matches search result of the line against the combined patterns of all listeners of the file.
+         */
+        void handle(String line, LineMatches matches);
+    }
+
+    /**
+     * Subscribe to the lines of a log file. The file reader is started with the first subscription of the file, later
+     * subscriptions share it and its refresh rate.
+     *
+     * @param filePath file to read.
+     * @param refreshRate how often the file is read if no change notification is received.
+     * @param listener listener to call for every line and file event.
+     * @param engines search engines of the listener, which are included in the combined search.
+     * @throws FileReaderException if the file reader cannot be started.
+     */
+    public synchronized void subscribe(String filePath, long refreshRate, LineListener listener,
+            List<SearchEngine> engines) throws FileReaderException {
+        SharedFile file = files.get(filePath);
+        if (file == null) {
+            file = new SharedFile(filePath);
+            file.addSubscriber(listener, engines);
+            file.start(refreshRate);
+            files.put(filePath, file);
+        } else {
+            logger.debug("Sharing reader of file '{}'", filePath);
+            file.addSubscriber(listener, engines);
+        }
+    }
+
+    /**
+     * Unsubscribe from a log file. The file reader is stopped with the last subscription of the file.
+     *
+     * @param filePath file to unsubscribe from.
+     * @param listener listener to remove.
+     */
+    public synchronized void unsubscribe(String filePath, LineListener listener) {
+        SharedFile file = files.get(filePath);
+        if (file != null && file.removeSubscriber(listener)) {
+            files.remove(filePath);
+            file.stop();
+        }
+    }
+
+    @Deactivate
+    public synchronized void dispose() {
+        files.values().forEach(SharedFile::stop);
+        files.clear();
+    }
+
+    private record Subscriber(LineListener listener, List<SearchEngine> engines) {
+    }
+
+    private class SharedFile implements FileReaderListener {
+        private final String filePath;
+        private final FileTailer fileReader = new FileTailer();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile CombinedPatterns patterns = new CombinedPatterns(List.of());
+
+        SharedFile(String filePath) {
+            this.filePath = filePath;
+        }
+
+        void start(long refreshRate) throws FileReaderException {
+            logger.debug("Start reader of file '{}'", filePath);
+            fileReader.registerListener(this);
+            fileReader.start(filePath, refreshRate);
+        }
+
+        void stop() {
+            logger.debug("Stop reader of file '{}'", filePath);
+            fileReader.unregisterListener(this);
+            fileReader.stop();
+        }
+
+        void addSubscriber(LineListener listener, List<SearchEngine> engines) {
+            subscribers.removeIf(subscriber -> subscriber.listener() == listener);
+            subscribers.add(new Subscriber(listener, engines));
+            updatePatterns();
+        }
+
+        /**
+         * @return true if there are no subscribers left.
+         */
+        boolean removeSubscriber(LineListener listener) {
+            subscribers.removeIf(subscriber -> subscriber.listener() == listener);
+            updatePatterns();
+            return subscribers.isEmpty();
+        }
+
+        private void updatePatterns() {
+            List<SearchEngine> engines = new ArrayList<>();
+            subscribers.forEach(subscriber -> engines.addAll(subscriber.engines()));
+            patterns = new CombinedPatterns(engines);
+        }
+
+        @Override
+        public void fileNotFound() {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.listener().fileNotFound();
+            }
+        }
+
+        @Override
+        public void fileRotated() {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.listener().fileRotated();
+            }
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            if (line == null) {
+                return;
+            }
+            LineMatches matches = patterns.match(line);
+            for (Subscriber subscriber : subscribers) {
+                try {
+                    subscriber.listener().handle(line, matches);
+                } catch (Exception e) {
+                    // catch all exceptions give all handlers a fair chance of handling the messages
+                    logger.debug("An exception occurred while calling the FileReaderListener. ", e);
+                }
+            }
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.listener().handle(ex);
+            }
+        }
+    }
+}
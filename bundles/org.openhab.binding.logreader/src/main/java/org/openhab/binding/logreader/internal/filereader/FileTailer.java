@@ -13,8 +13,17 @@
 package org.openhab.binding.logreader.internal.filereader;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.input.Tailer;
 import org.apache.commons.io.input.TailerListener;
@@ -27,7 +36,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Apache Tailer based log file reader implementation.
+ * Apache Tailer based log file reader implementation. The tailer is woken up by file system change notifications of
+ * the log file and only falls back to polling with the refresh rate if no notification is received.
  *
  * @author Pauli Anttila - Initial contribution
  */
@@ -71,7 +81,7 @@ public class FileTailer extends AbstractLogFileReader implements LogFileReader {
 
     @Override
     public void start(String filePath, long refreshRate) throws FileReaderException {
-        Tailer localTailer = new Tailer(new File(filePath), logListener, refreshRate, true, false, true);
+        Tailer localTailer = new WatchingTailer(new File(filePath), logListener, refreshRate);
         executor = Executors.newSingleThreadExecutor();
         try {
             logger.debug("Start executor");
@@ -94,4 +104,86 @@ public class FileTailer extends AbstractLogFileReader implements LogFileReader {
         }
         logger.debug("Shutdown complite");
     }
+
+    /**
+     * Tailer which waits for a change notification of the file instead of sleeping for the whole delay.
+     */
+    private class WatchingTailer extends Tailer {
+        private final @Nullable WatchService watchService;
+        private final @Nullable Path fileName;
+
+        WatchingTailer(File file, TailerListener listener, long delayMillis) {
+            super(file, listener, delayMillis, true, false, true);
+            Path path = file.toPath().toAbsolutePath();
+            this.fileName = path.getFileName();
+            this.watchService = createWatchService(path.getParent());
+        }
+
+        private @Nullable WatchService createWatchService(@Nullable Path directory) {
+            if (directory == null) {
+                return null;
+            }
+            WatchService watchService = null;
+            try {
+                watchService = FileSystems.getDefault().newWatchService();
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                return watchService;
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.debug("Cannot watch directory '{}', polling the log file instead: {}", directory,
+                        e.getMessage());
+                closeWatchService(watchService);
+                return null;
+            }
+        }
+
+        @Override
+        protected void waitForChanges() throws InterruptedException {
+            WatchService watchService = this.watchService;
+            if (watchService == null) {
+                super.waitForChanges();
+                return;
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(getDelay());
+            long remaining;
+            try {
+                while (getRun() && (remaining = deadline - System.nanoTime()) > 0) {
+                    WatchKey key = watchService.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (key == null) {
+                        return;
+                    }
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                                || event.context().equals(fileName);
+                    }
+                    key.reset();
+                    if (changed) {
+                        return;
+                    }
+                }
+            } catch (ClosedWatchServiceException e) {
+                super.waitForChanges();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                closeWatchService(watchService);
+            }
+        }
+
+        private void closeWatchService(@Nullable WatchService watchService) {
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    logger.debug("Failed to close watch service: {}", e.getMessage());
+                }
+            }
+        }
+    }
 }
@@ -15,13 +15,15 @@ package org.openhab.binding.logreader.internal.handler;
 import static org.openhab.binding.logreader.internal.LogReaderBindingConstants.*;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.logreader.internal.LogTailService;
 import org.openhab.binding.logreader.internal.config.LogReaderConfiguration;
-import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
-import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.openhab.binding.logreader.internal.searchengine.CombinedPatterns;
+import org.openhab.binding.logreader.internal.searchengine.LineMatches;
 import org.openhab.binding.logreader.internal.searchengine.SearchEngine;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
@@ -45,20 +47,21 @@ import org.slf4j.LoggerFactory;
  * @author Pauli Anttila - Rewrite
  */
 @NonNullByDefault
-public class LogHandler extends BaseThingHandler implements FileReaderListener {
+public class LogHandler extends BaseThingHandler implements LogTailService.LineListener {
     private final Logger logger = LoggerFactory.getLogger(LogHandler.class);
 
-    private final LogFileReader fileReader;
+    private final LogTailService tailService;
 
     private @NonNullByDefault({}) LogReaderConfiguration configuration;
 
     private @Nullable SearchEngine errorEngine;
     private @Nullable SearchEngine warningEngine;
     private @Nullable SearchEngine customEngine;
+    private @Nullable CombinedPatterns patterns;
 
-    public LogHandler(Thing thing, LogFileReader fileReader) {
+    public LogHandler(Thing thing, LogTailService tailService) {
         super(thing);
-        this.fileReader = fileReader;
+        this.tailService = tailService;
     }
 
     @Override
@@ -97,12 +100,17 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
 
         clearCounters();
 
+        SearchEngine warningEngine, errorEngine, customEngine;
         try {
             warningEngine = new SearchEngine(configuration.warningPatterns, configuration.warningBlacklistingPatterns);
             errorEngine = new SearchEngine(configuration.errorPatterns, configuration.errorBlacklistingPatterns);
             String customPatterns = configuration.customPatterns;
             customEngine = new SearchEngine(customPatterns != null ? customPatterns : "",
                     configuration.customBlacklistingPatterns);
+            this.warningEngine = warningEngine;
+            this.errorEngine = errorEngine;
+            this.customEngine = customEngine;
+            this.patterns = new CombinedPatterns(List.of(errorEngine, warningEngine, customEngine));
         } catch (PatternSyntaxException e) {
             logger.debug("Illegal search pattern syntax '{}'. ", e.getMessage(), e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, e.getMessage());
@@ -112,8 +120,8 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
         logger.debug("Start file reader");
 
         try {
-            fileReader.registerListener(this);
-            fileReader.start(configuration.filePath, configuration.refreshRate);
+            tailService.subscribe(configuration.filePath, configuration.refreshRate, this,
+                    List.of(errorEngine, warningEngine, customEngine));
             updateStatus(ThingStatus.ONLINE);
         } catch (Exception e) {
             logger.debug("Exception occurred during initalization: {}. ", e.getMessage(), e);
@@ -162,8 +170,10 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
 
     private void shutdown() {
         logger.debug("Stop file reader");
-        fileReader.unregisterListener(this);
-        fileReader.stop();
+        LogReaderConfiguration configuration = this.configuration;
+        if (configuration != null) {
+            tailService.unsubscribe(configuration.filePath, this);
+        }
     }
 
     @Override
@@ -184,21 +194,32 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
             return;
         }
 
+        CombinedPatterns patterns = this.patterns;
+        if (patterns != null) {
+            handle(line, patterns.match(line));
+        }
+    }
+
+    @Override
+    public void handle(String line, LineMatches matches) {
         if (thing.getStatus() != ThingStatus.ONLINE) {
             updateStatus(ThingStatus.ONLINE);
         }
 
-        if (errorEngine != null && errorEngine.isMatching(line)) {
+        SearchEngine errorEngine = this.errorEngine;
+        SearchEngine warningEngine = this.warningEngine;
+        SearchEngine customEngine = this.customEngine;
+        if (errorEngine != null && errorEngine.isMatching(matches)) {
             updateChannelIfLinked(CHANNEL_ERRORS, new DecimalType(errorEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTERROR, new StringType(line));
             triggerChannel(CHANNEL_NEWERROR, line);
         }
-        if (warningEngine != null && warningEngine.isMatching(line)) {
+        if (warningEngine != null && warningEngine.isMatching(matches)) {
             updateChannelIfLinked(CHANNEL_WARNINGS, new DecimalType(warningEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTWARNING, new StringType(line));
             triggerChannel(CHANNEL_NEWWARNING, line);
         }
-        if (customEngine != null && customEngine.isMatching(line)) {
+        if (customEngine != null && customEngine.isMatching(matches)) {
             updateChannelIfLinked(CHANNEL_CUSTOMEVENTS, new DecimalType(customEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTCUSTOMEVENT, new StringType(line));
             triggerChannel(CHANNEL_NEWCUSTOM, line);
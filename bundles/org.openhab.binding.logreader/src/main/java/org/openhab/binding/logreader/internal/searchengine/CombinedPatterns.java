@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Combines the distinct search patterns of several {@link SearchEngine}s into one alternation, so that a line which
+ * does not match any of them is rejected by a single regular expression search.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class CombinedPatterns {
+    // back references are numbered per pattern and cannot be combined into one alternation
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\([1-9]|k<)");
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<Pattern> patterns = new ArrayList<>();
+    private final boolean[] combinedIndexes;
+    private final @Nullable Pattern combined;
+
+    /**
+     * Builds the combined pattern from the search and blacklisting patterns of the given engines.
+     *
+     * @param engines search engines to combine.
+     */
+    public CombinedPatterns(Collection<SearchEngine> engines) {
+        for (SearchEngine engine : engines) {
+            for (Pattern pattern : engine.getPatterns()) {
+                if (!indexes.containsKey(pattern.pattern())) {
+                    indexes.put(pattern.pattern(), patterns.size());
+                    patterns.add(pattern);
+                }
+            }
+        }
+        combinedIndexes = new boolean[patterns.size()];
+        StringBuilder alternation = new StringBuilder();
+        for (int i = 0; i < patterns.size(); i++) {
+            String pattern = patterns.get(i).pattern();
+            if (!BACK_REFERENCE.matcher(pattern).find()) {
+                combinedIndexes[i] = true;
+                if (!alternation.isEmpty()) {
+                    alternation.append('|');
+                }
+                alternation.append("(?:").append(pattern).append(')');
+            }
+        }
+        combined = compile(alternation);
+    }
+
+    private @Nullable Pattern compile(StringBuilder alternation) {
+        if (alternation.isEmpty()) {
+            return null;
+        }
+        try {
+            return Pattern.compile(alternation.toString());
+        } catch (PatternSyntaxException e) {
+            // e.g. the same named group in several patterns, search all patterns separately
+            for (int i = 0; i < combinedIndexes.length; i++) {
+                combinedIndexes[i] = false;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Searches the line with the combined pattern. The separate patterns are only evaluated on demand, if the combined
+     * pattern was found.
+     *
+     * @param line line to search.
+     * @return the search result of the line.
+     */
+    public LineMatches match(String line) {
+        Pattern combined = this.combined;
+        boolean anyCombinedFound = combined == null || combined.matcher(line).find();
+        return new LineMatches(this, line, anyCombinedFound);
+    }
+
+    int indexOf(Pattern pattern) {
+        Integer index = indexes.get(pattern.pattern());
+        return index != null ? index : -1;
+    }
+
+    int size() {
+        return patterns.size();
+    }
+
+    Pattern get(int index) {
+        return patterns.get(index);
+    }
+
+    boolean isCombined(int index) {
+        return combinedIndexes[index];
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Search result of a single line against {@link CombinedPatterns}. Each distinct pattern is evaluated at most once per
+ * line, no matter how many search engines use it.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class LineMatches {
+    private static final byte UNKNOWN = 0;
+    private static final byte FOUND = 1;
+    private static final byte NOT_FOUND = 2;
+
+    private final CombinedPatterns patterns;
+    private final String line;
+    private final boolean anyCombinedFound;
+    private final byte[] results;
+
+    LineMatches(CombinedPatterns patterns, String line, boolean anyCombinedFound) {
+        this.patterns = patterns;
+        this.line = line;
+        this.anyCombinedFound = anyCombinedFound;
+        this.results = new byte[patterns.size()];
+    }
+
+    /**
+     * Check if one of the patterns is found in the line.
+     *
+     * @param searchPatterns patterns to check.
+     * @return true if one of the patterns is found.
+     */
+    public boolean isAnyFound(List<Pattern> searchPatterns) {
+        for (Pattern pattern : searchPatterns) {
+            if (isFound(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isFound(Pattern pattern) {
+        int index = patterns.indexOf(pattern);
+        if (index < 0) {
+            return pattern.matcher(line).find();
+        }
+        if (!anyCombinedFound && patterns.isCombined(index)) {
+            return false;
+        }
+        if (results[index] == UNKNOWN) {
+            results[index] = patterns.get(index).matcher(line).find() ? FOUND : NOT_FOUND;
+        }
+        return results[index] == FOUND;
+    }
+}
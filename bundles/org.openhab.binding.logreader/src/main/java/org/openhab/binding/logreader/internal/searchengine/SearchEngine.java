@@ -62,6 +62,31 @@ public class SearchEngine {
         return false;
     }
 
+    /**
+     * Check if data is matching to one of the provided search patterns, using the result of a combined search.
+     *
+     * @param matches search result of the data against the combined patterns of all search engines.
+     * @return true if one of the search patterns found.
+     */
+    public boolean isMatching(LineMatches matches) {
+        if (matches.isAnyFound(matchers) && !matches.isAnyFound(blacklistingMatchers)) {
+            matchCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the search and blacklisting patterns of this search engine.
+     *
+     * @return list of precompiled patterns.
+     */
+    public List<Pattern> getPatterns() {
+        List<Pattern> patterns = new ArrayList<>(matchers);
+        patterns.addAll(blacklistingMatchers);
+        return patterns;
+    }
+
     public long getMatchCount() {
         return matchCount;
     }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.searchengine.LineMatches;
+import org.openhab.binding.logreader.internal.searchengine.SearchEngine;
+
+/**
+ * Tests for {@link LogTailService}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class LogTailServiceTest {
+    private static final long REFRESH_RATE = 50;
+    private static final long TIMEOUT_MS = 5000;
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+    private @NonNullByDefault({}) String filePath;
+    private final LogTailService service = new LogTailService();
+
+    private static class RecordingListener implements LogTailService.LineListener {
+        private final SearchEngine engine;
+        private final List<String> lines = new CopyOnWriteArrayList<>();
+        private final List<String> matchingLines = new CopyOnWriteArrayList<>();
+
+        RecordingListener(String patterns, @Nullable String blacklistingPatterns) {
+            engine = new SearchEngine(patterns, blacklistingPatterns);
+        }
+
+        @Override
+        public void fileNotFound() {
+        }
+
+        @Override
+        public void fileRotated() {
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            fail("Shared file readers must deliver the search result of the line");
+        }
+
+        @Override
+        public void handle(String line, LineMatches matches) {
+            lines.add(line);
+            if (engine.isMatching(matches)) {
+                matchingLines.add(line);
+            }
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path file = tempDir.resolve("openhab.log");
+        Files.createFile(file);
+        filePath = file.toString();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.dispose();
+    }
+
+    private void append(String... lines) throws IOException {
+        Files.write(Path.of(filePath), List.of(lines), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * The reader starts at the end of the file, so append until it is known to be reading.
+     */
+    private void awaitReading(RecordingListener listener) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (listener.lines.isEmpty()) {
+            assertTrue(System.currentTimeMillis() < deadline, "File reader did not start");
+            append("startup");
+            Thread.sleep(REFRESH_RATE);
+        }
+    }
+
+    private void awaitLines(List<String> lines, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (lines.size() < count) {
+            assertTrue(System.currentTimeMillis() < deadline, "Expected " + count + " lines: " + lines);
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void sharedReaderSearchesLinesForAllListeners() throws Exception {
+        RecordingListener errors = new RecordingListener("ERROR", "Ignored");
+        RecordingListener warnings = new RecordingListener("WARN|ERROR \\d+", null);
+        service.subscribe(filePath, REFRESH_RATE, errors, List.of(errors.engine));
+        service.subscribe(filePath, REFRESH_RATE, warnings, List.of(warnings.engine));
+        awaitReading(warnings);
+        awaitLines(errors.lines, warnings.lines.size());
+        int offset = warnings.lines.size();
+
+        append("[INFO ] started", "[ERROR] Ignored failure", "[WARN ] slow", "[ERROR] 42 failed");
+        awaitLines(errors.lines, offset + 4);
+        awaitLines(warnings.lines, offset + 4);
+
+        assertEquals(List.of("[ERROR] Ignored failure", "[WARN ] slow", "[ERROR] 42 failed"),
+                warnings.lines.subList(offset + 1, offset + 4));
+        assertEquals(List.of("[ERROR] 42 failed"), errors.matchingLines);
+        assertEquals(List.of("[WARN ] slow"), warnings.matchingLines);
+        assertEquals(1, errors.engine.getMatchCount());
+        assertEquals(1, warnings.engine.getMatchCount());
+    }
+
+    @Test
+    public void readerKeepsRunningUntilLastListenerUnsubscribes() throws Exception {
+        RecordingListener first = new RecordingListener("ERROR", null);
+        RecordingListener second = new RecordingListener("ERROR", null);
+        service.subscribe(filePath, REFRESH_RATE, first, List.of(first.engine));
+        service.subscribe(filePath, REFRESH_RATE, second, List.of(second.engine));
+        awaitReading(first);
+
+        service.unsubscribe(filePath, first);
+        append("[ERROR] after first left");
+        awaitLines(second.matchingLines, 1);
+        assertEquals(List.of("[ERROR] after first left"), second.matchingLines);
+        int firstCount = first.lines.size();
+
+        service.unsubscribe(filePath, second);
+        int secondCount = second.lines.size();
+        append("[ERROR] after all left");
+        Thread.sleep(10 * REFRESH_RATE);
+
+        assertEquals(firstCount, first.lines.size());
+        assertEquals(secondCount, second.lines.size());
+        assertTrue(first.matchingLines.isEmpty());
+    }
+
+    @Test
+    public void resubscribingReplacesSearchEngines() throws Exception {
+        RecordingListener listener = new RecordingListener("ERROR", null);
+        SearchEngine warnings = new SearchEngine("WARN", null);
+        service.subscribe(filePath, REFRESH_RATE, listener, List.of(warnings));
+        service.subscribe(filePath, REFRESH_RATE, listener, List.of(listener.engine));
+        awaitReading(listener);
+        int offset = listener.lines.size();
+
+        append("[WARN ] slow", "[ERROR] failed");
+        awaitLines(listener.lines, offset + 2);
+
+        assertEquals(List.of("[WARN ] slow", "[ERROR] failed"), listener.lines.subList(offset, offset + 2));
+        assertEquals(List.of("[ERROR] failed"), listener.matchingLines);
+    }
+}
@@ -42,6 +42,7 @@ import org.openhab.binding.loxone.internal.types.LxConfig;
 import org.openhab.binding.loxone.internal.types.LxErrorCode;
 import org.openhab.binding.loxone.internal.types.LxResponse;
 import org.openhab.binding.loxone.internal.types.LxUuid;
+import org.openhab.binding.loxone.internal.types.LxValueStateTable;
 import org.openhab.binding.loxone.internal.types.LxWsBinaryHeader;
 import org.openhab.binding.loxone.internal.types.LxWsSecurityType;
 import org.openhab.core.common.ThreadPoolManager;
@@ -83,6 +84,7 @@ public class LxWebSocket {
     private boolean httpsSession = false;
     private ScheduledFuture<?> timeout;
     private LxWsBinaryHeader header;
+    private final LxValueStateTable valueStates = new LxValueStateTable();
     private LxWsSecurity security;
     private boolean awaitingConfiguration = false;
     private final Lock webSocketLock = new ReentrantLock();
@@ -241,9 +243,11 @@ public class LxWebSocket {
                     case EVENT_TABLE_OF_VALUE_STATES:
                         stopResponseTimeout();
                         while (length > 0) {
-                            Double value = ByteBuffer.wrap(data, offset + 16, 8).order(ByteOrder.LITTLE_ENDIAN)
-                                    .getDouble();
-                            thingHandler.queueStateUpdate(new LxUuid(data, offset), value);
+                            // pass on only states that are new or changed their value
+                            int slot = valueStates.update(data, offset);
+                            if (slot >= 0) {
+                                thingHandler.queueStateUpdate(valueStates.getUuid(slot), valueStates.getValue(slot));
+                            }
                             offset += 24;
                             length -= 24;
                         }
@@ -292,6 +296,7 @@ public class LxWebSocket {
             awaitingConfiguration = false;
             stopResponseTimeout();
             thingHandler.clearConfiguration();
+            valueStates.clear();
 
             LxConfig config = gson.fromJson(msg, LxConfig.class);
             config.finalize(thingHandler);
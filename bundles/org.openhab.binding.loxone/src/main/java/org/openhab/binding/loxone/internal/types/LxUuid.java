@@ -13,8 +13,6 @@
 package org.openhab.binding.loxone.internal.types;
 
 import java.lang.reflect.Type;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
@@ -56,15 +54,68 @@ public class LxUuid {
         this.uuid = init(uuid);
     }
 
+    /**
+     * Create a new {@link LxUuid} object from a binary UUID received in an event table.
+     *
+     * @param data buffer with received message
+     * @param offset offset in bytes at which the UUID starts
+     */
     public LxUuid(byte[] data, int offset) {
-        String id = String.format("%08x-%04x-%04x-%02x%02x%02x%02x%02x%02x%02x%02x",
-                ByteBuffer.wrap(data, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt(),
-                ByteBuffer.wrap(data, offset + 4, 2).order(ByteOrder.LITTLE_ENDIAN).getShort(),
-                ByteBuffer.wrap(data, offset + 6, 2).order(ByteOrder.LITTLE_ENDIAN).getShort(), data[offset + 8],
-                data[offset + 9], data[offset + 10], data[offset + 11], data[offset + 12], data[offset + 13],
-                data[offset + 14], data[offset + 15]);
+        this(getHighBits(data, offset), getLowBits(data, offset));
+    }
+
+    /**
+     * Create a new {@link LxUuid} object from the raw 128 bits of a binary UUID.
+     *
+     * @param high first 32 bit part followed by the two 16 bit parts of the UUID, see {@link #getHighBits}
+     * @param low last 8 bytes of the UUID, see {@link #getLowBits}
+     */
+    public LxUuid(long high, long low) {
+        String id = toHex(high >>> 32, 8) + "-" + toHex(high >>> 16 & 0xffff, 4) + "-" + toHex(high & 0xffff, 4) + "-"
+                + toHex(low, 16);
         uuidOriginal = id;
-        this.uuid = init(id);
+        uuid = id.toUpperCase();
+    }
+
+    /**
+     * Get the upper 64 bits of a binary UUID. The first 32 bit and the two following 16 bit parts are little endian
+     * encoded.
+     *
+     * @param data buffer with received message
+     * @param offset offset in bytes at which the UUID starts
+     * @return upper 64 bits of the UUID
+     */
+    public static long getHighBits(byte[] data, int offset) {
+        return getLittleEndian(data, offset, 4) << 32 | getLittleEndian(data, offset + 4, 2) << 16
+                | getLittleEndian(data, offset + 6, 2);
+    }
+
+    /**
+     * Get the lower 64 bits of a binary UUID. These 8 bytes are taken in their received order.
+     *
+     * @param data buffer with received message
+     * @param offset offset in bytes at which the UUID starts
+     * @return lower 64 bits of the UUID
+     */
+    public static long getLowBits(byte[] data, int offset) {
+        long bits = 0;
+        for (int i = offset + 8; i < offset + 16; i++) {
+            bits = bits << 8 | (data[i] & 0xff);
+        }
+        return bits;
+    }
+
+    static long getLittleEndian(byte[] data, int offset, int length) {
+        long value = 0;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            value = value << 8 | (data[i] & 0xff);
+        }
+        return value;
+    }
+
+    private static String toHex(long value, int digits) {
+        String hex = Long.toHexString(value);
+        return hex.length() < digits ? "0".repeat(digits - hex.length()) + hex : hex;
     }
 
     private String init(String uuid) {
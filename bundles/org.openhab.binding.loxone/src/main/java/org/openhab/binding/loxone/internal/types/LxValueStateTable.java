@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import java.util.Arrays;
+
+/**
+ * Last values of the value states received from the Miniserver in binary event tables.
+ * <p>
+ * States are keyed by the raw 128 bits of their UUID in an open addressing table with primitive arrays, so the
+ * records of an event table can be decoded in place without creating objects. A {@link LxUuid} is created only once,
+ * when a state is received for the first time. This lets the websocket pass on only the states whose value changed.
+ * The table is not thread safe and must be accessed by one thread at a time.
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+public class LxValueStateTable {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] highs = new long[INITIAL_CAPACITY];
+    private long[] lows = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    // null marks an empty slot
+    private LxUuid[] uuids = new LxUuid[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Store the value of a value state record of a binary event table. A record consists of a 16 bytes UUID followed
+     * by an 8 bytes little endian double value.
+     *
+     * @param data buffer with received message
+     * @param offset offset in bytes at which the record starts
+     * @return slot of the state if it was received for the first time or its value changed, -1 if the value is the
+     *         same as last time
+     */
+    public int update(byte[] data, int offset) {
+        long high = LxUuid.getHighBits(data, offset);
+        long low = LxUuid.getLowBits(data, offset);
+        long value = LxUuid.getLittleEndian(data, offset + 16, 8);
+        int slot = find(high, low);
+        if (uuids[slot] != null) {
+            if (values[slot] == value) {
+                return -1;
+            }
+            values[slot] = value;
+            return slot;
+        }
+        if ((size + 1) * 2 > uuids.length) {
+            resize();
+            slot = find(high, low);
+        }
+        highs[slot] = high;
+        lows[slot] = low;
+        values[slot] = value;
+        uuids[slot] = new LxUuid(high, low);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Get the UUID of a state returned by {@link #update}.
+     *
+     * @param slot slot of the state
+     * @return state UUID
+     */
+    public LxUuid getUuid(int slot) {
+        return uuids[slot];
+    }
+
+    /**
+     * Get the last value of a state returned by {@link #update}.
+     *
+     * @param slot slot of the state
+     * @return state value
+     */
+    public double getValue(int slot) {
+        return Double.longBitsToDouble(values[slot]);
+    }
+
+    /**
+     * Forget all states, so the next value of each state is considered changed.
+     */
+    public void clear() {
+        Arrays.fill(uuids, null);
+        size = 0;
+    }
+
+    /**
+     * Get the number of states in the table.
+     *
+     * @return number of states
+     */
+    public int size() {
+        return size;
+    }
+
+    private int find(long high, long low) {
+        int mask = uuids.length - 1;
+        long hash = (high ^ low) * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash >>> 32) & mask;
+        while (uuids[slot] != null && (highs[slot] != high || lows[slot] != low)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        long[] oldValues = values;
+        LxUuid[] oldUuids = uuids;
+        int capacity = oldUuids.length * 2;
+        highs = new long[capacity];
+        lows = new long[capacity];
+        values = new long[capacity];
+        uuids = new LxUuid[capacity];
+        for (int i = 0; i < oldUuids.length; i++) {
+            if (oldUuids[i] != null) {
+                int slot = find(oldHighs[i], oldLows[i]);
+                highs[slot] = oldHighs[i];
+                lows[slot] = oldLows[i];
+                values[slot] = oldValues[i];
+                uuids[slot] = oldUuids[i];
+            }
+        }
+    }
+}
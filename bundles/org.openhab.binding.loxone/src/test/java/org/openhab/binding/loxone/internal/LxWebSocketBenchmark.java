@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal;
+
+import static org.mockito.Mockito.*;
+
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.ArgumentCaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for the decoding of binary event tables in {@link LxWebSocket}. Each operation is one header and one
+ * table message, as the Miniserver sends them. Value tables either change all values or repeat the last ones, which
+ * are dropped before they are queued to the thing handler. The tables are synthetic: they follow the documented
+ * layout of the Miniserver event tables with random state UUIDs, and the setup checks that they decode to the values
+ * they were built from. Run it with the test classpath, e.g. from the IDE via {@link #main(String[])}, which adds the
+ * allocations per table.
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LxWebSocketBenchmark {
+    private static final byte VALUE_STATES = 2;
+    private static final byte TEXT_STATES = 3;
+
+    @Param({ "10", "1000" })
+    public int states;
+
+    private LxWebSocket socket;
+    private byte[] valueHeader;
+    private byte[] textHeader;
+    private byte[][] valueTables;
+    private byte[] textTable;
+    private String[] textValues;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long[] uuids = new long[states * 2];
+        for (int i = 0; i < uuids.length; i++) {
+            uuids[i] = random.nextLong();
+        }
+        valueHeader = header(VALUE_STATES, states * 24);
+        valueTables = new byte[2][];
+        for (int t = 0; t < valueTables.length; t++) {
+            ByteBuffer table = ByteBuffer.allocate(states * 24).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < states; i++) {
+                table.putLong(uuids[2 * i]).putLong(uuids[2 * i + 1]).putDouble(20 + i % 100 / 10.0 + t * 0.5);
+            }
+            valueTables[t] = table.array();
+        }
+
+        textValues = new String[states];
+        byte[][] texts = new byte[states][];
+        int length = 0;
+        for (int i = 0; i < states; i++) {
+            textValues[i] = "Zone " + i + ": 21.5°C, window closed";
+            texts[i] = textValues[i].getBytes(StandardCharsets.UTF_8);
+            length += 36 + (texts[i].length + 3) / 4 * 4;
+        }
+        textHeader = header(TEXT_STATES, length);
+        ByteBuffer table = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < states; i++) {
+            table.putLong(uuids[2 * i]).putLong(uuids[2 * i + 1]).putLong(0).putLong(0).putInt(texts[i].length)
+                    .put(texts[i]).position(table.position() + (4 - texts[i].length % 4) % 4);
+        }
+        textTable = table.array();
+
+        verifyTables();
+        LxServerHandler handler = mock(LxServerHandler.class, withSettings().stubOnly());
+        socket = new LxWebSocket(0, handler, new LxBindingConfiguration(), InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Decodes the tables once on a separate socket and checks the states queued to the thing handler: all values of the
+     * first table, none for its repetition, the changed values of the second table and all texts.
+     */
+    private void verifyTables() {
+        LxServerHandler handler = mock(LxServerHandler.class);
+        LxWebSocket probe = new LxWebSocket(0, handler, new LxBindingConfiguration(), InetAddress.getLoopbackAddress());
+        for (byte[] table : new byte[][] { valueTables[0], valueTables[0], valueTables[1] }) {
+            probe.onBinaryMessage(valueHeader, 0, valueHeader.length);
+            probe.onBinaryMessage(table, 0, table.length);
+        }
+        probe.onBinaryMessage(textHeader, 0, textHeader.length);
+        probe.onBinaryMessage(textTable, 0, textTable.length);
+
+        List<Object> expected = new ArrayList<>();
+        for (int t = 0; t < valueTables.length; t++) {
+            for (int i = 0; i < states; i++) {
+                expected.add(20 + i % 100 / 10.0 + t * 0.5);
+            }
+        }
+        expected.addAll(List.of(textValues));
+        ArgumentCaptor<Object> values = ArgumentCaptor.forClass(Object.class);
+        verify(handler, atLeastOnce()).queueStateUpdate(any(LxUuid.class), values.capture());
+        if (!expected.equals(values.getAllValues())) {
+            throw new IllegalStateException("Tables decoded to " + values.getAllValues().size() + " states instead of "
+                    + expected.size() + " expected ones");
+        }
+    }
+
+    private static byte[] header(byte type, int length) {
+        return ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).put((byte) 0x03).put(type).put((byte) 0)
+                .put((byte) 0).putInt(length).array();
+    }
+
+    @Benchmark
+    public void changedValueStates() {
+        next ^= 1;
+        socket.onBinaryMessage(valueHeader, 0, valueHeader.length);
+        socket.onBinaryMessage(valueTables[next], 0, valueTables[next].length);
+    }
+
+    @Benchmark
+    public void unchangedValueStates() {
+        socket.onBinaryMessage(valueHeader, 0, valueHeader.length);
+        socket.onBinaryMessage(valueTables[0], 0, valueTables[0].length);
+    }
+
+    @Benchmark
+    public void textStates() {
+        socket.onBinaryMessage(textHeader, 0, textHeader.length);
+        socket.onBinaryMessage(textTable, 0, textTable.length);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LxWebSocketBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link LxValueStateTable} and binary {@link LxUuid} decoding
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+public class LxValueStateTableTest {
+
+    private static byte[] record(int data1, short data2, short data3, long data4, double value) {
+        return ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN).putInt(data1).putShort(data2).putShort(data3)
+                .order(ByteOrder.BIG_ENDIAN).putLong(data4).order(ByteOrder.LITTLE_ENDIAN).putDouble(value).array();
+    }
+
+    @Test
+    public void testBinaryUuid() {
+        byte[] data = record(0x0f2f6b5d, (short) 0x0349, (short) 0x83b1, 0xffff403fb0c34b9eL, 0.0);
+        assertEquals(new LxUuid("0f2f6b5d-0349-83b1-ffff403fb0c34b9e"), new LxUuid(data, 0));
+        assertEquals("0f2f6b5d-0349-83b1-ffff403fb0c34b9e", new LxUuid(data, 0).getOriginalString());
+
+        data = record(0x00000001, (short) 0x0002, (short) 0x0003, 0x0000000000000004L, 0.0);
+        assertEquals("00000001-0002-0003-0000000000000004", new LxUuid(data, 0).getOriginalString());
+    }
+
+    @Test
+    public void testUnchangedValuesAreCoalesced() {
+        LxValueStateTable table = new LxValueStateTable();
+        byte[] first = record(0x0f2f6b5d, (short) 0x0349, (short) 0x83b1, 0xffff403fb0c34b9eL, 1.5);
+        byte[] second = record(0x0b734138, (short) 0x038c, (short) 0x0382, 0xffff403fb0c34b9eL, 1.5);
+
+        int slot = table.update(first, 0);
+        assertTrue(slot >= 0);
+        assertEquals(new LxUuid("0f2f6b5d-0349-83b1-ffff403fb0c34b9e"), table.getUuid(slot));
+        assertEquals(1.5, table.getValue(slot));
+        assertEquals(-1, table.update(first, 0));
+        assertTrue(table.update(second, 0) >= 0);
+
+        byte[] changed = record(0x0f2f6b5d, (short) 0x0349, (short) 0x83b1, 0xffff403fb0c34b9eL, 2.0);
+        slot = table.update(changed, 0);
+        assertTrue(slot >= 0);
+        assertEquals(2.0, table.getValue(slot));
+        assertEquals(2, table.size());
+
+        table.clear();
+        assertTrue(table.update(changed, 0) >= 0);
+    }
+
+    @Test
+    public void testGrowing() {
+        LxValueStateTable table = new LxValueStateTable();
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(table.update(record(i, (short) 0, (short) 0, i * 31L, i), 0) >= 0);
+        }
+        assertEquals(5000, table.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(-1, table.update(record(i, (short) 0, (short) 0, i * 31L, i), 0));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.handler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockSettings;
+import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+import org.openhab.core.thing.binding.builder.BridgeBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for the register extraction of {@link ModbusDataThingHandler}. Each operation passes one poll result of
+ * 40 input registers to all data things of the poller, like the poller does, with one data thing per value and a
+ * linked number channel. The polls are synthetic energy meter readings, and the setup checks that all data things go
+ * online and decode them. Run it with the test classpath, e.g. from the IDE via {@link #main(String[])}, which adds
+ * the allocations per poll.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModbusDataThingHandlerBenchmark {
+
+    private static final int REGISTERS = 40;
+
+    // synthetic readings: phase voltages, currents, powers, power factors, frequency and energy counters
+    private static final float[][] SYNTHETIC_POLLS = {
+            { 230.4f, 231.1f, 229.8f, 5.21f, 3.87f, 0.42f, 1187.3f, 871.6f, 62.4f, 0.99f, 0.97f, 0.65f, 49.98f,
+                    2121.3f, 7431.27f, 1204.05f, 6227.22f, 41.8f, 12.3f, 0.0f },
+            { 230.6f, 231.0f, 229.9f, 5.19f, 3.92f, 0.44f, 1183.9f, 882.1f, 64.8f, 0.99f, 0.97f, 0.66f, 50.01f,
+                    2130.8f, 7431.31f, 1204.06f, 6227.25f, 41.8f, 12.3f, 0.0f } };
+
+    @Param({ "int16", "int32", "float32" })
+    public String valueType = "float32";
+
+    private ModbusDataThingHandler[] handlers = new ModbusDataThingHandler[0];
+    private AsyncModbusReadResult[] results = new AsyncModbusReadResult[0];
+    private int next;
+
+    @Setup
+    public void setup() {
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(1,
+                ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0, REGISTERS, 3);
+        results = new AsyncModbusReadResult[SYNTHETIC_POLLS.length];
+        for (int i = 0; i < SYNTHETIC_POLLS.length; i++) {
+            ByteBuffer registers = ByteBuffer.allocate(REGISTERS * 2);
+            for (float value : SYNTHETIC_POLLS[i]) {
+                registers.putFloat(value);
+            }
+            results[i] = new AsyncModbusReadResult(request, new ModbusRegisterArray(registers.array()));
+        }
+
+        ModbusPollerThingHandler pollerHandler = mock(ModbusPollerThingHandler.class, withSettings().stubOnly());
+        when(pollerHandler.getRequest()).thenReturn(request);
+        when(pollerHandler.getCommunicationInterface())
+                .thenReturn(mock(ModbusCommunicationInterface.class, withSettings().stubOnly()));
+        Bridge poller = BridgeBuilder.create(THING_TYPE_MODBUS_POLLER, "poller").build();
+        poller.setStatusInfo(new ThingStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null));
+        poller.setHandler(pollerHandler);
+
+        ThingHandlerCallback callback = mockCallback(poller, withSettings().stubOnly());
+        ThingHandlerCallback probe = mockCallback(poller, withSettings());
+        doAnswer(invocation -> {
+            invocation.<Thing> getArgument(0).setStatusInfo(invocation.getArgument(1));
+            return null;
+        }).when(probe).statusUpdated(any(Thing.class), any(ThingStatusInfo.class));
+
+        int registersPerValue = "int16".equals(valueType) ? 1 : 2;
+        ByteBuffer registers = ByteBuffer.wrap(results[0].getRegisters().orElseThrow().getBytes());
+        handlers = new ModbusDataThingHandler[REGISTERS / registersPerValue];
+        for (int i = 0; i < handlers.length; i++) {
+            Configuration configuration = new Configuration();
+            configuration.put("readStart", String.valueOf(i * registersPerValue));
+            configuration.put("readValueType", valueType);
+            Thing thing = ThingBuilder.create(THING_TYPE_MODBUS_DATA, new ThingUID(THING_TYPE_MODBUS_DATA, "data" + i))
+                    .withBridge(poller.getUID()).withConfiguration(configuration).build();
+            ModbusDataThingHandler handler = new ModbusDataThingHandler(thing);
+            handler.setCallback(probe);
+            handler.initialize();
+            handler.onReadResult(results[0]);
+            if (thing.getStatus() != ThingStatus.ONLINE) {
+                throw new IllegalStateException("Data thing " + i + " is " + thing.getStatusInfo());
+            }
+
+            float expected = switch (valueType) {
+                case "int16" -> registers.getShort(i * 2);
+                case "int32" -> registers.getInt(i * 4);
+                default -> registers.getFloat(i * 4);
+            };
+            ArgumentCaptor<org.openhab.core.types.State> state = ArgumentCaptor
+                    .forClass(org.openhab.core.types.State.class);
+            verify(probe).stateUpdated(eq(new ChannelUID(thing.getUID(), CHANNEL_NUMBER)), state.capture());
+            if (!(state.getValue() instanceof DecimalType value) || value.floatValue() != expected) {
+                throw new IllegalStateException(
+                        "Data thing " + i + " decoded " + state.getValue() + " instead of " + expected);
+            }
+            handler.setCallback(callback);
+            handlers[i] = handler;
+        }
+    }
+
+    private static ThingHandlerCallback mockCallback(Bridge poller, MockSettings settings) {
+        ThingHandlerCallback callback = mock(ThingHandlerCallback.class, settings);
+        when(callback.getBridge(poller.getUID())).thenReturn(poller);
+        when(callback.isChannelLinked(any(ChannelUID.class)))
+                .thenAnswer(invocation -> CHANNEL_NUMBER.equals(invocation.<ChannelUID> getArgument(0).getId()));
+        return callback;
+    }
+
+    @Benchmark
+    public void poll() {
+        next ^= 1;
+        for (ModbusDataThingHandler handler : handlers) {
+            handler.onReadResult(results[next]);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ModbusDataThingHandlerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -93,6 +93,8 @@ public class NanoleafBindingConstants {
     // Effect/scene name for static color
     public static final String EFFECT_NAME_STATIC_COLOR = "*Static*";
     public static final String EFFECT_NAME_SOLID_COLOR = "*Solid*";
+    // Effect name while panel colors are streamed with external control
+    public static final String EFFECT_NAME_EXT_CONTROL = "*ExtControl*";
 
     // Color channels increase/decrease brightness step size
     public static final int BRIGHTNESS_STEP_SIZE = 5;
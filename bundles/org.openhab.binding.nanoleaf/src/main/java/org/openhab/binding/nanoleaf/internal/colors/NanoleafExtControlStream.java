@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.nanoleaf.internal.colors;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Streams panel colors to the controller with the external control (extControl) v2 UDP protocol. Colors set by the
+ * panels are collected and sent as one frame per tick, so all panels change at the same time.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class NanoleafExtControlStream implements Closeable {
+
+    /** UDP port of the controller for external control v2 */
+    public static final int EXT_CONTROL_PORT = 60222;
+
+    /** Transition time of the panel colors in units of 100 ms */
+    private static final int TRANSITION_TIME = 1;
+
+    private final Map<Integer, int[]> pendingColors = new ConcurrentHashMap<>();
+    private final InetSocketAddress controllerAddress;
+    private final DatagramSocket socket;
+
+    private volatile boolean enabled;
+
+    public NanoleafExtControlStream(String address) throws SocketException {
+        this.controllerAddress = new InetSocketAddress(address, EXT_CONTROL_PORT);
+        this.socket = new DatagramSocket();
+    }
+
+    /**
+     * Sets the color of a panel for the next frame, replacing a color not yet sent.
+     *
+     * @param panelId The panel
+     * @param rgb The red, green and blue values of the color (0-255)
+     */
+    public void setPanelColor(int panelId, int[] rgb) {
+        pendingColors.put(panelId, rgb.clone());
+    }
+
+    /**
+     * Removes the color of a panel not yet sent.
+     *
+     * @param panelId The panel
+     */
+    public void removePanelColor(int panelId) {
+        pendingColors.remove(panelId);
+    }
+
+    public boolean hasPendingColors() {
+        return !pendingColors.isEmpty();
+    }
+
+    /**
+     * @return true if the controller was switched to external control
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks whether the controller is in external control mode. It leaves this mode when another effect is selected.
+     *
+     * @param enabled true if the controller was switched to external control
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Sends the pending panel colors as one frame. Colors which could not be sent stay pending unless they were
+     * replaced in the meantime.
+     *
+     * @throws IOException if sending the frame failed
+     */
+    public void sendPendingColors() throws IOException {
+        Map<Integer, int[]> frameColors = new LinkedHashMap<>();
+        for (Integer panelId : pendingColors.keySet()) {
+            int[] rgb = pendingColors.remove(panelId);
+            if (rgb != null) {
+                frameColors.put(panelId, rgb);
+            }
+        }
+        if (frameColors.isEmpty()) {
+            return;
+        }
+
+        byte[] frame = encodeFrame(frameColors, TRANSITION_TIME);
+        try {
+            socket.send(new DatagramPacket(frame, frame.length, controllerAddress));
+        } catch (IOException e) {
+            frameColors.forEach(pendingColors::putIfAbsent);
+            throw e;
+        }
+    }
+
+    /**
+     * Encodes a frame of the external control v2 protocol: the number of panels, followed by the panel ID, red, green,
+     * blue, white and transition time of each panel. Panel IDs, counts and transition times are unsigned 16 bit big
+     * endian values, colors are single bytes.
+     *
+     * @param colors The red, green and blue values per panel ID
+     * @param transitionTime The transition time in units of 100 ms
+     * @return The frame
+     */
+    public static byte[] encodeFrame(Map<Integer, int[]> colors, int transitionTime) {
+        byte[] frame = new byte[2 + 8 * colors.size()];
+        int i = putShort(frame, 0, colors.size());
+        for (Map.Entry<Integer, int[]> entry : colors.entrySet()) {
+            int[] rgb = entry.getValue();
+            i = putShort(frame, i, entry.getKey());
+            frame[i++] = (byte) rgb[0];
+            frame[i++] = (byte) rgb[1];
+            frame[i++] = (byte) rgb[2];
+            frame[i++] = 0;
+            i = putShort(frame, i, transitionTime);
+        }
+        return frame;
+    }
+
+    private static int putShort(byte[] frame, int index, int value) {
+        frame[index] = (byte) (value >> 8);
+        frame[index + 1] = (byte) value;
+        return index + 2;
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+}
@@ -38,4 +38,10 @@ public class NanoleafControllerConfig {
     /** Nanoleaf device type: Light panels or Canvas */
     public static final String DEVICE_TYPE = "deviceType";
     public String deviceType = "lightPanels";
+    /** Stream panel colors via UDP external control instead of sending an HTTP request per panel */
+    public static final String STREAMING = "streaming";
+    public boolean streaming = false;
+    /** Maximum number of panel color frames streamed per second */
+    public static final String STREAMING_FRAME_RATE = "streamingFrameRate";
+    public int streamingFrameRate = 10;
 }
@@ -15,6 +15,7 @@ package org.openhab.binding.nanoleaf.internal.handler;
 import static org.openhab.binding.nanoleaf.internal.NanoleafBindingConstants.*;
 
 import java.io.IOException;
+import java.net.SocketException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -46,6 +47,7 @@ import org.openhab.binding.nanoleaf.internal.NanoleafNotFoundException;
 import org.openhab.binding.nanoleaf.internal.NanoleafUnauthorizedException;
 import org.openhab.binding.nanoleaf.internal.OpenAPIUtils;
 import org.openhab.binding.nanoleaf.internal.colors.NanoleafControllerColorChangeListener;
+import org.openhab.binding.nanoleaf.internal.colors.NanoleafExtControlStream;
 import org.openhab.binding.nanoleaf.internal.colors.NanoleafPanelColors;
 import org.openhab.binding.nanoleaf.internal.commanddescription.NanoleafCommandDescriptionProvider;
 import org.openhab.binding.nanoleaf.internal.config.NanoleafControllerConfig;
@@ -108,6 +110,7 @@ import com.google.gson.JsonSyntaxException;
  * @author Martin Raepple - Initial contribution
  * @author Stefan Höhn - Canvas Touch Support
  * @author Kai Kreuzer - refactoring, bug fixing and code clean up
+ * @author openHAB Contributors - Streaming of panel colors with external control
  */
 @NonNullByDefault
 public class NanoleafControllerHandler extends BaseBridgeHandler implements NanoleafControllerColorChangeListener {
@@ -115,6 +118,9 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
     // Pairing interval in seconds
     private static final int PAIRING_INTERVAL = 10;
     private static final int CONNECT_TIMEOUT = 10;
+    // wait before retrying to enable external control after a failure, doubled on each failure up to the max
+    private static final long EXT_CONTROL_MIN_BACKOFF_MS = 1000;
+    private static final long EXT_CONTROL_MAX_BACKOFF_MS = 60000;
 
     private final Logger logger = LoggerFactory.getLogger(NanoleafControllerHandler.class);
     private final HttpClientFactory httpClientFactory;
@@ -132,6 +138,10 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
     private @NonNullByDefault({}) ScheduledFuture<?> pairingJob;
     private @NonNullByDefault({}) ScheduledFuture<?> updateJob;
     private @NonNullByDefault({}) ScheduledFuture<?> touchJob;
+    private @NonNullByDefault({}) ScheduledFuture<?> streamingJob;
+    private @Nullable NanoleafExtControlStream extControlStream;
+    private volatile long extControlBackoffMs = 0;
+    private volatile long extControlRetryNanos;
     private final Gson gson = new Gson();
 
     private @Nullable String address;
@@ -139,6 +149,8 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
     private int refreshIntervall;
     private @Nullable String authToken;
     private @Nullable String deviceType;
+    private boolean streaming;
+    private int streamingFrameRate;
     private @NonNullByDefault({}) ControllerInfo controllerInfo;
 
     private boolean touchJobRunning = false;
@@ -180,6 +192,8 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
         setAddress(config.address);
         setPort(config.port);
         setRefreshIntervall(config.refreshInterval);
+        streaming = config.streaming;
+        streamingFrameRate = config.streamingFrameRate;
         String authToken = (config.authToken != null) ? config.authToken : "";
         setAuthToken(authToken);
         Map<String, String> properties = getThing().getProperties();
@@ -207,6 +221,7 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
                     stopPairingJob();
                     startUpdateJob();
                     startTouchJob();
+                    startStreamingJob();
                 } else {
                     logger.debug("No token found. Start pairing background job");
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_PENDING,
@@ -329,9 +344,36 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
         config.refreshInterval = getRefreshInterval();
         config.authToken = getAuthToken();
         config.deviceType = Objects.requireNonNullElse(getDeviceType(), "");
+        config.streaming = streaming;
+        config.streamingFrameRate = streamingFrameRate;
         return config;
     }
 
+    /**
+     * Queues the color of a panel for the next streamed frame if streaming with external control is enabled.
+     *
+     * @param panelId The panel
+     * @param rgb The red, green and blue values of the color (0-255)
+     * @return True if the color will be streamed, false if it has to be sent by an HTTP request
+     */
+    public boolean streamPanelColor(int panelId, int[] rgb) {
+        NanoleafExtControlStream stream = extControlStream;
+        if (stream == null) {
+            return false;
+        }
+        if (isExtControlBackingOff()) {
+            // the color is sent by HTTP, a color queued before must not replace it once streaming works again
+            stream.removePanelColor(panelId);
+            return false;
+        }
+        stream.setPanelColor(panelId, rgb);
+        return true;
+    }
+
+    private boolean isExtControlBackingOff() {
+        return extControlBackoffMs > 0 && System.nanoTime() - extControlRetryNanos < 0;
+    }
+
     public String getLayout() {
         String layoutView = "";
         if (controllerInfo != null) {
@@ -409,6 +451,38 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
         }
     }
 
+    private synchronized void startStreamingJob() {
+        if (!streaming) {
+            return;
+        }
+        if (streamingJob == null || streamingJob.isCancelled()) {
+            try {
+                extControlStream = new NanoleafExtControlStream(Objects.requireNonNullElse(getAddress(), ""));
+            } catch (SocketException e) {
+                logger.warn("Cannot open socket for streaming panel colors of controller {}: {}", getThing().getUID(),
+                        e.getMessage());
+                return;
+            }
+            extControlBackoffMs = 0;
+            long period = 1000L / Math.max(1, Math.min(30, streamingFrameRate));
+            logger.debug("Start streaming job, interval={} ms", period);
+            streamingJob = scheduler.scheduleWithFixedDelay(this::runStreaming, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void stopStreamingJob() {
+        if (streamingJob != null && !streamingJob.isCancelled()) {
+            streamingJob.cancel(true);
+            streamingJob = null;
+            logger.debug("Stopped streaming job");
+        }
+        NanoleafExtControlStream stream = extControlStream;
+        if (stream != null) {
+            stream.close();
+            extControlStream = null;
+        }
+    }
+
     private synchronized void stopTouchJob() {
         logger.debug("Stop touch job {}", touchJob != null ? touchJob.isCancelled() : "touchJob job = null");
         if (touchJob != null) {
@@ -458,6 +532,40 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
         }
     }
 
+    private void runStreaming() {
+        NanoleafExtControlStream stream = extControlStream;
+        if (stream == null || !stream.hasPendingColors() || isExtControlBackingOff()) {
+            return;
+        }
+        try {
+            if (!stream.isEnabled()) {
+                enableExtControl();
+                stream.setEnabled(true);
+                extControlBackoffMs = 0;
+            }
+            stream.sendPendingColors();
+        } catch (NanoleafUnauthorizedException nue) {
+            logger.debug("Enabling external control unauthorized for controller {}, stop streaming: {}",
+                    getThing().getUID(), nue.getMessage());
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                    "@text/error.nanoleaf.controller.invalidToken");
+            // panel colors are sent by HTTP until the controller is initialized again
+            stopStreamingJob();
+        } catch (NanoleafException ne) {
+            long backoff = Math.max(EXT_CONTROL_MIN_BACKOFF_MS,
+                    Math.min(EXT_CONTROL_MAX_BACKOFF_MS, 2 * extControlBackoffMs));
+            extControlRetryNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoff);
+            extControlBackoffMs = backoff;
+            logger.debug("Enabling external control failed for controller {}, sending colors by HTTP for {} ms: {}",
+                    getThing().getUID(), backoff, ne.getMessage());
+        } catch (IOException ioe) {
+            logger.debug("Streaming panel colors failed for controller {}: {}", getThing().getUID(),
+                    ioe.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Streaming panel colors failed for controller {}", getThing().getUID(), e);
+        }
+    }
+
     private void runPairing() {
         logger.debug("Run pairing job");
 
@@ -674,6 +782,11 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
         updateState(CHANNEL_COLOR_TEMPERATURE_ABS, colorTemperatureAbsoluteState);
 
         updateState(CHANNEL_EFFECT, new StringType(controllerInfo.getEffects().getSelect()));
+        NanoleafExtControlStream stream = extControlStream;
+        if (stream != null && !EFFECT_NAME_EXT_CONTROL.equals(controllerInfo.getEffects().getSelect())) {
+            // another effect was selected, external control has to be enabled again before streaming
+            stream.setEnabled(false);
+        }
         Hue stateHue = state.getHue();
         int hue = stateHue != null ? stateHue.getValue() : 0;
 
@@ -958,11 +1071,30 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
             logger.debug("sending effect command from controller {}: {}", getThing().getUID(), content);
             setNewEffectRequest.content(new StringContentProvider(content), "application/json");
             OpenAPIUtils.sendOpenAPIRequest(setNewEffectRequest);
+            NanoleafExtControlStream stream = extControlStream;
+            if (stream != null) {
+                stream.setEnabled(false);
+            }
         } else {
             logger.warn("Unhandled command type: {}", command.getClass().getName());
         }
     }
 
+    private void enableExtControl() throws NanoleafException {
+        Effects effects = new Effects();
+        Write write = new Write();
+        write.setCommand("display");
+        write.setAnimType("extControl");
+        write.setExtControlVersion("v2");
+        effects.setWrite(write);
+        Request extControlRequest = OpenAPIUtils.requestBuilder(httpClient, getControllerConfig(), API_EFFECT,
+                HttpMethod.PUT);
+        String content = gson.toJson(effects);
+        logger.debug("sending external control command from controller {}: {}", getThing().getUID(), content);
+        extControlRequest.content(new StringContentProvider(content), "application/json");
+        OpenAPIUtils.sendOpenAPIRequest(extControlRequest);
+    }
+
     private void sendRhythmCommand(Command command) throws NanoleafException {
         Rhythm rhythm = new Rhythm();
         if (command instanceof DecimalType) {
@@ -978,7 +1110,8 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
 
     private boolean hasStaticEffect() {
         return EFFECT_NAME_STATIC_COLOR.equals(controllerInfo.getEffects().getSelect())
-                || EFFECT_NAME_SOLID_COLOR.equals(controllerInfo.getEffects().getSelect());
+                || EFFECT_NAME_SOLID_COLOR.equals(controllerInfo.getEffects().getSelect())
+                || EFFECT_NAME_EXT_CONTROL.equals(controllerInfo.getEffects().getSelect());
     }
 
     /**
@@ -988,7 +1121,7 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
      */
     private boolean showsUpdatedColors() {
         if (!hasStaticEffect()) {
-            logger.trace("Not updating colors as the device doesnt have a static/solid effect");
+            logger.trace("Not updating colors as the device doesnt have a static/solid/external control effect");
             return false;
         }
 
@@ -1147,5 +1280,6 @@ public class NanoleafControllerHandler extends BaseBridgeHandler implements Nano
         stopPairingJob();
         stopUpdateJob();
         stopTouchJob();
+        stopStreamingJob();
     }
 }
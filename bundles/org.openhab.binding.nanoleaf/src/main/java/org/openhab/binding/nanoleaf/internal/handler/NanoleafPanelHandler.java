@@ -230,7 +230,12 @@ public class NanoleafPanelHandler extends BaseThingHandler implements NanoleafPa
             @Nullable
             BridgeHandler handler = bridge.getHandler();
             if (handler != null) {
-                NanoleafControllerConfig config = ((NanoleafControllerHandler) handler).getControllerConfig();
+                NanoleafControllerHandler controllerHandler = (NanoleafControllerHandler) handler;
+                if (controllerHandler.streamPanelColor(panelID, rgb)) {
+                    logger.trace("Streaming rgb {} {} {} {}", panelID, rgb[0], rgb[1], rgb[2]);
+                    return;
+                }
+                NanoleafControllerConfig config = controllerHandler.getControllerConfig();
                 // Light Panels and Canvas use different stream commands
                 if (config.deviceType.equals(CONFIG_DEVICE_TYPE_LIGHTPANELS)
                         || config.deviceType.equals(CONFIG_DEVICE_TYPE_CANVAS)) {
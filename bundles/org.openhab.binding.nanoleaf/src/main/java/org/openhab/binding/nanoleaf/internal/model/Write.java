@@ -23,6 +23,7 @@ import org.eclipse.jdt.annotation.Nullable;
  *
  * @author Martin Raepple - Initial contribution
  * @author Stefan Höhn - Made colorType nullable
+ * @author openHAB Contributors - External control version
  */
 @NonNullByDefault
 public class Write {
@@ -35,6 +36,8 @@ public class Write {
     private String colorType; // is required to be null if not set!
     private String animData = "";
     private boolean loop = false;
+    @Nullable
+    private String extControlVersion; // only set for external control
 
     public String getCommand() {
         return command;
@@ -91,4 +94,12 @@ public class Write {
     public void setAnimName(String animName) {
         this.animName = animName;
     }
+
+    public @Nullable String getExtControlVersion() {
+        return extControlVersion;
+    }
+
+    public void setExtControlVersion(String extControlVersion) {
+        this.extControlVersion = extControlVersion;
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.nanoleaf.internal.colors;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.SocketException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the external control frame encoding
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class NanoleafExtControlStreamTest {
+
+    @Test
+    public void testEncodeFrame() {
+        Map<Integer, int[]> colors = new LinkedHashMap<>();
+        colors.put(5, new int[] { 255, 128, 0 });
+        colors.put(300, new int[] { 1, 2, 3 });
+
+        byte[] frame = NanoleafExtControlStream.encodeFrame(colors, 1);
+
+        assertThat(frame, is(equalTo(new byte[] { 0, 2, //
+                0, 5, (byte) 255, (byte) 128, 0, 0, 0, 1, //
+                1, 44, 1, 2, 3, 0, 0, 1 })));
+    }
+
+    @Test
+    public void testEncodeEmptyFrame() {
+        assertThat(NanoleafExtControlStream.encodeFrame(Map.of(), 1), is(equalTo(new byte[] { 0, 0 })));
+    }
+
+    @Test
+    public void testRemovePanelColor() throws SocketException {
+        try (NanoleafExtControlStream stream = new NanoleafExtControlStream("127.0.0.1")) {
+            stream.setPanelColor(5, new int[] { 255, 128, 0 });
+            stream.setPanelColor(300, new int[] { 1, 2, 3 });
+
+            stream.removePanelColor(5);
+            assertThat(stream.hasPendingColors(), is(true));
+            stream.removePanelColor(300);
+            assertThat(stream.hasPendingColors(), is(false));
+        }
+    }
+}
@@ -39,4 +39,5 @@ public class RemoteopenhabServerConfiguration {
     public int accessibilityInterval = 3;
     public int aliveInterval = 5;
     public boolean restartIfNoActivity = false;
+    public boolean linkedItemsOnly = false;
 }
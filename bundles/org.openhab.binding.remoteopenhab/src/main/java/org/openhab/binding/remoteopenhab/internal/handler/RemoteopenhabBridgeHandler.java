@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.client.ClientBuilder;
 
@@ -104,6 +105,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
     private static final DateTimeFormatter FORMATTER_DATE = DateTimeFormatter.ofPattern(DATE_FORMAT_PATTERN);
 
     private static final int MAX_STATE_SIZE_FOR_LOGGING = 50;
+    private static final int SUBSCRIPTION_REFRESH_DELAY = 5;
 
     private final Logger logger = LoggerFactory.getLogger(RemoteopenhabBridgeHandler.class);
 
@@ -120,6 +122,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
     private @NonNullByDefault({}) RemoteopenhabServerConfiguration config;
 
     private @Nullable ScheduledFuture<?> checkConnectionJob;
+    private @Nullable ScheduledFuture<?> subscriptionRefreshJob;
     private RemoteopenhabRestClient restClient;
 
     private Map<ChannelUID, State> channelsLastStates = new HashMap<>();
@@ -190,6 +193,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
     @Override
     public void dispose() {
         logger.debug("Disposing remote openHAB handler for bridge {}", getThing().getUID());
+        stopSubscriptionRefreshJob();
         stopStreamingUpdates(false);
         stopCheckConnectionJob();
         channelsLastStates.clear();
@@ -372,6 +376,65 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         }
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        super.channelLinked(channelUID);
+        scheduleSubscriptionRefresh();
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        super.channelUnlinked(channelUID);
+        scheduleSubscriptionRefresh();
+    }
+
+    private Set<String> getLinkedItemNames() {
+        return getThing().getChannels().stream().map(Channel::getUID).filter(this::isLinked).map(ChannelUID::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private void scheduleSubscriptionRefresh() {
+        if (config == null || !config.linkedItemsOnly) {
+            return;
+        }
+        // Links are often changed in bulk, wait for the changes to settle before restarting the event stream
+        stopSubscriptionRefreshJob();
+        subscriptionRefreshJob = scheduler.schedule(this::refreshSubscription, SUBSCRIPTION_REFRESH_DELAY,
+                TimeUnit.SECONDS);
+    }
+
+    private void stopSubscriptionRefreshJob() {
+        ScheduledFuture<?> localSubscriptionRefreshJob = subscriptionRefreshJob;
+        if (localSubscriptionRefreshJob != null) {
+            localSubscriptionRefreshJob.cancel(false);
+            subscriptionRefreshJob = null;
+        }
+    }
+
+    private void refreshSubscription() {
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            return;
+        }
+        Set<String> linkedItemNames = getLinkedItemNames();
+        Set<String> subscribedItems = restClient.getSubscribedItems();
+        if (linkedItemNames.equals(subscribedItems)) {
+            return;
+        }
+        logger.debug("Linked items changed, restarting the SSE connection with an updated topic filter");
+        restartStreamingUpdates();
+        // Events for newly linked items were filtered until now, so fetch their current state
+        for (String itemName : linkedItemNames) {
+            if (subscribedItems == null || !subscribedItems.contains(itemName)) {
+                try {
+                    updateChannelState(itemName, null, restClient.getRemoteItemState(itemName), false);
+                } catch (RemoteopenhabException e) {
+                    logger.debug("Getting the state of remote item {} failed: {}", itemName,
+                            e.getMessage(bundle, i18nProvider));
+                }
+            }
+        }
+    }
+
     public void checkConnection(boolean restartSse) {
         logger.debug("Try the root REST API...");
         try {
@@ -449,6 +512,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         synchronized (restClient) {
             restClient.addStreamingDataListener(this);
             restClient.addItemsDataListener(this);
+            restClient.setSubscribedItems(config.linkedItemsOnly ? getLinkedItemNames() : null);
             restClient.start();
         }
     }
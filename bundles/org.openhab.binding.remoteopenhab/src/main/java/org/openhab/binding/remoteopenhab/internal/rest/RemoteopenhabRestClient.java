@@ -16,6 +16,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Base64;
@@ -23,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -71,7 +73,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * A client to use the openHAB REST API and to receive/parse events received from the openHAB REST API Server-Sent
@@ -83,6 +88,7 @@ import com.google.gson.JsonSyntaxException;
 public class RemoteopenhabRestClient {
 
     private static final int REQUEST_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(30);
+    private static final int MAX_TOPICS_LENGTH = 4000;
 
     private final Logger logger = LoggerFactory.getLogger(RemoteopenhabRestClient.class);
 
@@ -111,6 +117,7 @@ public class RemoteopenhabRestClient {
 
     private @Nullable SseEventSource eventSource;
     private long lastEventTimestamp;
+    private volatile @Nullable Set<String> subscribedItems;
 
     public RemoteopenhabRestClient(final HttpClient httpClient, final ClientBuilder clientBuilder,
             final SseEventSourceFactory eventSourceFactory, final Gson jsonParser,
@@ -262,6 +269,20 @@ public class RemoteopenhabRestClient {
         return namespace != null ? namespace : "openhab";
     }
 
+    /**
+     * Restrict the item state events requested to the remote server to a set of items.
+     * The new filter is applied the next time the event source is (re)opened.
+     *
+     * @param itemNames the names of the items to subscribe to, or null to subscribe to all items
+     */
+    public void setSubscribedItems(@Nullable Set<String> itemNames) {
+        subscribedItems = itemNames == null ? null : Set.copyOf(itemNames);
+    }
+
+    public @Nullable Set<String> getSubscribedItems() {
+        return subscribedItems;
+    }
+
     public void start() {
         synchronized (startStopLock) {
             logger.debug("Opening EventSource");
@@ -330,8 +351,8 @@ public class RemoteopenhabRestClient {
         String url;
         try {
             url = String.format(
-                    "%s?topics=%s/items/*/*,%s/things/*/*,%s/channels/*/triggered,openhab/channels/*/descriptionchanged",
-                    getRestApiUrl("events"), getTopicNamespace(), getTopicNamespace(), getTopicNamespace());
+                    "%s?topics=%s,%s/things/*/*,%s/channels/*/triggered,openhab/channels/*/descriptionchanged",
+                    getRestApiUrl("events"), buildItemTopics(), getTopicNamespace(), getTopicNamespace());
         } catch (RemoteopenhabException e) {
             logger.debug("reopenEventSource failed: {}", e.getMessage(bundle, i18nProvider));
             return;
@@ -346,6 +367,30 @@ public class RemoteopenhabRestClient {
         eventSource = localEventSource;
     }
 
+    String buildItemTopics() {
+        String namespace = getTopicNamespace();
+        String allItems = namespace + "/items/*/*";
+        Set<String> items = subscribedItems;
+        if (items == null) {
+            return allItems;
+        }
+        // Item added/removed/updated events are always needed to maintain the channels
+        StringBuilder topics = new StringBuilder();
+        topics.append(namespace).append("/items/*/added,");
+        topics.append(namespace).append("/items/*/removed,");
+        topics.append(namespace).append("/items/*/updated");
+        for (String item : items) {
+            topics.append(',').append(namespace).append("/items/").append(item).append("/*");
+            if (topics.length() > MAX_TOPICS_LENGTH) {
+                logger.info(
+                        "Too many linked items ({}) to filter the item events on the remote server, receiving the events of all items and ignoring those of unlinked items",
+                        items.size());
+                return allItems;
+            }
+        }
+        return topics.toString();
+    }
+
     private void closeEventSource(boolean waitingForCompletion) {
         SseEventSource localEventSource = eventSource;
         if (localEventSource != null) {
@@ -389,7 +434,7 @@ public class RemoteopenhabRestClient {
         return lastEventTimestamp;
     }
 
-    private void onEvent(InboundSseEvent inboundEvent) {
+    void onEvent(InboundSseEvent inboundEvent) {
         String name = inboundEvent.getName();
         String data = inboundEvent.readData();
         logger.trace("Received event name {} data {}", name, data);
@@ -406,7 +451,7 @@ public class RemoteopenhabRestClient {
         }
 
         try {
-            RemoteopenhabEvent event = jsonParser.fromJson(data, RemoteopenhabEvent.class);
+            RemoteopenhabEvent event = decodeEvent(data);
             String itemName;
             String thingUID;
             RemoteopenhabEventPayload payload;
@@ -415,19 +460,28 @@ public class RemoteopenhabRestClient {
             switch (event.type) {
                 case "ItemStateEvent":
                     itemName = extractItemNameFromTopic(event.topic, event.type, "state");
-                    payload = jsonParser.fromJson(event.payload, RemoteopenhabEventPayload.class);
+                    if (!isSubscribed(itemName)) {
+                        break;
+                    }
+                    payload = decodeStatePayload(event.payload);
                     itemsListeners.forEach(
                             listener -> listener.onItemStateEvent(itemName, payload.type, payload.value, false));
                     break;
                 case "ItemStateChangedEvent":
                     itemName = extractItemNameFromTopic(event.topic, event.type, "statechanged");
-                    payload = jsonParser.fromJson(event.payload, RemoteopenhabEventPayload.class);
+                    if (!isSubscribed(itemName)) {
+                        break;
+                    }
+                    payload = decodeStatePayload(event.payload);
                     itemsListeners.forEach(
                             listener -> listener.onItemStateEvent(itemName, payload.type, payload.value, true));
                     break;
                 case "GroupItemStateChangedEvent":
                     itemName = extractItemNameFromTopic(event.topic, event.type, "statechanged");
-                    payload = jsonParser.fromJson(event.payload, RemoteopenhabEventPayload.class);
+                    if (!isSubscribed(itemName)) {
+                        break;
+                    }
+                    payload = decodeStatePayload(event.payload);
                     itemsListeners.forEach(
                             listener -> listener.onItemStateEvent(itemName, payload.type, payload.value, false));
                     break;
@@ -515,12 +569,79 @@ public class RemoteopenhabRestClient {
                     logger.debug("Unexpected event type {} for topic {}", event.type, event.topic);
                     break;
             }
-        } catch (RemoteopenhabException | JsonSyntaxException e) {
+        } catch (RemoteopenhabException | JsonParseException | IOException | IllegalStateException e) {
             logger.debug("An exception occurred while processing the inbound '{}' event containg data: {}", name, data,
                     e);
         }
     }
 
+    private boolean isSubscribed(String itemName) {
+        Set<String> items = subscribedItems;
+        return items == null || items.contains(itemName);
+    }
+
+    /**
+     * Decode the event envelope with a streaming reader rather than through reflection, as it is done for every
+     * event received.
+     */
+    private RemoteopenhabEvent decodeEvent(String data) throws IOException {
+        RemoteopenhabEvent event = new RemoteopenhabEvent();
+        try (JsonReader reader = new JsonReader(new StringReader(data))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "type":
+                        event.type = nextString(reader);
+                        break;
+                    case "topic":
+                        event.topic = nextString(reader);
+                        break;
+                    case "payload":
+                        event.payload = nextString(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+        }
+        return event;
+    }
+
+    /**
+     * Decode the payload of item state events, which is itself a JSON document encoded as a string in the envelope.
+     */
+    private RemoteopenhabEventPayload decodeStatePayload(String data) throws IOException {
+        RemoteopenhabEventPayload payload = new RemoteopenhabEventPayload();
+        try (JsonReader reader = new JsonReader(new StringReader(data))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "type":
+                        payload.type = nextString(reader);
+                        break;
+                    case "value":
+                        payload.value = nextString(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+        }
+        return payload;
+    }
+
+    private String nextString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return "";
+        }
+        return reader.nextString();
+    }
+
     private void onComplete() {
         logger.debug("Disconnected from streaming events");
         completed = true;
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.remoteopenhab.internal.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.sse.InboundSseEvent;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.binding.remoteopenhab.internal.listener.RemoteopenhabItemsDataListener;
+import org.openhab.core.i18n.TranslationProvider;
+import org.osgi.service.jaxrs.client.SseEventSourceFactory;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests for the item topic filtering and the event decoding of {@link RemoteopenhabRestClient}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class RemoteopenhabRestClientTest {
+
+    private @Mock @NonNullByDefault({}) HttpClient httpClient;
+    private @Mock @NonNullByDefault({}) ClientBuilder clientBuilder;
+    private @Mock @NonNullByDefault({}) SseEventSourceFactory eventSourceFactory;
+    private @Mock @NonNullByDefault({}) TranslationProvider i18nProvider;
+    private @Mock @NonNullByDefault({}) RemoteopenhabItemsDataListener itemsListener;
+
+    private @NonNullByDefault({}) RemoteopenhabRestClient restClient;
+
+    @BeforeEach
+    public void setUp() {
+        restClient = new RemoteopenhabRestClient(httpClient, clientBuilder, eventSourceFactory, new Gson(),
+                i18nProvider);
+        restClient.addItemsDataListener(itemsListener);
+    }
+
+    @Test
+    public void allItemTopicsWithoutFilter() {
+        restClient.setSubscribedItems(null);
+
+        assertEquals("openhab/items/*/*", restClient.buildItemTopics());
+    }
+
+    @Test
+    public void linkedItemTopicsWithFilter() {
+        restClient.setSubscribedItems(Set.of("Kitchen_Light"));
+
+        assertEquals("openhab/items/*/added,openhab/items/*/removed,openhab/items/*/updated,"
+                + "openhab/items/Kitchen_Light/*", restClient.buildItemTopics());
+    }
+
+    @Test
+    public void allItemTopicsWhenFilterIsTooLong() {
+        Set<String> items = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            items.add("Item_With_A_Long_Name_" + i);
+        }
+        restClient.setSubscribedItems(items);
+
+        assertEquals("openhab/items/*/*", restClient.buildItemTopics());
+    }
+
+    @Test
+    public void linkedItemTopicsWithHundredItems() {
+        Set<String> items = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(String.format("Item_%03d", i));
+        }
+        restClient.setSubscribedItems(items);
+
+        String topics = restClient.buildItemTopics();
+
+        assertNotEquals("openhab/items/*/*", topics);
+        for (String item : items) {
+            assertTrue(topics.contains("openhab/items/" + item + "/*"), item);
+        }
+    }
+
+    @Test
+    public void allItemTopicsWithMoreThan110TypicalItems() {
+        Set<String> items = new HashSet<>();
+        for (int i = 0; i < 111; i++) {
+            items.add("Living_Room_Ceiling_Light_" + i);
+        }
+        restClient.setSubscribedItems(items);
+
+        assertEquals("openhab/items/*/*", restClient.buildItemTopics());
+
+        // the events of the unlinked items are still dropped
+        restClient.onEvent(event("""
+                {"topic":"openhab/items/Garage_Door/state",\
+                "payload":"{\\"type\\":\\"OnOff\\",\\"value\\":\\"ON\\"}","type":"ItemStateEvent"}"""));
+        restClient.onEvent(event("""
+                {"topic":"openhab/items/Living_Room_Ceiling_Light_7/state",\
+                "payload":"{\\"type\\":\\"OnOff\\",\\"value\\":\\"ON\\"}","type":"ItemStateEvent"}"""));
+        verify(itemsListener, never()).onItemStateEvent(eq("Garage_Door"), anyString(), anyString(), anyBoolean());
+        verify(itemsListener).onItemStateEvent("Living_Room_Ceiling_Light_7", "OnOff", "ON", false);
+    }
+
+    @Test
+    public void stateEventIsDecoded() {
+        restClient.onEvent(event("""
+                {"topic":"openhab/items/Kitchen_Light/state",\
+                "payload":"{\\"type\\":\\"OnOff\\",\\"value\\":\\"ON\\"}",\
+                "type":"ItemStateEvent"}"""));
+
+        verify(itemsListener).onItemStateEvent("Kitchen_Light", "OnOff", "ON", false);
+    }
+
+    @Test
+    public void stateChangedEventWithUnknownFieldsAndNullValueIsDecoded() {
+        restClient.onEvent(event("""
+                {"source":"org.openhab.core.io.rest","topic":"openhab/items/Kitchen_Dimmer/statechanged",\
+                "payload":"{\\"type\\":\\"UnDef\\",\\"value\\":null,\\"oldValue\\":\\"50\\"}",\
+                "type":"ItemStateChangedEvent","extra":{"nested":[1,2]}}"""));
+
+        verify(itemsListener).onItemStateEvent("Kitchen_Dimmer", "UnDef", "", true);
+    }
+
+    @Test
+    public void stateEventOfUnsubscribedItemIsDropped() {
+        restClient.setSubscribedItems(Set.of("Kitchen_Light"));
+
+        // the payload of an unsubscribed item is not even decoded
+        restClient.onEvent(event("""
+                {"topic":"openhab/items/Garage_Door/state","payload":"not json","type":"ItemStateEvent"}"""));
+        restClient.onEvent(event("""
+                {"topic":"openhab/items/Kitchen_Light/state",\
+                "payload":"{\\"type\\":\\"OnOff\\",\\"value\\":\\"OFF\\"}","type":"ItemStateEvent"}"""));
+
+        verify(itemsListener, never()).onItemStateEvent(eq("Garage_Door"), anyString(), anyString(), anyBoolean());
+        verify(itemsListener).onItemStateEvent("Kitchen_Light", "OnOff", "OFF", false);
+    }
+
+    private InboundSseEvent event(String data) {
+        InboundSseEvent event = mock(InboundSseEvent.class);
+        when(event.getName()).thenReturn("message");
+        when(event.readData()).thenReturn(data);
+        return event;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter.internal.sml;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.serial.SerialPortManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openmuc.jsml.structures.SmlFile;
+import org.openmuc.jsml.transport.Transport;
+
+/**
+ * Benchmark for the decoding of SML files as pushed by a household meter, once the transport layer alone and once
+ * together with the value extraction of {@link SmlMeterReader}. The file is synthetic, put together following the SML
+ * specification rather than captured from a meter, and the setup checks that all its values are extracted. Run it
+ * with the test classpath, e.g. from the IDE via {@link #main(String[])}, which adds the allocations per file.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmlMeterReaderBenchmark {
+
+    // synthetic open response, get list response with ten values and close response of an EMH eHZ style meter
+    // @formatter:off
+    private static final byte[] SYNTHETIC_SML_FILE = HexFormat.of().parseHex("1b1b1b1b01010101"
+            + "760500a4f1c36200620072630101760101050b4a2c710b0a01454d480000a1b2c3010163a0b300"
+            + "760500a4f1c4620062007263070177010b0a01454d480000a1b2c3070100620affff726201650123a9f27a"
+            + "77078181c78203ff0101010104454d4801"
+            + "77070100000009ff010101010b0a01454d480000a1b2c301"
+            + "77070100010800ff650000018201621e52ff59000000000919292201"
+            + "77070100010801ff0101621e52ff590000000005ddf0f401"
+            + "77070100010802ff0101621e52ff5900000000033b382e01"
+            + "77070100020800ff650000018201621e52ff590000000001e6680501"
+            + "77070100100700ff0101621b52ff550000107701"
+            + "77070100240700ff0101621b52ff55000005f301"
+            + "77070100380700ff0101621b52ff550000050a01"
+            + "770701004c0700ff0101621b52ff550000057a01"
+            + "010163090d00"
+            + "760500a4f1c56200620072630201710163dae900"
+            + "0000001b1b1b1b1a03586c");
+    // @formatter:on
+
+    private final Transport transport = new Transport();
+    private final SmlMeterReader reader = SmlMeterReader.createInstance(() -> mock(SerialPortManager.class),
+            "benchmark", "/dev/ttyUSB0", null, 9600, 0);
+
+    @Setup
+    public void setup() throws IOException {
+        reader.populateValueCache(decode());
+        if (reader.getObisCodes().size() != 10) {
+            throw new IllegalStateException("Unexpected values " + reader.getObisCodes());
+        }
+    }
+
+    @Benchmark
+    public SmlFile decode() throws IOException {
+        return transport.getSMLFile(new DataInputStream(new ByteArrayInputStream(SYNTHETIC_SML_FILE)));
+    }
+
+    @Benchmark
+    public SmlMeterReader decodeAndExtract() throws IOException {
+        reader.populateValueCache(decode());
+        return reader;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SmlMeterReaderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -15,10 +15,16 @@ package org.openhab.binding.snmp.internal;
 import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
@@ -89,6 +95,7 @@ import org.snmp4j.smi.VariableBinding;
 public class SnmpTargetHandler extends BaseThingHandler implements ResponseListener, CommandResponder {
     private static final Pattern HEX_STRING_VALIDITY = Pattern.compile("([A-Fa-f0-9]{2}[ :-]?)+");
     private static final Pattern HEX_STRING_EXTRACTOR = Pattern.compile("[^A-Fa-f0-9]");
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
 
     private final Logger logger = LoggerFactory.getLogger(SnmpTargetHandler.class);
 
@@ -103,6 +110,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> trapChannelSet;
+    private @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> readChannelIndex;
+    private @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> trapChannelIndex;
+
+    // OIDs requested by GET and table columns walked by GETBULK on refresh
+    private List<OID> getOids = List.of();
+    private List<ColumnWalk> columnWalks = List.of();
+    private final Map<ChannelUID, CounterSample> counterSamples = new ConcurrentHashMap<>();
 
     // SNMP v3
     private @Nullable UsmUser usmUser;
@@ -174,13 +188,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     public void initialize() {
         config = getConfigAs(SnmpTargetConfiguration.class);
 
-        generateChannelConfigs();
-
         if (thing.getThingTypeUID().equals(THING_TYPE_TARGET3)) {
             // override default for target3 things
             config.protocol = SnmpProtocolVersion.v3;
         }
 
+        generateChannelConfigs();
+
         try {
             if (config.protocol.toInteger() == SnmpConstants.version1
                     || config.protocol.toInteger() == SnmpConstants.version2c) {
@@ -262,6 +276,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
 
         usmUser = null;
         this.engineId = null;
+        counterSamples.clear();
     }
 
     @Override
@@ -298,13 +313,56 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
         logger.trace("{} received {}", thing.getUID(), response);
 
+        PDU request = event.getRequest();
+        if (response.getErrorStatus() == PDU.tooBig && request != null && request.getType() == PDU.GET
+                && request.size() > 1) {
+            logger.debug("{} response too big for {} OIDs, splitting request", thing.getUID(), request.size());
+            List<OID> oids = request.getVariableBindings().stream().map(VariableBinding::getOid).toList();
+            int half = oids.size() / 2;
+            sendGetRequests(oids.subList(0, half), half);
+            sendGetRequests(oids.subList(half, oids.size()), half);
+            return;
+        }
+
+        if (event.getUserObject() instanceof ColumnWalk walk) {
+            if (response.getErrorStatus() != PDU.noError || request == null || request.size() == 0) {
+                // error responses echo the request, continuing would repeat it forever
+                logger.debug("{} aborting walk of column {}: {}", thing.getUID(), walk.column(),
+                        response.getErrorStatusText());
+                return;
+            }
+            continueColumnWalk(walk, request.get(0).getOid(), response);
+            return;
+        }
+
         response.getVariableBindings().forEach(variable -> {
             if (variable != null) {
-                updateChannels(variable.getOid(), variable.getVariable(), readChannelSet);
+                updateChannels(variable.getOid(), variable.getVariable(), readChannelIndex);
             }
         });
     }
 
+    private void continueColumnWalk(ColumnWalk walk, OID requestedOid, PDU response) {
+        OID lastOid = null;
+        for (VariableBinding variable : response.getVariableBindings()) {
+            if (variable == null) {
+                continue;
+            }
+            OID oid = variable.getOid();
+            if (variable.isException() || !oid.startsWith(walk.column())) {
+                // end of column or MIB reached
+                lastOid = null;
+                break;
+            }
+            updateChannels(oid, variable.getVariable(), readChannelIndex);
+            lastOid = oid;
+        }
+        // only continue if the walk made progress, agents returning OIDs out of order would cause a loop otherwise
+        if (lastOid != null && lastOid.compareTo(requestedOid) > 0 && lastOid.compareTo(walk.lastOid()) < 0) {
+            sendColumnWalkRequest(walk, lastOid);
+        }
+    }
+
     @Override
     public void processPdu(@Nullable CommandResponderEvent event) {
         if (event == null) {
@@ -323,13 +381,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             if (trapValue == PDUv1.ENTERPRISE_SPECIFIC) {
                 trapValue = pduv1.getSpecificTrap();
             }
-            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelSet);
+            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelIndex);
         }
         if ((pdu.getType() == PDU.TRAP || pdu.getType() == PDU.V1TRAP) && config.community.equals(community)
                 && targetAddressString.equals(address)) {
             pdu.getVariableBindings().forEach(variable -> {
                 if (variable != null) {
-                    updateChannels(variable.getOid(), variable.getVariable(), trapChannelSet);
+                    updateChannels(variable.getOid(), variable.getVariable(), trapChannelIndex);
                 }
             });
         }
@@ -404,7 +462,8 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             return null;
         }
         return new SnmpInternalChannelConfiguration(channel.getUID(), new OID(oid), config.mode, datatype, onValue,
-                offValue, exceptionValue, unit, config.doNotLogException);
+                offValue, exceptionValue, unit, config.doNotLogException,
+                config.counterRate && CHANNEL_TYPE_UID_NUMBER.equals(channel.getChannelTypeUID()));
     }
 
     private void generateChannelConfigs() {
@@ -419,11 +478,33 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 .collect(Collectors.toSet());
         this.trapChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
                 .collect(Collectors.toSet());
+        this.readChannelIndex = readChannelSet.stream().collect(Collectors.groupingBy(c -> c.oid));
+        this.trapChannelIndex = trapChannelSet.stream().collect(Collectors.groupingBy(c -> c.oid));
+
+        List<OID> readOids = readChannelIndex.keySet().stream().sorted().toList();
+        if (config.tableWalk && config.protocol.toInteger() != SnmpConstants.version1) {
+            // OIDs sharing their parent are rows of the same table column
+            Map<OID, List<OID>> columns = readOids.stream().collect(Collectors.groupingBy(oid -> new OID(oid).trim()));
+            List<OID> getOids = new ArrayList<>();
+            List<ColumnWalk> columnWalks = new ArrayList<>();
+            columns.forEach((column, rows) -> {
+                if (rows.size() > 1) {
+                    columnWalks.add(new ColumnWalk(column, rows.getLast()));
+                } else {
+                    getOids.addAll(rows);
+                }
+            });
+            this.getOids = getOids;
+            this.columnWalks = columnWalks;
+        } else {
+            this.getOids = readOids;
+            this.columnWalks = List.of();
+        }
     }
 
-    private void updateChannels(OID oid, Variable value, Set<SnmpInternalChannelConfiguration> channelConfigs) {
-        Set<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigs.stream()
-                .filter(c -> c.oid.equals(oid)).collect(Collectors.toSet());
+    private void updateChannels(OID oid, Variable value,
+            Map<OID, List<SnmpInternalChannelConfiguration>> channelIndex) {
+        List<SnmpInternalChannelConfiguration> updateChannelConfigs = channelIndex.getOrDefault(oid, List.of());
         if (!updateChannelConfigs.isEmpty()) {
             updateChannelConfigs.forEach(channelConfig -> {
                 ChannelUID channelUID = channelConfig.channelUID;
@@ -438,6 +519,12 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                         logger.info("SNMP Exception: request {} returned '{}'", oid, value);
                     }
                     state = channelConfig.exceptionValue;
+                } else if (channelConfig.counterRate) {
+                    State rate = calculateRate(channelConfig, value);
+                    if (rate == null) {
+                        return;
+                    }
+                    state = rate;
                 } else if (CHANNEL_TYPE_UID_NUMBER.equals(channel.getChannelTypeUID())) {
                     try {
                         if (channelConfig.datatype == SnmpDatatype.FLOAT) {
@@ -502,6 +589,37 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
     }
 
+    /**
+     * Calculate the rate per second of a counter from the previous sample of the channel
+     *
+     * @param channelConfig the channel configuration
+     * @param value the current counter value
+     * @return the rate or null if there is no previous sample
+     */
+    private @Nullable State calculateRate(SnmpInternalChannelConfiguration channelConfig, Variable value) {
+        long counter;
+        try {
+            counter = value.toLong();
+        } catch (UnsupportedOperationException e) {
+            logger.warn("could not convert {} to counter for channel {}", value, channelConfig.channelUID);
+            return null;
+        }
+        long now = System.nanoTime();
+        CounterSample previous = counterSamples.put(channelConfig.channelUID, new CounterSample(counter, now));
+        if (previous == null || now <= previous.nanoTime()) {
+            return null;
+        }
+        // subtraction wraps around correctly for 64 bit counters, 32 bit counters need to be corrected
+        long delta = counter - previous.value();
+        if (delta < 0 && !(value instanceof Counter64)) {
+            delta += 1L << 32;
+        }
+        BigDecimal rate = BigDecimal.valueOf(delta).multiply(NANOS_PER_SECOND)
+                .divide(BigDecimal.valueOf(now - previous.nanoTime()), 3, RoundingMode.HALF_UP);
+        Unit<?> channelUnit = channelConfig.unit;
+        return channelUnit == null ? new DecimalType(rate) : new QuantityType<>(rate, channelUnit);
+    }
+
     private Variable convertDatatype(Command command, SnmpDatatype datatype) {
         switch (datatype) {
             case INT32 -> {
@@ -590,10 +708,22 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
         }
-        PDU pdu = getPDU();
-        pdu.setType(PDU.GET);
-        readChannelSet.stream().map(c -> new VariableBinding(c.oid)).forEach(pdu::add);
-        if (!pdu.getVariableBindings().isEmpty()) {
+        sendGetRequests(getOids, config.maxOidsPerRequest);
+        columnWalks.forEach(walk -> sendColumnWalkRequest(walk, walk.column()));
+    }
+
+    /**
+     * Send the OIDs in GET requests of limited size, all requests are sent without waiting for the responses
+     *
+     * @param oids the OIDs to request
+     * @param maxOidsPerRequest maximum number of OIDs in a single request
+     */
+    private void sendGetRequests(List<OID> oids, int maxOidsPerRequest) {
+        int chunkSize = Math.max(1, maxOidsPerRequest);
+        for (int i = 0; i < oids.size(); i += chunkSize) {
+            PDU pdu = getPDU();
+            pdu.setType(PDU.GET);
+            oids.subList(i, Math.min(i + chunkSize, oids.size())).forEach(oid -> pdu.add(new VariableBinding(oid)));
             try {
                 snmpService.send(pdu, target, null, this);
             } catch (IOException e) {
@@ -602,6 +732,19 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
     }
 
+    private void sendColumnWalkRequest(ColumnWalk walk, OID startOid) {
+        PDU pdu = getPDU();
+        pdu.setType(PDU.GETBULK);
+        pdu.setNonRepeaters(0);
+        pdu.setMaxRepetitions(Math.max(1, config.maxOidsPerRequest));
+        pdu.add(new VariableBinding(startOid));
+        try {
+            snmpService.send(pdu, target, walk, this);
+        } catch (IOException e) {
+            logger.info("Could not send PDU", e);
+        }
+    }
+
     private PDU getPDU() {
         if (config.protocol == SnmpProtocolVersion.v3 || config.protocol == SnmpProtocolVersion.V3) {
             return new ScopedPDU();
@@ -609,4 +752,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             return new PDU();
         }
     }
+
+    /**
+     * A table column walked by GETBULK requests up to the last OID linked to a channel
+     */
+    private record ColumnWalk(OID column, OID lastOid) {
+    }
+
+    private record CounterSample(long value, long nanoTime) {
+    }
 }
@@ -34,4 +34,5 @@ public class SnmpChannelConfiguration {
     public @Nullable String exceptionValue;
 
     public boolean doNotLogException = false;
+    public boolean counterRate = false;
 }
@@ -34,6 +34,8 @@ public class SnmpTargetConfiguration {
     public int refresh = 60;
     public int timeout = 1500;
     public int retries = 2;
+    public int maxOidsPerRequest = 32;
+    public boolean tableWalk = false;
 
     // v1/v2c only
     public String community = "public";
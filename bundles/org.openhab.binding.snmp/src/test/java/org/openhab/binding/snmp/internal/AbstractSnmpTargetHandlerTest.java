@@ -184,13 +184,6 @@ public abstract class AbstractSnmpTargetHandlerTest extends JavaTest {
             @Nullable String onValue, @Nullable String offValue, @Nullable String exceptionValue,
             @Nullable String unit) {
         Map<String, Object> channelConfig = new HashMap<>();
-        Map<String, Object> thingConfig = new HashMap<>();
-        mocks = MockitoAnnotations.openMocks(this);
-
-        thingConfig.put("hostname", "localhost");
-
-        ThingBuilder thingBuilder = ThingBuilder.create(THING_TYPE_TARGET, THING_UID).withLabel("Test thing")
-                .withConfiguration(new Configuration(thingConfig));
 
         String itemType = SnmpBindingConstants.CHANNEL_TYPE_UID_NUMBER.equals(channelTypeUID) ? "Number" : "String";
         channelConfig.put("oid", TEST_OID);
@@ -212,7 +205,18 @@ public abstract class AbstractSnmpTargetHandlerTest extends JavaTest {
         }
         Channel channel = ChannelBuilder.create(CHANNEL_UID, itemType).withType(channelTypeUID)
                 .withConfiguration(new Configuration(channelConfig)).build();
-        thingBuilder.withChannel(channel);
+
+        setup(Map.of(), List.of(channel));
+    }
+
+    protected void setup(Map<String, Object> additionalThingConfig, List<Channel> channels) {
+        Map<String, Object> thingConfig = new HashMap<>(additionalThingConfig);
+        mocks = MockitoAnnotations.openMocks(this);
+
+        thingConfig.put("hostname", "localhost");
+
+        ThingBuilder thingBuilder = ThingBuilder.create(THING_TYPE_TARGET, THING_UID).withLabel("Test thing")
+                .withConfiguration(new Configuration(thingConfig)).withChannels(channels);
 
         thing = thingBuilder.build();
         thingHandler = new SnmpTargetHandler(thing, snmpService);
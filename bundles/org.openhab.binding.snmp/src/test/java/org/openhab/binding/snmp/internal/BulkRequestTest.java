@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.openhab.binding.snmp.internal.types.SnmpChannelMode;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.openhab.core.types.State;
+import org.snmp4j.PDU;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.UnsignedInteger32;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Tests cases for the request splitting, table walks and counter rates of {@link SnmpTargetHandler}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class BulkRequestTest extends AbstractSnmpTargetHandlerTest {
+    private static final String COLUMN_OID = "1.3.6.1.2.1.31.1.1.1.6";
+
+    private Channel numberChannel(String id, String oid, boolean counterRate) {
+        Map<String, Object> channelConfig = new HashMap<>();
+        channelConfig.put("oid", oid);
+        channelConfig.put("mode", SnmpChannelMode.READ.name());
+        channelConfig.put("counterRate", counterRate);
+        return ChannelBuilder.create(new ChannelUID(THING_UID, id), "Number")
+                .withType(SnmpBindingConstants.CHANNEL_TYPE_UID_NUMBER)
+                .withConfiguration(new Configuration(channelConfig)).build();
+    }
+
+    private List<PDU> captureRequests(int count) throws IOException {
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        verify(snmpService, timeout(500).times(count)).send(pduCaptor.capture(), any(), any(), eq(thingHandler));
+        return pduCaptor.getAllValues();
+    }
+
+    private void respond(PDU request, @Nullable Object userObject, List<VariableBinding> variables) {
+        PDU responsePDU = new PDU(PDU.RESPONSE, variables);
+        thingHandler.onResponse(new ResponseEvent<>("test", null, request, responsePDU, userObject, 0L));
+    }
+
+    @Test
+    public void testRefreshIsSplitIntoRequests() throws IOException {
+        List<Channel> channels = IntStream.rangeClosed(1, 70)
+                .mapToObj(i -> numberChannel("channel" + i, "1.2.3." + i, false)).toList();
+        setup(Map.of("maxOidsPerRequest", 32), channels);
+
+        List<PDU> requests = captureRequests(3);
+        assertEquals(List.of(32, 32, 6), requests.stream().map(PDU::size).toList());
+        assertTrue(requests.stream().allMatch(pdu -> pdu.getType() == PDU.GET));
+    }
+
+    @Test
+    public void testTooBigResponseSplitsRequest() throws IOException {
+        List<Channel> channels = IntStream.rangeClosed(1, 4)
+                .mapToObj(i -> numberChannel("channel" + i, "1.2.3." + i, false)).toList();
+        setup(Map.of(), channels);
+        PDU request = captureRequests(1).getFirst();
+
+        PDU responsePDU = new PDU(request);
+        responsePDU.setType(PDU.RESPONSE);
+        responsePDU.setErrorStatus(PDU.tooBig);
+        thingHandler.onResponse(new ResponseEvent<>("test", null, request, responsePDU, null, 0L));
+
+        List<PDU> requests = captureRequests(3);
+        assertEquals(List.of(4, 2, 2), requests.stream().map(PDU::size).toList());
+        verify(thingHandlerCallback, never()).stateUpdated(any(), any());
+    }
+
+    @Test
+    public void testOidIndexUpdatesMatchingChannels() throws IOException {
+        setup(Map.of(), List.of(numberChannel("a", "1.2.3.1", false), numberChannel("b", "1.2.3.2", false)));
+        PDU request = captureRequests(1).getFirst();
+
+        respond(request, null, List.of(new VariableBinding(new OID("1.2.3.2"), new UnsignedInteger32(7)),
+                new VariableBinding(new OID("1.2.3.9"), new UnsignedInteger32(8))));
+
+        verify(thingHandlerCallback).stateUpdated(eq(new ChannelUID(THING_UID, "b")), eq(new DecimalType(7)));
+        verify(thingHandlerCallback, never()).stateUpdated(eq(new ChannelUID(THING_UID, "a")), any());
+    }
+
+    @Test
+    public void testTableWalk() throws IOException {
+        List<Channel> channels = new ArrayList<>();
+        channels.add(numberChannel("single", TEST_OID, false));
+        IntStream.rangeClosed(1, 3).forEach(i -> channels.add(numberChannel("port" + i, COLUMN_OID + "." + i, false)));
+        setup(Map.of("protocol", "v2c", "tableWalk", true, "maxOidsPerRequest", 2), channels);
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        ArgumentCaptor<Object> handleCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(snmpService, timeout(500).times(2)).send(pduCaptor.capture(), any(), handleCaptor.capture(),
+                eq(thingHandler));
+        PDU get = pduCaptor.getAllValues().get(0);
+        assertEquals(PDU.GET, get.getType());
+        assertEquals(new OID(TEST_OID), get.get(0).getOid());
+        PDU bulk = pduCaptor.getAllValues().get(1);
+        Object walk = handleCaptor.getAllValues().get(1);
+        assertEquals(PDU.GETBULK, bulk.getType());
+        assertEquals(2, bulk.getMaxRepetitions());
+        assertEquals(new OID(COLUMN_OID), bulk.get(0).getOid());
+
+        respond(bulk, walk, List.of(new VariableBinding(new OID(COLUMN_OID + ".1"), new UnsignedInteger32(1)),
+                new VariableBinding(new OID(COLUMN_OID + ".2"), new UnsignedInteger32(2))));
+
+        verify(snmpService, timeout(500).times(2)).send(pduCaptor.capture(), any(), eq(walk), eq(thingHandler));
+        assertEquals(new OID(COLUMN_OID + ".2"), pduCaptor.getValue().get(0).getOid());
+
+        // the walk ends when the column is left
+        respond(pduCaptor.getValue(), walk,
+                List.of(new VariableBinding(new OID(COLUMN_OID + ".3"), new UnsignedInteger32(3)),
+                        new VariableBinding(new OID("1.3.6.1.2.1.31.1.1.1.7.1"), new Null())));
+
+        IntStream.rangeClosed(1, 3).forEach(i -> verify(thingHandlerCallback)
+                .stateUpdated(eq(new ChannelUID(THING_UID, "port" + i)), eq(new DecimalType(i))));
+        verify(snmpService, Mockito.after(200).times(3)).send(any(), any(), any(), eq(thingHandler));
+    }
+
+    @Test
+    public void testTableWalkAbortsOnError() throws IOException {
+        setup(Map.of("protocol", "v2c", "tableWalk", true, "maxOidsPerRequest", 2),
+                List.of(numberChannel("port1", COLUMN_OID + ".1", false),
+                        numberChannel("port2", COLUMN_OID + ".2", false)));
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        ArgumentCaptor<Object> handleCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(snmpService, timeout(500)).send(pduCaptor.capture(), any(), handleCaptor.capture(), eq(thingHandler));
+        PDU bulk = pduCaptor.getValue();
+        assertEquals(PDU.GETBULK, bulk.getType());
+
+        // agents echo the request variables in error responses
+        PDU responsePDU = new PDU(bulk);
+        responsePDU.setType(PDU.RESPONSE);
+        responsePDU.setErrorStatus(PDU.genErr);
+        responsePDU.setErrorIndex(1);
+        thingHandler.onResponse(new ResponseEvent<>("test", null, bulk, responsePDU, handleCaptor.getValue(), 0L));
+
+        verify(snmpService, Mockito.after(200).times(1)).send(any(), any(), any(), eq(thingHandler));
+        verify(thingHandlerCallback, never()).stateUpdated(any(), any());
+    }
+
+    @Test
+    public void testTableWalkStopsWithoutProgress() throws IOException {
+        setup(Map.of("protocol", "v2c", "tableWalk", true, "maxOidsPerRequest", 2),
+                List.of(numberChannel("port1", COLUMN_OID + ".1", false),
+                        numberChannel("port5", COLUMN_OID + ".5", false)));
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        ArgumentCaptor<Object> handleCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(snmpService, timeout(500)).send(pduCaptor.capture(), any(), handleCaptor.capture(), eq(thingHandler));
+        Object walk = handleCaptor.getValue();
+
+        respond(pduCaptor.getValue(), walk,
+                List.of(new VariableBinding(new OID(COLUMN_OID + ".2"), new UnsignedInteger32(2))));
+        verify(snmpService, timeout(500).times(2)).send(pduCaptor.capture(), any(), eq(walk), eq(thingHandler));
+        PDU next = pduCaptor.getValue();
+        assertEquals(new OID(COLUMN_OID + ".2"), next.get(0).getOid());
+
+        // a broken agent answering with an OID before the requested one must not cause a loop
+        respond(next, walk, List.of(new VariableBinding(new OID(COLUMN_OID + ".1"), new UnsignedInteger32(1))));
+        verify(snmpService, Mockito.after(200).times(2)).send(any(), any(), any(), eq(thingHandler));
+    }
+
+    @Test
+    public void testCounterRate() throws IOException {
+        ChannelUID channelUID = new ChannelUID(THING_UID, "rate");
+        setup(Map.of(), List.of(numberChannel("rate", TEST_OID, true)));
+        PDU request = captureRequests(1).getFirst();
+
+        respond(request, null, List.of(new VariableBinding(new OID(TEST_OID), new Counter32(0xFFFFFFF0L))));
+        verify(thingHandlerCallback, never()).stateUpdated(eq(channelUID), any());
+
+        respond(request, null, List.of(new VariableBinding(new OID(TEST_OID), new Counter32(0x10L))));
+        ArgumentCaptor<State> stateCaptor = ArgumentCaptor.forClass(State.class);
+        verify(thingHandlerCallback).stateUpdated(eq(channelUID), stateCaptor.capture());
+        // 32 bit counter wrapped around, difference is 32
+        BigDecimal rate = ((DecimalType) stateCaptor.getValue()).toBigDecimal();
+        assertTrue(rate.compareTo(BigDecimal.valueOf(32)) > 0);
+    }
+}
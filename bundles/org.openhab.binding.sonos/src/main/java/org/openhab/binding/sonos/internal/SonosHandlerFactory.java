@@ -22,6 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sonos.internal.handler.ZonePlayerDirectory;
 import org.openhab.binding.sonos.internal.handler.ZonePlayerHandler;
 import org.openhab.core.audio.AudioHTTPServer;
 import org.openhab.core.audio.AudioSink;
@@ -30,7 +31,6 @@ import org.openhab.core.io.transport.upnp.UpnpIOService;
 import org.openhab.core.net.HttpServiceUtil;
 import org.openhab.core.net.NetworkAddressService;
 import org.openhab.core.thing.Thing;
-import org.openhab.core.thing.ThingRegistry;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
@@ -56,15 +56,13 @@ public class SonosHandlerFactory extends BaseThingHandlerFactory {
 
     private final Logger logger = LoggerFactory.getLogger(SonosHandlerFactory.class);
 
-    // Bindings should not use the ThingRegistry! See https://github.com/openhab/openhab-addons/pull/6080 and
-    // https://github.com/eclipse/smarthome/issues/5182
-    private final ThingRegistry thingRegistry;
     private final UpnpIOService upnpIOService;
     private final AudioHTTPServer audioHTTPServer;
     private final NetworkAddressService networkAddressService;
     private final SonosStateDescriptionOptionProvider stateDescriptionProvider;
 
     private final Map<String, ServiceRegistration<AudioSink>> audioSinkRegistrations = new ConcurrentHashMap<>();
+    private final ZonePlayerDirectory zonePlayerDirectory = new ZonePlayerDirectory();
 
     // optional OPML URL that can be configured through configuration admin
     private @Nullable String opmlUrl;
@@ -73,11 +71,10 @@ public class SonosHandlerFactory extends BaseThingHandlerFactory {
     private @Nullable String callbackUrl;
 
     @Activate
-    public SonosHandlerFactory(final @Reference ThingRegistry thingRegistry,
-            final @Reference UpnpIOService upnpIOService, final @Reference AudioHTTPServer audioHTTPServer,
+    public SonosHandlerFactory(final @Reference UpnpIOService upnpIOService,
+            final @Reference AudioHTTPServer audioHTTPServer,
             final @Reference NetworkAddressService networkAddressService,
             final @Reference SonosStateDescriptionOptionProvider stateDescriptionProvider) {
-        this.thingRegistry = thingRegistry;
         this.upnpIOService = upnpIOService;
         this.audioHTTPServer = audioHTTPServer;
         this.networkAddressService = networkAddressService;
@@ -117,7 +114,7 @@ public class SonosHandlerFactory extends BaseThingHandlerFactory {
             logger.debug("Creating a ZonePlayerHandler for thing '{}' with UDN '{}'", thing.getUID(),
                     thing.getConfiguration().get(UDN));
 
-            ZonePlayerHandler handler = new ZonePlayerHandler(thingRegistry, thing, upnpIOService, opmlUrl,
+            ZonePlayerHandler handler = new ZonePlayerHandler(zonePlayerDirectory, thing, upnpIOService, opmlUrl,
                     stateDescriptionProvider);
 
             // register the speaker as an audio sink
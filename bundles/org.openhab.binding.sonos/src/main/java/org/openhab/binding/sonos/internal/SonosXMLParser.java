@@ -21,7 +21,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -63,6 +65,9 @@ public class SonosXMLParser {
             </DIDL-Lite>\
             """;
 
+    private static final ParserPool PARSERS = new ParserPool(false);
+    private static final ParserPool DOCTYPE_DISALLOWING_PARSERS = new ParserPool(true);
+
     private enum Element {
         TITLE,
         CLASS,
@@ -88,6 +93,43 @@ public class SonosXMLParser {
         desc
     }
 
+    /**
+     * Pool of idle SAX parsers sharing one factory, so parsing an event doesn't look up a factory and set up a new
+     * parser each time. A parser is reset and returned to the pool after each parse. Nested parses, like the resource
+     * meta data within an entry, just borrow another parser.
+     */
+    private static class ParserPool {
+
+        private final SAXParserFactory factory = SAXParserFactory.newInstance();
+        private final Queue<SAXParser> idleParsers = new ConcurrentLinkedQueue<>();
+        private final boolean disallowDoctype;
+
+        ParserPool(boolean disallowDoctype) {
+            this.disallowDoctype = disallowDoctype;
+        }
+
+        void parse(InputSource source, DefaultHandler handler)
+                throws IOException, SAXException, ParserConfigurationException {
+            SAXParser saxParser = idleParsers.poll();
+            if (saxParser == null) {
+                saxParser = newParser();
+            }
+            try {
+                saxParser.parse(source, handler);
+            } finally {
+                saxParser.reset();
+                idleParsers.offer(saxParser);
+            }
+        }
+
+        private synchronized SAXParser newParser() throws SAXException, ParserConfigurationException {
+            if (disallowDoctype) {
+                factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            }
+            return factory.newSAXParser();
+        }
+    }
+
     /**
      * @param xml
      * @return a list of alarms from the given xml string.
@@ -95,9 +137,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            PARSERS.parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Alarms from string '{}'", xml);
         }
@@ -111,9 +151,7 @@ public class SonosXMLParser {
     public static List<SonosEntry> getEntriesFromString(String xml) {
         EntryHandler handler = new EntryHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            PARSERS.parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Entries from string '{}'", xml);
         }
@@ -132,12 +170,9 @@ public class SonosXMLParser {
      */
     public static @Nullable SonosResourceMetaData getResourceMetaData(String xml)
             throws SAXException, ParserConfigurationException {
-        SAXParserFactory factory = SAXParserFactory.newInstance();
-        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        SAXParser saxParser = factory.newSAXParser();
         ResourceMetaDataHandler handler = new ResourceMetaDataHandler();
         try {
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            DOCTYPE_DISALLOWING_PARSERS.parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException e) {
             LOGGER.warn("Could not parse Resource MetaData from string '{}'", xml);
         }
@@ -151,9 +186,7 @@ public class SonosXMLParser {
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            PARSERS.parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse ZoneGroup from string '{}'", xml);
         }
@@ -164,9 +197,7 @@ public class SonosXMLParser {
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            PARSERS.parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse RadioTime from string '{}'", xml);
         }
@@ -177,9 +208,7 @@ public class SonosXMLParser {
     public static Map<String, String> getRenderingControlFromXML(String xml) {
         RenderingControlEventHandler handler = new RenderingControlEventHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            PARSERS.parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Rendering Control from string '{}'", xml);
         }
@@ -189,9 +218,7 @@ public class SonosXMLParser {
     public static Map<String, String> getAVTransportFromXML(String xml) {
         AVTransportEventHandler handler = new AVTransportEventHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            PARSERS.parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse AV Transport from string '{}'", xml);
         }
@@ -201,9 +228,7 @@ public class SonosXMLParser {
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            PARSERS.parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse MetaData from string '{}'", xml);
         }
@@ -214,9 +239,7 @@ public class SonosXMLParser {
     public static List<SonosMusicService> getMusicServicesFromXML(String xml) {
         MusicServiceHandler handler = new MusicServiceHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            PARSERS.parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse music services from string '{}'", xml);
         }
@@ -915,9 +938,7 @@ public class SonosXMLParser {
     public static @Nullable String getRoomName(URL descriptorURL) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(descriptorURL.openStream()), roomNameHandler);
+            PARSERS.parse(new InputSource(descriptorURL.openStream()), roomNameHandler);
         } catch (SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Sonos room name from URL '{}'", descriptorURL);
         } catch (IOException e) {
@@ -955,9 +976,7 @@ public class SonosXMLParser {
     public static @Nullable String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(descriptorURL.openStream()), modelNameHandler);
+            PARSERS.parse(new InputSource(descriptorURL.openStream()), modelNameHandler);
         } catch (SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Sonos model name from URL '{}'", descriptorURL);
         } catch (IOException e) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal.handler;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ZonePlayerDirectory} keeps track of the initialized {@link ZonePlayerHandler}s of the binding, indexed
+ * by thing ID and by UDN. Group members, coordinators and remote players are resolved with a map lookup instead of
+ * searching the thing registry for each of them.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ZonePlayerDirectory {
+
+    private final Map<String, ZonePlayerHandler> handlersByThingId = new ConcurrentHashMap<>();
+    private final Map<String, ZonePlayerHandler> handlersByUdn = new ConcurrentHashMap<>();
+
+    void register(ZonePlayerHandler handler, @Nullable String udn) {
+        handlersByThingId.put(handler.getThing().getUID().getId(), handler);
+        if (udn != null && !udn.isEmpty()) {
+            handlersByUdn.put(udn, handler);
+        }
+    }
+
+    void unregister(ZonePlayerHandler handler) {
+        handlersByThingId.values().remove(handler);
+        handlersByUdn.values().remove(handler);
+    }
+
+    /**
+     * Returns the handler of a zone player.
+     *
+     * @param name thing ID or UDN of the zone player
+     * @return the handler or null if no zone player with this name is initialized
+     */
+    @Nullable
+    ZonePlayerHandler get(String name) {
+        ZonePlayerHandler handler = handlersByThingId.get(name);
+        return handler != null ? handler : handlersByUdn.get(name);
+    }
+
+    Collection<ZonePlayerHandler> getAll() {
+        return handlersByThingId.values();
+    }
+}
@@ -59,13 +59,10 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
-import org.openhab.core.thing.ThingRegistry;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingTypeUID;
-import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseThingHandler;
-import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
@@ -168,7 +165,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     private final Logger logger = LoggerFactory.getLogger(ZonePlayerHandler.class);
 
-    private final ThingRegistry localThingRegistry;
+    private final ZonePlayerDirectory zonePlayerDirectory;
     private final UpnpIOService service;
     private final @Nullable String opmlUrl;
     private final SonosStateDescriptionOptionProvider stateDescriptionProvider;
@@ -203,10 +200,10 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         ANY
     }
 
-    public ZonePlayerHandler(ThingRegistry thingRegistry, Thing thing, UpnpIOService upnpIOService,
+    public ZonePlayerHandler(ZonePlayerDirectory zonePlayerDirectory, Thing thing, UpnpIOService upnpIOService,
             @Nullable String opmlUrl, SonosStateDescriptionOptionProvider stateDescriptionProvider) {
         super(thing);
-        this.localThingRegistry = thingRegistry;
+        this.zonePlayerDirectory = zonePlayerDirectory;
         this.opmlUrl = opmlUrl;
         logger.debug("Creating a ZonePlayerHandler for thing '{}'", getThing().getUID());
         this.service = upnpIOService;
@@ -225,6 +222,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
         removeSubscription();
         service.unregisterParticipant(this);
+        zonePlayerDirectory.unregister(this);
     }
 
     @Override
@@ -238,6 +236,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
         configuration = getConfigAs(ZonePlayerConfiguration.class);
         String udn = configuration.udn;
+        zonePlayerDirectory.register(this, udn);
         if (udn != null && !udn.isEmpty()) {
             service.registerParticipant(this);
             pollingJob = scheduler.scheduleWithFixedDelay(this::poll, 0, configuration.refresh, TimeUnit.SECONDS);
@@ -450,24 +449,14 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     private void restoreAllPlayerState() {
-        for (Thing aThing : localThingRegistry.getAll()) {
-            if (SonosBindingConstants.SUPPORTED_THING_TYPES_UIDS.contains(aThing.getThingTypeUID())) {
-                ZonePlayerHandler handler = (ZonePlayerHandler) aThing.getHandler();
-                if (handler != null) {
-                    handler.restoreState();
-                }
-            }
+        for (ZonePlayerHandler handler : zonePlayerDirectory.getAll()) {
+            handler.restoreState();
         }
     }
 
     private void saveAllPlayerState() {
-        for (Thing aThing : localThingRegistry.getAll()) {
-            if (SonosBindingConstants.SUPPORTED_THING_TYPES_UIDS.contains(aThing.getThingTypeUID())) {
-                ZonePlayerHandler handler = (ZonePlayerHandler) aThing.getHandler();
-                if (handler != null) {
-                    handler.saveState();
-                }
-            }
+        for (ZonePlayerHandler handler : zonePlayerDirectory.getAll()) {
+            handler.saveState();
         }
     }
 
@@ -2325,23 +2314,9 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     protected ZonePlayerHandler getHandlerByName(String remotePlayerName) throws IllegalStateException {
-        for (ThingTypeUID supportedThingType : SonosBindingConstants.SUPPORTED_THING_TYPES_UIDS) {
-            Thing thing = localThingRegistry.get(new ThingUID(supportedThingType, remotePlayerName));
-            if (thing != null) {
-                ThingHandler handler = thing.getHandler();
-                if (handler instanceof ZonePlayerHandler zonePlayerHandler) {
-                    return zonePlayerHandler;
-                }
-            }
-        }
-        for (Thing aThing : localThingRegistry.getAll()) {
-            if (SonosBindingConstants.SUPPORTED_THING_TYPES_UIDS.contains(aThing.getThingTypeUID())
-                    && aThing.getConfiguration().get(ZonePlayerConfiguration.UDN).equals(remotePlayerName)) {
-                ThingHandler handler = aThing.getHandler();
-                if (handler instanceof ZonePlayerHandler zonePlayerHandler) {
-                    return zonePlayerHandler;
-                }
-            }
+        ZonePlayerHandler handler = zonePlayerDirectory.get(remotePlayerName);
+        if (handler != null) {
+            return handler;
         }
         throw new IllegalStateException("Could not find handler for " + remotePlayerName);
     }
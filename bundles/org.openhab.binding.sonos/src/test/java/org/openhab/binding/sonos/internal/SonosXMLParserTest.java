@@ -104,6 +104,18 @@ public class SonosXMLParserTest {
                 sonosMetaData.getAlbumArtUri());
     }
 
+    @Test
+    public void getMetaDataFromXMLAfterMalformedXML() throws IOException {
+        InputStream resourceStream = getClass().getResourceAsStream("/MetaData.xml");
+        assertNotNull(resourceStream);
+        final String xml = new String(resourceStream.readAllBytes(), StandardCharsets.UTF_8);
+        // the pooled parser must not keep any state of an aborted parse
+        SonosXMLParser.getMetaDataFromXML(xml.substring(0, xml.length() / 2));
+        SonosMetaData sonosMetaData = SonosXMLParser.getMetaDataFromXML(xml);
+        assertEquals("Turn Down for What", sonosMetaData.getTitle());
+        assertEquals("DJ Snake & Lil Jon", sonosMetaData.getCreator());
+    }
+
     @Test
     public void compileMetadataString() {
         SonosEntry sonosEntry = new SonosEntry("1", "Can't Buy Me Love", "0", "A Hard Day's Night", "", "",
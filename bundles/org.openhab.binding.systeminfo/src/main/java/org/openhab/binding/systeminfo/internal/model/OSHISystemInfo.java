@@ -17,6 +17,7 @@ import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.measure.quantity.ElectricPotential;
 import javax.measure.quantity.Frequency;
@@ -25,6 +26,8 @@ import javax.measure.quantity.Time;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.cache.ExpiringCache;
+import org.openhab.core.cache.ExpiringCacheMap;
 import org.openhab.core.library.dimension.DataAmount;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.PercentType;
@@ -64,6 +67,7 @@ import oshi.util.EdidUtil;
  * @author Mark Herwege - Add dynamic creation of extra channels
  * @author Mark Herwege - Use units of measure
  * @author Mark Herwege - Processor frequency channels
+ * @author openHAB Contributors - Sample each data source once per refresh cycle
  *
  * @see <a href="https://github.com/oshi/oshi">OSHI GitHub repository</a>
  */
@@ -95,6 +99,21 @@ public class OSHISystemInfo implements SystemInfoInterface {
     // Map containing previous process state to calculate load by process
     private Map<Integer, OSProcess> processTicks = new HashMap<>();
 
+    /**
+     * Maximum age of a sample of the data sources below. All channels refreshed in one cycle are served from the same
+     * sample, e.g. the 5 channels of a process read /proc once instead of 5 times. It is shorter than the minimal
+     * refresh interval of 1 s, so each refresh cycle takes a new sample.
+     * Memory, sensors and processor frequencies are not sampled here, as OSHI already memoizes them.
+     */
+    private static final long SNAPSHOT_EXPIRY_MS = 500;
+
+    private ExpiringCacheMap<Integer, OSProcess> processSnapshots = new ExpiringCacheMap<>(SNAPSHOT_EXPIRY_MS);
+    private ExpiringCacheMap<Integer, OSFileStore> fileStoreSnapshots = new ExpiringCacheMap<>(SNAPSHOT_EXPIRY_MS);
+    private ExpiringCacheMap<Integer, NetworkIF> networkSnapshots = new ExpiringCacheMap<>(SNAPSHOT_EXPIRY_MS);
+    private ExpiringCacheMap<Integer, PowerSource> powerSourceSnapshots = new ExpiringCacheMap<>(
+            SNAPSHOT_EXPIRY_MS);
+    private @NonNullByDefault({}) ExpiringCache<double[]> loadAverageSnapshot;
+
     public static final int PRECISION_AFTER_DECIMAL_SIGN = 1;
 
     /**
@@ -124,6 +143,13 @@ public class OSHISystemInfo implements SystemInfoInterface {
         fileStores = operatingSystem.getFileSystem().getFileStores();
         powerSources = hal.getPowerSources();
         drives = hal.getDiskStores();
+
+        processSnapshots.clear();
+        fileStoreSnapshots.clear();
+        networkSnapshots.clear();
+        powerSourceSnapshots.clear();
+        // the 1, 5 and 15 minutes averages are sampled together
+        loadAverageSnapshot = new ExpiringCache<>(SNAPSHOT_EXPIRY_MS, () -> cpu.getSystemLoadAverage(3));
     }
 
     private <T> T getDevice(List<@Nullable T> devices, int index) throws DeviceNotFoundException {
@@ -140,8 +166,35 @@ public class OSHISystemInfo implements SystemInfoInterface {
         return devices[index];
     }
 
+    /**
+     * Updates the attributes of a device, unless they were already updated for the current sample.
+     */
+    private <T> T updateAttributes(T device, int index, ExpiringCacheMap<Integer, T> snapshots,
+            Supplier<Boolean> updateAttributes) {
+        snapshots.putIfAbsentAndGet(index, () -> {
+            updateAttributes.get();
+            return device;
+        });
+        return device;
+    }
+
+    private OSFileStore getUpdatedFileStore(int index) throws DeviceNotFoundException {
+        OSFileStore fileStore = getDevice(fileStores, index);
+        return updateAttributes(fileStore, index, fileStoreSnapshots, fileStore::updateAttributes);
+    }
+
+    private NetworkIF getUpdatedNetwork(int index) throws DeviceNotFoundException {
+        NetworkIF network = getDevice(networks, index);
+        return updateAttributes(network, index, networkSnapshots, network::updateAttributes);
+    }
+
+    private PowerSource getUpdatedPowerSource(int index) throws DeviceNotFoundException {
+        PowerSource powerSource = getDevice(powerSources, index);
+        return updateAttributes(powerSource, index, powerSourceSnapshots, powerSource::updateAttributes);
+    }
+
     private OSProcess getProcess(int pid) throws DeviceNotFoundException {
-        OSProcess process = operatingSystem.getProcess(pid);
+        OSProcess process = processSnapshots.putIfAbsentAndGet(pid, () -> operatingSystem.getProcess(pid));
         if (process == null) {
             throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
         }
@@ -236,8 +289,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public QuantityType<DataAmount> getStorageTotal(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(index);
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new QuantityType<>(totalSpace, Units.MEBIBYTE);
@@ -245,8 +297,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public QuantityType<DataAmount> getStorageAvailable(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(index);
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new QuantityType<>(freeSpace, Units.MEBIBYTE);
@@ -254,8 +305,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public QuantityType<DataAmount> getStorageUsed(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(index);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -265,8 +315,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable PercentType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         if (totalSpace > 0) {
@@ -280,8 +329,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable PercentType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -317,8 +365,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
-        NetworkIF netInterface = getDevice(networks, index);
-        netInterface.updateAttributes();
+        NetworkIF netInterface = getUpdatedNetwork(index);
         String[] ipAddresses = netInterface.getIPv4addr();
         String ipv4 = getDevice(ipAddresses, 0);
         return new StringType(ipv4);
@@ -382,8 +429,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable QuantityType<Time> getBatteryRemainingTime(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        PowerSource powerSource = getUpdatedPowerSource(index);
         double remainingTimeInSeconds = powerSource.getTimeRemainingEstimated();
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
@@ -392,8 +438,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public PercentType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        PowerSource powerSource = getUpdatedPowerSource(index);
         double remainingCapacity = powerSource.getRemainingCapacityPercent();
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new PercentType(remainingCapacityPercents);
@@ -577,7 +622,10 @@ public class OSHISystemInfo implements SystemInfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        double[] processorLoads = loadAverageSnapshot.getValue();
+        if (processorLoads == null || processorLoads.length <= index) {
+            return BigDecimal.ONE.negate();
+        }
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return result;
@@ -604,32 +652,28 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long packRecv = network.getPacketsRecv();
         return new DecimalType(packRecv);
     }
 
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long packSent = network.getPacketsSent();
         return new DecimalType(packSent);
     }
 
     @Override
     public QuantityType<DataAmount> getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long bytesSent = network.getBytesSent();
         return new QuantityType<>(getSizeInMB(bytesSent), Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long bytesRecv = network.getBytesRecv();
         return new QuantityType<>(getSizeInMB(bytesRecv), Units.MEBIBYTE);
     }
@@ -26,6 +26,7 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.tibber.internal.Utils;
 import org.openhab.binding.tibber.internal.dto.CurveEntry;
 import org.openhab.binding.tibber.internal.dto.PriceInfo;
@@ -46,8 +47,10 @@ import com.google.gson.JsonObject;
 @NonNullByDefault
 public class PriceCalculator {
     private static final int AVERAGE_PRICE_INTERVAL = 5;
+    private static final long STEP_SECONDS = 60;
     private final Logger logger = LoggerFactory.getLogger(PriceCalculator.class);
     private final TreeMap<Instant, PriceInfo> priceMap;
+    private final @Nullable PriceSeries priceSeries;
 
     public PriceCalculator(JsonArray spotPrices) {
         priceMap = new TreeMap<>();
@@ -79,6 +82,7 @@ public class PriceCalculator {
         } else {
             logger.warn("Empty spot price update delivered");
         }
+        priceSeries = PriceSeries.of(priceMap);
     }
 
     /**
@@ -182,6 +186,81 @@ public class PriceCalculator {
             totalDuration += curveEntry.durationSeconds;
         }
         Instant latestStart = latestEnd.minus(totalDuration, ChronoUnit.SECONDS);
+        PriceSeries series = priceSeries;
+        long calculationStart = System.currentTimeMillis();
+        Map<String, Object> resultMap;
+        if (series != null && earliestStart.getNano() == 0 && latestStart.getNano() == 0
+                && earliestStart.isBefore(latestStart) && curve.stream().allMatch(entry -> entry.durationSeconds > 0)) {
+            resultMap = estimateBestPrice(series, earliestStart, latestStart, curve);
+        } else {
+            resultMap = iterateBestPrice(earliestStart, latestStart, curve);
+        }
+        logger.trace("Calculation time {} ms", System.currentTimeMillis() - calculationStart);
+        return resultMap;
+    }
+
+    /**
+     * Calculates the best price by estimating the cost of all start candidates from the cumulated prices of the
+     * {@link PriceSeries}. Only candidates whose estimate is within the rounding tolerance of the lowest respectively
+     * highest estimate are calculated exactly, so the result is the same as the one of
+     * {@link #iterateBestPrice(Instant, Instant, List)}.
+     */
+    private Map<String, Object> estimateBestPrice(PriceSeries series, Instant earliestStart, Instant latestStart,
+            List<CurveEntry> curve) throws PriceCalculationException {
+        long first = earliestStart.getEpochSecond();
+        int count = (int) ((latestStart.getEpochSecond() - first + STEP_SECONDS - 1) / STEP_SECONDS);
+        // curve entries share the start, so entries of the same duration can be estimated together
+        Map<Long, Double> powerPerDuration = new TreeMap<>();
+        double totalPower = 0;
+        for (CurveEntry curveEntry : curve) {
+            powerPerDuration.merge(curveEntry.durationSeconds, (double) curveEntry.powerWatts, Double::sum);
+            totalPower += Math.abs((double) curveEntry.powerWatts);
+        }
+        double[] powerWatts = new double[powerPerDuration.size()];
+        long[] durationSeconds = new long[powerPerDuration.size()];
+        int e = 0;
+        for (Entry<Long, Double> group : powerPerDuration.entrySet()) {
+            durationSeconds[e] = group.getKey();
+            powerWatts[e++] = group.getValue();
+        }
+        double[] estimates = series.estimateCosts(first, STEP_SECONDS, count, powerWatts, durationSeconds);
+        double lowestEstimate = Double.MAX_VALUE;
+        double highestEstimate = -Double.MAX_VALUE;
+        double priceAccumulation = 0;
+        for (double estimate : estimates) {
+            lowestEstimate = Math.min(lowestEstimate, estimate);
+            highestEstimate = Math.max(highestEstimate, estimate);
+            priceAccumulation += estimate;
+        }
+        double tolerance = series.tolerance(totalPower);
+        double highestCost = Double.MIN_VALUE;
+        Instant highestStart = Instant.MAX;
+        double lowestCost = Double.MAX_VALUE;
+        Instant lowestStart = Instant.MAX;
+        for (int k = 0; k < count; k++) {
+            boolean lowCandidate = estimates[k] <= lowestEstimate + tolerance;
+            boolean highCandidate = estimates[k] >= highestEstimate - tolerance;
+            if (lowCandidate || highCandidate) {
+                Instant start = Instant.ofEpochSecond(first + k * STEP_SECONDS);
+                double price = curvePrice(start, curve);
+                if (lowCandidate && price < lowestCost) {
+                    lowestCost = price;
+                    lowestStart = start;
+                }
+                if (highCandidate && price > highestCost) {
+                    highestCost = price;
+                    highestStart = start;
+                }
+            }
+        }
+        return bestPriceResult(lowestStart, lowestCost, highestStart, highestCost, priceAccumulation / count);
+    }
+
+    /**
+     * Calculates the best price by calculating the price of every start candidate.
+     */
+    private Map<String, Object> iterateBestPrice(Instant earliestStart, Instant latestStart, List<CurveEntry> curve)
+            throws PriceCalculationException {
         Instant startIterator = earliestStart;
         double highestCost = Double.MIN_VALUE;
         Instant highestStart = Instant.MAX;
@@ -189,13 +268,8 @@ public class PriceCalculator {
         Instant lowestStart = Instant.MAX;
         int iterations = 0;
         double priceAccumulation = 0;
-        long calculationStart = System.currentTimeMillis();
         while (startIterator.isBefore(latestStart)) {
-            double price = 0;
-            for (Iterator<CurveEntry> iterator = curve.iterator(); iterator.hasNext();) {
-                CurveEntry curveEntry = iterator.next();
-                price += calculatePrice(startIterator, curveEntry.powerWatts, curveEntry.durationSeconds);
-            }
+            double price = curvePrice(startIterator, curve);
             if (price < lowestCost) {
                 lowestCost = price;
                 lowestStart = startIterator;
@@ -205,17 +279,29 @@ public class PriceCalculator {
                 highestStart = startIterator;
             }
             priceAccumulation += price;
-            startIterator = startIterator.plus(1, ChronoUnit.MINUTES);
+            startIterator = startIterator.plus(STEP_SECONDS, ChronoUnit.SECONDS);
             iterations++;
         }
-        logger.trace("Calculation time {} ms for {} iterations", (System.currentTimeMillis() - calculationStart),
-                iterations);
+        return bestPriceResult(lowestStart, lowestCost, highestStart, highestCost, priceAccumulation / iterations);
+    }
+
+    private double curvePrice(Instant start, List<CurveEntry> curve) throws PriceCalculationException {
+        double price = 0;
+        for (Iterator<CurveEntry> iterator = curve.iterator(); iterator.hasNext();) {
+            CurveEntry curveEntry = iterator.next();
+            price += calculatePrice(start, curveEntry.powerWatts, curveEntry.durationSeconds);
+        }
+        return price;
+    }
+
+    private Map<String, Object> bestPriceResult(Instant lowestStart, double lowestCost, Instant highestStart,
+            double highestCost, double averagePrice) {
         Map<String, Object> resultMap = new HashMap<>();
         resultMap.put("cheapestStart", lowestStart.toString());
         resultMap.put("lowestPrice", lowestCost);
         resultMap.put("mostExpensiveStart", highestStart.toString());
         resultMap.put("highestPrice", highestCost);
-        resultMap.put("averagePrice", priceAccumulation / iterations);
+        resultMap.put("averagePrice", averagePrice);
         return resultMap;
     }
 
@@ -230,6 +316,10 @@ public class PriceCalculator {
     public List<PriceInfo> listPrices(Instant earliestStart, Instant latestEnd, boolean ascending)
             throws PriceCalculationException {
         checkBoundaries(earliestStart, latestEnd);
+        PriceSeries series = priceSeries;
+        if (series != null && earliestStart.getNano() == 0 && latestEnd.getNano() == 0) {
+            return series.sortedPeriods(earliestStart.getEpochSecond(), latestEnd.getEpochSecond(), ascending);
+        }
         TreeMap<Instant, PriceInfo> calculationMap = new TreeMap<>();
         for (Entry<Instant, PriceInfo> entry : priceMap.entrySet()) {
             if (!entry.getKey().isBefore(earliestStart) && !entry.getKey().isAfter(latestEnd)
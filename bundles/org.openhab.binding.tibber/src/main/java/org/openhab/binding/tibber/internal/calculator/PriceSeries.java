@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tibber.internal.calculator;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.tibber.internal.dto.PriceInfo;
+
+/**
+ * The {@link PriceSeries} holds the price periods of a {@link PriceCalculator} in primitive arrays together with the
+ * cumulated price over time. The price of any interval is the difference of two cumulated values, so the cost of a
+ * start candidate doesn't depend on the number of price periods it spans.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class PriceSeries {
+    /**
+     * Relative tolerance between estimated and exactly calculated costs. Way above the rounding error of both but far
+     * below the cost difference of two different spot price periods.
+     */
+    private static final double TOLERANCE = 1E-9;
+
+    // period i lasts from bounds[i] to bounds[i + 1], in epoch seconds
+    private final long[] bounds;
+    private final double[] prices;
+    private final int[] levels;
+    // price * seconds of all periods before period i
+    private final double[] cumulated;
+    private final double maxAbsPrice;
+
+    private PriceSeries(long[] bounds, double[] prices, int[] levels) {
+        this.bounds = bounds;
+        this.prices = prices;
+        this.levels = levels;
+        cumulated = new double[bounds.length];
+        double max = 0;
+        for (int i = 0; i < prices.length; i++) {
+            cumulated[i + 1] = cumulated[i] + prices[i] * (bounds[i + 1] - bounds[i]);
+            max = Math.max(max, Math.abs(prices[i]));
+        }
+        maxAbsPrice = max;
+    }
+
+    /**
+     * Creates the series from the price map including its termination entry.
+     *
+     * @param priceMap price map of {@link PriceCalculator}
+     * @return series or null if the map doesn't contain a price period or has timestamps with fractions of seconds
+     */
+    static @Nullable PriceSeries of(NavigableMap<Instant, PriceInfo> priceMap) {
+        int periods = priceMap.size() - 1;
+        if (periods < 1) {
+            return null;
+        }
+        long[] bounds = new long[periods + 1];
+        double[] prices = new double[periods];
+        int[] levels = new int[periods];
+        int i = 0;
+        for (Entry<Instant, PriceInfo> entry : priceMap.entrySet()) {
+            Instant key = entry.getKey();
+            if (key.getNano() != 0) {
+                return null;
+            }
+            bounds[i] = key.getEpochSecond();
+            if (i < periods) {
+                prices[i] = entry.getValue().price;
+                levels[i] = entry.getValue().level;
+            }
+            i++;
+        }
+        return new PriceSeries(bounds, prices, levels);
+    }
+
+    /**
+     * Estimates the cost of equidistant start candidates. Each curve entry starts at the candidate start, just like
+     * {@link PriceCalculator#calculateBestPrice}. Every curve entry keeps its own cursor into the price periods, so
+     * all candidates are estimated in one pass over the series.
+     *
+     * @param firstStart first start candidate in epoch seconds
+     * @param step seconds between two candidates
+     * @param count number of candidates
+     * @param powerWatts power of the curve entries
+     * @param durationSeconds durations of the curve entries, all candidates have to end within the series
+     * @return estimated cost per candidate
+     */
+    double[] estimateCosts(long firstStart, long step, int count, double[] powerWatts, long[] durationSeconds) {
+        double[] costs = new double[count];
+        int entries = powerWatts.length;
+        int[] endCursors = new int[entries];
+        int startCursor = 0;
+        long start = firstStart;
+        for (int k = 0; k < count; k++) {
+            startCursor = advance(startCursor, start);
+            double startIntegral = integral(startCursor, start);
+            double cost = 0;
+            for (int e = 0; e < entries; e++) {
+                long end = start + durationSeconds[e];
+                endCursors[e] = advance(Math.max(endCursors[e], startCursor), end);
+                cost += powerWatts[e] / 3600000.0 * (integral(endCursors[e], end) - startIntegral);
+            }
+            costs[k] = cost;
+            start += step;
+        }
+        return costs;
+    }
+
+    /**
+     * Absolute deviation allowed between an estimate of {@link #estimateCosts} and the exact calculation.
+     *
+     * @param power sum of the absolute power of all curve entries in watts
+     * @return tolerance for cost comparisons
+     */
+    double tolerance(double power) {
+        double span = bounds[bounds.length - 1] - bounds[0];
+        return TOLERANCE * power / 3600000.0 * maxAbsPrice * span + Double.MIN_NORMAL;
+    }
+
+    /**
+     * Lists the price periods intersecting the given window, clipped to the window and sorted by price. Periods with
+     * the same price keep their chronological order. Other than {@link PriceInfo#adjust} this works on copies, so
+     * the prices of the calculator stay untouched.
+     *
+     * @param earliestStart start of the window in epoch seconds
+     * @param latestEnd end of the window in epoch seconds
+     * @param ascending true for ascending, false for descending order
+     * @return clipped price periods
+     */
+    List<PriceInfo> sortedPeriods(long earliestStart, long latestEnd, boolean ascending) {
+        int first = advance(0, earliestStart);
+        List<Integer> selection = new ArrayList<>();
+        selection.add(first);
+        for (int i = first + 1; i < prices.length && bounds[i] <= latestEnd; i++) {
+            if (Double.MAX_VALUE != prices[i]) {
+                selection.add(i);
+            }
+        }
+        Comparator<Integer> byPrice = (a, b) -> Double.compare(prices[a], prices[b]);
+        Integer[] order = selection.toArray(Integer[]::new);
+        // stable sort, equal prices stay in chronological order
+        Arrays.sort(order, ascending ? byPrice : byPrice.reversed());
+        List<PriceInfo> result = new ArrayList<>(order.length);
+        for (int i : order) {
+            long start = Math.max(bounds[i], earliestStart);
+            long end = Math.min(bounds[i + 1], latestEnd);
+            result.add(new PriceInfo(prices[i], (int) (end - start), Instant.ofEpochSecond(start), levels[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Moves the cursor forward to the period containing the given time. Times at or after the end of the series stay
+     * in the last period.
+     */
+    private int advance(int cursor, long time) {
+        int i = cursor;
+        while (i < prices.length - 1 && bounds[i + 1] <= time) {
+            i++;
+        }
+        return i;
+    }
+
+    private double integral(int period, long time) {
+        return cumulated[period] + prices[period] * (time - bounds[period]);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tibber.internal;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.tibber.internal.calculator.PriceCalculator;
+import org.openhab.binding.tibber.internal.dto.CurveEntry;
+import org.openhab.binding.tibber.internal.dto.ScheduleEntry;
+import org.openhab.binding.tibber.internal.exception.PriceCalculationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * The {@link PriceCalculatorBenchmark} measures the price calculations on 48 hours of 15 minutes spot prices. Run it
+ * with the test classpath, e.g. from the IDE via {@link #main(String[])}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceCalculatorBenchmark {
+
+    private static final Instant SERIES_START = Instant.parse("2025-10-01T00:00:00Z");
+    private static final int PERIODS = 48 * 4;
+
+    private @NonNullByDefault({}) PriceCalculator calculator;
+    private List<CurveEntry> dishwasherCurve = List.of();
+    private List<CurveEntry> laundryCurve = List.of();
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        JsonArray spotPrices = new JsonArray();
+        for (int i = 0; i < PERIODS; i++) {
+            // price valley at noon, peaks in the morning and evening
+            double hour = (i % 96) / 4.0;
+            double price = 0.25 + 0.08 * Math.cos((hour - 19) / 24 * 2 * Math.PI)
+                    + 0.04 * Math.cos((hour - 8) / 12 * 2 * Math.PI) + 0.02 * random.nextGaussian();
+            JsonObject entry = new JsonObject();
+            entry.addProperty("startsAt", SERIES_START.plus(15L * i, ChronoUnit.MINUTES).toString());
+            entry.addProperty("total", Math.round(price * 10000) / 10000.0);
+            entry.addProperty("level", "NORMAL");
+            spotPrices.add(entry);
+        }
+        calculator = new PriceCalculator(spotPrices);
+        dishwasherCurve = List.of(new CurveEntry(2000, 1800), new CurveEntry(150, 5400), new CurveEntry(1800, 1200));
+        List<CurveEntry> curve = new ArrayList<>();
+        for (int minute = 0; minute < 150; minute++) {
+            curve.add(new CurveEntry(minute < 20 ? 2100 : 200 + random.nextInt(400), 60));
+        }
+        laundryCurve = curve;
+    }
+
+    @Benchmark
+    public Map<String, Object> bestPriceDishwasher() throws PriceCalculationException {
+        return calculator.calculateBestPrice(calculator.priceInfoStart(), calculator.priceInfoEnd(), dishwasherCurve);
+    }
+
+    @Benchmark
+    public Map<String, Object> bestPriceLaundryCurve() throws PriceCalculationException {
+        return calculator.calculateBestPrice(calculator.priceInfoStart(), calculator.priceInfoEnd(), laundryCurve);
+    }
+
+    @Benchmark
+    public List<ScheduleEntry> nonConsecutiveCharging() throws PriceCalculationException {
+        return calculator.calculateNonConsecutive(calculator.priceInfoStart(), calculator.priceInfoEnd(), 11000,
+                6 * 3600);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PriceCalculatorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
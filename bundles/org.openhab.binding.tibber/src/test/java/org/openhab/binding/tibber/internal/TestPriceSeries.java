@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tibber.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.tibber.internal.calculator.PriceCalculator;
+import org.openhab.binding.tibber.internal.dto.CurveEntry;
+import org.openhab.binding.tibber.internal.dto.PriceInfo;
+import org.openhab.binding.tibber.internal.dto.ScheduleEntry;
+import org.openhab.binding.tibber.internal.exception.CalculationParameterException;
+import org.openhab.binding.tibber.internal.exception.PriceCalculationException;
+
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link TestPriceSeries} compares the prefix sum based calculations with a plain iteration over all start
+ * candidates
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class TestPriceSeries {
+
+    private static final String[] PRICE_FILES = { "src/test/resources/price-query-response.json",
+            "src/test/resources/price15-query-response.json" };
+
+    /**
+     * Best price calculation as done before the introduction of the prefix sums
+     */
+    private static Map<String, Object> iterateBestPrice(PriceCalculator calculator, Instant earliestStart,
+            Instant latestEnd, List<CurveEntry> curve) throws PriceCalculationException {
+        long totalDuration = curve.stream().mapToLong(entry -> entry.durationSeconds).sum();
+        Instant latestStart = latestEnd.minus(totalDuration, ChronoUnit.SECONDS);
+        double highestCost = Double.MIN_VALUE;
+        Instant highestStart = Instant.MAX;
+        double lowestCost = Double.MAX_VALUE;
+        Instant lowestStart = Instant.MAX;
+        int iterations = 0;
+        double priceAccumulation = 0;
+        for (Instant start = earliestStart; start.isBefore(latestStart); start = start.plus(1, ChronoUnit.MINUTES)) {
+            double price = 0;
+            for (CurveEntry entry : curve) {
+                price += calculator.calculatePrice(start, entry.powerWatts, entry.durationSeconds);
+            }
+            if (price < lowestCost) {
+                lowestCost = price;
+                lowestStart = start;
+            }
+            if (price > highestCost) {
+                highestCost = price;
+                highestStart = start;
+            }
+            priceAccumulation += price;
+            iterations++;
+        }
+        return Map.of("cheapestStart", lowestStart.toString(), "lowestPrice", lowestCost, "mostExpensiveStart",
+                highestStart.toString(), "highestPrice", highestCost, "averagePrice", priceAccumulation / iterations);
+    }
+
+    private static void assertSameResult(Map<String, Object> expected, Map<String, Object> actual) {
+        assertEquals(expected.get("cheapestStart"), actual.get("cheapestStart"), "Cheapest Start");
+        assertEquals(expected.get("lowestPrice"), actual.get("lowestPrice"), "Cheapest Price");
+        assertEquals(expected.get("mostExpensiveStart"), actual.get("mostExpensiveStart"), "Most Expensive Start");
+        assertEquals(expected.get("highestPrice"), actual.get("highestPrice"), "Most Expensive Price");
+        double expectedAverage = (double) expected.get("averagePrice");
+        assertEquals(expectedAverage, (double) actual.get("averagePrice"), Math.abs(expectedAverage) * 1E-12,
+                "Average Price");
+    }
+
+    @Test
+    void testBestPriceMatchesIteration() throws PriceCalculationException {
+        Random random = new Random(4711);
+        for (String file : PRICE_FILES) {
+            PriceCalculator calculator = TestPriceCalculator.getPriceCalculator(file);
+            long span = Duration.between(calculator.priceInfoStart(), calculator.priceInfoEnd()).toMinutes();
+            for (int run = 0; run < 50; run++) {
+                long startOffset = random.nextLong(span / 2);
+                long endOffset = startOffset + 480 + random.nextLong(span - startOffset - 480);
+                Instant earliestStart = calculator.priceInfoStart().plus(startOffset, ChronoUnit.MINUTES)
+                        .plusSeconds(random.nextInt(3) * 20);
+                Instant latestEnd = calculator.priceInfoStart().plus(endOffset, ChronoUnit.MINUTES);
+                List<CurveEntry> curve = new ArrayList<>();
+                for (int entry = random.nextInt(3) + 1; entry > 0; entry--) {
+                    curve.add(new CurveEntry(random.nextInt(5000) + 1, random.nextInt(7200) + 1));
+                }
+                assertSameResult(iterateBestPrice(calculator, earliestStart, latestEnd, curve),
+                        calculator.calculateBestPrice(earliestStart, latestEnd, curve));
+            }
+        }
+    }
+
+    @Test
+    void testLaundryCurveMatchesIteration()
+            throws CalculationParameterException, PriceCalculationException, IOException {
+        String content = new String(Files.readAllBytes(Paths.get("src/test/resources/laundry-curve.json")));
+        List<CurveEntry> curve = Utils.convertCurve(JsonParser.parseString(content));
+        for (String file : PRICE_FILES) {
+            PriceCalculator calculator = TestPriceCalculator.getPriceCalculator(file);
+            assertSameResult(
+                    iterateBestPrice(calculator, calculator.priceInfoStart(), calculator.priceInfoEnd(), curve),
+                    calculator.calculateBestPrice(calculator.priceInfoStart(), calculator.priceInfoEnd(), curve));
+        }
+    }
+
+    @Test
+    void testListPricesKeepsCalculatorUntouched() throws PriceCalculationException {
+        for (String file : PRICE_FILES) {
+            PriceCalculator calculator = TestPriceCalculator.getPriceCalculator(file);
+            Instant start = calculator.priceInfoStart().plus(83, ChronoUnit.MINUTES);
+            Instant end = calculator.priceInfoEnd().minus(1234, ChronoUnit.SECONDS);
+            String full = calculator.listPrices(calculator.priceInfoStart(), calculator.priceInfoEnd(), true)
+                    .toString();
+
+            List<PriceInfo> descending = calculator.listPrices(start, end, false);
+            int totalDuration = 0;
+            for (int i = 0; i < descending.size(); i++) {
+                PriceInfo priceInfo = descending.get(i);
+                if (i > 0) {
+                    PriceInfo previous = descending.get(i - 1);
+                    assertTrue(previous.price >= priceInfo.price);
+                    if (previous.price == priceInfo.price) {
+                        assertTrue(previous.startsAt.isBefore(priceInfo.startsAt), "Same prices in time order");
+                    }
+                }
+                totalDuration += priceInfo.durationSeconds;
+            }
+            assertEquals(Duration.between(start, end).getSeconds(), totalDuration, "Total duration");
+
+            assertEquals(full, calculator.listPrices(calculator.priceInfoStart(), calculator.priceInfoEnd(), true)
+                    .toString(), "Price list after clipped listing");
+        }
+    }
+
+    @Test
+    void testNonConsecutiveIsRepeatable() throws PriceCalculationException {
+        PriceCalculator calculator = TestPriceCalculator.getPriceCalculator(PRICE_FILES[1]);
+        Instant start = calculator.priceInfoStart().plus(7, ChronoUnit.MINUTES);
+        Instant end = calculator.priceInfoEnd().minus(1, ChronoUnit.HOURS);
+        List<ScheduleEntry> first = calculator.calculateNonConsecutive(start, end, 2000, 5 * 3600);
+        List<ScheduleEntry> fullWindow = calculator.calculateNonConsecutive(calculator.priceInfoStart(),
+                calculator.priceInfoEnd(), 2000, 5 * 3600);
+        assertEquals(first.toString(), calculator.calculateNonConsecutive(start, end, 2000, 5 * 3600).toString());
+        assertEquals(fullWindow.toString(), calculator
+                .calculateNonConsecutive(calculator.priceInfoStart(), calculator.priceInfoEnd(), 2000, 5 * 3600)
+                .toString());
+        assertEquals(5 * 3600, first.stream().mapToInt(entry -> entry.duration).sum(), "Scheduled duration");
+    }
+}
@@ -12,10 +12,18 @@
  */
 package org.openhab.binding.unifi.internal.network.api;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -42,13 +50,17 @@ import org.openhab.binding.unifi.internal.network.api.util.UniFiNetworkInstanceC
 import org.openhab.binding.unifi.internal.network.api.util.UniFiSiteInstanceCreator;
 import org.openhab.binding.unifi.internal.network.api.util.UniFiVoucherInstanceCreator;
 import org.openhab.binding.unifi.internal.network.api.util.UniFiWlanInstanceCreator;
+import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 
 /**
  * The {@link UniFiController} is the main communication point with a UniFi Network controller. It consumes a
@@ -62,12 +74,18 @@ import com.google.gson.JsonObject;
  * @author Hilbrand Bouwkamp - Added POEPort support, moved generic cache related code to cache object
  * @author Mark Herwege - Added guest vouchers
  * @author Dan Cunningham - Refactored onto shared parent bridge session
+ * @author openHAB Contributors - Parallel site refresh, targeted refresh after commands and event stream updates
  */
 @NonNullByDefault
 public class UniFiController {
 
     private static final int INSIGHT_WITHIN_HOURS = 7 * 24; // scurb: Changed to 7 days.
 
+    private static final String THREAD_POOL_NAME = "unifi-network";
+
+    private static final Set<String> CLIENT_DISCONNECTED_EVENTS = Set.of("EVT_WU_Disconnected", "EVT_WG_Disconnected",
+            "EVT_LU_Disconnected", "EVT_LG_Disconnected");
+
     private final Logger logger = LoggerFactory.getLogger(UniFiController.class);
 
     private final HttpClient httpClient;
@@ -75,9 +93,17 @@ public class UniFiController {
     private final boolean unifios;
     private final int timeoutSeconds;
     private final UniFiControllerCache cache = new UniFiControllerCache();
+    private final ExecutorService executor = ThreadPoolManager.getPool(THREAD_POOL_NAME);
     private final Gson gson;
     private final Gson poeGson;
 
+    // Sequence number of the last change applied from the event stream
+    private long eventSequence;
+    // Lower case ids and macs of the entries changed by the event stream, mapped to the sequence number of the change
+    private final Map<String, Long> clientChanges = new HashMap<>();
+    private final Map<String, Long> deviceChanges = new HashMap<>();
+    private final Map<String, Long> insightChanges = new HashMap<>();
+
     public UniFiController(final HttpClient httpClient, final UniFiSession session, final boolean unifios,
             final int timeoutSeconds) {
         this.httpClient = httpClient;
@@ -108,18 +134,157 @@ public class UniFiController {
     // Public API
 
     public void refresh() throws UniFiException {
-        synchronized (this) {
-            cache.clear();
-            final Collection<UniFiSite> sites = refreshSites();
-            refreshNetworks(sites);
-            refreshWlans(sites);
-            refreshDevices(sites);
-            refreshClients(sites);
-            refreshInsights(sites);
-            refreshVouchers(sites);
+        final long sequence = getEventSequence();
+        final UniFiSite @Nullable [] sites = getSites();
+        // Fetch everything before touching the cache, so the cache is only cleared for the time it takes to fill it
+        final List<SiteData> siteData = fetchSites(sites == null ? List.of() : List.of(sites));
+        replaceCache(sequence, sites, siteData);
+    }
+
+    synchronized long getEventSequence() {
+        return eventSequence;
+    }
+
+    /**
+     * Replaces the content of the cache with the fetched data. Clients, devices and insights changed by the event
+     * stream after the given sequence number, i.e. while the data was fetched, are newer than the fetched data. They
+     * are kept as they are in the cache, including their removal.
+     *
+     * @param sequence the event sequence number when fetching the data started
+     * @param sites the fetched sites
+     * @param siteData the fetched data of the sites
+     */
+    synchronized void replaceCache(final long sequence, final UniFiSite @Nullable [] sites,
+            final List<SiteData> siteData) {
+        final Predicate<UniFiClient> clientChanged = c -> isChanged(clientChanges, sequence, c.getId(), c.getMac());
+        final Predicate<UniFiDevice> deviceChanged = d -> isChanged(deviceChanges, sequence, d.getId(), d.getMac());
+        final Predicate<UniFiClient> insightChanged = c -> isChanged(insightChanges, sequence, c.getId(), c.getMac());
+        final UniFiClient[] changedClients = cache.getClients().stream().filter(clientChanged)
+                .toArray(UniFiClient[]::new);
+        final UniFiDevice[] changedDevices = cache.getDevices().stream().filter(deviceChanged)
+                .toArray(UniFiDevice[]::new);
+        final UniFiClient[] changedInsights = cache.getInsights().stream().filter(insightChanged)
+                .toArray(UniFiClient[]::new);
+
+        cache.clear();
+        cache.setSites(sites);
+        for (final SiteData data : siteData) {
+            cache.putNetworks(data.networks());
+            cache.putWlans(data.wlans());
+            cache.putDevices(withoutChanged(data.devices(), deviceChanged, UniFiDevice[]::new));
+            cache.putClients(withoutChanged(data.clients(), clientChanged, UniFiClient[]::new));
+            cache.putInsights(withoutChanged(data.insights(), insightChanged, UniFiClient[]::new));
+            cache.putVouchers(data.vouchers());
+        }
+        cache.putDevices(changedDevices);
+        cache.putClients(changedClients);
+        cache.putInsights(changedInsights);
+
+        // older changes are contained in the fetched data
+        Stream.of(clientChanges, deviceChanges, insightChanges)
+                .forEach(changes -> changes.values().removeIf(changeSequence -> changeSequence <= sequence));
+    }
+
+    private static boolean isChanged(final Map<String, Long> changes, final long sequence,
+            final @Nullable String... cids) {
+        for (final String cid : cids) {
+            if (cid != null && changes.getOrDefault(cid.toLowerCase(Locale.ROOT), 0L) > sequence) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> T @Nullable [] withoutChanged(final T @Nullable [] values, final Predicate<T> changed,
+            final IntFunction<T[]> generator) {
+        return values == null ? null : Stream.of(values).filter(v -> v != null && !changed.test(v)).toArray(generator);
+    }
+
+    private void recordChange(final Map<String, Long> changes, final @Nullable String... cids) {
+        eventSequence++;
+        for (final String cid : cids) {
+            if (cid != null && !cid.isBlank()) {
+                changes.put(cid.toLowerCase(Locale.ROOT), eventSequence);
+            }
         }
     }
 
+    /**
+     * Applies a message received on the event stream of a site to the cache.
+     *
+     * @param message the message type, e.g. <code>sta:sync</code>
+     * @param data the data array of the message
+     * @return true if the cache was changed
+     */
+    public boolean applyEvent(final String message, final JsonArray data) throws UniFiException {
+        try {
+            switch (message) {
+                case "sta:sync":
+                    final UniFiClient[] clients = gson.fromJson(data, UniFiClient[].class);
+                    synchronized (this) {
+                        cache.putClients(clients);
+                        Stream.ofNullable(clients).flatMap(Stream::of).filter(c -> c != null)
+                                .forEach(c -> recordChange(clientChanges, c.getId(), c.getMac()));
+                    }
+                    return true;
+                case "device:sync":
+                    final UniFiDevice[] devices = gson.fromJson(data, UniFiDevice[].class);
+                    synchronized (this) {
+                        cache.putDevices(devices);
+                        Stream.ofNullable(devices).flatMap(Stream::of).filter(d -> d != null)
+                                .forEach(d -> recordChange(deviceChanges, d.getId(), d.getMac()));
+                    }
+                    return true;
+                case "user:sync":
+                    final UniFiClient[] insights = gson.fromJson(data, UniFiClient[].class);
+                    synchronized (this) {
+                        cache.putInsights(insights);
+                        Stream.ofNullable(insights).flatMap(Stream::of).filter(c -> c != null)
+                                .forEach(c -> recordChange(insightChanges, c.getId(), c.getMac()));
+                    }
+                    return true;
+                case "user:delete":
+                    boolean removed = false;
+                    synchronized (this) {
+                        for (final JsonElement element : data) {
+                            final String id = getString(element, "_id");
+                            final UniFiClient insight = cache.removeInsight(id);
+                            recordChange(insightChanges, id, insight == null ? null : insight.getMac());
+                            removed |= insight != null;
+                        }
+                    }
+                    return removed;
+                case "events":
+                    boolean disconnected = false;
+                    synchronized (this) {
+                        for (final JsonElement element : data) {
+                            if (CLIENT_DISCONNECTED_EVENTS.contains(getString(element, "key"))) {
+                                final String mac = getString(element, "user");
+                                final UniFiClient client = cache.removeClient(mac);
+                                recordChange(clientChanges, mac, client == null ? null : client.getId());
+                                disconnected |= client != null;
+                            }
+                        }
+                    }
+                    return disconnected;
+                default:
+                    logger.trace("Ignoring event stream message {}", message);
+                    return false;
+            }
+        } catch (final JsonParseException e) {
+            logger.debug("Could not parse event stream message {}: {}", message, e.getMessage());
+            throw new UniFiCommunicationException(e);
+        }
+    }
+
+    private static @Nullable String getString(final JsonElement element, final String property) {
+        if (element.isJsonObject()) {
+            final JsonElement value = element.getAsJsonObject().get(property);
+            return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+        }
+        return null;
+    }
+
     public UniFiControllerCache getCache() {
         return cache;
     }
@@ -134,7 +299,7 @@ public class UniFiController {
         req.setBodyParameter("cmd", blocked ? "block-sta" : "unblock-sta");
         req.setBodyParameter("mac", client.getMac());
         executeRequest(req);
-        refresh();
+        refreshClient(client.getSite(), client.getMac());
     }
 
     public void reconnect(final UniFiClient client) throws UniFiException {
@@ -143,7 +308,7 @@ public class UniFiController {
         req.setBodyParameter("cmd", "kick-sta");
         req.setBodyParameter("mac", client.getMac());
         executeRequest(req);
-        refresh();
+        refreshClient(client.getSite(), client.getMac());
     }
 
     public boolean poeMode(final UniFiDevice device, final List<JsonObject> data) throws UniFiException {
@@ -168,7 +333,7 @@ public class UniFiController {
         req.setBodyParameter("mac", device.getMac());
         req.setBodyParameter("port_idx", portIdx);
         executeRequest(req);
-        refresh();
+        refreshDevice(device);
     }
 
     public void enableNetwork(final UniFiNetwork network, final boolean enable) throws UniFiException {
@@ -177,7 +342,7 @@ public class UniFiController {
         req.setBodyParameter("data", Map.of("enabled", enable));
         req.setBodyParameter("id", new String[] { network.getId() });
         executeRequest(req);
-        refresh();
+        refreshNetwork(network);
     }
 
     public void enableWifi(final UniFiWlan wlan, final boolean enable) throws UniFiException {
@@ -186,7 +351,7 @@ public class UniFiController {
         req.setBodyParameter("_id", wlan.getId());
         req.setBodyParameter("enabled", enable ? "true" : "false");
         executeRequest(req);
-        refresh();
+        refreshWlan(wlan);
     }
 
     public void disableAccessPoint(final UniFiDevice device, final boolean disable) throws UniFiException {
@@ -195,7 +360,7 @@ public class UniFiController {
         req.setBodyParameter("_id", device.getId());
         req.setBodyParameter("disabled", disable ? "true" : "false");
         executeRequest(req);
-        refresh();
+        refreshDevice(device);
     }
 
     public void setLedOverride(final UniFiDevice device, final String override) throws UniFiException {
@@ -206,7 +371,7 @@ public class UniFiController {
             req.setBodyParameter("led_override", override);
         }
         executeRequest(req);
-        refresh();
+        refreshDevice(device);
     }
 
     public void generateVouchers(final UniFiSite site, final int count, final int expiration, final int users,
@@ -227,7 +392,7 @@ public class UniFiController {
             req.setBodyParameter("bytes", dataQuota);
         }
         executeRequest(req);
-        refresh();
+        refreshVouchers(site);
     }
 
     public void revokeVouchers(final UniFiSite site, final List<UniFiVoucher> vouchers) throws UniFiException {
@@ -238,7 +403,7 @@ public class UniFiController {
             req.setBodyParameter("_id", voucher.getId());
             executeRequest(req);
         }
-        refresh();
+        refreshVouchers(site);
     }
 
     // Internal API
@@ -265,82 +430,139 @@ public class UniFiController {
         }
     }
 
-    private List<UniFiSite> refreshSites() throws UniFiException {
+    private UniFiSite @Nullable [] getSites() throws UniFiException {
         final UniFiControllerRequest<UniFiSite[]> req = newRequest(UniFiSite[].class, HttpMethod.GET, gson);
         req.setAPIPath("/api/self/sites");
-        return cache.setSites(executeRequest(req));
+        return executeRequest(req);
     }
 
-    private void refreshNetworks(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putNetworks(getNetworks(site));
+    /**
+     * Fetches the data of all sites in parallel. The last site is fetched on the calling thread, so a console with a
+     * single site does not need an extra thread.
+     */
+    private List<SiteData> fetchSites(final List<UniFiSite> sites) throws UniFiException {
+        final List<CompletableFuture<SiteData>> futures = new ArrayList<>();
+        for (final UniFiSite site : sites.subList(0, Math.max(0, sites.size() - 1))) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return fetchSite(site);
+                } catch (final UniFiException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
         }
+        final List<SiteData> siteData = new ArrayList<>(sites.size());
+        final SiteData last = sites.isEmpty() ? null : fetchSite(sites.get(sites.size() - 1));
+        for (final CompletableFuture<SiteData> future : futures) {
+            try {
+                siteData.add(future.join());
+            } catch (final CompletionException e) {
+                final Throwable cause = e.getCause();
+                throw cause instanceof UniFiException ue ? ue : new UniFiException(cause);
+            }
+        }
+        if (last != null) {
+            siteData.add(last);
+        }
+        return siteData;
     }
 
-    private UniFiNetwork @Nullable [] getNetworks(final UniFiSite site) throws UniFiException {
+    private SiteData fetchSite(final UniFiSite site) throws UniFiException {
+        return new SiteData(getNetworks(site), getWlans(site), getDevices(site), getClients(site), getInsights(site),
+                getVouchers(site));
+    }
+
+    private void refreshClient(final UniFiSite site, final String mac) throws UniFiException {
+        final UniFiControllerRequest<UniFiClient[]> staReq = newRequest(UniFiClient[].class, HttpMethod.GET, gson);
+        staReq.setAPIPath(String.format("/api/s/%s/stat/sta/%s", site.getName(), mac));
+        final UniFiClient[] clients = executeRequest(staReq);
+        final UniFiControllerRequest<UniFiClient[]> userReq = newRequest(UniFiClient[].class, HttpMethod.GET, gson);
+        userReq.setAPIPath(String.format("/api/s/%s/stat/user/%s", site.getName(), mac));
+        final UniFiClient[] insights = executeRequest(userReq);
+        synchronized (this) {
+            if (clients != null && clients.length == 0) {
+                // no longer connected, e.g. blocked or kicked
+                cache.removeClient(mac);
+            } else {
+                cache.putClients(clients);
+            }
+            cache.putInsights(insights);
+        }
+    }
+
+    private void refreshDevice(final UniFiDevice device) throws UniFiException {
+        final UniFiControllerRequest<UniFiDevice[]> req = newRequest(UniFiDevice[].class, HttpMethod.GET, gson);
+        req.setAPIPath(String.format("/api/s/%s/stat/device/%s", device.getSite().getName(), device.getMac()));
+        final UniFiDevice[] devices = executeRequest(req);
+        synchronized (this) {
+            cache.putDevices(devices);
+        }
+    }
+
+    private void refreshNetwork(final UniFiNetwork network) throws UniFiException {
         final UniFiControllerRequest<UniFiNetwork[]> req = newRequest(UniFiNetwork[].class, HttpMethod.GET, gson);
-        req.setAPIPath(String.format("/api/s/%s/rest/networkconf", site.getName()));
-        return executeRequest(req);
+        req.setAPIPath(String.format("/api/s/%s/rest/networkconf/%s", network.getSite().getName(), network.getId()));
+        final UniFiNetwork[] networks = executeRequest(req);
+        synchronized (this) {
+            cache.putNetworks(networks);
+        }
     }
 
-    private void refreshWlans(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putWlans(getWlans(site));
+    private void refreshWlan(final UniFiWlan wlan) throws UniFiException {
+        final UniFiControllerRequest<UniFiWlan[]> req = newRequest(UniFiWlan[].class, HttpMethod.GET, gson);
+        req.setAPIPath(String.format("/api/s/%s/rest/wlanconf/%s", wlan.getSite().getName(), wlan.getId()));
+        final UniFiWlan[] wlans = executeRequest(req);
+        synchronized (this) {
+            cache.putWlans(wlans);
         }
     }
 
+    private void refreshVouchers(final UniFiSite site) throws UniFiException {
+        final UniFiVoucher[] vouchers = getVouchers(site);
+        synchronized (this) {
+            cache.replaceVouchers(site, vouchers);
+        }
+    }
+
+    private UniFiNetwork @Nullable [] getNetworks(final UniFiSite site) throws UniFiException {
+        final UniFiControllerRequest<UniFiNetwork[]> req = newRequest(UniFiNetwork[].class, HttpMethod.GET, gson);
+        req.setAPIPath(String.format("/api/s/%s/rest/networkconf", site.getName()));
+        return executeRequest(req);
+    }
+
     private UniFiWlan @Nullable [] getWlans(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiWlan[]> req = newRequest(UniFiWlan[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/rest/wlanconf", site.getName()));
         return executeRequest(req);
     }
 
-    private void refreshDevices(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putDevices(getDevices(site));
-        }
-    }
-
     private UniFiDevice @Nullable [] getDevices(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiDevice[]> req = newRequest(UniFiDevice[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/stat/device", site.getName()));
         return executeRequest(req);
     }
 
-    private void refreshClients(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putClients(getClients(site));
-        }
-    }
-
     private UniFiClient @Nullable [] getClients(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiClient[]> req = newRequest(UniFiClient[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/stat/sta", site.getName()));
         return executeRequest(req);
     }
 
-    private void refreshVouchers(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putVouchers(getVouchers(site));
-        }
-    }
-
     private UniFiVoucher @Nullable [] getVouchers(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiVoucher[]> req = newRequest(UniFiVoucher[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/stat/voucher", site.getName()));
         return executeRequest(req);
     }
 
-    private void refreshInsights(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putInsights(getInsights(site));
-        }
-    }
-
     private UniFiClient @Nullable [] getInsights(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiClient[]> req = newRequest(UniFiClient[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/stat/alluser", site.getName()));
         req.setQueryParameter("within", INSIGHT_WITHIN_HOURS);
         return executeRequest(req);
     }
+
+    record SiteData(UniFiNetwork @Nullable [] networks, UniFiWlan @Nullable [] wlans,
+            UniFiDevice @Nullable [] devices, UniFiClient @Nullable [] clients, UniFiClient @Nullable [] insights,
+            UniFiVoucher @Nullable [] vouchers) {
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.unifi.internal.network.api;
+
+import java.net.URI;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WebSocketAdapter;
+import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.openhab.binding.unifi.internal.api.UniFiSession;
+import org.openhab.binding.unifi.internal.api.UniFiWebSocketUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link UniFiNetworkEventStream} listens to the event WebSocket of a single site of a UniFi Network controller
+ * and applies the received client, device and user updates to the cache of the {@link UniFiController}.
+ * <p>
+ * The controller does not replay the messages missed while disconnected, so the owner is told through the
+ * reconnect callback that the cache has to be resynchronised with a full refresh.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class UniFiNetworkEventStream {
+
+    private static final int IDLE_TIMEOUT_MS = 5 * 60 * 1000;
+    private static final int CONNECT_TIMEOUT_SECONDS = 10;
+    private static final int INITIAL_RECONNECT_DELAY_SECONDS = 1;
+    private static final int MAX_RECONNECT_DELAY_SECONDS = 60;
+
+    private final Logger logger = LoggerFactory.getLogger(UniFiNetworkEventStream.class);
+
+    private final UniFiController controller;
+    private final UniFiSession session;
+    private final ScheduledExecutorService scheduler;
+    private final String path;
+    private final Runnable onCacheChanged;
+    private final Runnable onReconnected;
+    private final WebSocketClient wsClient;
+
+    private volatile @Nullable Session wsSession;
+    private volatile boolean running;
+    private @Nullable ScheduledFuture<?> reconnectJob;
+    private int reconnectDelay = INITIAL_RECONNECT_DELAY_SECONDS;
+    private boolean wasConnected;
+
+    /**
+     * @param controller the controller whose cache is updated
+     * @param session the session used to authenticate the WebSocket upgrade
+     * @param httpClient the shared HTTP client
+     * @param scheduler the scheduler to run the reconnects on
+     * @param siteName the name of the site (not the description)
+     * @param unifios whether the controller runs on UniFiOS
+     * @param onCacheChanged called after a message changed the cache
+     * @param onReconnected called after the connection was lost and re-established
+     */
+    public UniFiNetworkEventStream(final UniFiController controller, final UniFiSession session,
+            final HttpClient httpClient, final ScheduledExecutorService scheduler, final String siteName,
+            final boolean unifios, final Runnable onCacheChanged, final Runnable onReconnected) {
+        this.controller = controller;
+        this.session = session;
+        this.scheduler = scheduler;
+        this.path = (unifios ? "/proxy/network" : "") + "/wss/s/" + siteName + "/events";
+        this.onCacheChanged = onCacheChanged;
+        this.onReconnected = onReconnected;
+        this.wsClient = new WebSocketClient(httpClient);
+        // Prevent wsClient.stop() from stopping the shared HttpClient instance
+        this.wsClient.unmanage(httpClient);
+        this.wsClient.setMaxIdleTimeout(IDLE_TIMEOUT_MS);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        try {
+            wsClient.start();
+        } catch (final Exception e) {
+            logger.debug("Failed to start the WebSocket client for {}", path, e);
+            running = false;
+            return;
+        }
+        scheduler.execute(this::connect);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        final ScheduledFuture<?> job = reconnectJob;
+        if (job != null) {
+            job.cancel(false);
+            reconnectJob = null;
+        }
+        final Session localSession = wsSession;
+        if (localSession != null && localSession.isOpen()) {
+            localSession.close();
+        }
+        wsSession = null;
+        try {
+            wsClient.stop();
+        } catch (final Exception e) {
+            logger.debug("Error stopping the WebSocket client for {}", path, e);
+        }
+    }
+
+    public boolean isConnected() {
+        final Session localSession = wsSession;
+        return localSession != null && localSession.isOpen();
+    }
+
+    private void connect() {
+        if (!running) {
+            return;
+        }
+        try {
+            final URI uri = URI.create(session.getBaseUrl().replaceFirst("^http", "ws") + path);
+            final ClientUpgradeRequest request = new ClientUpgradeRequest();
+            // The cookie is read on each attempt as the session may have been re-authenticated in between
+            final String authCookie = session.getAuthCookie();
+            if (authCookie != null) {
+                request.setHeader("Cookie", authCookie);
+            }
+            wsSession = wsClient.connect(new EventAdapter(), uri, request).get(CONNECT_TIMEOUT_SECONDS,
+                    TimeUnit.SECONDS);
+            logger.debug("Connected to the UniFi Network event stream {}", uri);
+            synchronized (this) {
+                reconnectDelay = INITIAL_RECONNECT_DELAY_SECONDS;
+                if (wasConnected) {
+                    onReconnected.run();
+                }
+                wasConnected = true;
+            }
+        } catch (final Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.debug("Connecting to the UniFi Network event stream {} failed: {}", path, e.getMessage());
+            if (UniFiWebSocketUtil.isUnauthorizedUpgrade(e)) {
+                session.reauthenticate();
+            }
+            scheduleReconnect();
+        }
+    }
+
+    private synchronized void scheduleReconnect() {
+        if (!running) {
+            return;
+        }
+        final ScheduledFuture<?> job = reconnectJob;
+        if (job != null && !job.isDone()) {
+            return;
+        }
+        logger.debug("Reconnecting to the UniFi Network event stream {} in {}s", path, reconnectDelay);
+        reconnectJob = scheduler.schedule(this::connect, reconnectDelay, TimeUnit.SECONDS);
+        reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_SECONDS);
+    }
+
+    private void onMessage(final String message) {
+        try {
+            final JsonObject json = JsonParser.parseString(message).getAsJsonObject();
+            final JsonObject meta = json.getAsJsonObject("meta");
+            final JsonElement type = meta == null ? null : meta.get("message");
+            final JsonElement data = json.get("data");
+            if (type == null || data == null || !data.isJsonArray()) {
+                logger.trace("Ignoring event stream message without type or data: {}", message);
+                return;
+            }
+            if (controller.applyEvent(type.getAsString(), data.getAsJsonArray())) {
+                onCacheChanged.run();
+            }
+        } catch (final JsonParseException | IllegalStateException | ClassCastException | UniFiException e) {
+            logger.debug("Could not process event stream message from {}: {}", path, e.getMessage());
+        }
+    }
+
+    private class EventAdapter extends WebSocketAdapter {
+
+        @Override
+        public void onWebSocketText(final @Nullable String message) {
+            if (message != null) {
+                logger.trace("Event stream message from {}: {}", path, message);
+                onMessage(message);
+            }
+        }
+
+        @Override
+        public void onWebSocketError(final @Nullable Throwable cause) {
+            logger.debug("Error on the UniFi Network event stream {}", path, cause);
+        }
+
+        @Override
+        public void onWebSocketClose(final int statusCode, final @Nullable String reason) {
+            super.onWebSocketClose(statusCode, reason);
+            logger.debug("UniFi Network event stream {} closed: {} - {}", path, statusCode, reason);
+            wsSession = null;
+            scheduleReconnect();
+        }
+    }
+}
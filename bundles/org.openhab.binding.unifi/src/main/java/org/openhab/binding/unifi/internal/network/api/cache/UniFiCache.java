@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Matthew Bowman - Initial contribution
  * @author Hilbrand Bouwkamp - Moved generic code into this class
+ * @author openHAB Contributors - Incremental updates from the event stream
  */
 @NonNullByDefault
 abstract class UniFiCache<T extends @Nullable HasId> {
@@ -62,7 +63,7 @@ abstract class UniFiCache<T extends @Nullable HasId> {
         this.prefixes = prefixes;
     }
 
-    public void clear() {
+    public synchronized void clear() {
         map.clear();
     }
 
@@ -102,7 +103,7 @@ abstract class UniFiCache<T extends @Nullable HasId> {
         return value;
     }
 
-    public final void putAll(final T @Nullable [] values) {
+    public final synchronized void putAll(final T @Nullable [] values) {
         if (values != null) {
             if (logger.isDebugEnabled()) {
                 logger.debug("Put #{} entries in {}: {}", values.length, getClass().getSimpleName(),
@@ -113,7 +114,7 @@ abstract class UniFiCache<T extends @Nullable HasId> {
         }
     }
 
-    public final void put(final String id, final T value) {
+    public final synchronized void put(final String id, final T value) {
         for (final Prefix prefix : prefixes) {
             final String suffix = getSuffix(value, prefix);
 
@@ -124,11 +125,29 @@ abstract class UniFiCache<T extends @Nullable HasId> {
         map.put(id, value);
     }
 
+    /**
+     * Removes the entry matching the given cid, together with all the keys pointing to it.
+     *
+     * @param cid any of the supported <code>prefix:suffix</code> suffixes of the entry
+     * @return the removed entry or null if there was no matching entry
+     */
+    public final synchronized @Nullable T remove(final @Nullable String cid) {
+        if (cid == null || cid.isBlank()) {
+            return null;
+        }
+        final String id = getId(cid);
+        if (id == null) {
+            return null;
+        }
+        mapToId.values().removeIf(id::equals);
+        return map.remove(id);
+    }
+
     private static String key(final Prefix prefix, final String suffix) {
         return prefix.name() + SEPARATOR + suffix.replace(":", "").toLowerCase(Locale.ROOT);
     }
 
-    public final Collection<T> values() {
+    public final synchronized Collection<T> values() {
         return map.values().stream().distinct().collect(Collectors.toList());
     }
 
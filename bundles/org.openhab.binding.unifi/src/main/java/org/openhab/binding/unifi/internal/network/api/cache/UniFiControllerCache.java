@@ -40,6 +40,7 @@ import org.slf4j.LoggerFactory;
  * @author Matthew Bowman - Initial contribution
  * @author Hilbrand Bouwkamp - Moved cache to this dedicated class.
  * @author Mark Herwege - Added guest vouchers
+ * @author openHAB Contributors - Incremental updates from the event stream
  */
 @NonNullByDefault
 public class UniFiControllerCache {
@@ -69,7 +70,7 @@ public class UniFiControllerCache {
 
     public List<UniFiSite> setSites(final UniFiSite @Nullable [] sites) {
         sitesCache.putAll(sites);
-        return List.of(sites);
+        return sites == null ? List.of() : List.of(sites);
     }
 
     public @Nullable UniFiSite getSite(final @Nullable String id) {
@@ -160,6 +161,10 @@ public class UniFiControllerCache {
         clientsCache.putAll(clients);
     }
 
+    public @Nullable UniFiClient removeClient(@Nullable final String cid) {
+        return clientsCache.remove(cid);
+    }
+
     public Collection<UniFiClient> getClients() {
         return clientsCache.values();
     }
@@ -197,12 +202,28 @@ public class UniFiControllerCache {
         insightsCache.putAll(insights);
     }
 
+    public @Nullable UniFiClient removeInsight(@Nullable final String cid) {
+        return insightsCache.remove(cid);
+    }
+
+    public Collection<UniFiClient> getInsights() {
+        return insightsCache.values();
+    }
+
     // Vouchers Cache
 
     public void putVouchers(final UniFiVoucher @Nullable [] vouchers) {
         vouchersCache.putAll(vouchers);
     }
 
+    /**
+     * Replaces all the vouchers of the given site with the given vouchers, leaving the vouchers of other sites as is.
+     */
+    public synchronized void replaceVouchers(final UniFiSite site, final UniFiVoucher @Nullable [] vouchers) {
+        getVoucherStreamForSite(site).map(UniFiVoucher::getId).toList().forEach(vouchersCache::remove);
+        vouchersCache.putAll(vouchers);
+    }
+
     public synchronized Stream<UniFiVoucher> getVoucherStreamForSite(final UniFiSite site) {
         return vouchersCache.values().stream().filter(voucher -> voucher.getSite().equals(site));
     }
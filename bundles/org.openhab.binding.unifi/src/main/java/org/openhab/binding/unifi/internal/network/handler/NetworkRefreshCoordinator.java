@@ -18,6 +18,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -25,6 +26,8 @@ import org.openhab.binding.unifi.internal.api.UniFiSession;
 import org.openhab.binding.unifi.internal.handler.UniFiControllerBridgeHandler;
 import org.openhab.binding.unifi.internal.network.api.UniFiController;
 import org.openhab.binding.unifi.internal.network.api.UniFiException;
+import org.openhab.binding.unifi.internal.network.api.UniFiNetworkEventStream;
+import org.openhab.binding.unifi.internal.network.api.dto.UniFiSite;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingUID;
 import org.slf4j.Logger;
@@ -39,8 +42,14 @@ import org.slf4j.LoggerFactory;
  * The coordinator is keyed by the parent controller bridge's {@link ThingUID} so multiple UniFi consoles each
  * get their own refresh loop. All consoles share the same {@link UniFiSession} plumbing, rate limiter, and HTTP
  * client published by the shared parent binding, so adding Network things does not trigger additional logins.
+ * <p>
+ * When the {@code networkEventStream} option of the bridge is enabled, the cache is kept up to date from the event
+ * WebSocket of each site instead. The refresh loop then only notifies the subscribers when an event changed the
+ * cache, and falls back to a full refresh when a stream is down, after a reconnect and every
+ * {@link #FULL_REFRESH_INTERVAL_MS} to pick up what the event stream does not report.
  *
  * @author Dan Cunningham - Initial contribution
+ * @author openHAB Contributors - Event stream mode
  */
 @NonNullByDefault
 public class NetworkRefreshCoordinator {
@@ -49,6 +58,7 @@ public class NetworkRefreshCoordinator {
 
     private static final int DEFAULT_REFRESH_SECONDS = 10;
     private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+    private static final long FULL_REFRESH_INTERVAL_MS = 15 * 60 * 1000;
 
     private final Logger logger = LoggerFactory.getLogger(NetworkRefreshCoordinator.class);
 
@@ -58,10 +68,15 @@ public class NetworkRefreshCoordinator {
     private final int refreshSeconds;
     private final int timeoutSeconds;
     private final boolean unifios;
+    private final boolean eventStream;
+    private final Map<String, UniFiNetworkEventStream> eventStreams = new ConcurrentHashMap<>();
 
     private volatile @Nullable UniFiController controller;
     private volatile @Nullable Throwable lastError;
     private @Nullable ScheduledFuture<?> refreshJob;
+    private volatile boolean cacheChanged;
+    private volatile boolean resyncRequested;
+    private long lastFullRefresh;
 
     private NetworkRefreshCoordinator(UniFiControllerBridgeHandler bridgeHandler) {
         this.bridgeHandler = bridgeHandler;
@@ -72,6 +87,8 @@ public class NetworkRefreshCoordinator {
         this.timeoutSeconds = timeoutObj instanceof Number n ? n.intValue() : DEFAULT_TIMEOUT_SECONDS;
         Object refreshObj = bridgeThing.getConfiguration().get("refresh");
         this.refreshSeconds = refreshObj instanceof Number n ? n.intValue() : DEFAULT_REFRESH_SECONDS;
+        Object eventStreamObj = bridgeThing.getConfiguration().get("networkEventStream");
+        this.eventStream = eventStreamObj instanceof Boolean b && b;
     }
 
     /**
@@ -138,8 +155,21 @@ public class NetworkRefreshCoordinator {
         }
 
         try {
+            if (eventStream && !isFullRefreshNeeded()) {
+                if (cacheChanged) {
+                    cacheChanged = false;
+                    notifySubscribers();
+                }
+                return;
+            }
             logger.trace("Refreshing UniFi Network cache for bridge {}", bridgeHandler.getThing().getUID());
+            resyncRequested = false;
+            cacheChanged = false;
             ctrl.refresh();
+            lastFullRefresh = System.currentTimeMillis();
+            if (eventStream) {
+                updateEventStreams(ctrl, session);
+            }
             lastError = null;
             notifySubscribers();
         } catch (UniFiException | RuntimeException e) {
@@ -149,6 +179,40 @@ public class NetworkRefreshCoordinator {
         }
     }
 
+    private boolean isFullRefreshNeeded() {
+        return resyncRequested || eventStreams.isEmpty()
+                || eventStreams.values().stream().anyMatch(stream -> !stream.isConnected())
+                || System.currentTimeMillis() - lastFullRefresh >= FULL_REFRESH_INTERVAL_MS;
+    }
+
+    /**
+     * Opens an event stream for each new site and closes the streams of the sites that are gone.
+     */
+    private void updateEventStreams(UniFiController ctrl, UniFiSession session) {
+        synchronized (refreshLock) {
+            if (refreshJob == null) {
+                // disposed while refreshing
+                return;
+            }
+            Map<String, UniFiSite> sites = ctrl.getCache().getSites().stream()
+                    .collect(Collectors.toMap(UniFiSite::getId, site -> site, (a, b) -> a));
+            eventStreams.entrySet().removeIf(entry -> {
+                if (!sites.containsKey(entry.getKey())) {
+                    entry.getValue().stop();
+                    return true;
+                }
+                return false;
+            });
+            sites.forEach((id, site) -> eventStreams.computeIfAbsent(id, k -> {
+                UniFiNetworkEventStream stream = new UniFiNetworkEventStream(ctrl, session,
+                        bridgeHandler.getHttpClient(), bridgeHandler.getScheduler(), site.getName(), unifios,
+                        () -> cacheChanged = true, () -> resyncRequested = true);
+                stream.start();
+                return stream;
+            }));
+        }
+    }
+
     private void notifySubscribers() {
         for (UniFiBaseThingHandler<?, ?> subscriber : subscribers) {
             try {
@@ -166,6 +230,8 @@ public class NetworkRefreshCoordinator {
                 job.cancel(true);
                 refreshJob = null;
             }
+            eventStreams.values().forEach(UniFiNetworkEventStream::stop);
+            eventStreams.clear();
             controller = null;
         }
     }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.unifi.internal.network.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.unifi.internal.api.UniFiSession;
+import org.openhab.binding.unifi.internal.network.api.UniFiController.SiteData;
+import org.openhab.binding.unifi.internal.network.api.dto.UniFiClient;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests applying UniFi Network event stream messages to the controller cache.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class UniFiControllerEventTest {
+
+    private static final String STA_SYNC = """
+            [{"_id":"c1","mac":"AA:BB:CC:00:00:01","site_id":"s1","is_wired":false,"hostname":"phone"},\
+            {"_id":"c2","mac":"aa:bb:cc:00:00:02","site_id":"s1","is_wired":true,"hostname":"nas"}]\
+            """;
+
+    private final UniFiController controller = new UniFiController(mock(HttpClient.class), mock(UniFiSession.class),
+            true, 30);
+
+    private static JsonArray array(String json) {
+        return JsonParser.parseString(json).getAsJsonArray();
+    }
+
+    @BeforeEach
+    public void setUp() throws UniFiException {
+        assertTrue(controller.applyEvent("sta:sync", array(STA_SYNC)));
+    }
+
+    @Test
+    public void staSyncUpsertsClients() throws UniFiException {
+        assertEquals(2, controller.getCache().getClients().size());
+
+        assertTrue(controller.applyEvent("sta:sync", array("""
+                [{"_id":"c1","mac":"aa:bb:cc:00:00:01","site_id":"s1","is_wired":false,\
+                "hostname":"phone","blocked":true}]\
+                """)));
+
+        assertEquals(2, controller.getCache().getClients().size());
+        UniFiClient client = controller.getCache().getClient("phone");
+        assertNotNull(client);
+        assertTrue(client.isBlocked());
+    }
+
+    @Test
+    public void disconnectEventRemovesClient() throws UniFiException {
+        assertTrue(controller.applyEvent("events", array("""
+                [{"key":"EVT_WU_Disconnected","user":"aa:bb:cc:00:00:01"},{"key":"EVT_AP_Lost_Contact"}]\
+                """)));
+
+        assertEquals(1, controller.getCache().getClients().size());
+        assertNull(controller.getCache().getClient("phone"));
+        assertNull(controller.getCache().getClient("aa:bb:cc:00:00:01"));
+        assertNotNull(controller.getCache().getClient("nas"));
+    }
+
+    @Test
+    public void unrelatedMessagesLeaveCacheUnchanged() throws UniFiException {
+        assertFalse(controller.applyEvent("speed-test:update", array("[{}]")));
+        assertFalse(controller.applyEvent("events", array("[{\"key\":\"EVT_LU_Disconnected\",\"user\":\"unknown\"}]")));
+        assertEquals(2, controller.getCache().getClients().size());
+    }
+
+    @Test
+    public void refreshKeepsClientsChangedWhileFetching() throws UniFiException {
+        assertTrue(controller.applyEvent("sta:sync", array("""
+                [{"_id":"c3","mac":"aa:bb:cc:00:00:03","site_id":"s1","is_wired":true,"hostname":"printer"}]\
+                """)));
+        // the data returned by the controller when the full refresh starts fetching
+        UniFiClient[] fetchedClients = controller.getCache().getClients().toArray(UniFiClient[]::new);
+        long sequence = controller.getEventSequence();
+
+        // events received while the full refresh is fetching
+        assertTrue(controller.applyEvent("sta:sync", array("""
+                [{"_id":"c1","mac":"aa:bb:cc:00:00:01","site_id":"s1","is_wired":false,\
+                "hostname":"phone","blocked":true}]\
+                """)));
+        assertTrue(controller.applyEvent("events", array("""
+                [{"key":"EVT_LU_Disconnected","user":"aa:bb:cc:00:00:02"}]\
+                """)));
+
+        controller.replaceCache(sequence, null, List.of(new SiteData(null, null, null, fetchedClients, null, null)));
+
+        assertEquals(2, controller.getCache().getClients().size());
+        UniFiClient phone = controller.getCache().getClient("phone");
+        assertNotNull(phone);
+        assertTrue(phone.isBlocked());
+        assertNull(controller.getCache().getClient("nas"));
+        assertNotNull(controller.getCache().getClient("printer"));
+
+        // a later refresh takes over the fetched data again
+        controller.replaceCache(controller.getEventSequence(), null,
+                List.of(new SiteData(null, null, null, fetchedClients, null, null)));
+
+        phone = controller.getCache().getClient("phone");
+        assertNotNull(phone);
+        assertFalse(phone.isBlocked());
+        assertNotNull(controller.getCache().getClient("nas"));
+    }
+}
@@ -80,6 +80,18 @@ public interface Homekit {
      */
     void pruneDummyAccessories(int instance);
 
+    /**
+     * returns the change notification counters of the HomeKit characteristics on all bridge instances.
+     */
+    Collection<HomekitNotificationStatistics> getNotificationStatistics();
+
+    /**
+     * returns the change notification counters of the HomeKit characteristics on a specific instance.
+     *
+     * @param instance the instance number (1-based)
+     */
+    Collection<HomekitNotificationStatistics> getNotificationStatistics(int instance);
+
     /**
      * returns how many bridge instances there are
      */
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Change notification counters of a HomeKit characteristic subscription.
+ *
+ * @param itemName name of the subscribed item
+ * @param key key of the subscription, may be {@code null}
+ * @param minNotificationInterval effective minimum notification interval in milliseconds
+ * @param delivered number of notifications sent to HomeKit
+ * @param suppressed number of changes coalesced into another notification
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public record HomekitNotificationStatistics(String itemName, @Nullable String key, int minNotificationInterval,
+        long delivered, long suppressed) {
+}
@@ -12,15 +12,23 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
 import org.openhab.core.types.State;
+import org.openhab.io.homekit.HomekitNotificationStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,17 +40,65 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Change notifications can be rate limited: within the minimum notification interval of a subscription, further
+ * changes are coalesced into a single notification sent at the end of the interval. HomeKit reads the current item
+ * state when it is notified, so the final value is always delivered.
+ *
  * @author Andy Lintner - Initial contribution
+ * @author openHAB Contributors - Rate limited notifications
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, StateChangeListener> subscriptionsByName = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private volatile int defaultMinNotificationInterval = 0;
+
+    public HomekitAccessoryUpdater() {
+        this(ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON));
+    }
+
+    HomekitAccessoryUpdater(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sets the minimum interval between two change notifications of a characteristic, used for subscriptions that do
+     * not configure their own interval.
+     *
+     * @param interval interval in milliseconds, 0 to send every change immediately
+     */
+    public void setDefaultMinNotificationInterval(int interval) {
+        defaultMinNotificationInterval = Math.max(0, interval);
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
     }
 
     public void subscribe(GenericItem item, String key, HomekitCharacteristicChangeCallback callback) {
+        subscribe(item, key, -1, callback);
+    }
+
+    /**
+     * Subscribes to changes of a characteristic item, using the minimum notification interval configured in the item's
+     * HomeKit metadata, if any.
+     */
+    public void subscribe(HomekitTaggedItem taggedItem, String key, HomekitCharacteristicChangeCallback callback) {
+        subscribe((GenericItem) taggedItem.getItem(), key,
+                taggedItem.getConfigurationAsInt(HomekitTaggedItem.MIN_NOTIFICATION_INTERVAL, -1), callback);
+    }
+
+    /**
+     * Subscribes to changes of an item.
+     *
+     * @param item item to subscribe to
+     * @param key optional key, to allow more than one subscription per item
+     * @param minNotificationInterval minimum interval between two notifications in milliseconds, 0 to notify every
+     *            change immediately, negative to use the default interval
+     * @param callback HomeKit callback to notify
+     */
+    public void subscribe(GenericItem item, String key, int minNotificationInterval,
+            HomekitCharacteristicChangeCallback callback) {
         logger.trace("Received subscription request for {} / {}", item, key);
         if (item == null) {
             return;
@@ -58,7 +114,8 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            RateLimitedSubscription subscription = new RateLimitedSubscription(itemKey, minNotificationInterval,
+                    callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -97,21 +154,108 @@ public class HomekitAccessoryUpdater {
         subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
+            if (v instanceof RateLimitedSubscription subscription) {
+                subscription.cancel();
+            }
             return null;
         });
     }
 
-    @FunctionalInterface
+    /**
+     * Returns the notification counters of all change subscriptions.
+     *
+     * @return counters per subscription
+     */
+    public List<HomekitNotificationStatistics> getNotificationStatistics() {
+        List<HomekitNotificationStatistics> statistics = new ArrayList<>();
+        for (StateChangeListener listener : subscriptionsByName.values()) {
+            if (listener instanceof RateLimitedSubscription subscription) {
+                statistics.add(subscription.getStatistics());
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Change subscription that sends at most one notification per minimum notification interval. The first change
+     * after a quiet period is sent immediately; changes within the interval schedule a single notification at its end.
+     */
     @NonNullByDefault
-    private interface Subscription extends StateChangeListener {
+    private class RateLimitedSubscription implements StateChangeListener {
+        private final ItemKey itemKey;
+        private final int minNotificationInterval;
+        private final HomekitCharacteristicChangeCallback callback;
+
+        private long lastNotification = 0;
+        private long delivered = 0;
+        private long suppressed = 0;
+        private @Nullable ScheduledFuture<?> pendingNotification;
+
+        RateLimitedSubscription(ItemKey itemKey, int minNotificationInterval,
+                HomekitCharacteristicChangeCallback callback) {
+            this.itemKey = itemKey;
+            this.minNotificationInterval = minNotificationInterval;
+            this.callback = callback;
+        }
+
+        private int getInterval() {
+            return minNotificationInterval >= 0 ? minNotificationInterval : defaultMinNotificationInterval;
+        }
 
         @Override
-        void stateChanged(Item item, State oldState, State newState);
+        public void stateChanged(Item item, State oldState, State newState) {
+            int interval = getInterval();
+            if (interval > 0) {
+                synchronized (this) {
+                    if (pendingNotification != null) {
+                        suppressed++;
+                        return;
+                    }
+                    long now = System.currentTimeMillis();
+                    long wait = lastNotification + interval - now;
+                    if (wait > 0) {
+                        pendingNotification = scheduler.schedule(this::sendPendingNotification, wait,
+                                TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                    lastNotification = now;
+                }
+            }
+            notifyHomekit();
+        }
 
         @Override
-        default void stateUpdated(Item item, State state) {
+        public void stateUpdated(Item item, State state) {
             // Do nothing on non-change update
         }
+
+        private void sendPendingNotification() {
+            synchronized (this) {
+                pendingNotification = null;
+                lastNotification = System.currentTimeMillis();
+            }
+            notifyHomekit();
+        }
+
+        private void notifyHomekit() {
+            synchronized (this) {
+                delivered++;
+            }
+            callback.changed();
+        }
+
+        synchronized void cancel() {
+            ScheduledFuture<?> pending = pendingNotification;
+            if (pending != null) {
+                pending.cancel(false);
+                pendingNotification = null;
+            }
+        }
+
+        synchronized HomekitNotificationStatistics getStatistics() {
+            return new HomekitNotificationStatistics(itemKey.item.getName(), itemKey.key, getInterval(), delivered,
+                    suppressed);
+        }
     }
 
     @FunctionalInterface
@@ -95,6 +95,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry = metadataRegistry;
         this.storage = storage;
         this.instance = instance;
+        this.updater.setDefaultMinNotificationInterval(settings.minNotificationInterval);
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices-" + instance, scheduler,
                 Duration.ofMillis(1000), Clock.systemUTC(), this::applyUpdates);
         metadataChangeListener = new RegistryChangeListener<>() {
@@ -341,9 +342,14 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.updater = updater;
     }
 
+    public HomekitAccessoryUpdater getUpdater() {
+        return updater;
+    }
+
     public void updateSettings(HomekitSettings settings) {
         boolean wasUsingDummyAccessories = this.settings.useDummyAccessories;
         this.settings = settings;
+        updater.setDefaultMinNotificationInterval(settings.minNotificationInterval);
         // If they turned off dummy accessories, immediately prune them
         if (wasUsingDummyAccessories && !settings.useDummyAccessories) {
             pruneDummyAccessories();
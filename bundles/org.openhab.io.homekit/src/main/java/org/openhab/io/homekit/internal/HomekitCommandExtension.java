@@ -14,6 +14,7 @@ package org.openhab.io.homekit.internal;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
@@ -25,6 +26,7 @@ import org.openhab.core.io.console.StringsCompleter;
 import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
 import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
 import org.openhab.io.homekit.Homekit;
+import org.openhab.io.homekit.HomekitNotificationStatistics;
 import org.openhab.io.homekit.internal.accessories.DummyHomekitAccessory;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -48,9 +50,11 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
     private static final String SUBCMD_ALLOW_UNAUTHENTICATED = "allowUnauthenticated";
     private static final String SUBCMD_PRUNE_DUMMY_ACCESSORIES = "pruneDummyAccessories";
     private static final String SUBCMD_LIST_DUMMY_ACCESSORIES = "listDummyAccessories";
+    private static final String SUBCMD_NOTIFICATIONS = "notifications";
     private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_CLEAR_PAIRINGS, SUBCMD_LIST_ACCESSORIES, SUBCMD_PRINT_ACCESSORY,
-                    SUBCMD_ALLOW_UNAUTHENTICATED, SUBCMD_PRUNE_DUMMY_ACCESSORIES, SUBCMD_LIST_DUMMY_ACCESSORIES),
+                    SUBCMD_ALLOW_UNAUTHENTICATED, SUBCMD_PRUNE_DUMMY_ACCESSORIES, SUBCMD_LIST_DUMMY_ACCESSORIES,
+                    SUBCMD_NOTIFICATIONS),
             false);
 
     private static final String PARAM_INSTANCE = "--instance";
@@ -120,6 +124,9 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
                 case SUBCMD_LIST_ACCESSORIES:
                     listAccessories(console, instance);
                     break;
+                case SUBCMD_NOTIFICATIONS:
+                    listNotificationStatistics(console, instance);
+                    break;
                 case SUBCMD_PRINT_ACCESSORY:
                     if (args.size() > 1) {
                         printAccessory(args.get(1), console, instance);
@@ -161,7 +168,9 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
                 buildCommandUsage(SUBCMD_PRUNE_DUMMY_ACCESSORIES + PARAM_INSTANCE_HELP,
                         "removes dummy accessories whose items no longer exist, optionally for a specific instance."),
                 buildCommandUsage(SUBCMD_LIST_DUMMY_ACCESSORIES + PARAM_INSTANCE_HELP,
-                        "list dummy accessories whose items no longer exist, optionally for a specific instance."));
+                        "list dummy accessories whose items no longer exist, optionally for a specific instance."),
+                buildCommandUsage(SUBCMD_NOTIFICATIONS + PARAM_INSTANCE_HELP,
+                        "list the sent and suppressed change notifications per item, optionally for a specific instance."));
     }
 
     @Reference
@@ -221,6 +230,16 @@ public class HomekitCommandExtension extends AbstractConsoleCommandExtension {
         });
     }
 
+    private void listNotificationStatistics(Console console, @Nullable Integer instance) {
+        Collection<HomekitNotificationStatistics> statistics = instance != null
+                ? homekit.getNotificationStatistics(instance)
+                : homekit.getNotificationStatistics();
+        statistics.stream().sorted(Comparator.comparing(HomekitNotificationStatistics::itemName))
+                .forEach(s -> console.println(s.itemName() + (s.key() != null ? " / " + s.key() : "") + ": "
+                        + s.delivered() + " sent, " + s.suppressed() + " suppressed (min interval "
+                        + s.minNotificationInterval() + " ms)"));
+    }
+
     private void printService(Console console, Service service, int indent) {
         console.println(" ".repeat(indent) + "Service Type: " + service.getClass().getSimpleName() + " ("
                 + service.getType() + ")");
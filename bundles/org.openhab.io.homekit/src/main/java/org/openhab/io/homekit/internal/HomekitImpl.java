@@ -45,6 +45,7 @@ import org.openhab.core.service.StartLevelService;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
 import org.openhab.io.homekit.Homekit;
+import org.openhab.io.homekit.HomekitNotificationStatistics;
 import org.osgi.framework.Constants;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -405,6 +406,25 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
         changeListeners.get(instance - 1).pruneDummyAccessories();
     }
 
+    @Override
+    public Collection<HomekitNotificationStatistics> getNotificationStatistics() {
+        List<HomekitNotificationStatistics> statistics = new ArrayList<>();
+        for (HomekitChangeListener changeListener : changeListeners) {
+            statistics.addAll(changeListener.getUpdater().getNotificationStatistics());
+        }
+        return statistics;
+    }
+
+    @Override
+    public Collection<HomekitNotificationStatistics> getNotificationStatistics(int instance) {
+        if (instance < 1 || instance > changeListeners.size()) {
+            logger.warn("Instance {} is out of range 1..{}.", instance, changeListeners.size());
+            return List.of();
+        }
+
+        return changeListeners.get(instance - 1).getUpdater().getNotificationStatistics();
+    }
+
     @Override
     public int getInstanceCount() {
         return homekitServers.size();
@@ -59,6 +59,7 @@ public class HomekitTaggedItem {
     public static final String INVERTED = "inverted";
     public static final String MAX_VALUE = "maxValue";
     public static final String MIN_VALUE = "minValue";
+    public static final String MIN_NOTIFICATION_INTERVAL = "minNotificationInterval";
     public static final String PRIMARY_SERVICE = "primary";
     public static final String STEP = "step";
     public static final String UNIT = "unit";
@@ -271,7 +271,7 @@ public abstract class AbstractHomekitAccessoryImpl implements HomekitAccessory {
             HomekitCharacteristicChangeCallback callback) {
         final Optional<HomekitTaggedItem> characteristic = getCharacteristic(characteristicType);
         if (characteristic.isPresent()) {
-            getUpdater().subscribe((GenericItem) characteristic.get().getItem(), characteristicType.getTag(), callback);
+            getUpdater().subscribe(characteristic.get(), characteristicType.getTag(), callback);
         } else {
             logger.warn("Missing mandatory characteristic {}", characteristicType);
         }
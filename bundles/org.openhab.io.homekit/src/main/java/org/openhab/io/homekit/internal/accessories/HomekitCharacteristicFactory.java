@@ -718,7 +718,7 @@ public class HomekitCharacteristicFactory {
 
     protected static Consumer<HomekitCharacteristicChangeCallback> getSubscriber(HomekitTaggedItem taggedItem,
             HomekitCharacteristicType key, HomekitAccessoryUpdater updater) {
-        return (callback) -> updater.subscribe((GenericItem) taggedItem.getItem(), key.getTag(), callback);
+        return (callback) -> updater.subscribe(taggedItem, key.getTag(), callback);
     }
 
     protected static Runnable getUnsubscriber(HomekitTaggedItem taggedItem, HomekitCharacteristicType key,
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.StateChangeListener;
+import org.openhab.core.types.State;
+import org.openhab.io.homekit.HomekitNotificationStatistics;
+
+/**
+ * Tests the rate limiting of change notifications in {@link HomekitAccessoryUpdater}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+public class HomekitAccessoryUpdaterTest {
+    private static final int INTERVAL = 60000;
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> future;
+    private @Mock @NonNullByDefault({}) GenericItem item;
+    private @Mock @NonNullByDefault({}) State state1;
+    private @Mock @NonNullByDefault({}) State state2;
+    private @Mock @NonNullByDefault({}) State state3;
+
+    private final AtomicReference<State> itemState = new AtomicReference<>();
+    private final List<State> notifiedStates = new ArrayList<>();
+    private @NonNullByDefault({}) HomekitAccessoryUpdater updater;
+
+    @BeforeEach
+    public void setUp() {
+        updater = new HomekitAccessoryUpdater(scheduler);
+        lenient().when(item.getName()).thenReturn("Switch1");
+        lenient().when(item.getState()).thenAnswer(invocation -> itemState.get());
+    }
+
+    /**
+     * Subscribes like HAP does: when notified, the current item state is read.
+     */
+    private StateChangeListener subscribe(int minNotificationInterval) {
+        updater.subscribe(item, "key", minNotificationInterval, () -> notifiedStates.add(item.getState()));
+        ArgumentCaptor<StateChangeListener> listener = ArgumentCaptor.forClass(StateChangeListener.class);
+        verify(item).addStateChangeListener(listener.capture());
+        return listener.getValue();
+    }
+
+    private void change(StateChangeListener listener, State newState) {
+        State oldState = itemState.getAndSet(newState);
+        listener.stateChanged(item, oldState != null ? oldState : newState, newState);
+    }
+
+    private HomekitNotificationStatistics statistics() {
+        List<HomekitNotificationStatistics> statistics = updater.getNotificationStatistics();
+        assertEquals(1, statistics.size());
+        return statistics.get(0);
+    }
+
+    @Test
+    public void everyChangeIsSentWithoutInterval() {
+        StateChangeListener listener = subscribe(0);
+
+        change(listener, state1);
+        change(listener, state2);
+        change(listener, state3);
+
+        assertEquals(List.of(state1, state2, state3), notifiedStates);
+        assertEquals(new HomekitNotificationStatistics("Switch1", "key", 0, 3, 0), statistics());
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    public void changesWithinIntervalAreCoalescedAndLatestValueWins() {
+        ArgumentCaptor<Runnable> pending = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(future).when(scheduler).schedule(pending.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        StateChangeListener listener = subscribe(INTERVAL);
+
+        // the first change after a quiet period is sent immediately
+        change(listener, state1);
+        assertEquals(List.of(state1), notifiedStates);
+
+        // further changes within the interval schedule a single notification at its end
+        change(listener, state2);
+        change(listener, state3);
+        assertEquals(List.of(state1), notifiedStates);
+        ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(scheduler).schedule(any(Runnable.class), delay.capture(), eq(TimeUnit.MILLISECONDS));
+        assertTrue(delay.getValue() > 0 && delay.getValue() <= INTERVAL);
+
+        pending.getValue().run();
+        assertEquals(List.of(state1, state3), notifiedStates);
+        assertEquals(new HomekitNotificationStatistics("Switch1", "key", INTERVAL, 2, 1), statistics());
+
+        // the interval restarts with the delayed notification
+        change(listener, state1);
+        assertEquals(List.of(state1, state3), notifiedStates);
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void defaultIntervalAppliesToSubscriptionsWithoutOwnInterval() {
+        doReturn(future).when(scheduler).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        updater.setDefaultMinNotificationInterval(INTERVAL);
+        StateChangeListener listener = subscribe(-1);
+
+        change(listener, state1);
+        change(listener, state2);
+
+        assertEquals(List.of(state1), notifiedStates);
+        assertEquals(new HomekitNotificationStatistics("Switch1", "key", INTERVAL, 1, 0), statistics());
+    }
+
+    @Test
+    public void unsubscribeCancelsPendingNotification() {
+        doReturn(future).when(scheduler).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        StateChangeListener listener = subscribe(INTERVAL);
+        change(listener, state1);
+        change(listener, state2);
+
+        updater.unsubscribe(item, "key");
+
+        verify(item).removeStateChangeListener(listener);
+        verify(future).cancel(false);
+        assertTrue(updater.getNotificationStatistics().isEmpty());
+    }
+}
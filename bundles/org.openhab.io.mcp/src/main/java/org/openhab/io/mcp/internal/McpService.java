@@ -138,6 +138,7 @@ public class McpService {
     private @Nullable ScheduledFuture<?> cleanupTask;
     private volatile @Nullable McpCloudWebhookService cloudWebhook;
     private @Nullable LoggingTools loggingTools;
+    private @Nullable ItemTools itemTools;
     private volatile McpConfiguration config = new McpConfiguration();
 
     /**
@@ -320,6 +321,7 @@ public class McpService {
 
             ItemTools itemTools = new ItemTools(itemRegistry, itemBuilderFactory, metadataRegistry, eventPublisher,
                     transport::getSessionUsername, jsonMapper);
+            this.itemTools = itemTools;
             SemanticTools semanticTools = new SemanticTools(itemRegistry, metadataRegistry, jsonMapper,
                     config.exposeUntaggedItems);
             ThingTools thingTools = new ThingTools(thingRegistry, linkRegistry, jsonMapper);
@@ -429,6 +431,12 @@ public class McpService {
             cleanupTask = null;
         }
 
+        ItemTools it = itemTools;
+        if (it != null) {
+            it.dispose();
+            itemTools = null;
+        }
+
         LoggingTools lt = loggingTools;
         if (lt != null) {
             lt.dispose();
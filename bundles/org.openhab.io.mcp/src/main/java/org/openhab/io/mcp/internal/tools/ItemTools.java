@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -40,6 +41,7 @@ import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
 import org.openhab.io.mcp.internal.util.FuzzyItemMatcher;
+import org.openhab.io.mcp.internal.util.ItemSearchIndex;
 import org.openhab.io.mcp.internal.util.ItemStateFormatter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +69,7 @@ public class ItemTools {
     private final EventPublisher eventPublisher;
     private final McpJsonMapper jsonMapper;
     private final FuzzyItemMatcher fuzzyMatcher;
+    private final ItemSearchIndex searchIndex;
     private final Function<String, @Nullable String> usernameForSession;
 
     /**
@@ -89,6 +92,15 @@ public class ItemTools {
         this.usernameForSession = usernameForSession;
         this.jsonMapper = jsonMapper;
         this.fuzzyMatcher = new FuzzyItemMatcher(metadataRegistry);
+        this.searchIndex = new ItemSearchIndex(itemRegistry, metadataRegistry, fuzzyMatcher);
+        searchIndex.start();
+    }
+
+    /**
+     * Stops maintaining the item search index. Called when the MCP server is stopped.
+     */
+    public void dispose() {
+        searchIndex.dispose();
     }
 
     /**
@@ -192,6 +204,7 @@ public class ItemTools {
         int limit = getIntArg(args, "limit", 50);
         int offset = getIntArg(args, "offset", 0);
 
+        String effectiveQuery = query != null && !query.isBlank() ? query : null;
         Iterable<Item> source;
         if (group != null) {
             try {
@@ -204,11 +217,21 @@ public class ItemTools {
             } catch (ItemNotFoundException e) {
                 return errorResult("Group '" + group + "' not found.");
             }
+            if (effectiveQuery != null) {
+                Set<String> candidateNames = searchIndex.candidateNames(effectiveQuery);
+                List<Item> members = new ArrayList<>();
+                for (Item member : source) {
+                    if (candidateNames.contains(member.getName())) {
+                        members.add(member);
+                    }
+                }
+                source = members;
+            }
         } else {
-            source = itemRegistry.getItems();
+            // Only items sharing enough bigrams with the query (and carrying the tags) are scored.
+            source = searchIndex.candidates(effectiveQuery, tags);
         }
 
-        String effectiveQuery = query != null && !query.isBlank() ? query : null;
         // Compute fuzzy score once per item; items that pass non-query filters but
         // score below MIN_SCORE are dropped. When there is no query, everyone scores 1.0.
         List<ScoredItem> scored = new ArrayList<>();
@@ -226,10 +249,14 @@ public class ItemTools {
             scored.add(new ScoredItem(item, s));
         }
         // Higher score first; tie-break by shorter name so canonical items out-rank long
-        // derived ones like F1_DansOffice_Light_Up_Dimming_Edge.
+        // derived ones like F1_DansOffice_Light_Up_Dimming_Edge. The index returns candidates
+        // in no particular order, so finally sort by name to keep pages stable.
         scored.sort((a, b) -> {
             int c = Double.compare(b.score, a.score);
-            return c != 0 ? c : Integer.compare(a.item.getName().length(), b.item.getName().length());
+            if (c == 0) {
+                c = Integer.compare(a.item.getName().length(), b.item.getName().length());
+            }
+            return c != 0 ? c : a.item.getName().compareTo(b.item.getName());
         });
 
         List<Item> matchingItems = new ArrayList<>(scored.size());
@@ -37,8 +37,8 @@ import org.openhab.core.items.MetadataRegistry;
 @NonNullByDefault
 public class FuzzyItemMatcher {
 
-    private static final String SYNONYMS_NAMESPACE = "synonyms";
-    private static final String TOKEN_SPLIT = "[\\s'\\-_,;:/]+";
+    static final String SYNONYMS_NAMESPACE = "synonyms";
+    static final String TOKEN_SPLIT = "[\\s'\\-_,;:/]+";
     private static final double PHRASE_WEIGHT = 0.6;
     private static final double TOKEN_WEIGHT = 0.4;
     private static final double JW_PREFIX_WEIGHT = 0.1;
@@ -72,9 +72,10 @@ public class FuzzyItemMatcher {
 
     /**
      * Returns the lowercased strings we match against for this item: the name, the
-     * label (if set), and any {@code synonyms} metadata entries.
+     * label (if set), and any {@code synonyms} metadata entries. Also used by {@link ItemSearchIndex}
+     * so that the index covers exactly what is scored.
      */
-    private List<String> buildHaystack(Item item) {
+    List<String> buildHaystack(Item item) {
         List<String> entries = new ArrayList<>(3);
         entries.add(item.getName().toLowerCase(Locale.ROOT));
         String label = item.getLabel();
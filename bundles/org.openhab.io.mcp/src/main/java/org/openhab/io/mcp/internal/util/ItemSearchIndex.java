@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.mcp.internal.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataRegistry;
+
+/**
+ * Inverted index over the strings {@link FuzzyItemMatcher} scores (name, label, synonyms) and over item tags, so a
+ * search only scores the items that share at least a quarter of the character bigrams of the query instead of every
+ * item in the registry. Tokens are padded with a blank before splitting them into bigrams, so typos and transposed
+ * letters still leave shared bigrams ("lmap" and "lamp" share " l" and "p "). Trigrams would miss such matches
+ * although their Jaro-Winkler score is high.
+ *
+ * The index is built from the {@link ItemRegistry} on first use and then kept up to date from item and
+ * {@code synonyms} metadata registry change events.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ItemSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    /**
+     * Share of the bigrams of the query an item must contain to be scored. Items below it could only reach the
+     * minimum score of {@code search_items} with a weak match, a higher share starts dropping good matches of
+     * misspelled queries.
+     */
+    private static final double MIN_SHARED_GRAMS = 0.25;
+
+    private final ItemRegistry itemRegistry;
+    private final @Nullable MetadataRegistry metadataRegistry;
+    private final FuzzyItemMatcher matcher;
+
+    private final Map<String, Item> items = new HashMap<>();
+    private final Map<String, Set<String>> gramsByItem = new HashMap<>();
+    private final Map<String, Set<String>> itemsByGram = new HashMap<>();
+    private final Map<String, Set<String>> itemsByTag = new HashMap<>();
+    private boolean built = false;
+
+    private final RegistryChangeListener<Item> itemListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Item element) {
+            itemChanged(element);
+        }
+
+        @Override
+        public void removed(Item element) {
+            itemRemoved(element.getName());
+        }
+
+        @Override
+        public void updated(Item oldElement, Item element) {
+            itemChanged(element);
+        }
+    };
+
+    private final RegistryChangeListener<Metadata> metadataListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Metadata element) {
+            synonymsChanged(element);
+        }
+
+        @Override
+        public void removed(Metadata element) {
+            synonymsChanged(element);
+        }
+
+        @Override
+        public void updated(Metadata oldElement, Metadata element) {
+            synonymsChanged(element);
+        }
+    };
+
+    /**
+     * @param itemRegistry the registry whose items are indexed
+     * @param metadataRegistry the metadata registry holding the {@code synonyms}, may be {@code null}
+     * @param matcher the matcher whose haystack is indexed
+     */
+    public ItemSearchIndex(ItemRegistry itemRegistry, @Nullable MetadataRegistry metadataRegistry,
+            FuzzyItemMatcher matcher) {
+        this.itemRegistry = itemRegistry;
+        this.metadataRegistry = metadataRegistry;
+        this.matcher = matcher;
+    }
+
+    /**
+     * Starts listening for registry changes. The index itself is built lazily on the first search.
+     */
+    public void start() {
+        itemRegistry.addRegistryChangeListener(itemListener);
+        MetadataRegistry registry = metadataRegistry;
+        if (registry != null) {
+            registry.addRegistryChangeListener(metadataListener);
+        }
+    }
+
+    /**
+     * Stops listening for registry changes and drops the index.
+     */
+    public void dispose() {
+        itemRegistry.removeRegistryChangeListener(itemListener);
+        MetadataRegistry registry = metadataRegistry;
+        if (registry != null) {
+            registry.removeRegistryChangeListener(metadataListener);
+        }
+        synchronized (this) {
+            clear();
+        }
+    }
+
+    /**
+     * Returns the items that may match the given query and have all the given tags. Items sharing less than a quarter
+     * of the bigrams of the query are left out, the caller still has to score the returned items.
+     *
+     * @param query the free-text query, {@code null} or blank to not filter by text
+     * @param tags tags the items must all have (case-insensitive), {@code null} or empty to not filter by tags
+     * @return the candidate items
+     */
+    public synchronized List<Item> candidates(@Nullable String query, @Nullable Collection<String> tags) {
+        ensureBuilt();
+        Set<String> names = null;
+        if (tags != null) {
+            for (String tag : tags) {
+                Set<String> tagged = itemsByTag.getOrDefault(tag.toLowerCase(Locale.ROOT), Set.of());
+                names = intersect(names, tagged);
+            }
+        }
+        if (query != null && !query.isBlank()) {
+            names = intersect(names, queryMatches(query));
+        }
+        if (names == null) {
+            return new ArrayList<>(items.values());
+        }
+        List<Item> result = new ArrayList<>(names.size());
+        for (String name : names) {
+            Item item = items.get(name);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the names of the items sharing at least a quarter of the bigrams of the query.
+     *
+     * @param query the free-text query
+     * @return the names of the candidate items
+     */
+    public synchronized Set<String> candidateNames(String query) {
+        ensureBuilt();
+        return queryMatches(query);
+    }
+
+    /**
+     * Returns the names of the items containing at least {@link #MIN_SHARED_GRAMS} of the bigrams of the query.
+     * Such an item is in at least one of the postings of the {@code grams - required + 1} rarest bigrams, so only
+     * these postings are walked and each item found is checked against its own bigrams.
+     */
+    private Set<String> queryMatches(String query) {
+        List<String> queryGrams = new ArrayList<>(grams(List.of(query.toLowerCase(Locale.ROOT).trim())));
+        Set<String> names = new HashSet<>();
+        if (queryGrams.isEmpty()) {
+            return names;
+        }
+        int required = Math.max(1, (int) Math.ceil(queryGrams.size() * MIN_SHARED_GRAMS));
+        queryGrams.sort(Comparator.comparingInt(gram -> itemsByGram.getOrDefault(gram, Set.of()).size()));
+        Set<String> checked = new HashSet<>();
+        for (String gram : queryGrams.subList(0, queryGrams.size() - required + 1)) {
+            for (String name : itemsByGram.getOrDefault(gram, Set.of())) {
+                if (checked.add(name) && sharedGrams(name, queryGrams) >= required) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    private int sharedGrams(String name, List<String> queryGrams) {
+        Set<String> itemGrams = gramsByItem.getOrDefault(name, Set.of());
+        int shared = 0;
+        for (String gram : queryGrams) {
+            if (itemGrams.contains(gram)) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    private static Set<String> intersect(@Nullable Set<String> current, Set<String> other) {
+        if (current == null) {
+            return new HashSet<>(other);
+        }
+        current.retainAll(other);
+        return current;
+    }
+
+    private void ensureBuilt() {
+        if (!built) {
+            for (Item item : itemRegistry.getItems()) {
+                index(item);
+            }
+            built = true;
+        }
+    }
+
+    private synchronized void itemChanged(Item item) {
+        if (built) {
+            unindex(item.getName());
+            index(item);
+        }
+    }
+
+    private synchronized void itemRemoved(String itemName) {
+        if (built) {
+            unindex(itemName);
+        }
+    }
+
+    private synchronized void synonymsChanged(Metadata metadata) {
+        if (built && FuzzyItemMatcher.SYNONYMS_NAMESPACE.equals(metadata.getUID().getNamespace())) {
+            Item item = items.get(metadata.getUID().getItemName());
+            if (item != null) {
+                unindex(item.getName());
+                index(item);
+            }
+        }
+    }
+
+    private void index(Item item) {
+        String name = item.getName();
+        items.put(name, item);
+        Set<String> grams = grams(matcher.buildHaystack(item));
+        gramsByItem.put(name, grams);
+        for (String gram : grams) {
+            itemsByGram.computeIfAbsent(gram, k -> new HashSet<>()).add(name);
+        }
+        for (String tag : item.getTags()) {
+            itemsByTag.computeIfAbsent(tag.toLowerCase(Locale.ROOT), k -> new HashSet<>()).add(name);
+        }
+    }
+
+    private void unindex(String name) {
+        Item item = items.remove(name);
+        Set<String> grams = gramsByItem.remove(name);
+        if (grams != null) {
+            for (String gram : grams) {
+                removePosting(itemsByGram, gram, name);
+            }
+        }
+        if (item != null) {
+            for (String tag : item.getTags()) {
+                removePosting(itemsByTag, tag.toLowerCase(Locale.ROOT), name);
+            }
+        }
+    }
+
+    private static void removePosting(Map<String, Set<String>> postings, String key, String name) {
+        Set<String> posting = postings.get(key);
+        if (posting != null) {
+            posting.remove(name);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private void clear() {
+        items.clear();
+        gramsByItem.clear();
+        itemsByGram.clear();
+        itemsByTag.clear();
+        built = false;
+    }
+
+    /**
+     * Splits the (lowercased) entries into tokens the same way {@link FuzzyItemMatcher} does and returns the
+     * bigrams of the blank-padded tokens.
+     */
+    static Set<String> grams(List<String> entries) {
+        Set<String> grams = new HashSet<>();
+        for (String entry : entries) {
+            for (String token : entry.split(FuzzyItemMatcher.TOKEN_SPLIT)) {
+                if (token.isEmpty()) {
+                    continue;
+                }
+                String padded = " " + token + " ";
+                for (int i = 0; i + GRAM_SIZE <= padded.length(); i++) {
+                    grams.add(padded.substring(i, i + GRAM_SIZE));
+                }
+            }
+        }
+        return grams;
+    }
+}
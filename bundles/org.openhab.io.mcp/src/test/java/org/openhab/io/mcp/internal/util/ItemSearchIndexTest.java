@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.mcp.internal.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataKey;
+import org.openhab.core.items.MetadataRegistry;
+
+/**
+ * Tests for {@link ItemSearchIndex}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+
+    private @Mock @Nullable ItemRegistry itemRegistry;
+    private @Mock @Nullable MetadataRegistry metadataRegistry;
+
+    private final List<Item> items = new ArrayList<>();
+    private @Nullable ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        items.add(mockItem("Kitchen_Light", "Kitchen Light", Set.of("Lighting")));
+        items.add(mockItem("Living_Dimmer", "Living Room Dimmer", Set.of("Lighting")));
+        items.add(mockItem("Garage_Door", "Garage Door", Set.of()));
+        lenient().when(Objects.requireNonNull(itemRegistry).getItems()).thenReturn(items);
+        index = new ItemSearchIndex(Objects.requireNonNull(itemRegistry), metadataRegistry,
+                new FuzzyItemMatcher(metadataRegistry));
+        index().start();
+    }
+
+    private ItemSearchIndex index() {
+        return Objects.requireNonNull(index);
+    }
+
+    private Item mockItem(String name, String label, Set<String> tags) {
+        Item item = mock(Item.class);
+        lenient().when(item.getName()).thenReturn(name);
+        lenient().when(item.getLabel()).thenReturn(label);
+        lenient().when(item.getTags()).thenReturn(tags);
+        return item;
+    }
+
+    private List<String> names(List<Item> candidates) {
+        return candidates.stream().map(Item::getName).sorted().toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RegistryChangeListener<Item> itemListener() {
+        ArgumentCaptor<RegistryChangeListener<Item>> captor = ArgumentCaptor.forClass(RegistryChangeListener.class);
+        verify(Objects.requireNonNull(itemRegistry)).addRegistryChangeListener(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void testQueryOnlyReturnsItemsSharingBigrams() {
+        assertEquals(List.of("Kitchen_Light"), names(index().candidates("kitchen", null)));
+    }
+
+    @Test
+    void testTypoStillFindsItem() {
+        assertTrue(names(index().candidates("kichen lite", null)).contains("Kitchen_Light"));
+        assertTrue(index().candidateNames("garge").contains("Garage_Door"));
+    }
+
+    @Test
+    void testTranspositionStillFindsItem() {
+        items.add(mockItem("Desk", "Lamp", Set.of()));
+        // no padded trigram in common with "lamp", but a high Jaro-Winkler score
+        assertTrue(new FuzzyItemMatcher(null).score(items.getLast(), "lmap") >= 0.65);
+        assertTrue(names(index().candidates("lmap", null)).contains("Desk"));
+    }
+
+    @Test
+    void testQueryWithoutSharedBigramsReturnsNoItems() {
+        assertTrue(index().candidates("xyz", null).isEmpty());
+        assertTrue(index().candidateNames("xyz").isEmpty());
+    }
+
+    @Test
+    void testLargeRegistryOnlyScoresFractionOfItemsWithoutLosingGoodMatches() {
+        items.clear();
+        for (String room : List.of("Kitchen", "Living Room", "Bedroom", "Bathroom", "Office", "Garage", "Hallway",
+                "Attic", "Basement", "Garden", "Terrace", "Laundry", "Guest Room", "Kids Room", "Dining Room")) {
+            for (String equipment : List.of("Ceiling Light", "Floor Lamp", "Blinds", "Thermostat", "Window Contact",
+                    "Motion Sensor", "Smoke Detector", "Speaker", "Television", "Radiator Valve", "Wall Plug",
+                    "Air Purifier")) {
+                for (String point : List.of("Power", "Brightness", "Temperature", "Battery", "Signal Strength",
+                        "Last Update")) {
+                    String label = room + " " + equipment + " " + point;
+                    items.add(mockItem(label.replace(' ', '_'), label, Set.of()));
+                }
+            }
+        }
+        FuzzyItemMatcher matcher = new FuzzyItemMatcher(null);
+
+        int candidates = 0;
+        List<String> queries = List.of("kichen ceiling light", "bedrom temperature", "garage", "livng room speaker",
+                "smoke");
+        for (String query : queries) {
+            Set<String> names = index().candidateNames(query);
+            candidates += names.size();
+            for (Item item : items) {
+                if (matcher.score(item, query) >= 0.8) {
+                    assertTrue(names.contains(item.getName()), item.getName() + " missing for " + query);
+                }
+            }
+        }
+        // 1080 items, a single shared bigram admits 90 % of them for these queries
+        assertTrue(candidates < queries.size() * items.size() / 2, "average candidates " + candidates / queries.size());
+    }
+
+    @Test
+    void testNoFiltersReturnsAllItems() {
+        assertEquals(3, index().candidates(null, null).size());
+        assertEquals(3, index().candidates("  ", List.of()).size());
+    }
+
+    @Test
+    void testTagsAreMatchedCaseInsensitively() {
+        assertEquals(List.of("Kitchen_Light", "Living_Dimmer"), names(index().candidates(null, List.of("lighting"))));
+        assertEquals(List.of("Living_Dimmer"), names(index().candidates("dimmer", List.of("Lighting"))));
+        assertTrue(index().candidates(null, List.of("Lighting", "Unknown")).isEmpty());
+    }
+
+    @Test
+    void testIndexIsBuiltOnceAndUpdatedFromRegistryEvents() {
+        index().candidates("kitchen", null);
+        RegistryChangeListener<Item> listener = itemListener();
+
+        Item cellar = mockItem("Cellar_Fan", "Cellar Fan", Set.of());
+        assertFalse(names(index().candidates("cellar", null)).contains("Cellar_Fan"));
+        listener.added(cellar);
+        assertTrue(names(index().candidates("cellar", null)).contains("Cellar_Fan"));
+
+        Item renamed = mockItem("Kitchen_Light", "Stove Lamp", Set.of());
+        assertFalse(names(index().candidates("stove", null)).contains("Kitchen_Light"));
+        listener.updated(items.get(0), renamed);
+        assertTrue(names(index().candidates("stove", null)).contains("Kitchen_Light"));
+        assertEquals(List.of("Living_Dimmer"), names(index().candidates(null, List.of("Lighting"))));
+
+        listener.removed(cellar);
+        assertFalse(names(index().candidates("cellar", null)).contains("Cellar_Fan"));
+
+        verify(Objects.requireNonNull(itemRegistry), times(1)).getItems();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSynonymsMetadataChangeReindexesItem() {
+        MetadataRegistry registry = Objects.requireNonNull(metadataRegistry);
+        assertFalse(names(index().candidates("stove", null)).contains("Kitchen_Light"));
+
+        Metadata synonyms = new Metadata(new MetadataKey("synonyms", "Kitchen_Light"), "Stove Light", null);
+        when(registry.get(new MetadataKey("synonyms", "Kitchen_Light"))).thenReturn(synonyms);
+        ArgumentCaptor<RegistryChangeListener<Metadata>> captor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(registry).addRegistryChangeListener(captor.capture());
+        captor.getValue().added(synonyms);
+
+        assertEquals(List.of("Kitchen_Light"), names(index().candidates("stove", null)));
+    }
+
+    @Test
+    void testDisposeRemovesListeners() {
+        RegistryChangeListener<Item> listener = itemListener();
+        index().dispose();
+        verify(Objects.requireNonNull(itemRegistry)).removeRegistryChangeListener(listener);
+    }
+}
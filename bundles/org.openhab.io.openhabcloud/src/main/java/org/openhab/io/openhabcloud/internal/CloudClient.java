@@ -24,6 +24,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,7 +63,6 @@ import org.eclipse.jetty.io.ByteBufferPool;
 import org.eclipse.jetty.io.Connection;
 import org.eclipse.jetty.io.EndPoint;
 import org.eclipse.jetty.io.RetainableByteBuffer;
-import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
 import org.eclipse.jetty.util.thread.Locker;
@@ -86,6 +86,8 @@ import io.socket.engineio.client.Transport;
 import io.socket.engineio.client.transports.WebSocket;
 import io.socket.parser.Packet;
 import io.socket.parser.Parser;
+import io.socket.thread.EventThread;
+import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
@@ -101,6 +103,7 @@ import okhttp3.logging.HttpLoggingInterceptor.Level;
  * @author Kai Kreuzer - migrated code to new Jetty client and ESH APIs
  * @author Dan Cunningham - Extended notification enhancements
  * @author Miguel Álvarez Díez - Proxy upgraded WebSocket connections
+ * @author openHAB Contributors - Batched item updates and aggregated response content
  */
 public class CloudClient {
 
@@ -194,6 +197,17 @@ public class CloudClient {
     private boolean remoteAccessEnabled;
     private Set<String> exposedItems;
 
+    /*
+     * Interval in ms item updates are collected to be sent in one itemupdates event, 0 to send each update separately
+     */
+    private final int itemUpdateBatchInterval;
+
+    /*
+     * Latest state of each item updated since the last itemupdates event, also used as lock for itemUpdatesFuture
+     */
+    private final Map<String, String> pendingItemUpdates = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> itemUpdatesFuture;
+
     /**
      * Back-off strategy for reconnecting when manual reconnection is needed
      */
@@ -210,6 +224,11 @@ public class CloudClient {
     private final AtomicReference<Optional<ScheduledFuture<?>>> reconnectFuture = new AtomicReference<>(
             Optional.empty());
 
+    /*
+     * Websocket of the current Socket.IO transport, used to apply backpressure to proxied response content
+     */
+    private volatile okhttp3.@Nullable WebSocket transportWebSocket;
+
     /**
      * Constructor of CloudClient
      *
@@ -217,15 +236,17 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param itemUpdateBatchInterval Interval in ms to collect item updates to be sent in one event, 0 to disable
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, int itemUpdateBatchInterval) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
+        this.itemUpdateBatchInterval = itemUpdateBatchInterval;
         this.jettyClient = httpClient;
         // configure websocket upgrade handler
         jettyClient.getProtocolHandlers()
@@ -260,7 +281,13 @@ public class CloudClient {
                 okHttpBuilder.addNetworkInterceptor(loggingInterceptor);
             }
             options.callFactory = okHttpBuilder.build();
-            options.webSocketFactory = okHttpBuilder.build();
+            OkHttpClient webSocketClient = okHttpBuilder.build();
+            // keep the websocket to see how much data is still waiting to be sent
+            options.webSocketFactory = (request, listener) -> {
+                okhttp3.WebSocket webSocket = webSocketClient.newWebSocket(request, listener);
+                transportWebSocket = webSocket;
+                return webSocket;
+            };
             socket = IO.socket(baseURL, options);
             URL parsed = URI.create(baseURL).toURL();
             protocol = parsed.getProtocol();
@@ -593,8 +620,21 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
+            ResponseContentEmitter contentEmitter = new ResponseContentEmitter(body -> {
+                JSONObject responseJson = new JSONObject();
+                try {
+                    responseJson.put("id", requestId);
+                    responseJson.put("body", body);
+                    socket.emit("responseContentBinary", responseJson);
+                    logger.trace("Sent {} bytes of content to request {}", body.length, requestId);
+                } catch (JSONException e) {
+                    logger.debug("{}", e.getMessage());
+                }
+            }, scheduler, EventThread::exec, this::getQueuedTransportBytes);
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
+                String contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
+                contentEmitter.setStreaming(contentType != null && contentType.startsWith("text/event-stream"));
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
@@ -607,20 +647,12 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).onResponseContent((theResponse, content) -> {
+            }).onResponseContentAsync((theResponse, content, callback) -> {
                 logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}", StandardCharsets.UTF_8.decode(content.slice()).toString());
                 }
+                contentEmitter.onContent(content, callback);
             }).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
@@ -647,6 +679,7 @@ public class CloudClient {
                         logger.debug("Response Failure: {}", result.getResponseFailure().getMessage());
                     }
                 }
+                contentEmitter.flush();
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
@@ -905,7 +938,17 @@ public class CloudClient {
      *
      */
     public void sendItemUpdate(String itemName, String itemState) {
-        if (isConnected()) {
+        if (isConnected() && itemUpdateBatchInterval > 0) {
+            logger.trace("Queueing update '{}' for item '{}'", itemState, itemName);
+            synchronized (pendingItemUpdates) {
+                // only the latest state of an item is sent
+                pendingItemUpdates.put(itemName, itemState);
+                if (itemUpdatesFuture == null) {
+                    itemUpdatesFuture = scheduler.schedule(this::sendPendingItemUpdates, itemUpdateBatchInterval,
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+        } else if (isConnected()) {
             logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
             JSONObject itemUpdateMessage = new JSONObject();
             try {
@@ -920,6 +963,39 @@ public class CloudClient {
         }
     }
 
+    private void sendPendingItemUpdates() {
+        JSONArray itemUpdates = new JSONArray();
+        synchronized (pendingItemUpdates) {
+            itemUpdatesFuture = null;
+            try {
+                for (Map.Entry<String, String> entry : pendingItemUpdates.entrySet()) {
+                    JSONObject itemUpdate = new JSONObject();
+                    itemUpdate.put("itemName", entry.getKey());
+                    itemUpdate.put("itemStatus", entry.getValue());
+                    itemUpdates.put(itemUpdate);
+                }
+            } catch (JSONException e) {
+                logger.debug("{}", e.getMessage());
+            }
+            pendingItemUpdates.clear();
+        }
+        if (itemUpdates.length() == 0) {
+            return;
+        }
+        if (isConnected()) {
+            logger.debug("Sending {} item updates", itemUpdates.length());
+            JSONObject itemUpdatesMessage = new JSONObject();
+            try {
+                itemUpdatesMessage.put("updates", itemUpdates);
+                socket.emit("itemupdates", itemUpdatesMessage);
+            } catch (JSONException e) {
+                logger.debug("{}", e.getMessage());
+            }
+        } else {
+            logger.debug("No connection, {} item updates are not sent", itemUpdates.length());
+        }
+    }
+
     /**
      * Register a webhook with the openHAB Cloud for the given local path.
      *
@@ -1020,6 +1096,14 @@ public class CloudClient {
         logger.info("Shutting down openHAB Cloud service connection");
         reconnectFuture.get().ifPresent(future -> future.cancel(true));
         failPendingWebhookEmits("Cloud connector shut down");
+        synchronized (pendingItemUpdates) {
+            ScheduledFuture<?> future = itemUpdatesFuture;
+            if (future != null) {
+                future.cancel(false);
+                itemUpdatesFuture = null;
+            }
+            pendingItemUpdates.clear();
+        }
         socket.disconnect();
     }
 
@@ -1027,6 +1111,12 @@ public class CloudClient {
         this.listener = listener;
     }
 
+    private long getQueuedTransportBytes() {
+        okhttp3.WebSocket webSocket = transportWebSocket;
+        // nothing will drain anymore while disconnected, so don't hold back the response
+        return webSocket != null && socket.connected() ? webSocket.queueSize() : 0;
+    }
+
     private void scheduleReconnect(long delay) {
         reconnectFuture.getAndSet(Optional.of(scheduler.schedule(new Runnable() {
             @Override
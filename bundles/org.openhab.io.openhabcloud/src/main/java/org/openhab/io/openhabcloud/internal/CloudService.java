@@ -80,6 +80,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_ITEM_UPDATE_BATCH_INTERVAL = "itemUpdateBatchInterval";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
@@ -98,6 +99,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
     private boolean remoteAccessEnabled = true;
     private Set<String> exposedItems = null;
+    private int itemUpdateBatchInterval = 0;
     private int localPort;
 
     @Activate
@@ -304,6 +306,20 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             }
         }
 
+        Object batchIntervalCfg = config == null ? null : config.get(CFG_ITEM_UPDATE_BATCH_INTERVAL);
+        if (batchIntervalCfg instanceof Number number) {
+            itemUpdateBatchInterval = Math.max(0, number.intValue());
+        } else if (batchIntervalCfg instanceof String value && !value.isBlank()) {
+            try {
+                itemUpdateBatchInterval = Math.max(0, Integer.parseInt(value.trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid item update batch interval '{}', sending each item update separately", value);
+                itemUpdateBatchInterval = 0;
+            }
+        } else {
+            itemUpdateBatchInterval = 0;
+        }
+
         logger.debug("UUID = {}, secret = {}", censored(InstanceUUID.get()), censored(getSecret()));
 
         if (cloudClient != null) {
@@ -322,7 +338,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         String localBaseUrl = "http://localhost:" + localPort;
         cloudClient = new CloudClient(httpClient, InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl,
-                remoteAccessEnabled, exposedItems);
+                remoteAccessEnabled, exposedItems, itemUpdateBatchInterval);
         cloudClient.connect();
         cloudClient.setListener(this);
         NotificationAction.setCloudService(this);
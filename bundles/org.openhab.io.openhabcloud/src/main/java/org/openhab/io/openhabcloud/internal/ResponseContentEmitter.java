@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
+
+/**
+ * The {@link ResponseContentEmitter} emits the content of a proxied response to the openHAB Cloud. The content
+ * received from openHAB is aggregated to chunks of up to {@link #CHUNK_SIZE} bytes, which are emitted when full, after
+ * {@link #FLUSH_DELAY_MS} or when the response is complete. Event streams are emitted without delay.
+ * <p>
+ * After emitting a chunk, further content is only demanded from openHAB once the transport has written enough of its
+ * send queue to get below {@link #MAX_QUEUED_BYTES}. A slow cloud connection therefore slows down reading the
+ * response instead of buffering it until the websocket gives up.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class ResponseContentEmitter {
+
+    /*
+     * Maximum size of the response content chunks emitted to the openHAB Cloud
+     */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    /*
+     * Maximum time response content is held back to be aggregated with further content
+     */
+    static final long FLUSH_DELAY_MS = 20;
+
+    /*
+     * Maximum number of bytes waiting in the send queue of the transport before no more content is demanded
+     */
+    static final long MAX_QUEUED_BYTES = 4 * CHUNK_SIZE;
+
+    /*
+     * Interval to check whether the send queue of the transport has drained
+     */
+    static final long DRAIN_CHECK_INTERVAL_MS = 10;
+
+    private final Consumer<byte[]> sender;
+    private final ScheduledExecutorService scheduler;
+    private final Executor sendExecutor;
+    private final LongSupplier queuedBytes;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private boolean streaming;
+    private @Nullable ScheduledFuture<?> flushFuture;
+
+    /**
+     * @param sender emits a chunk of content
+     * @param scheduler scheduler for delayed flushes and drain checks
+     * @param sendExecutor the executor the sender hands the chunks to, so the send queue is only checked after the
+     *            emitted chunk reached it
+     * @param queuedBytes returns the number of bytes in the send queue of the transport
+     */
+    ResponseContentEmitter(Consumer<byte[]> sender, ScheduledExecutorService scheduler, Executor sendExecutor,
+            LongSupplier queuedBytes) {
+        this.sender = sender;
+        this.scheduler = scheduler;
+        this.sendExecutor = sendExecutor;
+        this.queuedBytes = queuedBytes;
+    }
+
+    public synchronized void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public void onContent(ByteBuffer content, Callback callback) {
+        synchronized (this) {
+            if (content.hasArray()) {
+                buffer.write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            } else {
+                buffer.writeBytes(BufferUtil.toArray(content));
+            }
+            if (streaming || buffer.size() >= CHUNK_SIZE) {
+                flush();
+                sendExecutor.execute(() -> succeedWhenDrained(callback));
+                return;
+            }
+            if (flushFuture == null) {
+                flushFuture = scheduler.schedule(this::flush, FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+        callback.succeeded();
+    }
+
+    public synchronized void flush() {
+        ScheduledFuture<?> future = flushFuture;
+        if (future != null) {
+            future.cancel(false);
+            flushFuture = null;
+        }
+        if (buffer.size() == 0) {
+            return;
+        }
+        sender.accept(buffer.toByteArray());
+        buffer.reset();
+    }
+
+    private void succeedWhenDrained(Callback callback) {
+        if (queuedBytes.getAsLong() <= MAX_QUEUED_BYTES) {
+            callback.succeeded();
+        } else {
+            scheduler.schedule(() -> succeedWhenDrained(callback), DRAIN_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+}
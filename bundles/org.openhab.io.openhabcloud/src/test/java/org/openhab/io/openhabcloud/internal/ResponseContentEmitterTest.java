@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.util.Callback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResponseContentEmitter}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ResponseContentEmitterTest {
+
+    private final List<byte[]> sent = new CopyOnWriteArrayList<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ResponseContentEmitter emitter = new ResponseContentEmitter(sent::add, scheduler, Runnable::run,
+            queuedBytes::get);
+
+    @BeforeEach
+    public void setUp() {
+        sent.clear();
+        queuedBytes.set(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void smallContentIsAggregatedAndFlushedAfterDelay() throws InterruptedException {
+        CountDownLatch succeeded = new CountDownLatch(2);
+        emitter.onContent(ByteBuffer.wrap(new byte[] { 1, 2 }), Callback.from(succeeded::countDown));
+        emitter.onContent(ByteBuffer.wrap(new byte[] { 3 }), Callback.from(succeeded::countDown));
+
+        assertTrue(succeeded.await(0, TimeUnit.MILLISECONDS));
+        assertTrue(sent.isEmpty());
+
+        Thread.sleep(ResponseContentEmitter.FLUSH_DELAY_MS * 10);
+        assertEquals(1, sent.size());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, sent.get(0));
+    }
+
+    @Test
+    public void flushEmitsPendingContent() {
+        emitter.onContent(ByteBuffer.wrap(new byte[] { 1 }), Callback.NOOP);
+        emitter.flush();
+        emitter.flush();
+
+        assertEquals(1, sent.size());
+        assertArrayEquals(new byte[] { 1 }, sent.get(0));
+    }
+
+    @Test
+    public void fullChunkIsEmittedImmediately() throws InterruptedException {
+        CountDownLatch succeeded = new CountDownLatch(1);
+        emitter.onContent(ByteBuffer.allocateDirect(ResponseContentEmitter.CHUNK_SIZE),
+                Callback.from(succeeded::countDown));
+
+        assertEquals(1, sent.size());
+        assertEquals(ResponseContentEmitter.CHUNK_SIZE, sent.get(0).length);
+        assertTrue(succeeded.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void streamingContentIsEmittedImmediately() {
+        emitter.setStreaming(true);
+        emitter.onContent(ByteBuffer.wrap(new byte[] { 1 }), Callback.NOOP);
+        emitter.onContent(ByteBuffer.wrap(new byte[] { 2 }), Callback.NOOP);
+
+        assertEquals(2, sent.size());
+        assertArrayEquals(new byte[] { 1 }, sent.get(0));
+        assertArrayEquals(new byte[] { 2 }, sent.get(1));
+    }
+
+    @Test
+    public void contentIsOnlyDemandedAfterSendQueueDrained() throws InterruptedException {
+        queuedBytes.set(ResponseContentEmitter.MAX_QUEUED_BYTES + 1);
+        CountDownLatch succeeded = new CountDownLatch(1);
+        emitter.setStreaming(true);
+        emitter.onContent(ByteBuffer.wrap(new byte[] { 1 }), Callback.from(succeeded::countDown));
+
+        assertEquals(1, sent.size());
+        assertFalse(succeeded.await(ResponseContentEmitter.DRAIN_CHECK_INTERVAL_MS * 10, TimeUnit.MILLISECONDS));
+
+        queuedBytes.set(ResponseContentEmitter.MAX_QUEUED_BYTES);
+        assertTrue(succeeded.await(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link InMemoryPersistenceService} storing bursts of states and querying a series of one value per
+ * minute. Throughput and latency percentiles are reported per operation, the allocation rate by the GC profiler
+ * enabled in {@link #main(String[])}. Run it with the test classpath, e.g. from the IDE via {@link #main(String[])}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryPersistenceServiceBenchmark {
+
+    private static final ZonedDateTime SERIES_START = ZonedDateTime.parse("2024-01-01T00:00:00Z");
+    private static final String SERIES_ITEM = "BenchmarkSeries";
+    private static final int BURST_ITEMS = 10;
+    private static final int PAGE_SIZE = 100;
+    private static final int PAGE_NUMBER = 100;
+
+    @Param({ "100000", "1000000" })
+    public int rows;
+
+    @Param("1000")
+    public int burstSize;
+
+    private final InMemoryPersistenceService service = new InMemoryPersistenceService();
+    private final List<NumberItem> burstItems = new ArrayList<>();
+    private ZonedDateTime burstTime = SERIES_START;
+
+    @Setup
+    public void setup() {
+        service.activate(Map.of("maxEntries", (long) rows));
+        NumberItem seriesItem = new NumberItem(SERIES_ITEM);
+        for (int i = 0; i < rows; i++) {
+            service.store(seriesItem, SERIES_START.plusMinutes(i), new DecimalType(i % 1000 / 10.0));
+        }
+        for (int i = 0; i < BURST_ITEMS; i++) {
+            burstItems.add(new NumberItem("BenchmarkBurst" + i));
+        }
+    }
+
+    @Benchmark
+    public void storeBurst() {
+        for (int i = 0; i < burstSize; i++) {
+            burstTime = burstTime.plusSeconds(1);
+            service.store(burstItems.get(i % BURST_ITEMS), burstTime, new DecimalType(i));
+        }
+    }
+
+    @Benchmark
+    public Iterable<HistoricItem> queryLastDay() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(SERIES_ITEM);
+        filter.setBeginDate(SERIES_START.plusMinutes(rows - 1440));
+        filter.setEndDate(SERIES_START.plusMinutes(rows));
+        filter.setOrdering(Ordering.ASCENDING);
+        return service.query(filter);
+    }
+
+    @Benchmark
+    public Iterable<HistoricItem> queryPage() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(SERIES_ITEM);
+        filter.setPageSize(PAGE_SIZE);
+        filter.setPageNumber(PAGE_NUMBER);
+        filter.setOrdering(Ordering.DESCENDING);
+        return service.query(filter);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(InMemoryPersistenceServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
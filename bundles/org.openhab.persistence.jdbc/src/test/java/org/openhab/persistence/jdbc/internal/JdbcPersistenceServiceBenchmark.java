@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Benchmark for {@link JdbcPersistenceService} on the embedded databases, storing bursts of states and querying a
+ * series of one value per minute. Throughput and latency percentiles are reported per operation, the allocation rate
+ * by the GC profiler enabled in {@link #main(String[])}. Run it with the test classpath, e.g. from the IDE via
+ * {@link #main(String[])}.
+ * <p>
+ * The databases are kept in {@code target/benchmark}, so the series is only stored once. This takes minutes for the
+ * larger series on Derby and SQLite, as every value is stored by its own statement like the service does.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcPersistenceServiceBenchmark {
+
+    private static final Path DATABASE_FOLDER = Path.of("target", "benchmark");
+    private static final ZonedDateTime SERIES_START = ZonedDateTime.parse("2024-01-01T00:00:00Z");
+    private static final int BURST_ITEMS = 10;
+    private static final int PAGE_SIZE = 100;
+    private static final int PAGE_NUMBER = 100;
+
+    @Param({ "h2", "sqlite", "derby", "hsqldb" })
+    public String database = "h2";
+
+    @Param({ "100000", "1000000" })
+    public int rows;
+
+    @Param("100")
+    public int burstSize;
+
+    // released by every store on the single store thread of the service, while it holds the service lock
+    private final Semaphore storeStarts = new Semaphore(0);
+    private final ItemRegistry itemRegistry = mock(ItemRegistry.class, withSettings().stubOnly());
+    private final List<NumberItem> burstItems = new ArrayList<>();
+    private @NonNullByDefault({}) JdbcPersistenceService service;
+    private String seriesItem = "";
+    private ZonedDateTime burstTime = SERIES_START;
+
+    @Setup
+    public void setup() throws IOException, ItemNotFoundException, JdbcException {
+        Files.createDirectories(DATABASE_FOLDER);
+        service = new JdbcPersistenceService(itemRegistry, () -> ZoneOffset.UTC) {
+            @Override
+            protected boolean checkDBAccessability() {
+                storeStarts.release();
+                return super.checkDBAccessability();
+            }
+        };
+        Map<Object, Object> configuration = new HashMap<>();
+        configuration.put("url", url());
+        service.activate(mock(BundleContext.class), configuration);
+
+        seriesItem = "BenchmarkSeries" + rows;
+        NumberItem item = new NumberItem(seriesItem);
+        when(itemRegistry.getItem(seriesItem)).thenReturn(item);
+        String table = service.getItemNameToTableNameMap().get(seriesItem);
+        for (long i = table == null ? 0 : service.getRowCount(table); i < rows; i++) {
+            service.storeItemValue(item, new DecimalType(i % 1000 / 10.0), SERIES_START.plusMinutes(i), null);
+        }
+
+        for (int i = 0; i < BURST_ITEMS; i++) {
+            NumberItem burstItem = new NumberItem("BenchmarkBurst" + i);
+            when(itemRegistry.getItem(burstItem.getName())).thenReturn(burstItem);
+            burstItems.add(burstItem);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (NumberItem burstItem : burstItems) {
+            FilterCriteria filter = new FilterCriteria();
+            filter.setItemName(burstItem.getName());
+            service.remove(filter);
+        }
+        service.deactivate(0);
+    }
+
+    private String url() {
+        Path path = DATABASE_FOLDER.resolve(database).toAbsolutePath();
+        return switch (database) {
+            case "derby" -> "jdbc:derby:" + path + ";create=true";
+            case "sqlite" -> "jdbc:sqlite:" + path + ".db";
+            default -> "jdbc:" + database + ":" + path;
+        };
+    }
+
+    @Benchmark
+    public void storeBurst() throws InterruptedException {
+        storeStarts.drainPermits();
+        for (int i = 0; i < burstSize; i++) {
+            burstTime = burstTime.plusSeconds(1);
+            service.store(burstItems.get(i % BURST_ITEMS), burstTime, new DecimalType(i));
+        }
+        storeStarts.acquire(burstSize);
+        synchronized (service) {
+            // the last store of the burst has finished once the lock is released
+        }
+    }
+
+    @Benchmark
+    public Iterable<HistoricItem> queryLastDay() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(seriesItem);
+        filter.setBeginDate(SERIES_START.plusMinutes(rows - 1440));
+        filter.setEndDate(SERIES_START.plusMinutes(rows));
+        filter.setOrdering(Ordering.ASCENDING);
+        return service.query(filter);
+    }
+
+    @Benchmark
+    public Iterable<HistoricItem> queryPage() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(seriesItem);
+        filter.setPageSize(PAGE_SIZE);
+        filter.setPageNumber(PAGE_NUMBER);
+        filter.setOrdering(Ordering.DESCENDING);
+        return service.query(filter);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JdbcPersistenceServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
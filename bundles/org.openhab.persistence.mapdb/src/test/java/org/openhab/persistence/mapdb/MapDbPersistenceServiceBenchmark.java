@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistedItem;
+import org.openhab.persistence.mapdb.internal.MapDbPersistenceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link MapDbPersistenceService} storing bursts of states and querying the stored items. Throughput and
+ * latency percentiles are reported per operation, the allocation rate by the GC profiler enabled in
+ * {@link #main(String[])}. Run it with the test classpath, e.g. from the IDE via {@link #main(String[])}.
+ * <p>
+ * MapDB only keeps the last state of an item, so there are no ranges or pages to query. Stores are committed in the
+ * background, {@link #storeBurst()} polls until every state of the burst can be queried.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapDbPersistenceServiceBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int itemCount;
+
+    @Param("100")
+    public int burstSize;
+
+    private final List<NumberItem> items = new ArrayList<>();
+    private @NonNullByDefault({}) MapDbPersistenceService service;
+    private int burst;
+    private int next;
+
+    @Setup
+    public void setup() {
+        System.setProperty("openhab.userdata", Path.of("target", "benchmark").toAbsolutePath().toString());
+        service = new MapDbPersistenceService();
+        service.activate();
+        for (int i = 0; i < itemCount; i++) {
+            NumberItem item = new NumberItem("BenchmarkItem" + i);
+            item.setState(new DecimalType(i));
+            service.store(item);
+            items.add(item);
+        }
+        for (NumberItem item : items) {
+            awaitStored(item);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.deactivate();
+    }
+
+    private void awaitStored(NumberItem item) {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(item.getName());
+        while (true) {
+            Iterator<HistoricItem> result = service.query(filter).iterator();
+            if (result.hasNext() && result.next().getState().equals(item.getState())) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Benchmark
+    public void storeBurst() {
+        burst++;
+        for (int i = 0; i < burstSize; i++) {
+            NumberItem item = items.get(i);
+            item.setState(new DecimalType(burst));
+            service.store(item);
+        }
+        for (int i = 0; i < burstSize; i++) {
+            awaitStored(items.get(i));
+        }
+    }
+
+    @Benchmark
+    public Iterable<HistoricItem> queryItem() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(nextItem());
+        return service.query(filter);
+    }
+
+    @Benchmark
+    public @Nullable PersistedItem persistedItem() {
+        return service.persistedItem(nextItem(), null);
+    }
+
+    private String nextItem() {
+        next = (next + 1) % itemCount;
+        return items.get(next).getName();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapDbPersistenceServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+
+/**
+ * Benchmark for {@link RRD4jPersistenceService} storing bursts of states and querying a year of one value per minute.
+ * Throughput and latency percentiles are reported per operation, the allocation rate by the GC profiler enabled in
+ * {@link #main(String[])}. Run it with the test classpath, e.g. from the IDE via {@link #main(String[])}.
+ * <p>
+ * Stores are buffered by the service and written to the databases once per second in the background, so
+ * {@link #storeBurst()} measures the buffering while the background writes compete for the CPU. The series is written
+ * directly with the default numeric definition of the service, as the service only stores the current time.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RRD4jPersistenceServiceBenchmark {
+
+    private static final String SERIES_ITEM = "BenchmarkSeries";
+    private static final long SERIES_STEP = 60;
+    private static final long SERIES_DURATION = 365 * 24 * 3600;
+
+    @Param("1000")
+    public int burstSize;
+
+    private final ItemRegistry itemRegistry = mock(ItemRegistry.class, withSettings().stubOnly());
+    private final List<NumberItem> burstItems = new ArrayList<>();
+    private @NonNullByDefault({}) RRD4jPersistenceService service;
+    private ZonedDateTime seriesEnd = ZonedDateTime.now(ZoneOffset.UTC);
+
+    @Setup
+    public void setup() throws IOException, ItemNotFoundException {
+        System.setProperty("openhab.userdata", Path.of("target", "benchmark").toAbsolutePath().toString());
+
+        long end = System.currentTimeMillis() / 1000 / SERIES_STEP * SERIES_STEP;
+        seriesEnd = Instant.ofEpochSecond(end).atZone(ZoneOffset.UTC);
+        writeSeries(RRD4jPersistenceService.getDatabasePath(SERIES_ITEM), end - SERIES_DURATION, end);
+        when(itemRegistry.getItem(SERIES_ITEM)).thenReturn(new NumberItem(SERIES_ITEM));
+
+        for (int i = 0; i < burstSize; i++) {
+            NumberItem burstItem = new NumberItem("BenchmarkBurst" + i);
+            burstItem.setState(new DecimalType(i));
+            when(itemRegistry.getItem(burstItem.getName())).thenReturn(burstItem);
+            burstItems.add(burstItem);
+        }
+        service = new RRD4jPersistenceService(itemRegistry, Map.of());
+    }
+
+    private static void writeSeries(Path path, long start, long end) throws IOException {
+        Files.createDirectories(Objects.requireNonNull(path.getParent()));
+        Files.deleteIfExists(path);
+        // same layout as the default numeric definition of the service
+        RrdDef rrdDef = new RrdDef(path.toString(), start - SERIES_STEP, 10);
+        rrdDef.addDatasource("state", DsType.GAUGE, 600, Double.NaN, Double.NaN);
+        rrdDef.addArchive(ConsolFun.LAST, 0.5, 1, 360);
+        rrdDef.addArchive(ConsolFun.LAST, 0.5, 6, 10080);
+        rrdDef.addArchive(ConsolFun.LAST, 0.5, 90, 36500);
+        rrdDef.addArchive(ConsolFun.LAST, 0.5, 360, 43800);
+        rrdDef.addArchive(ConsolFun.LAST, 0.5, 8640, 3650);
+        try (RrdDb db = RrdDb.getBuilder().setRrdDef(rrdDef).build()) {
+            for (long time = start; time <= end; time += SERIES_STEP) {
+                db.createSample(time).setValue("state", time / SERIES_STEP % 1000 / 10.0).update();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.deactivate();
+    }
+
+    @Benchmark
+    public void storeBurst() {
+        for (NumberItem burstItem : burstItems) {
+            service.store(burstItem);
+        }
+    }
+
+    @Benchmark
+    public Iterable<HistoricItem> queryLastDay() {
+        return service.query(rangeFilter(seriesEnd.minusDays(1)));
+    }
+
+    @Benchmark
+    public Iterable<HistoricItem> queryLastYear() {
+        return service.query(rangeFilter(seriesEnd.minusYears(1)));
+    }
+
+    @Benchmark
+    public Iterable<HistoricItem> queryLatest() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(SERIES_ITEM);
+        filter.setPageSize(1);
+        filter.setOrdering(Ordering.DESCENDING);
+        return service.query(filter);
+    }
+
+    private FilterCriteria rangeFilter(ZonedDateTime begin) {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(SERIES_ITEM);
+        filter.setBeginDate(begin);
+        filter.setEndDate(seriesEnd);
+        filter.setOrdering(Ordering.ASCENDING);
+        return filter;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RRD4jPersistenceServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.link.ItemChannelLink;
+import org.openhab.core.thing.profiles.ProfileCallback;
+import org.openhab.core.thing.profiles.ProfileContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link StateFilterProfile} filtering a stream of sensor values with the same conditions over and over.
+ * Run it with the test classpath, e.g. from the IDE via {@link #main(String[])}, which adds the allocations per call.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateFilterProfileBenchmark {
+
+    private static final int STATES = 64;
+
+    @Param({ "> 0", "$DELTA >= 0.5", "$MEDIAN(10) < 1000, Limit > 0" })
+    public String conditions = "> 0";
+
+    private final ProfileCallback callback = mock(ProfileCallback.class, withSettings().stubOnly());
+    private final ProfileContext context = mock(ProfileContext.class, withSettings().stubOnly());
+    private final ItemRegistry itemRegistry = mock(ItemRegistry.class, withSettings().stubOnly());
+    private final DecimalType[] states = new DecimalType[STATES];
+    private @NonNullByDefault({}) StateFilterProfile profile;
+    private int next;
+
+    @Setup
+    public void setup() throws ItemNotFoundException {
+        when(callback.getItemChannelLink())
+                .thenReturn(new ItemChannelLink("Sensor", new ChannelUID("binding:thing:device:value")));
+        when(context.getConfiguration()).thenReturn(new Configuration(Map.of("conditions", conditions)));
+        // like the item registry, fail with an exception for everything that isn't an item name
+        when(itemRegistry.getItem(anyString())).thenAnswer(invocation -> {
+            throw new ItemNotFoundException(invocation.getArgument(0, String.class));
+        });
+        NumberItem limit = new NumberItem("Limit");
+        limit.setState(new DecimalType(10));
+        doReturn(new NumberItem("Sensor")).when(itemRegistry).getItem("Sensor");
+        doReturn(limit).when(itemRegistry).getItem("Limit");
+
+        Random random = new Random(42);
+        double value = 20;
+        for (int i = 0; i < STATES; i++) {
+            value += random.nextGaussian();
+            states[i] = new DecimalType(Math.round(value * 10) / 10.0);
+        }
+        profile = new StateFilterProfile(callback, context, itemRegistry);
+    }
+
+    @Benchmark
+    public void onStateUpdateFromHandler() {
+        next = (next + 1) % STATES;
+        profile.onStateUpdateFromHandler(states[next]);
+    }
+
+    @Benchmark
+    public StateFilterProfile create() {
+        return new StateFilterProfile(callback, context, itemRegistry);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StateFilterProfileBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
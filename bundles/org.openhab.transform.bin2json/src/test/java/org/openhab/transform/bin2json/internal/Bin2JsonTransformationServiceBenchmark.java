@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.bin2json.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link Bin2JsonTransformationService} on binary sensor records of different size, repeating the same
+ * parser rule or using several rules in turn. Run it with the test classpath, e.g. from the IDE via
+ * {@link #main(String[])}, which adds the allocations per call.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Bin2JsonTransformationServiceBenchmark {
+
+    @Param({ "10", "1000" })
+    public int sensors;
+
+    @Param({ "1", "10" })
+    public int rules;
+
+    private final Bin2JsonTransformationService service = new Bin2JsonTransformationService();
+    private String[] functions = new String[0];
+    private String hex = "";
+    private int next;
+
+    @Setup
+    public void setup() {
+        // four bytes per sensor: id, temperature in tenth of degrees, humidity
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sensors; i++) {
+            builder.append(String.format("%02X%04X%02X", i & 0xFF, 150 + i % 100, 40 + i % 30));
+        }
+        hex = builder.toString();
+        functions = new String[rules];
+        for (int i = 0; i < rules; i++) {
+            functions[i] = "sensors" + i + " [_] { ubyte id; short temperature; ubyte humidity; }";
+        }
+    }
+
+    @Benchmark
+    public @Nullable String transform() throws TransformationException {
+        next = (next + 1) % rules;
+        return service.transform(functions[next], hex);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(Bin2JsonTransformationServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
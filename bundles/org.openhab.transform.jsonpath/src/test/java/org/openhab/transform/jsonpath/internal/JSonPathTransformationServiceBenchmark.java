@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link JSonPathTransformationService} on sensor payloads of different size, repeating the same path or
+ * using several paths in turn. Run it with the test classpath, e.g. from the IDE via {@link #main(String[])}, which
+ * adds the allocations per call.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSonPathTransformationServiceBenchmark {
+
+    @Param({ "10", "1000" })
+    public int sensors;
+
+    @Param({ "1", "10" })
+    public int paths;
+
+    private final JSonPathTransformationService service = new JSonPathTransformationService();
+    private String[] indexPaths = new String[0];
+    private String[] filterPaths = new String[0];
+    private String json = "";
+    private int next;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("{\"time\":\"2025-10-01T12:00:00\",\"sensors\":[");
+        for (int i = 0; i < sensors; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":\"s").append(i).append("\",\"temperature\":")
+                    .append(15 + i % 100 / 10.0).append(",\"humidity\":").append(40 + i % 30)
+                    .append(",\"battery\":true}");
+        }
+        json = builder.append("]}").toString();
+        indexPaths = new String[paths];
+        filterPaths = new String[paths];
+        for (int i = 0; i < paths; i++) {
+            indexPaths[i] = "$.sensors[" + i + "].temperature";
+            filterPaths[i] = "$.sensors[?(@.id == 's" + i + "')].humidity";
+        }
+    }
+
+    @Benchmark
+    public @Nullable String transformIndex() throws TransformationException {
+        next = (next + 1) % paths;
+        return service.transform(indexPaths[next], json);
+    }
+
+    @Benchmark
+    public @Nullable String transformFilter() throws TransformationException {
+        next = (next + 1) % paths;
+        return service.transform(filterPaths[next], json);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JSonPathTransformationServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.map.internal;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.Transformation;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link MapTransformationService} on maps of different length, repeating the same map or using several
+ * maps in turn, both from the registry and inline. Run it with the test classpath, e.g. from the IDE via
+ * {@link #main(String[])}, which adds the allocations per call.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapTransformationServiceBenchmark {
+
+    private static final int SOURCES = 64;
+
+    @Param({ "10", "1000" })
+    public int entries;
+
+    @Param({ "1", "10" })
+    public int maps;
+
+    private final TransformationRegistry transformationRegistry = mock(TransformationRegistry.class,
+            withSettings().stubOnly());
+    private @NonNullByDefault({}) MapTransformationService service;
+    private String[] functions = new String[0];
+    private String[] inlineFunctions = new String[0];
+    private String[] sources = new String[0];
+    private int next;
+
+    @Setup
+    public void setup() {
+        functions = new String[maps];
+        inlineFunctions = new String[maps];
+        for (int i = 0; i < maps; i++) {
+            StringBuilder map = new StringBuilder();
+            for (int j = 0; j < entries; j++) {
+                map.append("key").append(j).append("=value ").append(i).append('.').append(j).append('\n');
+            }
+            functions[i] = "map/benchmark" + i + ".map";
+            inlineFunctions[i] = "|" + map.toString().replace('\n', ';');
+            when(transformationRegistry.get(functions[i], null)).thenReturn(new Transformation(functions[i],
+                    functions[i], "map", Map.of(Transformation.FUNCTION, map.toString())));
+        }
+        sources = new String[SOURCES];
+        for (int i = 0; i < SOURCES; i++) {
+            sources[i] = "key" + i * 7919 % entries;
+        }
+        service = new MapTransformationService(transformationRegistry);
+    }
+
+    @Benchmark
+    public @Nullable String transform() throws TransformationException {
+        next = (next + 1) % SOURCES;
+        return service.transform(functions[next % maps], sources[next]);
+    }
+
+    @Benchmark
+    public @Nullable String transformInline() throws TransformationException {
+        next = (next + 1) % SOURCES;
+        return service.transform(inlineFunctions[next % maps], sources[next]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapTransformationServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.Transformation;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for {@link ScaleTransformationService} on scales with different numbers of ranges, repeating the same
+ * scale or using several scales in turn. Run it with the test classpath, e.g. from the IDE via
+ * {@link #main(String[])}, which adds the allocations per call.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScaleTransformationServiceBenchmark {
+
+    private static final int SOURCES = 64;
+
+    @Param({ "10", "1000" })
+    public int ranges;
+
+    @Param({ "1", "10" })
+    public int scales;
+
+    private final TransformationRegistry transformationRegistry = mock(TransformationRegistry.class,
+            withSettings().stubOnly());
+    private @NonNullByDefault({}) ScaleTransformationService service;
+    private String[] functions = new String[0];
+    private String[] sources = new String[0];
+    private String[] quantitySources = new String[0];
+    private int next;
+
+    @Setup
+    public void setup() {
+        functions = new String[scales];
+        for (int i = 0; i < scales; i++) {
+            StringBuilder scale = new StringBuilder();
+            for (int j = 0; j < ranges; j++) {
+                scale.append('[').append(j).append("..").append(j + 1).append("[=level ").append(i).append('.')
+                        .append(j).append('\n');
+            }
+            scale.append("NaN=unknown\n");
+            functions[i] = "scale/benchmark" + i + ".scale";
+            when(transformationRegistry.get(functions[i], null)).thenReturn(new Transformation(functions[i],
+                    functions[i], "scale", Map.of(Transformation.FUNCTION, scale.toString())));
+        }
+        sources = new String[SOURCES];
+        quantitySources = new String[SOURCES];
+        for (int i = 0; i < SOURCES; i++) {
+            sources[i] = String.valueOf(i * 7919 % ranges + 0.5);
+            quantitySources[i] = sources[i] + " %";
+        }
+        service = new ScaleTransformationService(transformationRegistry);
+    }
+
+    @Benchmark
+    public @Nullable String transform() throws TransformationException {
+        next = (next + 1) % SOURCES;
+        return service.transform(functions[next % scales], sources[next]);
+    }
+
+    @Benchmark
+    public @Nullable String transformQuantity() throws TransformationException {
+        next = (next + 1) % SOURCES;
+        return service.transform(functions[next % scales], quantitySources[next]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ScaleTransformationServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
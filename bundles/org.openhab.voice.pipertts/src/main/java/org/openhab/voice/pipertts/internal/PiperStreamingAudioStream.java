@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+
+/**
+ * The {@link PiperStreamingAudioStream} class is an audio stream that synthesizes its text sentence by sentence on a
+ * worker thread, so the first sentence can be played while the next ones are still being generated.
+ * The number of sentences generated ahead of the reader is bounded.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class PiperStreamingAudioStream extends AudioStream {
+    private static final byte[] END_OF_STREAM = new byte[0];
+    // give up generating if the reader does not consume the audio for this long
+    private static final long READER_TIMEOUT_SECONDS = 60;
+
+    private final AudioFormat audioFormat;
+    private final BlockingQueue<byte[]> chunks;
+    private final Future<?> worker;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Runnable onFinish;
+    private byte[] currentChunk;
+    private int currentOffset = 0;
+    private boolean ended = false;
+    private volatile @Nullable Exception failure;
+
+    /**
+     * Synthesizes the audio of a single sentence, already encoded in the target format.
+     */
+    @FunctionalInterface
+    public interface SentenceSynthesizer {
+        byte[] synthesize(String sentence) throws Exception;
+    }
+
+    /**
+     *
+     * @param header bytes returned before any audio, e.g. the wav header.
+     * @param sentences sentences to synthesize in order.
+     * @param synthesizer sentence synthesizer.
+     * @param readAhead max number of synthesized sentences not read yet.
+     * @param audioFormat format of the stream.
+     * @param executor executor running the synthesis.
+     * @param onFinish action called from the worker once all the sentences were synthesized, or on failure.
+     */
+    public PiperStreamingAudioStream(byte[] header, List<String> sentences, SentenceSynthesizer synthesizer,
+            int readAhead, AudioFormat audioFormat, ExecutorService executor, Runnable onFinish) {
+        this.audioFormat = audioFormat;
+        this.currentChunk = header;
+        this.chunks = new ArrayBlockingQueue<>(Math.max(1, readAhead) + 1);
+        this.onFinish = onFinish;
+        this.worker = executor.submit(() -> {
+            if (!started.compareAndSet(false, true)) {
+                // closed before the worker started
+                return;
+            }
+            try {
+                for (String sentence : sentences) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    byte[] audio = synthesizer.synthesize(sentence);
+                    if (!chunks.offer(audio, READER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        // the reader went away without closing the stream
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failure = e;
+            } finally {
+                onFinish.run();
+            }
+            try {
+                chunks.offer(END_OF_STREAM, READER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @Override
+    public AudioFormat getFormat() {
+        return audioFormat;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = read(b, 0, 1);
+        return n == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte @Nullable [] b, int off, int len) throws IOException {
+        if (b == null) {
+            throw new NullPointerException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (currentOffset >= currentChunk.length) {
+            if (ended || !nextChunk()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, currentChunk.length - currentOffset);
+        System.arraycopy(currentChunk, currentOffset, b, off, n);
+        currentOffset += n;
+        return n;
+    }
+
+    private boolean nextChunk() throws IOException {
+        byte[] chunk;
+        try {
+            chunk = chunks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for audio", e);
+        }
+        if (chunk == END_OF_STREAM) {
+            ended = true;
+            Exception failure = this.failure;
+            if (failure != null) {
+                throw new IOException("Voice generation failed: " + failure.getMessage(), failure);
+            }
+            return false;
+        }
+        currentChunk = chunk;
+        currentOffset = 0;
+        return true;
+    }
+
+    @Override
+    public int available() {
+        return currentChunk.length - currentOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        ended = true;
+        worker.cancel(true);
+        if (started.compareAndSet(false, true)) {
+            // the worker will never run, release its resources here
+            onFinish.run();
+        }
+        chunks.clear();
+        super.close();
+    }
+}
@@ -25,4 +25,8 @@ public class PiperTTSConfiguration {
      * Keep last voice model used loaded in memory.
      */
     boolean preloadModel;
+    /**
+     * Synthesize long texts sentence by sentence while playing.
+     */
+    boolean streaming;
 }
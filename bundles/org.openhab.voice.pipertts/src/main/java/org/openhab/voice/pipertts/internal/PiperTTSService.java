@@ -25,9 +25,11 @@ import java.io.Serial;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.text.BreakIterator;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -93,6 +95,8 @@ public class PiperTTSService extends AbstractCachedTTSService {
     private static final Path JAR_FILE = PIPER_FOLDER.resolve("piper-jni-" + PIPER_VERSION + ".jar");
     private static final String JAR_URL = "https://openhab.jfrog.io/artifactory/libs-online-deps/io/github/jvoice-project/piper-jni/"
             + PIPER_VERSION + "/piper-jni-" + PIPER_VERSION + ".jar";
+    // max number of sentences synthesized ahead of playback in streaming mode
+    private static final int STREAMING_READ_AHEAD = 2;
     private final Logger logger = LoggerFactory.getLogger(PiperTTSService.class);
     private final Object modelLock = new Object();
     private final ExecutorService executor = ThreadPoolManager.getPool("voice-pipertts");
@@ -324,8 +328,28 @@ public class PiperTTSService extends AbstractCachedTTSService {
                 null));
     }
 
+    @Override
+    public AudioStream synthesize(String text, Voice voice, AudioFormat requestedFormat) throws TTSException {
+        if (config.streaming) {
+            List<String> sentences = splitSentences(text, voice.getLocale());
+            if (sentences.size() > 1) {
+                // the length of streamed audio is only known at its end, so it is not cached with an unknown length
+                return synthesizeSentences(text, sentences, voice, requestedFormat);
+            }
+        }
+        return super.synthesize(text, voice, requestedFormat);
+    }
+
     @Override
     public AudioStream synthesizeForCache(String text, Voice voice, AudioFormat audioFormat) throws TTSException {
+        return synthesizeSentences(text, List.of(text), voice, audioFormat);
+    }
+
+    /**
+     * Synthesize the text, sentence by sentence if it is split into several sentences.
+     */
+    private AudioStream synthesizeSentences(String text, List<String> sentences, Voice voice, AudioFormat audioFormat)
+            throws TTSException {
         if (!ready) {
             throw new TTSException("Add-on is not loaded");
         }
@@ -334,6 +358,7 @@ public class PiperTTSService extends AbstractCachedTTSService {
         }
         VoiceModel voiceModel = null;
         boolean usingPreloadedModel = false;
+        boolean releaseModel = true;
         short[] buffer;
         int sampleRate;
         final VoiceModel preloadedModel = this.preloadedModel;
@@ -355,6 +380,14 @@ public class PiperTTSService extends AbstractCachedTTSService {
             } catch (IOException e) {
                 throw new TTSException("Unable to load voice model: " + e.getMessage());
             }
+            if (sentences.size() > 1) {
+                logger.debug("Streaming audio for {} sentences", sentences.size());
+                AudioStream audioStream = getStreamingAudioStream(sentences, voiceModel, usingPreloadedModel,
+                        audioFormat);
+                // the model is released by the stream once the last sentence has been generated
+                releaseModel = false;
+                return audioStream;
+            }
             try {
                 logger.debug("Generating audio for: '{}'", text);
                 buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
@@ -369,14 +402,8 @@ public class PiperTTSService extends AbstractCachedTTSService {
             logger.warn("RuntimeException running text to audio: {}", e.getMessage());
             throw new TTSException("There was an error running Piper");
         } finally {
-            if (voiceModel != null) {
-                if (!usingPreloadedModel
-                        || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
-                    logger.debug("Unloading voice model");
-                    voiceModel.close();
-                } else {
-                    logger.debug("Skipping voice model unload");
-                }
+            if (voiceModel != null && releaseModel) {
+                releaseModel(voiceModel, usingPreloadedModel);
             }
         }
         try {
@@ -387,6 +414,42 @@ public class PiperTTSService extends AbstractCachedTTSService {
         }
     }
 
+    private void releaseModel(VoiceModel voiceModel, boolean usingPreloadedModel) {
+        if (!usingPreloadedModel
+                || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
+            logger.debug("Unloading voice model");
+            voiceModel.close();
+        } else {
+            logger.debug("Skipping voice model unload");
+        }
+    }
+
+    private AudioStream getStreamingAudioStream(List<String> sentences, VoiceModel voiceModel,
+            boolean usingPreloadedModel, AudioFormat audioFormat) throws LibraryNotLoaded {
+        PiperJNI piper = getPiper();
+        javax.sound.sampled.AudioFormat jTargetFormat = getJavaAudioFormat(audioFormat);
+        return new PiperStreamingAudioStream(getStreamingRIFFHeader(jTargetFormat), sentences, sentence -> {
+            logger.debug("Generating audio for: '{}'", sentence);
+            short[] samples = piper.textToAudio(voiceModel.piperVoice, sentence);
+            logger.debug("Generated {} samples of audio", samples.length);
+            return convertSamples(samples, voiceModel.sampleRate, jTargetFormat);
+        }, STREAMING_READ_AHEAD, audioFormat, executor, () -> releaseModel(voiceModel, usingPreloadedModel));
+    }
+
+    static List<String> splitSentences(String text, Locale locale) {
+        List<String> sentences = new ArrayList<>();
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+        iterator.setText(text);
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            String sentence = text.substring(start, end).trim();
+            if (!sentence.isEmpty()) {
+                sentences.add(sentence);
+            }
+        }
+        return sentences;
+    }
+
     private VoiceModel loadModel(PiperTTSVoice voice) throws IOException, PiperJNI.NotInitialized, LibraryNotLoaded {
         if (!Files.exists(voice.voiceModelPath()) || !Files.exists(voice.voiceModelConfigPath())) {
             throw new IOException("Missing voice files");
@@ -428,6 +491,27 @@ public class PiperTTSService extends AbstractCachedTTSService {
 
     private ByteArrayAudioStream getAudioStream(short[] samples, long sampleRate, AudioFormat targetFormat)
             throws IOException {
+        javax.sound.sampled.AudioFormat jTargetFormat = getJavaAudioFormat(targetFormat);
+        // It's required to add the wav header to the byte array stream returned for it to work with all the sink
+        // implementations.
+        // It can not be done with the AudioInputStream returned by AudioSystem::getAudioInputStream because it missed
+        // the length property.
+        // Therefore, the following method creates another AudioInputStream instance and uses the Java AudioSystem to
+        // prepend
+        // the wav header bytes,
+        // and finally initializes an OpenHAB audio stream.
+        return getAudioStreamWithRIFFHeader(convertSamples(samples, sampleRate, jTargetFormat), jTargetFormat,
+                targetFormat);
+    }
+
+    private javax.sound.sampled.AudioFormat getJavaAudioFormat(AudioFormat targetFormat) {
+        return new javax.sound.sampled.AudioFormat(Objects.requireNonNull(targetFormat.getFrequency()),
+                Objects.requireNonNull(targetFormat.getBitDepth()), Objects.requireNonNull(targetFormat.getChannels()),
+                true, false);
+    }
+
+    private byte[] convertSamples(short[] samples, long sampleRate, javax.sound.sampled.AudioFormat jTargetFormat)
+            throws IOException {
         // Convert the i16 samples returned by piper to a byte buffer
         ByteBuffer byteBuffer;
         int numSamples = samples.length;
@@ -444,26 +528,40 @@ public class PiperTTSService extends AbstractCachedTTSService {
                 audioLength);
         // Move the audio data to another Java audio stream in the target format so the Java AudioSystem encoded it as
         // needed.
-        javax.sound.sampled.AudioFormat jTargetFormat = new javax.sound.sampled.AudioFormat(
-                Objects.requireNonNull(targetFormat.getFrequency()), Objects.requireNonNull(targetFormat.getBitDepth()),
-                Objects.requireNonNull(targetFormat.getChannels()), true, false);
         AudioInputStream convertedInputStream = AudioSystem.getAudioInputStream(jTargetFormat, audioInputStreamTemp);
-        // It's required to add the wav header to the byte array stream returned for it to work with all the sink
-        // implementations.
-        // It can not be done with the AudioInputStream returned by AudioSystem::getAudioInputStream because it missed
-        // the length property.
-        // Therefore, the following method creates another AudioInputStream instance and uses the Java AudioSystem to
-        // prepend
-        // the wav header bytes,
-        // and finally initializes an OpenHAB audio stream.
-        return getAudioStreamWithRIFFHeader(convertedInputStream.readAllBytes(), jTargetFormat, targetFormat);
+        return convertedInputStream.readAllBytes();
+    }
+
+    /**
+     * Builds a PCM wav header for a stream whose length is not known in advance, using the max chunk sizes.
+     */
+    private static byte[] getStreamingRIFFHeader(javax.sound.sampled.AudioFormat jAudioFormat) {
+        int channels = jAudioFormat.getChannels();
+        int sampleRate = (int) jAudioFormat.getSampleRate();
+        int bitDepth = jAudioFormat.getSampleSizeInBits();
+        int blockAlign = channels * bitDepth / 8;
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(0xFFFFFFFF);
+        header.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        header.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(16);
+        header.putShort((short) 1);
+        header.putShort((short) channels);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * blockAlign);
+        header.putShort((short) blockAlign);
+        header.putShort((short) bitDepth);
+        header.put("data".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(0xFFFFFFFF);
+        return header.array();
     }
 
     private String capitalize(String text) {
         return text.substring(0, 1).toUpperCase() + text.substring(1);
     }
 
-    private ByteArrayAudioStream getAudioStreamWithRIFFHeader(byte[] audioBytes,
+    static ByteArrayAudioStream getAudioStreamWithRIFFHeader(byte[] audioBytes,
             javax.sound.sampled.AudioFormat jAudioFormat, AudioFormat audioFormat) throws IOException {
         AudioInputStream audioInputStreamTemp = new AudioInputStream(new ByteArrayInputStream(audioBytes), jAudioFormat,
                 (long) Math.ceil(((double) audioBytes.length) / jAudioFormat.getFrameSize()));
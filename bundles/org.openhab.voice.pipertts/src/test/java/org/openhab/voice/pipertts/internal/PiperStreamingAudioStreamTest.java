@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.audio.AudioFormat;
+
+/**
+ * Tests for {@link PiperStreamingAudioStream}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class PiperStreamingAudioStreamTest {
+    private static final byte[] HEADER = "HEAD".getBytes(StandardCharsets.US_ASCII);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicInteger synthesized = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private PiperStreamingAudioStream stream(List<String> sentences, int readAhead,
+            PiperStreamingAudioStream.SentenceSynthesizer synthesizer) {
+        return new PiperStreamingAudioStream(HEADER, sentences, sentence -> {
+            synthesized.incrementAndGet();
+            return synthesizer.synthesize(sentence);
+        }, readAhead, AudioFormat.WAV, executor, finished::incrementAndGet);
+    }
+
+    private static byte[] audio(String sentence) {
+        return sentence.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void readsHeaderAndSentencesInOrder() throws IOException {
+        try (PiperStreamingAudioStream stream = stream(List.of("one.", "two.", "three."), 1,
+                PiperStreamingAudioStreamTest::audio)) {
+            assertEquals("HEADone.two.three.", new String(stream.readAllBytes(), StandardCharsets.US_ASCII));
+            assertEquals(-1, stream.read());
+        }
+        assertEquals(3, synthesized.get());
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    public void readAheadIsBounded() throws Exception {
+        List<String> sentences = List.of("1", "2", "3", "4", "5", "6", "7", "8");
+        try (PiperStreamingAudioStream stream = stream(sentences, 2, PiperStreamingAudioStreamTest::audio)) {
+            // the queue holds read ahead + 1 sentences, one more is synthesized and waits for room in the queue
+            waitFor(() -> synthesized.get() == 4);
+            Thread.sleep(200);
+            assertEquals(4, synthesized.get());
+            assertEquals(0, finished.get());
+
+            // reading one sentence makes room for exactly one more
+            assertEquals(HEADER.length, stream.read(new byte[HEADER.length], 0, HEADER.length));
+            assertEquals('1', stream.read());
+            waitFor(() -> synthesized.get() == 5);
+            Thread.sleep(200);
+            assertEquals(5, synthesized.get());
+
+            assertEquals("2345678", new String(stream.readAllBytes(), StandardCharsets.US_ASCII));
+        }
+        assertEquals(sentences.size(), synthesized.get());
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    public void failureInTheMiddleIsThrownByRead() throws Exception {
+        try (PiperStreamingAudioStream stream = stream(List.of("one.", "two.", "three."), 1, sentence -> {
+            if ("two.".equals(sentence)) {
+                throw new IllegalStateException("model crashed");
+            }
+            return audio(sentence);
+        })) {
+            byte[] buffer = new byte[HEADER.length + 4];
+            assertEquals(HEADER.length, stream.read(buffer, 0, HEADER.length));
+            assertEquals(4, stream.read(buffer, HEADER.length, 4));
+            assertEquals("HEADone.", new String(buffer, StandardCharsets.US_ASCII));
+
+            IOException e = assertThrows(IOException.class, () -> stream.read());
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            assertEquals(-1, stream.read());
+        }
+        // the sentence after the failing one is not synthesized
+        assertEquals(2, synthesized.get());
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    public void closeStopsSynthesisAndFinishesOnce() throws Exception {
+        CountDownLatch synthesizing = new CountDownLatch(1);
+        PiperStreamingAudioStream stream = stream(List.of("1", "2", "3", "4", "5", "6"), 1, sentence -> {
+            if ("3".equals(sentence)) {
+                synthesizing.countDown();
+                // blocks until the worker is interrupted by close()
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            }
+            return audio(sentence);
+        });
+        assertTrue(synthesizing.await(5, TimeUnit.SECONDS));
+
+        stream.close();
+        waitFor(() -> finished.get() == 1);
+        stream.close();
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(3, synthesized.get());
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    public void closeBeforeWorkerStartsFinishesOnce() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.submit(() -> {
+            blocker.await();
+            return null;
+        });
+        PiperStreamingAudioStream stream = stream(List.of("one.", "two."), 1, PiperStreamingAudioStreamTest::audio);
+
+        stream.close();
+        assertEquals(1, finished.get());
+        stream.close();
+        blocker.countDown();
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, synthesized.get());
+        assertEquals(1, finished.get());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+
+/**
+ * Tests for {@link PiperTTSService}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class PiperTTSServiceTest {
+
+    @Test
+    public void splitSentences() {
+        String text = "  The washing machine is done.  Please empty it!\nThanks?  ";
+        assertEquals(List.of("The washing machine is done.", "Please empty it!", "Thanks?"),
+                PiperTTSService.splitSentences(text, Locale.ENGLISH));
+    }
+
+    @Test
+    public void splitSentencesKeepsAbbreviationsAndNumbers() {
+        assertEquals(List.of("It is 21.5 degrees in the living room."),
+                PiperTTSService.splitSentences("It is 21.5 degrees in the living room.", Locale.ENGLISH));
+        assertEquals(List.of("Es ist z.B. warm.", "Gut."),
+                PiperTTSService.splitSentences("Es ist z.B. warm. Gut.", Locale.GERMAN));
+    }
+
+    @Test
+    public void splitSentencesIgnoresBlankText() {
+        assertEquals(List.of(), PiperTTSService.splitSentences(" \n ", Locale.ENGLISH));
+    }
+
+    @Test
+    public void cachedAudioHasExactRiffHeader() throws IOException {
+        byte[] audio = new byte[1234];
+        for (int i = 0; i < audio.length; i++) {
+            audio[i] = (byte) i;
+        }
+        AudioFormat format = new AudioFormat(AudioFormat.CONTAINER_WAVE, AudioFormat.CODEC_PCM_SIGNED, false, 16, null,
+                22050L, 1);
+        javax.sound.sampled.AudioFormat jFormat = new javax.sound.sampled.AudioFormat(22050, 16, 1, true, false);
+
+        byte[] wav;
+        try (AudioStream stream = PiperTTSService.getAudioStreamWithRIFFHeader(audio, jFormat, format)) {
+            wav = stream.readAllBytes();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(wav).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals("RIFF", new String(wav, 0, 4, StandardCharsets.US_ASCII));
+        assertEquals(wav.length - 8, buffer.getInt(4));
+        assertEquals("WAVE", new String(wav, 8, 4, StandardCharsets.US_ASCII));
+        int offset = 12;
+        while (!"data".equals(new String(wav, offset, 4, StandardCharsets.US_ASCII))) {
+            offset += 8 + buffer.getInt(offset + 4);
+            assertTrue(offset + 8 <= wav.length, "Missing data chunk");
+        }
+        assertEquals(audio.length, buffer.getInt(offset + 4));
+        assertEquals(wav.length, offset + 8 + audio.length);
+    }
+}
@@ -34,6 +34,14 @@ public class WhisperSTTConfiguration {
      * Keep model loaded.
      */
     public boolean preloadModel;
+    /**
+     * Max number of transcriptions running in parallel on a preloaded model.
+     */
+    public int maxParallelTranscriptions = 2;
+    /**
+     * Start transcribing on the first silence step.
+     */
+    public boolean incrementalMode;
     /**
      * Defines the audio step.
      */
@@ -30,8 +30,10 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -66,7 +68,10 @@ import org.openhab.core.voice.STTServiceHandle;
 import org.openhab.core.voice.SpeechRecognitionErrorEvent;
 import org.openhab.core.voice.SpeechRecognitionEvent;
 import org.openhab.voice.whisperstt.internal.WhisperSTTConfiguration.Mode;
+import org.openhab.voice.whisperstt.internal.utils.EarlyTranscriptionExecutor;
+import org.openhab.voice.whisperstt.internal.utils.EarlyTranscriptionExecutor.EarlyTranscription;
 import org.openhab.voice.whisperstt.internal.utils.VAD;
+import org.openhab.voice.whisperstt.internal.utils.WhisperStatePool;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -98,11 +103,17 @@ public class WhisperSTTService implements STTService {
     protected static final Path WHISPER_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "whisper");
     private static final Path SAMPLES_FOLDER = Path.of(WHISPER_FOLDER.toString(), "samples");
     private static final int WHISPER_SAMPLE_RATE = 16000;
+    private static final int STATE_ACQUIRE_TIMEOUT_SECONDS = 30;
+    private static final int SPECULATION_TIMEOUT_SECONDS = 30;
+    private static final int MAX_PARALLEL_SPECULATIONS = 2;
     private final Logger logger = LoggerFactory.getLogger(WhisperSTTService.class);
     private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool("OH-voice-whisperstt");
+    private final EarlyTranscriptionExecutor speculationExecutor = new EarlyTranscriptionExecutor(
+            MAX_PARALLEL_SPECULATIONS);
     private final LocaleService localeService;
     private WhisperSTTConfiguration config = new WhisperSTTConfiguration();
     private @Nullable WhisperContext context;
+    private @Nullable WhisperStatePool statePool;
     private @Nullable WhisperGrammar grammar;
     private @Nullable WhisperJNI whisper;
     private boolean isWhisperLibAlreadyLoaded = false;
@@ -172,6 +183,7 @@ public class WhisperSTTService implements STTService {
 
     @Deactivate
     protected void deactivate(Map<String, Object> config) {
+        speculationExecutor.close();
         try {
             WhisperGrammar grammar = this.grammar;
             if (grammar != null) {
@@ -347,6 +359,11 @@ public class WhisperSTTService implements STTService {
             logger.debug("Init OpenVINO device");
             whisper.initOpenVINO(context, config.openvinoDevice);
         }
+        if (config.preloadModel) {
+            // states and buffers can only be reused while the context is kept loaded
+            this.statePool = new WhisperStatePool(whisper, context, config.maxParallelTranscriptions,
+                    config.maxSeconds * WHISPER_SAMPLE_RATE);
+        }
         return context;
     }
 
@@ -357,6 +374,11 @@ public class WhisperSTTService implements STTService {
     }
 
     private void unloadContext() throws IOException {
+        var statePool = this.statePool;
+        if (statePool != null) {
+            statePool.close();
+            this.statePool = null;
+        }
         var context = this.context;
         if (context != null) {
             logger.debug("Unloading model");
@@ -387,6 +409,7 @@ public class WhisperSTTService implements STTService {
             boolean voiceDetected = false;
             String transcription = "";
             VAD.@Nullable VADResult firstConsecutiveSilenceVADResult = null;
+            @Nullable EarlyTranscription speculation = null;
             try {
                 try (audioStream; //
                         vad) {
@@ -429,10 +452,25 @@ public class WhisperSTTService implements STTService {
                                 logger.debug("VAD: voice detected");
                                 silenceSamplesCounter = 0;
                                 firstConsecutiveSilenceVADResult = null;
+                                // the speaker continued, so a running early transcription is outdated
+                                if (speculation != null) {
+                                    speculation.cancel();
+                                    speculation = null;
+                                }
                                 continue;
                             } else {
                                 if (firstConsecutiveSilenceVADResult == null) {
                                     firstConsecutiveSilenceVADResult = lastVADResult;
+                                    if (voiceDetected && config.incrementalMode && config.removeSilence
+                                            && config.mode == Mode.LOCAL) {
+                                        // the audio that will be transcribed if the silence lasts is already known
+                                        int expectedSamples = Math.max(nSamplesMin, audioSamplesOffset
+                                                - nSamplesStep + lastVADResult.voiceSamplesInHead());
+                                        if (expectedSamples <= audioSamplesOffset) {
+                                            speculation = startSpeculation(expectedSamples, audioSamples,
+                                                    locale.getLanguage());
+                                        }
+                                    }
                                 }
                                 silenceSamplesCounter += nSamplesStep;
                                 int maxSilenceSamples = voiceDetected ? nMaxSilenceSamples : nInitSilenceSamples;
@@ -502,11 +540,31 @@ public class WhisperSTTService implements STTService {
                                 }
                             }
                         }
-                        // run whisper, either locally or by remote API
-                        String tempTranscription = (switch (config.mode) {
-                            case LOCAL -> recognizeLocal(audioSamplesOffset, audioSamples, locale.getLanguage());
-                            case API -> recognizeAPI(audioSamplesOffset, audioSamples, locale.getLanguage());
-                        });
+                        String tempTranscription = null;
+                        boolean transcribed = false;
+                        if (speculation != null && speculation.nSamples() == audioSamplesOffset) {
+                            try {
+                                tempTranscription = speculation.result().get(SPECULATION_TIMEOUT_SECONDS,
+                                        TimeUnit.SECONDS);
+                                transcribed = true;
+                                logger.debug("Using the transcription started on the first silence step");
+                            } catch (ExecutionException | CancellationException e) {
+                                logger.debug("Early transcription failed, running it again: {}", e.getMessage());
+                            } catch (TimeoutException e) {
+                                logger.debug("Early transcription timed out, running it again");
+                            }
+                        }
+                        if (speculation != null) {
+                            speculation.cancel();
+                            speculation = null;
+                        }
+                        if (!transcribed) {
+                            // run whisper, either locally or by remote API
+                            tempTranscription = (switch (config.mode) {
+                                case LOCAL -> recognizeLocal(audioSamplesOffset, audioSamples, locale.getLanguage());
+                                case API -> recognizeAPI(audioSamplesOffset, audioSamples, locale.getLanguage());
+                            });
+                        }
 
                         if (tempTranscription != null && !tempTranscription.isBlank()) {
                             if (config.createWAVRecord) {
@@ -543,60 +601,77 @@ public class WhisperSTTService implements STTService {
             } catch (STTException | IOException e) {
                 logger.warn("Error running speech to text: {}", e.getMessage());
                 emitSpeechRecognitionError(sttListener);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!aborted.get()) {
+                    logger.warn("Speech to text interrupted");
+                    emitSpeechRecognitionError(sttListener);
+                }
             } catch (UnsatisfiedLinkError e) {
                 logger.warn("Missing native dependency: {}", e.getMessage());
                 emitSpeechRecognitionError(sttListener);
+            } finally {
+                if (speculation != null) {
+                    speculation.cancel();
+                }
             }
         });
     }
 
+    /**
+     * Starts transcribing the given audio in the background, if a whisper state is free right away.
+     */
+    private @Nullable EarlyTranscription startSpeculation(int nSamples, short[] audioSamples, String language) {
+        WhisperStatePool pool = this.statePool;
+        if (pool == null) {
+            return null;
+        }
+        return speculationExecutor.start(pool, audioSamples, nSamples,
+                (state, samples, n) -> transcribe(getWhisper(), pool.getContext(), state, samples, n, language));
+    }
+
     @Nullable
     private String recognizeLocal(int audioSamplesOffset, short[] audioSamples, String language) throws STTException {
         logger.debug("running whisper with {} seconds of audio...",
                 Math.round((((float) audioSamplesOffset) / (float) WHISPER_SAMPLE_RATE) * 100f) / 100f);
-        var releaseContext = !config.preloadModel;
+        WhisperStatePool pool = this.statePool;
+        if (pool != null) {
+            WhisperStatePool.PooledState pooledState = null;
+            try {
+                pooledState = pool.acquire(STATE_ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (pooledState == null) {
+                    throw new STTException("Timeout waiting for a free whisper state");
+                }
+                return transcribe(getWhisper(), pool.getContext(), pooledState.getState(),
+                        pooledState.fill(audioSamples, audioSamplesOffset), audioSamplesOffset, language);
+            } catch (IOException e) {
+                throw new STTException("Cannot use whisper locally", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new STTException("Interrupted while waiting for a whisper state", e);
+            } finally {
+                if (pooledState != null) {
+                    pool.release(pooledState);
+                }
+            }
+        }
 
-        WhisperJNI whisper = null;
+        var releaseContext = !config.preloadModel;
         WhisperContext ctx = null;
-        WhisperState state = null;
         try {
-            whisper = getWhisper();
+            WhisperJNI whisper = getWhisper();
             ctx = getContext();
             logger.debug("Creating whisper state...");
-            state = whisper.initState(ctx);
-            logger.debug("Whisper state created");
-            WhisperFullParams params = getWhisperFullParams(ctx, language);
-
-            // convert to local whisper format (float)
-            float[] floatArray = new float[audioSamples.length];
-            for (int i = 0; i < audioSamples.length; i++) {
-                floatArray[i] = Float.min(1f, Float.max((float) audioSamples[i] / ((float) Short.MAX_VALUE), -1f));
-            }
-
-            long execStartTime = System.currentTimeMillis();
-            var result = whisper.fullWithState(ctx, state, params, floatArray, audioSamplesOffset);
-            logger.debug("whisper ended in {}ms with result code {}", System.currentTimeMillis() - execStartTime,
-                    result);
-            // process result
-            if (result != 0) {
-                throw new STTException("Cannot use whisper locally, result code: " + result);
-            }
-            int nSegments = whisper.fullNSegmentsFromState(state);
-            logger.debug("Available transcription segments {}", nSegments);
-            if (nSegments == 1) {
-                return whisper.fullGetSegmentTextFromState(state, 0);
-            } else if (nSegments == 0 && config.singleUtteranceMode) {
-                logger.debug("Single utterance mode and no results, ending transcription");
-                return null;
-            } else {
-                // non reachable
-                logger.warn("Whisper should be configured in single segment mode {}", nSegments);
-                return null;
+            try (WhisperState state = whisper.initState(ctx)) {
+                logger.debug("Whisper state created");
+                // convert to local whisper format (float)
+                float[] floatArray = new float[audioSamplesOffset];
+                for (int i = 0; i < audioSamplesOffset; i++) {
+                    floatArray[i] = Float.min(1f, Float.max((float) audioSamples[i] / ((float) Short.MAX_VALUE), -1f));
+                }
+                return transcribe(whisper, ctx, state, floatArray, audioSamplesOffset, language);
             }
         } catch (IOException e) {
-            if (state != null) {
-                state.close();
-            }
             throw new STTException("Cannot use whisper locally", e);
         } finally {
             if (releaseContext && ctx != null) {
@@ -605,6 +680,31 @@ public class WhisperSTTService implements STTService {
         }
     }
 
+    @Nullable
+    private String transcribe(WhisperJNI whisper, WhisperContext ctx, WhisperState state, float[] samples,
+            int nSamples, String language) throws IOException, STTException {
+        WhisperFullParams params = getWhisperFullParams(ctx, language);
+        long execStartTime = System.currentTimeMillis();
+        var result = whisper.fullWithState(ctx, state, params, samples, nSamples);
+        logger.debug("whisper ended in {}ms with result code {}", System.currentTimeMillis() - execStartTime, result);
+        // process result
+        if (result != 0) {
+            throw new STTException("Cannot use whisper locally, result code: " + result);
+        }
+        int nSegments = whisper.fullNSegmentsFromState(state);
+        logger.debug("Available transcription segments {}", nSegments);
+        if (nSegments == 1) {
+            return whisper.fullGetSegmentTextFromState(state, 0);
+        } else if (nSegments == 0 && config.singleUtteranceMode) {
+            logger.debug("Single utterance mode and no results, ending transcription");
+            return null;
+        } else {
+            // non reachable
+            logger.warn("Whisper should be configured in single segment mode {}", nSegments);
+            return null;
+        }
+    }
+
     private String recognizeAPI(int audioSamplesOffset, short[] audioStream, String language) throws STTException {
         // convert to byte array, Each short has 2 bytes
         int size = audioSamplesOffset * 2;
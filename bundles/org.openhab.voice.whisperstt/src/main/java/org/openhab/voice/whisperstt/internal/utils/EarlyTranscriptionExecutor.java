@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.whisperstt.internal.utils;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.givimad.whisperjni.WhisperState;
+
+/**
+ * The {@link EarlyTranscriptionExecutor} class runs early transcriptions, i.e. transcriptions of the audio captured
+ * until the first silence step, which are used if the silence lasts.
+ * They run on their own bounded set of threads, so they can never block the VAD loops waiting for them, and are
+ * skipped when all threads or all whisper states are busy.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class EarlyTranscriptionExecutor implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(EarlyTranscriptionExecutor.class);
+    private final ExecutorService executor;
+
+    /**
+     *
+     * @param maxParallel max number of early transcriptions running at the same time.
+     */
+    public EarlyTranscriptionExecutor(int maxParallel) {
+        this(new ThreadPoolExecutor(0, maxParallel, 30, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new NamedThreadFactory("OH-voice-whisperstt-speculation")));
+    }
+
+    EarlyTranscriptionExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Starts transcribing the given audio in the background, if a whisper state and a thread are free right away.
+     *
+     * @param pool pool to take the whisper state from.
+     * @param audioSamples 16-bit samples, they are copied before this method returns.
+     * @param nSamples number of samples to transcribe.
+     * @param transcriber runs the transcription with the acquired state.
+     * @return the running transcription, or null if it was skipped.
+     */
+    public @Nullable EarlyTranscription start(WhisperStatePool pool, short[] audioSamples, int nSamples,
+            Transcriber transcriber) {
+        WhisperStatePool.PooledState pooledState = null;
+        try {
+            pooledState = pool.tryAcquire();
+        } catch (IOException e) {
+            logger.debug("Unable to get a whisper state for early transcription: {}", e.getMessage());
+        }
+        if (pooledState == null) {
+            logger.debug("No free whisper state, skipping early transcription");
+            return null;
+        }
+        WhisperStatePool.PooledState acquiredState = pooledState;
+        // fill the buffer now, the caller keeps writing to the samples array
+        float[] samples = acquiredState.fill(audioSamples, nSamples);
+        // whoever claims the state first releases it, the task or a cancellation before the task started
+        AtomicBoolean claimed = new AtomicBoolean();
+        Runnable releaseUnclaimed = () -> {
+            if (claimed.compareAndSet(false, true)) {
+                pool.release(acquiredState);
+            }
+        };
+        logger.debug("Starting early transcription of {} samples", nSamples);
+        try {
+            Future<@Nullable String> result = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    String partial = transcriber.transcribe(acquiredState.getState(), samples, nSamples);
+                    logger.debug("Early transcription: {}", partial);
+                    return partial;
+                } finally {
+                    pool.release(acquiredState);
+                }
+            });
+            return new EarlyTranscription(nSamples, result, releaseUnclaimed);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Too many early transcriptions running, skipping it");
+            releaseUnclaimed.run();
+            return null;
+        }
+    }
+
+    /**
+     * Interrupts the running early transcriptions and rejects new ones.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Transcribes audio with a whisper state.
+     */
+    @FunctionalInterface
+    public interface Transcriber {
+        @Nullable
+        String transcribe(WhisperState state, float[] samples, int nSamples) throws Exception;
+    }
+
+    /**
+     * An early transcription of the first samples of the audio.
+     *
+     * @param nSamples number of transcribed samples.
+     * @param result the transcription.
+     * @param releaseUnclaimed releases the whisper state if the task has not started.
+     */
+    public record EarlyTranscription(int nSamples, Future<@Nullable String> result, Runnable releaseUnclaimed) {
+        /**
+         * Discards the early transcription, interrupting it if already running
+         */
+        public void cancel() {
+            result.cancel(true);
+            releaseUnclaimed.run();
+        }
+    }
+}
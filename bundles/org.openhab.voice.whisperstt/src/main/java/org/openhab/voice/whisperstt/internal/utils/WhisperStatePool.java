@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.whisperstt.internal.utils;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.givimad.whisperjni.WhisperContext;
+import io.github.givimad.whisperjni.WhisperJNI;
+import io.github.givimad.whisperjni.WhisperState;
+
+/**
+ * The {@link WhisperStatePool} class keeps a bounded set of reusable whisper states, each one with a preallocated
+ * float buffer, over a shared whisper context, so several dialogs can be transcribed in parallel without paying for
+ * the state and buffer allocations on every run.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class WhisperStatePool implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(WhisperStatePool.class);
+    private final WhisperJNI whisper;
+    private final WhisperContext context;
+    private final int bufferSize;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<PooledState> idle = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed = false;
+
+    /**
+     *
+     * @param whisper whisper library instance.
+     * @param context context the states are created for.
+     * @param size max number of states.
+     * @param bufferSize number of samples of the float buffer attached to each state.
+     */
+    public WhisperStatePool(WhisperJNI whisper, WhisperContext context, int size, int bufferSize) {
+        this.whisper = whisper;
+        this.context = context;
+        this.bufferSize = bufferSize;
+        this.permits = new Semaphore(Math.max(1, size), true);
+    }
+
+    public WhisperContext getContext() {
+        return context;
+    }
+
+    /**
+     * Takes a state from the pool, waiting until one is available.
+     *
+     * @param timeout max time to wait.
+     * @param unit time unit of the timeout.
+     * @return a state that must be handed back with {@link #release(PooledState)}, or null on timeout.
+     * @throws IOException if the pool is closed or a new state can not be created.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public @Nullable PooledState acquire(long timeout, TimeUnit unit) throws IOException, InterruptedException {
+        if (!permits.tryAcquire(timeout, unit)) {
+            return null;
+        }
+        return take();
+    }
+
+    /**
+     * Takes a state from the pool only if one is available right away.
+     *
+     * @return a state that must be handed back with {@link #release(PooledState)}, or null if none is available.
+     * @throws IOException if the pool is closed or a new state can not be created.
+     */
+    public @Nullable PooledState tryAcquire() throws IOException {
+        if (!permits.tryAcquire()) {
+            return null;
+        }
+        return take();
+    }
+
+    private PooledState take() throws IOException {
+        try {
+            if (closed) {
+                throw new IOException("Whisper state pool is closed");
+            }
+            PooledState pooledState = idle.poll();
+            if (pooledState == null) {
+                logger.debug("Creating whisper state...");
+                pooledState = new PooledState(whisper.initState(context), new float[bufferSize]);
+                logger.debug("Whisper state created");
+            }
+            return pooledState;
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Hands a state back to the pool.
+     *
+     * @param pooledState state obtained from this pool.
+     */
+    public void release(PooledState pooledState) {
+        if (closed) {
+            pooledState.state.close();
+        } else {
+            idle.offer(pooledState);
+            if (closed && idle.remove(pooledState)) {
+                pooledState.state.close();
+            }
+        }
+        permits.release();
+    }
+
+    /**
+     * Closes the idle states. States in use are closed once they are released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        PooledState pooledState;
+        while ((pooledState = idle.poll()) != null) {
+            pooledState.state.close();
+        }
+    }
+
+    /**
+     * A whisper state with its own sample buffer.
+     */
+    public static class PooledState {
+        private final WhisperState state;
+        private final float[] buffer;
+
+        private PooledState(WhisperState state, float[] buffer) {
+            this.state = state;
+            this.buffer = buffer;
+        }
+
+        public WhisperState getState() {
+            return state;
+        }
+
+        /**
+         * Converts the first samples to whisper float format into the buffer of this state.
+         *
+         * @param samples 16-bit samples.
+         * @param nSamples number of samples to convert.
+         * @return the filled buffer.
+         */
+        public float[] fill(short[] samples, int nSamples) {
+            for (int i = 0; i < nSamples; i++) {
+                buffer[i] = Float.min(1f, Float.max((float) samples[i] / ((float) Short.MAX_VALUE), -1f));
+            }
+            return buffer;
+        }
+    }
+}
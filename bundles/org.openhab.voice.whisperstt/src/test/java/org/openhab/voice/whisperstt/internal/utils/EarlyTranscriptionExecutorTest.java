@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.whisperstt.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.voice.whisperstt.internal.utils.EarlyTranscriptionExecutor.EarlyTranscription;
+
+import io.github.givimad.whisperjni.WhisperContext;
+import io.github.givimad.whisperjni.WhisperJNI;
+import io.github.givimad.whisperjni.WhisperState;
+
+/**
+ * Tests for {@link EarlyTranscriptionExecutor}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class EarlyTranscriptionExecutorTest {
+    private static final short[] AUDIO = new short[] { 1, 2, 3, 4 };
+
+    private final WhisperJNI whisper = mock(WhisperJNI.class);
+    private final WhisperContext context = mock(WhisperContext.class);
+    private final AtomicInteger transcriptions = new AtomicInteger();
+    private final CountDownLatch blocker = new CountDownLatch(1);
+    private ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @BeforeEach
+    public void setUp() {
+        when(whisper.initState(context)).thenAnswer(invocation -> mock(WhisperState.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        blocker.countDown();
+        executorService.shutdownNow();
+    }
+
+    private String transcribe(WhisperState state, float[] samples, int nSamples) {
+        transcriptions.incrementAndGet();
+        return "samples " + nSamples;
+    }
+
+    private String transcribeBlocking(WhisperState state, float[] samples, int nSamples) throws InterruptedException {
+        transcriptions.incrementAndGet();
+        blocker.await();
+        return "blocked";
+    }
+
+    private static EarlyTranscription nonNull(@Nullable EarlyTranscription transcription) {
+        assertNotNull(transcription);
+        return transcription;
+    }
+
+    @Test
+    public void transcriptionReleasesStateWhenDone() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 1, AUDIO.length);
+        EarlyTranscriptionExecutor executor = new EarlyTranscriptionExecutor(executorService);
+
+        EarlyTranscription transcription = nonNull(executor.start(pool, AUDIO, 3, this::transcribe));
+
+        assertEquals(3, transcription.nSamples());
+        assertEquals("samples 3", transcription.result().get(5, TimeUnit.SECONDS));
+        assertNotNull(pool.acquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failingTranscriptionReleasesState() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 1, AUDIO.length);
+        EarlyTranscriptionExecutor executor = new EarlyTranscriptionExecutor(executorService);
+
+        EarlyTranscription transcription = nonNull(executor.start(pool, AUDIO, AUDIO.length, (state, samples, n) -> {
+            throw new IOException("whisper failed");
+        }));
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> transcription.result().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, e.getCause());
+        assertNotNull(pool.acquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void transcriptionIsSkippedWithoutFreeState() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 1, AUDIO.length);
+        EarlyTranscriptionExecutor executor = new EarlyTranscriptionExecutor(executorService);
+        assertNotNull(pool.tryAcquire());
+
+        assertNull(executor.start(pool, AUDIO, AUDIO.length, this::transcribe));
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, transcriptions.get());
+    }
+
+    @Test
+    public void transcriptionIsRejectedWhenAllThreadsAreBusy() throws Exception {
+        executorService = new ThreadPoolExecutor(0, 1, 30, TimeUnit.SECONDS, new SynchronousQueue<>());
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 2, AUDIO.length);
+        EarlyTranscriptionExecutor executor = new EarlyTranscriptionExecutor(executorService);
+
+        EarlyTranscription running = nonNull(executor.start(pool, AUDIO, AUDIO.length, this::transcribeBlocking));
+        assertNull(executor.start(pool, AUDIO, AUDIO.length, this::transcribe));
+
+        // the state taken for the rejected transcription is back in the pool
+        assertNotNull(pool.tryAcquire());
+        assertNull(pool.tryAcquire());
+
+        blocker.countDown();
+        assertEquals("blocked", running.result().get(5, TimeUnit.SECONDS));
+        assertEquals(1, transcriptions.get());
+    }
+
+    @Test
+    public void cancelBeforeStartReleasesState() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 1, AUDIO.length);
+        EarlyTranscriptionExecutor executor = new EarlyTranscriptionExecutor(executorService);
+        // keep the only thread busy, so the transcription stays queued
+        executorService.submit(() -> {
+            blocker.await();
+            return null;
+        });
+
+        EarlyTranscription transcription = nonNull(executor.start(pool, AUDIO, AUDIO.length, this::transcribe));
+        assertNull(pool.tryAcquire());
+        transcription.cancel();
+
+        assertNotNull(pool.tryAcquire());
+        blocker.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, transcriptions.get());
+    }
+
+    @Test
+    public void cancelWhileRunningReleasesStateOnce() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 2, AUDIO.length);
+        EarlyTranscriptionExecutor executor = new EarlyTranscriptionExecutor(executorService);
+
+        EarlyTranscription transcription = nonNull(
+                executor.start(pool, AUDIO, AUDIO.length, this::transcribeBlocking));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (transcriptions.get() == 0) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+        transcription.cancel();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+
+        // the interrupted task has released its state, the cancellation has not released it a second time
+        assertNotNull(pool.tryAcquire());
+        assertNotNull(pool.tryAcquire());
+        assertNull(pool.tryAcquire());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.whisperstt.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.givimad.whisperjni.WhisperContext;
+import io.github.givimad.whisperjni.WhisperJNI;
+import io.github.givimad.whisperjni.WhisperState;
+
+/**
+ * Tests for {@link WhisperStatePool}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class WhisperStatePoolTest {
+    private final WhisperJNI whisper = mock(WhisperJNI.class);
+    private final WhisperContext context = mock(WhisperContext.class);
+
+    @BeforeEach
+    public void setUp() {
+        when(whisper.initState(context)).thenAnswer(invocation -> mock(WhisperState.class));
+    }
+
+    private static WhisperStatePool.PooledState nonNull(WhisperStatePool.@Nullable PooledState state) {
+        assertNotNull(state);
+        return state;
+    }
+
+    @Test
+    public void releasedStateIsReused() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 2, 16);
+
+        WhisperStatePool.PooledState first = nonNull(pool.acquire(1, TimeUnit.SECONDS));
+        pool.release(first);
+        WhisperStatePool.PooledState second = nonNull(pool.acquire(1, TimeUnit.SECONDS));
+
+        assertSame(first, second);
+        verify(whisper, times(1)).initState(context);
+        verify(first.getState(), never()).close();
+    }
+
+    @Test
+    public void noMoreStatesThanPoolSize() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 2, 16);
+
+        WhisperStatePool.PooledState first = nonNull(pool.tryAcquire());
+        WhisperStatePool.PooledState second = nonNull(pool.tryAcquire());
+        assertNotSame(first, second);
+
+        assertNull(pool.tryAcquire());
+        assertNull(pool.acquire(50, TimeUnit.MILLISECONDS));
+        verify(whisper, times(2)).initState(context);
+
+        pool.release(second);
+        assertSame(second, pool.tryAcquire());
+        verify(whisper, times(2)).initState(context);
+    }
+
+    @Test
+    public void failingStateCreationDoesNotConsumePermit() throws Exception {
+        WhisperState state = mock(WhisperState.class);
+        when(whisper.initState(any())).thenThrow(new IllegalStateException("out of memory")).thenReturn(state);
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 1, 16);
+
+        assertThrows(IllegalStateException.class, () -> pool.tryAcquire());
+
+        assertSame(state, nonNull(pool.tryAcquire()).getState());
+    }
+
+    @Test
+    public void closeClosesIdleStatesAndStatesReleasedLater() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 2, 16);
+        WhisperStatePool.PooledState idle = nonNull(pool.tryAcquire());
+        WhisperStatePool.PooledState inUse = nonNull(pool.tryAcquire());
+        pool.release(idle);
+
+        pool.close();
+        verify(idle.getState()).close();
+        verify(inUse.getState(), never()).close();
+
+        pool.release(inUse);
+        verify(inUse.getState()).close();
+        assertThrows(IOException.class, () -> pool.tryAcquire());
+    }
+
+    @Test
+    public void fillConvertsAndClampsSamples() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 1, 4);
+        WhisperStatePool.PooledState state = nonNull(pool.tryAcquire());
+
+        float[] samples = state.fill(new short[] { 0, Short.MAX_VALUE, Short.MIN_VALUE, 1000 }, 3);
+
+        assertEquals(4, samples.length);
+        assertEquals(0f, samples[0]);
+        assertEquals(1f, samples[1]);
+        assertEquals(-1f, samples[2]);
+        assertEquals(0f, samples[3]);
+    }
+}